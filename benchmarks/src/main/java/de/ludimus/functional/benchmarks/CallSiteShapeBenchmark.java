@@ -0,0 +1,235 @@
+package de.ludimus.functional.benchmarks;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.Eithers;
+import de.ludimus.functional.option.Option;
+import de.ludimus.functional.option.Options;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Runs the same map-then-unwrap loop under different type profiles.
+ * <ul>
+ *     <li>{@code MONOMORPHIC}: only Some/Right receivers and a single mapper class.</li>
+ *     <li>{@code BIMORPHIC}: Some/None and Right/Left receivers mixed, two mapper classes.</li>
+ *     <li>{@code MEGAMORPHIC}: both receivers and four mapper classes.</li>
+ * </ul>
+ * Option and Either only have two implementations each, so the receiver profile tops out at bimorphic;
+ * the megamorphic shape comes from the {@code mapper.apply} call inside {@code map}/{@code mapRight},
+ * which is shared by every caller in the application.
+ * <p>
+ * The {@code ...Static} variants run the same loops through {@link Options} and {@link Eithers}, and the
+ * {@code ...Chain} variants stack four maps with constant mappers. For {@code MEGAMORPHIC}, setup also runs both
+ * APIs with further mapper classes first, the way the rest of an application pollutes the shared profiles.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CallSiteShapeBenchmark {
+
+    static final int SIZE = 1024;
+
+    static final List<Function<String, Integer>> MAPPERS = List.of(
+            String::length,
+            s -> s.length() + 1,
+            String::hashCode,
+            s -> s.indexOf('n'));
+
+    public enum Shape {
+        MONOMORPHIC(1, false),
+        BIMORPHIC(2, true),
+        MEGAMORPHIC(4, true);
+
+        final int mapperCount;
+        final boolean mixEmpty;
+
+        Shape(int mapperCount, boolean mixEmpty) {
+            this.mapperCount = mapperCount;
+            this.mixEmpty = mixEmpty;
+        }
+    }
+
+    @Param
+    Shape shape;
+
+    String[] values;
+    Option<String>[] options;
+    Either<String, String>[] eithers;
+    Optional<String>[] optionals;
+    Function<String, Integer>[] mappers;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp(Blackhole blackhole) {
+        values = new String[SIZE];
+        options = (Option<String>[]) new Option<?>[SIZE];
+        eithers = (Either<String, String>[]) new Either<?, ?>[SIZE];
+        optionals = (Optional<String>[]) new Optional<?>[SIZE];
+        mappers = (Function<String, Integer>[]) new Function<?, ?>[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            boolean empty = shape.mixEmpty && i % 3 == 0;
+            String value = empty ? null : "value-" + i;
+            values[i] = value;
+            options[i] = Option.of(value);
+            eithers[i] = empty ? Either.left("error-" + i) : Either.right(value);
+            optionals[i] = Optional.ofNullable(value);
+            mappers[i] = MAPPERS.get(i % shape.mapperCount);
+        }
+        if (shape == Shape.MEGAMORPHIC) {
+            pollute(blackhole);
+        }
+    }
+
+    private void pollute(Blackhole blackhole) {
+        List<Function<String, Integer>> others = List.of(
+                s -> s.length() * 2, s -> s.length() - 1, s -> (int) s.charAt(0), s -> s.lastIndexOf('e'));
+        int sink = 0;
+        for (int round = 0; round < 20_000; round++) {
+            for (int i = 0; i < others.size(); i++) {
+                Function<String, Integer> mapper = others.get(i);
+                Option<String> option = options[(round + i) % SIZE];
+                Either<String, String> either = eithers[(round + i) % SIZE];
+                sink += option.map(mapper).flatMap(Option::of).orElse(0);
+                sink += either.mapRight(mapper).flatMapRight(Either::right).getOrElse(0);
+                sink += Options.orElse(Options.flatMap(Options.map(option, mapper), Option::of), 0);
+                sink += Eithers.getOrElse(Eithers.flatMapRight(Eithers.mapRight(either, mapper), Either::right), 0);
+            }
+        }
+        blackhole.consume(sink);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int option() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += options[i].map(mappers[i]).orElse(0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int either() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += eithers[i].mapRight(mappers[i]).getOrElse(0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int eitherFold() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += eithers[i].fold(l -> 0, mappers[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int optional() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += optionals[i].map(mappers[i]).orElse(0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int nullCheck() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            String value = values[i];
+            sum += value != null ? mappers[i].apply(value) : 0;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int optionStatic() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += Options.orElse(Options.map(options[i], mappers[i]), 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int eitherStatic() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += Eithers.getOrElse(Eithers.mapRight(eithers[i], mappers[i]), 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int optionChain() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += options[i].map(mappers[i]).map(n -> n * 3).flatMap(n -> n % 2 == 0 ? Option.of(n) : Option.<Integer>none()).map(n -> n + 1).orElse(0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int optionChainStatic() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            Option<Integer> mapped = Options.map(Options.map(options[i], mappers[i]), n -> n * 3);
+            sum += Options.orElse(Options.map(Options.flatMap(mapped, n -> n % 2 == 0 ? Option.of(n) : Option.<Integer>none()), n -> n + 1), 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int eitherChain() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += eithers[i].mapRight(mappers[i]).mapRight(n -> n * 3)
+                    .flatMapRight(n -> n % 2 == 0 ? Either.right(n) : Either.left("odd"))
+                    .mapRight(n -> n + 1).getOrElse(0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int eitherChainStatic() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            Either<String, Integer> mapped = Eithers.mapRight(Eithers.mapRight(eithers[i], mappers[i]), n -> n * 3);
+            Either<String, Integer> even = Eithers.flatMapRight(mapped, n -> n % 2 == 0 ? Either.right(n) : Either.left("odd"));
+            sum += Eithers.getOrElse(Eithers.mapRight(even, n -> n + 1), 0);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,130 @@
+package de.ludimus.functional.benchmarks;
+
+import de.ludimus.functional.codec.EitherCodec;
+import de.ludimus.functional.codec.RecordReader;
+import de.ludimus.functional.codec.RecordWriter;
+import de.ludimus.functional.codec.ValueCodec;
+import de.ludimus.functional.either.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing and reading a batch of {@code Either<String, Long>} records with {@link EitherCodec} versus Java serialization.
+ * Either is not {@link java.io.Serializable}, so the serialization baseline writes the tag with
+ * {@code writeBoolean} and the value with {@code writeObject}, which is what hand-written code would do.
+ * {@code countRights} only peeks at the tags of the encoded records.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CodecBenchmark {
+
+    private final EitherCodec<String, Long> codec = new EitherCodec<>(ValueCodec.utf8(), ValueCodec.int64());
+
+    @Param({"1000"})
+    int size;
+
+    List<Either<String, Long>> records;
+    ByteBuffer buffer;
+    ByteBuffer encoded;
+    byte[] serialized;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            records.add(random.nextInt(10) == 0 ? Either.left("error " + i) : Either.right(random.nextLong()));
+        }
+        buffer = ByteBuffer.allocate(size * 32);
+        encoded = ByteBuffer.allocate(size * 32);
+        RecordWriter<Either<String, Long>> writer = new RecordWriter<>(codec, encoded);
+        records.forEach(writer::write);
+        encoded.flip();
+        serialized = serialize();
+    }
+
+    @Benchmark
+    public ByteBuffer codecWrite() {
+        buffer.clear();
+        RecordWriter<Either<String, Long>> writer = new RecordWriter<>(codec, buffer);
+        for (Either<String, Long> record : records) {
+            writer.write(record);
+        }
+        return buffer;
+    }
+
+    @Benchmark
+    public long codecRead() {
+        RecordReader reader = new RecordReader(encoded.duplicate());
+        long sum = 0;
+        while (reader.hasNext()) {
+            sum += reader.next(codec).<Long>fold(left -> (long) left.length(), right -> right);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int codecCountRights() {
+        RecordReader reader = new RecordReader(encoded.duplicate());
+        int rights = 0;
+        while (reader.hasNext()) {
+            if (EitherCodec.isRight(reader.next(), 0)) {
+                rights++;
+            }
+        }
+        return rights;
+    }
+
+    @Benchmark
+    public byte[] objectStreamWrite() throws IOException {
+        return serialize();
+    }
+
+    @Benchmark
+    public long objectStreamRead() throws IOException, ClassNotFoundException {
+        long sum = 0;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            for (int i = 0; i < size; i++) {
+                boolean right = in.readBoolean();
+                Object value = in.readObject();
+                sum += right ? (Long) value : ((String) value).length();
+            }
+        }
+        return sum;
+    }
+
+    private byte[] serialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(size * 32);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            for (Either<String, Long> record : records) {
+                out.writeBoolean(record.isRight());
+                out.writeObject(record.<Object>fold(left -> left, right -> right));
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,91 @@
+package de.ludimus.functional.benchmarks;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.EitherBatch;
+import de.ludimus.functional.option.Option;
+import de.ludimus.functional.option.OptionLongArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk map/count over columnar containers versus lists of individual Option/Either records.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ColumnarBenchmark {
+
+    @Param({"100000"})
+    int size;
+
+    List<Option<Long>> optionList;
+    OptionLongArray optionArray;
+    List<Either<String, Long>> eitherList;
+    EitherBatch<String, Long> eitherBatch;
+
+    @Setup
+    public void setUp() {
+        optionList = IntStream.range(0, size).mapToObj(i -> Option.of((long) i)).toList();
+        optionArray = OptionLongArray.of(IntStream.range(0, size).asLongStream().toArray());
+        eitherList = IntStream.range(0, size)
+                .mapToObj(i -> i % 10 == 0 ? Either.<String, Long>left("error") : Either.<String, Long>right((long) i))
+                .toList();
+        eitherBatch = EitherBatch.from(eitherList);
+    }
+
+    @Benchmark
+    public long optionListMapSum() {
+        long sum = 0;
+        for (Option<Long> option : optionList) {
+            sum += option.map(v -> v * 3 + 1).orElse(0L);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long optionArrayMapSum() {
+        return optionArray.map(v -> v * 3 + 1).sum();
+    }
+
+    @Benchmark
+    public long eitherListCountLefts() {
+        long count = 0;
+        for (Either<String, Long> either : eitherList) {
+            if (either.isLeft()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long eitherBatchCountLefts() {
+        return eitherBatch.countLefts();
+    }
+
+    @Benchmark
+    public List<Either<String, Long>> eitherListMapRight() {
+        return eitherList.stream().map(e -> e.mapRight(v -> v + 1)).toList();
+    }
+
+    @Benchmark
+    public EitherBatch<String, Long> eitherBatchMapRight() {
+        return eitherBatch.mapRight(v -> v + 1);
+    }
+}
@@ -0,0 +1,144 @@
+package de.ludimus.functional.benchmarks;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.option.Option;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-call cost of every {@link Either} combinator on both variants.
+ * The {@link Optional} and null-check baselines model the same success/failure split
+ * with the error dropped, which is what hand-written code usually does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EitherBenchmark {
+
+    String value = "functional";
+    String nullValue = null;
+
+    Either<String, String> right = Either.right(value);
+    Either<String, String> left = Either.left("error");
+
+    Optional<String> optional = Optional.of(value);
+    Optional<String> emptyOptional = Optional.empty();
+
+    @Benchmark
+    public Either<String, Integer> rightMapRight() {
+        return right.mapRight(String::length);
+    }
+
+    @Benchmark
+    public Either<String, Integer> leftMapRight() {
+        return left.mapRight(String::length);
+    }
+
+    @Benchmark
+    public Optional<Integer> optionalMap() {
+        return optional.map(String::length);
+    }
+
+    @Benchmark
+    public Optional<Integer> emptyOptionalMap() {
+        return emptyOptional.map(String::length);
+    }
+
+    @Benchmark
+    public Integer nullCheckMap() {
+        return value != null ? value.length() : null;
+    }
+
+    @Benchmark
+    public Integer nullCheckMapOnNull() {
+        return nullValue != null ? nullValue.length() : null;
+    }
+
+    @Benchmark
+    public Either<String, Integer> rightFlatMapRight() {
+        return right.flatMapRight(s -> Either.right(s.length()));
+    }
+
+    @Benchmark
+    public Either<String, Integer> leftFlatMapRight() {
+        return left.flatMapRight(s -> Either.right(s.length()));
+    }
+
+    @Benchmark
+    public Optional<Integer> optionalFlatMap() {
+        return optional.flatMap(s -> Optional.of(s.length()));
+    }
+
+    @Benchmark
+    public Optional<Integer> emptyOptionalFlatMap() {
+        return emptyOptional.flatMap(s -> Optional.of(s.length()));
+    }
+
+    @Benchmark
+    public int rightFold() {
+        return right.fold(String::length, String::length);
+    }
+
+    @Benchmark
+    public int leftFold() {
+        return left.fold(String::length, String::length);
+    }
+
+    @Benchmark
+    public int nullCheckFold() {
+        return value != null ? value.length() : -1;
+    }
+
+    @Benchmark
+    public String rightGetOrElse() {
+        return right.getOrElse("default");
+    }
+
+    @Benchmark
+    public String leftGetOrElse() {
+        return left.getOrElse("default");
+    }
+
+    @Benchmark
+    public long rightToStream() {
+        return right.toStream().count();
+    }
+
+    @Benchmark
+    public long leftToStream() {
+        return left.toStream().count();
+    }
+
+    @Benchmark
+    public Option<String> rightToOption() {
+        return right.toOption();
+    }
+
+    @Benchmark
+    public Option<String> leftToOption() {
+        return left.toOption();
+    }
+
+    @Benchmark
+    public Optional<String> rightToOptional() {
+        return right.toOptional();
+    }
+
+    @Benchmark
+    public Optional<String> leftToOptional() {
+        return left.toOptional();
+    }
+}
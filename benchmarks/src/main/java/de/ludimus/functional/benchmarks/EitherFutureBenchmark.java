@@ -0,0 +1,88 @@
+package de.ludimus.functional.benchmarks;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.EitherFuture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a five-stage mapRight/flatMapRight chain built with {@link EitherFuture}
+ * compared with the equivalent raw {@code CompletableFuture<Either>} composition.
+ * <p>
+ * {@code completed} starts from an already completed future, {@code pending} builds the chain on an
+ * incomplete future and completes it afterwards, so every stage is registered as a dependent.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EitherFutureBenchmark {
+
+    @Param({"true", "false"})
+    boolean success;
+
+    private Either<String, Integer> start() {
+        return success ? Either.right(1) : Either.left("error");
+    }
+
+    private static EitherFuture<String, Integer> chain(EitherFuture<String, Integer> source) {
+        return source
+                .mapRight(i -> i + 1)
+                .flatMapRight(i -> EitherFuture.right(i * 2))
+                .mapRight(i -> i - 1)
+                .flatMapRight(i -> EitherFuture.right(i * 3))
+                .mapRight(i -> i + 7);
+    }
+
+    private static CompletableFuture<Either<String, Integer>> chain(CompletableFuture<Either<String, Integer>> source) {
+        return source
+                .thenApply(e -> e.mapRight(i -> i + 1))
+                .thenCompose(e -> e.<CompletableFuture<Either<String, Integer>>>fold(
+                        l -> CompletableFuture.completedFuture(Either.left(l)),
+                        i -> CompletableFuture.completedFuture(Either.right(i * 2))))
+                .thenApply(e -> e.mapRight(i -> i - 1))
+                .thenCompose(e -> e.<CompletableFuture<Either<String, Integer>>>fold(
+                        l -> CompletableFuture.completedFuture(Either.left(l)),
+                        i -> CompletableFuture.completedFuture(Either.right(i * 3))))
+                .thenApply(e -> e.mapRight(i -> i + 7));
+    }
+
+    @Benchmark
+    public Either<String, Integer> eitherFutureCompleted() {
+        return chain(EitherFuture.completed(start())).toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public Either<String, Integer> completableFutureCompleted() {
+        return chain(CompletableFuture.completedFuture(start())).join();
+    }
+
+    @Benchmark
+    public Either<String, Integer> eitherFuturePending() {
+        CompletableFuture<Either<String, Integer>> source = new CompletableFuture<>();
+        CompletableFuture<Either<String, Integer>> result = chain(EitherFuture.of(source)).toCompletableFuture();
+        source.complete(start());
+        return result.join();
+    }
+
+    @Benchmark
+    public Either<String, Integer> completableFuturePending() {
+        CompletableFuture<Either<String, Integer>> source = new CompletableFuture<>();
+        CompletableFuture<Either<String, Integer>> result = chain(source);
+        source.complete(start());
+        return result.join();
+    }
+}
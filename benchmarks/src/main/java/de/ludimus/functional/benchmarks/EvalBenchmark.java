@@ -0,0 +1,77 @@
+package de.ludimus.functional.benchmarks;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.eval.Eval;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a recursive chain of {@code depth} steps evaluated by {@link Eval} versus direct recursion on the Java stack.
+ * Divide {@code gc.alloc.rate.norm} by {@code depth} for the allocation per step; direct recursion is limited
+ * to depths the default thread stack can hold.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EvalBenchmark {
+
+    @Param({"100", "1000"})
+    int depth;
+
+    private static long sumDirect(long n) {
+        return n == 0 ? 0 : sumDirect(n - 1) + n;
+    }
+
+    private static Eval<Long> sumEval(long n) {
+        return n == 0 ? Eval.now(0L) : Eval.defer(() -> sumEval(n - 1)).map(sum -> sum + n);
+    }
+
+    private static Either<String, Integer> countDownDirect(int n) {
+        Either<String, Integer> step = Either.right(n);
+        return n == 0 ? step : step.flatMapRight(value -> countDownDirect(value - 1));
+    }
+
+    private static Eval<Either<String, Integer>> countDownEval(int n) {
+        Eval<Either<String, Integer>> step = Eval.now(Either.right(n));
+        return n == 0 ? step : Eval.flatMapRight(step, value -> Eval.defer(() -> countDownEval(value - 1)));
+    }
+
+    @Benchmark
+    public long sumDirect() {
+        return sumDirect(depth);
+    }
+
+    @Benchmark
+    public long sumEval() {
+        return sumEval(depth).value();
+    }
+
+    @Benchmark
+    public Either<String, Integer> flatMapRightDirect() {
+        return countDownDirect(depth);
+    }
+
+    @Benchmark
+    public Either<String, Integer> flatMapRightEval() {
+        return countDownEval(depth).value();
+    }
+
+    @Benchmark
+    public int tailRec() {
+        int target = depth;
+        return Eval.tailRec(0, i -> Eval.now(i < target ? Either.<Integer, Integer>left(i + 1) : Either.<Integer, Integer>right(i))).value();
+    }
+}
@@ -0,0 +1,171 @@
+package de.ludimus.functional.benchmarks;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.flow.EitherSplitter;
+import de.ludimus.functional.flow.ParallelMapRight;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Throughput of {@link EitherSplitter} with one Left in ten, once with a dead-letter subscriber that keeps up and
+ * once with one that never requests, and of {@link ParallelMapRight} at different parallelism levels.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FlowBenchmark {
+
+    private static final int SIZE = 10_000;
+
+    @Param({"1", "4"})
+    int parallelism;
+
+    List<Either<String, Integer>> events;
+    ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        events = IntStream.range(0, SIZE)
+                .mapToObj(i -> i % 10 == 0 ? Either.<String, Integer>left("bad " + i) : Either.<String, Integer>right(i))
+                .toList();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public long splitWithFastSink() throws InterruptedException {
+        EitherSplitter<String, Integer> splitter = EitherSplitter.of(64, Flow.defaultBufferSize(), executor);
+        Sink<List<String>> deadLetters = new Sink<>(Long.MAX_VALUE);
+        splitter.lefts().subscribe(deadLetters);
+        return run(splitter, deadLetters);
+    }
+
+    @Benchmark
+    public long splitWithStalledSink() throws InterruptedException {
+        EitherSplitter<String, Integer> splitter = EitherSplitter.of(64, Flow.defaultBufferSize(), executor);
+        splitter.lefts().subscribe(new Sink<>(0));
+        return run(splitter, null);
+    }
+
+    @Benchmark
+    public long parallelMapRight() throws InterruptedException {
+        ParallelMapRight<String, Integer, Integer> mapper = ParallelMapRight.of(x -> x * 31 + 7, parallelism, executor);
+        Sink<Either<String, Integer>> results = new Sink<>(Long.MAX_VALUE);
+        mapper.subscribe(results);
+        new ListPublisher<>(events).subscribe(mapper);
+        results.done.await();
+        return results.count.get();
+    }
+
+    private long run(EitherSplitter<String, Integer> splitter, Sink<?> deadLetters) throws InterruptedException {
+        Sink<Integer> rights = new Sink<>(Long.MAX_VALUE);
+        splitter.subscribe(rights);
+        new ListPublisher<>(events).subscribe(splitter);
+        rights.done.await();
+        if (deadLetters != null) {
+            deadLetters.done.await();
+        }
+        return rights.count.get();
+    }
+
+    private static final class Sink<T> implements Flow.Subscriber<T> {
+
+        final CountDownLatch done = new CountDownLatch(1);
+        final AtomicLong count = new AtomicLong();
+        private final long request;
+
+        Sink(long request) {
+            this.request = request;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (request > 0) {
+                subscription.request(request);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            count.incrementAndGet();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+
+    private static final class ListPublisher<T> implements Flow.Publisher<T> {
+
+        private final List<T> items;
+
+        ListPublisher(List<T> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+            AtomicInteger wip = new AtomicInteger();
+            AtomicLong demand = new AtomicLong();
+            int[] next = {0};
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    demand.accumulateAndGet(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+                    if (wip.getAndIncrement() != 0) {
+                        return;
+                    }
+                    do {
+                        while (demand.get() > 0 && next[0] < items.size()) {
+                            demand.decrementAndGet();
+                            subscriber.onNext(items.get(next[0]++));
+                        }
+                        if (next[0] == items.size()) {
+                            next[0]++;
+                            subscriber.onComplete();
+                        }
+                    } while (wip.decrementAndGet() != 0);
+                }
+
+                @Override
+                public void cancel() {
+                    next[0] = items.size() + 1;
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package de.ludimus.functional.benchmarks;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.metrics.Instrumented;
+import de.ludimus.functional.metrics.MetricsRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Overhead of an {@link Instrumented} mapper when its registry is disabled and enabled, compared with the bare mapper.
+ * Runs with four threads so the enabled case includes contention on the shared counters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+public class InstrumentedBenchmark {
+
+    private static final Function<String, Either<String, Integer>> PARSE =
+            s -> s.length() < 3 ? Either.right(s.length()) : Either.left("too long");
+
+    private final MetricsRegistry disabled = new MetricsRegistry();
+    private final MetricsRegistry enabled = new MetricsRegistry();
+    private final Function<String, Either<String, Integer>> disabledMapper = Instrumented.eitherMapper(disabled, "parse", PARSE);
+    private final Function<String, Either<String, Integer>> enabledMapper = Instrumented.eitherMapper(enabled, "parse", PARSE);
+
+    String input = "ab";
+
+    {
+        enabled.setEnabled(true);
+    }
+
+    @Benchmark
+    public Either<String, Integer> bare() {
+        return PARSE.apply(input);
+    }
+
+    @Benchmark
+    public Either<String, Integer> disabled() {
+        return disabledMapper.apply(input);
+    }
+
+    @Benchmark
+    public Either<String, Integer> enabled() {
+        return enabledMapper.apply(input);
+    }
+}
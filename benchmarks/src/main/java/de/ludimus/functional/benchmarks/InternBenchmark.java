@@ -0,0 +1,79 @@
+package de.ludimus.functional.benchmarks;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.option.Option;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fresh versus shared Some and Right instances for a small set of recurring values: small integers and
+ * registered status strings. Run with {@code -prof gc} to compare the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InternBenchmark {
+
+    private static final String[] STATUSES = {"OK", "PENDING", "FAILED", "RETRY"};
+
+    Integer[] codes = new Integer[64];
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = 200 + (i % 8) * 50;
+        }
+        for (String status : STATUSES) {
+            Option.registerCached(status);
+            Either.registerCached(status);
+        }
+    }
+
+    @Benchmark
+    public void optionOf(Blackhole blackhole) {
+        for (Integer code : codes) {
+            blackhole.consume(Option.of(code));
+        }
+        for (String status : STATUSES) {
+            blackhole.consume(Option.of(status));
+        }
+    }
+
+    @Benchmark
+    public void optionOfCached(Blackhole blackhole) {
+        for (Integer code : codes) {
+            blackhole.consume(Option.ofCached(code));
+        }
+        for (String status : STATUSES) {
+            blackhole.consume(Option.ofCached(status));
+        }
+    }
+
+    @Benchmark
+    public void eitherRight(Blackhole blackhole) {
+        for (Integer code : codes) {
+            blackhole.consume(Either.right(code));
+        }
+    }
+
+    @Benchmark
+    public void eitherRightCached(Blackhole blackhole) {
+        for (Integer code : codes) {
+            blackhole.consume(Either.rightCached(code));
+        }
+    }
+}
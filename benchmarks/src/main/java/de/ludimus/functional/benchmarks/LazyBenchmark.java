@@ -0,0 +1,65 @@
+package de.ludimus.functional.benchmarks;
+
+import de.ludimus.functional.eval.Eval;
+import de.ludimus.functional.eval.Lazy;
+import de.ludimus.functional.eval.LazyOption;
+import de.ludimus.functional.option.Option;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads of an already computed {@link Lazy} against the {@code synchronized} {@link Eval#later} and a plain field,
+ * and the per-request cost of building an Option eagerly versus a {@link LazyOption} that is never read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LazyBenchmark {
+
+    String plain = "value";
+    Lazy<String> lazy = Lazy.of(() -> "value");
+    Eval<String> later = Eval.later(() -> "value");
+    String config = "host=localhost;port=8080;timeout=30;retries=3";
+
+    {
+        lazy.get();
+        later.value();
+    }
+
+    @Benchmark
+    public String plainRead() {
+        return plain;
+    }
+
+    @Benchmark
+    public String lazyRead() {
+        return lazy.get();
+    }
+
+    @Benchmark
+    public String evalLaterRead() {
+        return later.value();
+    }
+
+    @Benchmark
+    public Option<Integer> eagerUnread() {
+        return Option.of(config).map(c -> c.split(";").length);
+    }
+
+    @Benchmark
+    public LazyOption<Integer> lazyUnread() {
+        return LazyOption.of(() -> config).map(c -> c.split(";").length);
+    }
+}
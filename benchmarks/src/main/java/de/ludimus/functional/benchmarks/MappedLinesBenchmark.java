@@ -0,0 +1,102 @@
+package de.ludimus.functional.benchmarks;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.io.MappedLines;
+import de.ludimus.functional.parse.FieldCursor;
+import de.ludimus.functional.parse.ParseError;
+import de.ludimus.functional.parse.RecordParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sums one column of a 64 MB CSV file ({@code id,timestamp,amount}, 1% malformed) with {@link MappedLines}
+ * and a {@link FieldCursor}, against {@link BufferedReader#lines()} with a String per line and {@code parseLong}
+ * in try/catch. Throughput in MB/s is 64 divided by the score in seconds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MappedLinesBenchmark {
+
+    private static final RecordParser<Long> AMOUNT = fields -> {
+        fields.skip();
+        fields.skip();
+        return fields.nextLong();
+    };
+
+    private static final ThreadLocal<FieldCursor> CURSORS = ThreadLocal.withInitial(() -> new FieldCursor(','));
+
+    private Path file;
+    private MappedLines lines;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("mapped-lines", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            for (long i = 0; Files.size(file) < 64L << 20; i++) {
+                for (int j = 0; j < 10_000; j++, i++) {
+                    writer.write(i + "," + (1_700_000_000_000L + i) + "," + (i % 100 == 0 ? "n/a" : String.valueOf(i % 9973)) + "\n");
+                }
+                writer.flush();
+            }
+        }
+        lines = MappedLines.open(file);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long bufferedReader() throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+            return reader.lines().map(MappedLinesBenchmark::parseWithExceptions).mapToLong(either -> either.getOrElse(0L)).sum();
+        }
+    }
+
+    @Benchmark
+    public long mappedUnordered() {
+        return lines.parse(line -> AMOUNT.parse(line.fields(CURSORS.get()))).mapToLong(either -> either.getOrElse(0L)).sum();
+    }
+
+    @Benchmark
+    public long mappedOrdered() {
+        long[] sum = new long[1];
+        lines.parseOrdered(line -> AMOUNT.parse(line.fields(CURSORS.get()))).forEachOrdered(either -> sum[0] += either.getOrElse(0L));
+        return sum[0];
+    }
+
+    @Benchmark
+    public long mappedOpen() throws IOException {
+        return MappedLines.open(file).size();
+    }
+
+    private static Either<ParseError, Long> parseWithExceptions(String line) {
+        try {
+            return Either.right(Long.parseLong(line.substring(line.lastIndexOf(',') + 1)));
+        } catch (NumberFormatException e) {
+            return ParseError.INVALID_CHARACTER.left();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package de.ludimus.functional.benchmarks;
+
+import de.ludimus.functional.option.Option;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-call cost of every {@link Option} combinator on both variants,
+ * side by side with {@link Optional} and a hand-written null check.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OptionBenchmark {
+
+    String value = "functional";
+    String nullValue = null;
+
+    Option<String> some = Option.of(value);
+    Option<String> none = Option.none();
+
+    Optional<String> optional = Optional.of(value);
+    Optional<String> emptyOptional = Optional.empty();
+
+    @Benchmark
+    public Option<Integer> someMap() {
+        return some.map(String::length);
+    }
+
+    @Benchmark
+    public Option<Integer> noneMap() {
+        return none.map(String::length);
+    }
+
+    @Benchmark
+    public Optional<Integer> optionalMap() {
+        return optional.map(String::length);
+    }
+
+    @Benchmark
+    public Optional<Integer> emptyOptionalMap() {
+        return emptyOptional.map(String::length);
+    }
+
+    @Benchmark
+    public Integer nullCheckMap() {
+        return value != null ? value.length() : null;
+    }
+
+    @Benchmark
+    public Integer nullCheckMapOnNull() {
+        return nullValue != null ? nullValue.length() : null;
+    }
+
+    @Benchmark
+    public Option<Integer> someFlatMap() {
+        return some.flatMap(s -> Option.of(s.length()));
+    }
+
+    @Benchmark
+    public Option<Integer> noneFlatMap() {
+        return none.flatMap(s -> Option.of(s.length()));
+    }
+
+    @Benchmark
+    public Optional<Integer> optionalFlatMap() {
+        return optional.flatMap(s -> Optional.of(s.length()));
+    }
+
+    @Benchmark
+    public Optional<Integer> emptyOptionalFlatMap() {
+        return emptyOptional.flatMap(s -> Optional.of(s.length()));
+    }
+
+    @Benchmark
+    public String someOrElseGet() {
+        return some.orElseGet(() -> "default");
+    }
+
+    @Benchmark
+    public String noneOrElseGet() {
+        return none.orElseGet(() -> "default");
+    }
+
+    @Benchmark
+    public String optionalOrElseGet() {
+        return optional.orElseGet(() -> "default");
+    }
+
+    @Benchmark
+    public String emptyOptionalOrElseGet() {
+        return emptyOptional.orElseGet(() -> "default");
+    }
+
+    @Benchmark
+    public String nullCheckOrElse() {
+        return nullValue != null ? nullValue : "default";
+    }
+
+    @Benchmark
+    public long someStream() {
+        return some.stream().count();
+    }
+
+    @Benchmark
+    public long noneStream() {
+        return none.stream().count();
+    }
+
+    @Benchmark
+    public long optionalStream() {
+        return optional.stream().count();
+    }
+
+    @Benchmark
+    public long emptyOptionalStream() {
+        return emptyOptional.stream().count();
+    }
+}
@@ -0,0 +1,78 @@
+package de.ludimus.functional.benchmarks;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.ParallelEither;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Scaling of {@link ParallelEither#traverse} with a CPU-bound mapper over pools of 1 to 8 workers, against the
+ * sequential {@link Either#traverse}. {@code earlyLeft} fails at the first element, so it measures how quickly
+ * the remaining subtasks are dropped. Pass {@code -p parallelism=...} to match the cores of the machine.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParallelEitherBenchmark {
+
+    private static final Function<Integer, Either<String, Long>> SCORE = i -> {
+        Blackhole.consumeCPU(500);
+        return Either.right((long) i * i);
+    };
+
+    private static final Function<Integer, Either<String, Long>> FAIL_FIRST = i -> {
+        Blackhole.consumeCPU(500);
+        return i == 0 ? Either.left("bad input") : Either.right((long) i);
+    };
+
+    @Param({"1", "2", "4", "8"})
+    int parallelism;
+
+    private final List<Integer> values = IntStream.range(0, 10_000).boxed().toList();
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Either<String, List<Long>> sequential() {
+        return Either.traverse(values, SCORE);
+    }
+
+    @Benchmark
+    public Either<String, List<Long>> parallel() {
+        return ParallelEither.traverse(values, SCORE, pool);
+    }
+
+    @Benchmark
+    public Either<String, List<Long>> earlyLeft() {
+        return ParallelEither.traverse(values, FAIL_FIRST, pool);
+    }
+}
@@ -0,0 +1,122 @@
+package de.ludimus.functional.benchmarks;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.parse.EnumParser;
+import de.ludimus.functional.parse.FieldCursor;
+import de.ludimus.functional.parse.ParseError;
+import de.ludimus.functional.parse.RecordParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses CSV trade records ({@code id,side,quantity,date}) with the {@code parse} package, from Strings and from
+ * a ByteBuffer, against the usual substring, {@code parseInt}/{@code valueOf}/{@code LocalDate.parse} and try/catch
+ * approach. {@code invalidPercent} of the records have a malformed quantity.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParseBenchmark {
+
+    static final int SIZE = 1024;
+
+    enum Side { BUY, SELL }
+
+    private static final EnumParser<Side> SIDES = EnumParser.of(Side.class);
+
+    /**
+     * Reads a record into a checksum, so that neither approach allocates a record object.
+     */
+    private static final RecordParser<Long> CHECKSUM = fields ->
+            fields.nextLong() + fields.nextEnum(SIDES).ordinal() + fields.nextInt() + fields.nextEpochDay();
+
+    @Param({"0", "10"})
+    int invalidPercent;
+
+    String[] lines;
+    ByteBuffer bytes;
+    int[] offsets;
+    final FieldCursor cursor = new FieldCursor(',');
+
+    @Setup
+    public void setUp() {
+        lines = new String[SIZE];
+        StringBuilder all = new StringBuilder();
+        offsets = new int[SIZE + 1];
+        for (int i = 0; i < SIZE; i++) {
+            String quantity = i % 100 < invalidPercent ? "12x" : String.valueOf(i * 7);
+            lines[i] = (1_000_000 + i) + "," + (i % 2 == 0 ? "BUY" : "SELL") + "," + quantity + ",2024-03-" + (10 + i % 19);
+            offsets[i] = all.length();
+            all.append(lines[i]).append('\n');
+        }
+        offsets[SIZE] = all.length();
+        bytes = ByteBuffer.wrap(all.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long exceptions() {
+        long sum = 0;
+        for (String line : lines) {
+            sum += parseWithExceptions(line).fold(error -> -1L, value -> value);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long recordParser() {
+        long sum = 0;
+        for (String line : lines) {
+            Either<ParseError, Long> parsed = CHECKSUM.parse(cursor.reset(line));
+            sum += cursor.hasError() ? -1 : parsed.fold(error -> -1L, value -> value);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long fieldCursorBytes() {
+        long sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            cursor.reset(bytes, offsets[i], offsets[i + 1] - offsets[i] - 1);
+            long checksum = cursor.nextLong() + cursor.nextEnum(SIDES).ordinal() + cursor.nextInt() + cursor.nextEpochDay();
+            sum += cursor.hasError() ? -1 : checksum;
+        }
+        return sum;
+    }
+
+    private static Either<String, Long> parseWithExceptions(String line) {
+        try {
+            int first = line.indexOf(',');
+            int second = line.indexOf(',', first + 1);
+            int third = line.indexOf(',', second + 1);
+            long id = Long.parseLong(line.substring(0, first));
+            Side side = Side.valueOf(line.substring(first + 1, second));
+            int quantity = Integer.parseInt(line.substring(second + 1, third));
+            long day = LocalDate.parse(line.substring(third + 1)).toEpochDay();
+            return Either.right(id + side.ordinal() + quantity + day);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return Either.left(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package de.ludimus.functional.benchmarks;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.resilience.Bulkhead;
+import de.ludimus.functional.resilience.CircuitBreaker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Per-call overhead of a closed {@link CircuitBreaker} and a {@link Bulkhead} shared by four threads,
+ * compared with the bare call and with a breaker that records outcomes under a lock.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+public class ResilienceBenchmark {
+
+    private static final Function<String, Either<String, Integer>> CALL =
+            s -> s.length() < 3 ? Either.right(s.length()) : Either.left("too long");
+
+    private final Function<String, Either<String, Integer>> breaker =
+            CircuitBreaker.ofDefaults().decorateFunction(CALL, () -> "open");
+    private final Function<String, Either<String, Integer>> bulkhead =
+            Bulkhead.of(64).decorateFunction(CALL, () -> "full");
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean[] outcomes = new boolean[100];
+    private int next;
+
+    String input = "ab";
+
+    @Benchmark
+    public Either<String, Integer> bare() {
+        return CALL.apply(input);
+    }
+
+    @Benchmark
+    public Either<String, Integer> circuitBreaker() {
+        return breaker.apply(input);
+    }
+
+    @Benchmark
+    public Either<String, Integer> bulkhead() {
+        return bulkhead.apply(input);
+    }
+
+    @Benchmark
+    public Either<String, Integer> lockedWindow() {
+        Either<String, Integer> result = CALL.apply(input);
+        lock.lock();
+        try {
+            outcomes[next] = result.isLeft();
+            next = (next + 1) % outcomes.length;
+        } finally {
+            lock.unlock();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+package de.ludimus.functional.benchmarks;
+
+import de.ludimus.functional.collect.EitherStreams;
+import de.ludimus.functional.collect.OptionStreams;
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.option.Option;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flattening a list of Options and Eithers with {@code flatMap(Option::stream)} versus the {@code mapMulti} operators,
+ * and a parallel Right mapping through {@code Stream.map} versus {@link EitherStreams#mapRightOrdered}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class StreamsBenchmark {
+
+    @Param({"10000"})
+    int size;
+
+    List<Option<Integer>> options;
+    List<Either<String, Integer>> eithers;
+
+    @Setup
+    public void setUp() {
+        options = new ArrayList<>(size);
+        eithers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            options.add(i % 4 == 0 ? Option.none() : Option.of(i));
+            eithers.add(i % 4 == 0 ? Either.left("error") : Either.right(i));
+        }
+    }
+
+    @Benchmark
+    public long optionFlatMap() {
+        return options.stream().flatMap(Option::stream).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long optionValues() {
+        return OptionStreams.values(options.stream()).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long eitherFlatMap() {
+        return eithers.stream().flatMap(Either::toStream).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long eitherRights() {
+        return EitherStreams.rights(eithers.stream()).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public List<Either<String, Integer>> parallelMap() {
+        return eithers.parallelStream().map(e -> e.mapRight(i -> i * 31)).toList();
+    }
+
+    @Benchmark
+    public List<Either<String, Integer>> parallelMapRightOrdered() {
+        return EitherStreams.mapRightOrdered(eithers, i -> i * 31).parallel().toList();
+    }
+}
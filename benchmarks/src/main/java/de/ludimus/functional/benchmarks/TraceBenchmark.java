@@ -0,0 +1,46 @@
+package de.ludimus.functional.benchmarks;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.trace.Traced;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Overhead of a {@link Traced} mapper compared with the bare mapper while no recording enables its events.
+ * Run with {@code -jvmArgs -XX:StartFlightRecording:settings=functional.jfc} to measure the enabled path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TraceBenchmark {
+
+    private static final Function<String, Either<String, Integer>> PARSE =
+            s -> s.length() < 3 ? Either.right(s.length()) : Either.left("too long");
+
+    private final Function<String, Either<String, Integer>> traced = Traced.eitherMapper("parse", PARSE);
+
+    String input = "ab";
+
+    @Benchmark
+    public Either<String, Integer> bare() {
+        return PARSE.apply(input);
+    }
+
+    @Benchmark
+    public Either<String, Integer> traced() {
+        return traced.apply(input);
+    }
+}
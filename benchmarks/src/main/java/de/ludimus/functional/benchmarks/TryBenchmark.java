@@ -0,0 +1,90 @@
+package de.ludimus.functional.benchmarks;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.StacklessException;
+import de.ludimus.functional.either.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Success path versus the different failure representations of {@link Try}.
+ * {@code depth} adds stack frames between the Try and the throw site, which is what makes
+ * stack trace capture expensive in real code.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TryBenchmark {
+
+    private static final StacklessException PREALLOCATED = new StacklessException("preallocated");
+
+    @Param({"1", "32"})
+    int depth;
+
+    int input = 42;
+
+    private int fail(int frames, boolean stackless) {
+        if (frames > 0) {
+            return fail(frames - 1, stackless) + 1;
+        }
+        throw stackless ? new StacklessException("stackless") : new IllegalStateException("regular");
+    }
+
+    private int failPreallocated(int frames) {
+        if (frames > 0) {
+            return failPreallocated(frames - 1) + 1;
+        }
+        throw PREALLOCATED;
+    }
+
+    private int succeed(int frames) {
+        return frames > 0 ? succeed(frames - 1) + 1 : input;
+    }
+
+    @Benchmark
+    public Try<Integer> success() {
+        return Try.of(() -> succeed(depth));
+    }
+
+    @Benchmark
+    public Try<Integer> regularFailure() {
+        return Try.of(() -> fail(depth, false));
+    }
+
+    @Benchmark
+    public Try<Integer> stacklessFailure() {
+        return Try.of(() -> fail(depth, true));
+    }
+
+    @Benchmark
+    public Try<Integer> preallocatedFailure() {
+        return Try.of(() -> failPreallocated(depth));
+    }
+
+    @Benchmark
+    public Try<Integer> preallocatedFailureWithoutThrow() {
+        return Try.failure(PREALLOCATED);
+    }
+
+    @Benchmark
+    public Either<Throwable, Integer> handWrittenEither() {
+        try {
+            return Either.right(fail(depth, false));
+        } catch (RuntimeException e) {
+            return Either.left(e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package de.ludimus.functional.codec;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.Left;
+import de.ludimus.functional.either.Right;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Encodes an {@link Either} as a one-byte tag ({@value #LEFT} for Left, {@value #RIGHT} for Right)
+ * followed by the value in the format of the matching value codec.
+ *
+ * @param <L> the type of Left value
+ * @param <R> the type of Right value
+ */
+public final class EitherCodec<L, R> implements ValueCodec<Either<L, R>> {
+
+    public static final byte LEFT = 0;
+    public static final byte RIGHT = 1;
+
+    private final ValueCodec<L> leftCodec;
+    private final ValueCodec<R> rightCodec;
+
+    public EitherCodec(ValueCodec<L> leftCodec, ValueCodec<R> rightCodec) {
+        this.leftCodec = Objects.requireNonNull(leftCodec);
+        this.rightCodec = Objects.requireNonNull(rightCodec);
+    }
+
+    /**
+     * Checks whether the Either encoded at the given absolute index is a Right, without decoding it
+     * or moving the buffer's position.
+     */
+    public static boolean isRight(ByteBuffer buffer, int index) {
+        return tag(buffer.get(index)) == RIGHT;
+    }
+
+    /**
+     * Returns a read-only view of the encoded payload at the given absolute index, without the tag and without copying.
+     */
+    public static ByteBuffer payload(ByteBuffer buffer, int index) {
+        tag(buffer.get(index));
+        return buffer.slice(index + 1, buffer.limit() - index - 1).asReadOnlyBuffer();
+    }
+
+    /**
+     * Decodes only the Left value of the Either at the buffer's position.
+     *
+     * @throws IllegalStateException if the encoded value is a Right; the position is not moved in that case
+     */
+    public L decodeLeft(ByteBuffer source) {
+        if (isRight(source, source.position())) {
+            throw new IllegalStateException("Encoded value is a Right");
+        }
+        source.get();
+        return leftCodec.decode(source);
+    }
+
+    /**
+     * Decodes only the Right value of the Either at the buffer's position.
+     *
+     * @throws IllegalStateException if the encoded value is a Left; the position is not moved in that case
+     */
+    public R decodeRight(ByteBuffer source) {
+        if (!isRight(source, source.position())) {
+            throw new IllegalStateException("Encoded value is a Left");
+        }
+        source.get();
+        return rightCodec.decode(source);
+    }
+
+    @Override
+    public void encode(Either<L, R> either, ByteBuffer target) {
+        switch (either) {
+            case Left<L, R>(L value) -> {
+                target.put(LEFT);
+                leftCodec.encode(value, target);
+            }
+            case Right<L, R>(R value) -> {
+                target.put(RIGHT);
+                rightCodec.encode(value, target);
+            }
+        }
+    }
+
+    @Override
+    public Either<L, R> decode(ByteBuffer source) {
+        return tag(source.get()) == RIGHT
+                ? new Right<>(rightCodec.decode(source))
+                : new Left<>(leftCodec.decode(source));
+    }
+
+    @Override
+    public int encodedSize(Either<L, R> either) {
+        return switch (either) {
+            case Left<L, R>(L value) -> 1 + leftCodec.encodedSize(value);
+            case Right<L, R>(R value) -> 1 + rightCodec.encodedSize(value);
+        };
+    }
+
+    private static byte tag(byte tag) {
+        if (tag != LEFT && tag != RIGHT) {
+            throw new IllegalArgumentException("Not an Either tag: " + tag);
+        }
+        return tag;
+    }
+}
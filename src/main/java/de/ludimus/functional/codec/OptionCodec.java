@@ -0,0 +1,65 @@
+package de.ludimus.functional.codec;
+
+import de.ludimus.functional.option.None;
+import de.ludimus.functional.option.Option;
+import de.ludimus.functional.option.Some;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Encodes an {@link Option} as a one-byte tag ({@value #NONE} for None, {@value #SOME} for Some)
+ * followed, for Some, by the value in the format of the value codec.
+ *
+ * @param <T> the type of the value
+ */
+public final class OptionCodec<T> implements ValueCodec<Option<T>> {
+
+    public static final byte NONE = 0;
+    public static final byte SOME = 1;
+
+    private final ValueCodec<T> valueCodec;
+
+    public OptionCodec(ValueCodec<T> valueCodec) {
+        this.valueCodec = Objects.requireNonNull(valueCodec);
+    }
+
+    /**
+     * Checks whether the Option encoded at the given absolute index is a Some, without decoding it
+     * or moving the buffer's position.
+     */
+    public static boolean isPresent(ByteBuffer buffer, int index) {
+        return tag(buffer.get(index)) == SOME;
+    }
+
+    @Override
+    public void encode(Option<T> option, ByteBuffer target) {
+        switch (option) {
+            case None<T>() -> target.put(NONE);
+            case Some<T>(T value) -> {
+                target.put(SOME);
+                valueCodec.encode(value, target);
+            }
+        }
+    }
+
+    @Override
+    public Option<T> decode(ByteBuffer source) {
+        return tag(source.get()) == SOME ? new Some<>(valueCodec.decode(source)) : Option.none();
+    }
+
+    @Override
+    public int encodedSize(Option<T> option) {
+        return switch (option) {
+            case None<T>() -> 1;
+            case Some<T>(T value) -> 1 + valueCodec.encodedSize(value);
+        };
+    }
+
+    private static byte tag(byte tag) {
+        if (tag != NONE && tag != SOME) {
+            throw new IllegalArgumentException("Not an Option tag: " + tag);
+        }
+        return tag;
+    }
+}
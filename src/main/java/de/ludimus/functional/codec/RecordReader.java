@@ -0,0 +1,71 @@
+package de.ludimus.functional.codec;
+
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Reads length-prefixed records written by {@link RecordWriter} from a {@link ByteBuffer}.
+ * A trailing partial record is left unread, so a reader fed from a channel can
+ * {@link ByteBuffer#compact() compact} the buffer, read more bytes and continue.
+ */
+public final class RecordReader {
+
+    private final ByteBuffer source;
+
+    public RecordReader(ByteBuffer source) {
+        this.source = Objects.requireNonNull(source);
+    }
+
+    /**
+     * Checks whether a complete record is available at the buffer's position.
+     */
+    public boolean hasNext() {
+        int remaining = source.remaining();
+        if (remaining < Integer.BYTES) {
+            return false;
+        }
+        int size = source.getInt(source.position());
+        if (size < 0) {
+            throw new IllegalStateException("Negative record length: " + size);
+        }
+        return remaining - Integer.BYTES >= size;
+    }
+
+    /**
+     * Returns the next record as a read-only view into the buffer, without copying or decoding it.
+     * The view's position is at the record's first byte (the tag, for Option and Either records).
+     */
+    public ByteBuffer next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int size = source.getInt();
+        ByteBuffer view = source.slice(source.position(), size).asReadOnlyBuffer();
+        source.position(source.position() + size);
+        return view;
+    }
+
+    /**
+     * Decodes the next record with the given codec.
+     */
+    public <T> T next(ValueCodec<T> codec) {
+        ByteBuffer view = next();
+        T value = codec.decode(view);
+        if (view.hasRemaining()) {
+            throw new IllegalStateException("Codec left " + view.remaining() + " bytes of the record unread");
+        }
+        return value;
+    }
+
+    /**
+     * Skips the next record without decoding it.
+     */
+    public void skip() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int size = source.getInt();
+        source.position(source.position() + size);
+    }
+}
@@ -0,0 +1,54 @@
+package de.ludimus.functional.codec;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Writes records into a {@link ByteBuffer}, each prefixed with its encoded length as four big-endian bytes.
+ * A record that does not fit is not written at all, and a codec that fails or writes a different number of bytes
+ * than it announced leaves the position where it was, so the buffer always ends on a record boundary.
+ *
+ * @param <T> the type of the records
+ */
+public final class RecordWriter<T> {
+
+    private final ValueCodec<T> codec;
+    private final ByteBuffer target;
+
+    public RecordWriter(ValueCodec<T> codec, ByteBuffer target) {
+        this.codec = Objects.requireNonNull(codec);
+        this.target = Objects.requireNonNull(target);
+    }
+
+    /**
+     * Writes one length-prefixed record.
+     *
+     * @param record the record to write
+     * @return {@code true} if the record was written, {@code false} if the buffer has no room for it
+     */
+    public boolean write(T record) {
+        int size = codec.encodedSize(record);
+        if (target.remaining() < Integer.BYTES + size) {
+            return false;
+        }
+        int boundary = target.position();
+        target.putInt(size);
+        int start = target.position();
+        try {
+            codec.encode(record, target);
+        } catch (RuntimeException e) {
+            target.position(boundary);
+            throw e;
+        }
+        if (target.position() - start != size) {
+            int written = target.position() - start;
+            target.position(boundary);
+            throw new IllegalStateException("Codec wrote " + written + " bytes, announced " + size);
+        }
+        return true;
+    }
+
+    public ByteBuffer buffer() {
+        return target;
+    }
+}
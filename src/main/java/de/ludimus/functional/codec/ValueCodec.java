@@ -0,0 +1,190 @@
+package de.ludimus.functional.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes values of one type directly into a {@link ByteBuffer} and decodes them back.
+ * Implementations read and write at the buffer's position and advance it. The built-in codecs encode without
+ * intermediate buffers; decoding allocates the decoded value and, for {@link #utf8()} on a direct buffer,
+ * one copy of its bytes.
+ * A buffer without enough room causes the usual {@link java.nio.BufferOverflowException}.
+ *
+ * @param <T> the type of the values
+ */
+public interface ValueCodec<T> {
+
+    /**
+     * Writes the value at the buffer's position.
+     *
+     * @param value  the value to write
+     * @param target the buffer to write to
+     */
+    void encode(T value, ByteBuffer target);
+
+    /**
+     * Reads a value at the buffer's position.
+     *
+     * @param source the buffer to read from
+     * @return the decoded value
+     */
+    T decode(ByteBuffer source);
+
+    /**
+     * Returns the number of bytes {@link #encode} writes for the value.
+     *
+     * @param value the value
+     * @return the encoded size in bytes
+     */
+    int encodedSize(T value);
+
+    /**
+     * A codec for {@code int} values as four big-endian bytes.
+     */
+    static ValueCodec<Integer> int32() {
+        return new ValueCodec<>() {
+            @Override
+            public void encode(Integer value, ByteBuffer target) {
+                target.putInt(value);
+            }
+
+            @Override
+            public Integer decode(ByteBuffer source) {
+                return source.getInt();
+            }
+
+            @Override
+            public int encodedSize(Integer value) {
+                return Integer.BYTES;
+            }
+        };
+    }
+
+    /**
+     * A codec for {@code long} values as eight big-endian bytes.
+     */
+    static ValueCodec<Long> int64() {
+        return new ValueCodec<>() {
+            @Override
+            public void encode(Long value, ByteBuffer target) {
+                target.putLong(value);
+            }
+
+            @Override
+            public Long decode(ByteBuffer source) {
+                return source.getLong();
+            }
+
+            @Override
+            public int encodedSize(Long value) {
+                return Long.BYTES;
+            }
+        };
+    }
+
+    /**
+     * A codec for strings as a four-byte length followed by their UTF-8 bytes.
+     */
+    static ValueCodec<String> utf8() {
+        return new ValueCodec<>() {
+            @Override
+            public void encode(String value, ByteBuffer target) {
+                target.putInt(utf8Length(value));
+                for (int i = 0; i < value.length(); i++) {
+                    char c = value.charAt(i);
+                    if (c < 0x80) {
+                        target.put((byte) c);
+                    } else if (c < 0x800) {
+                        target.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+                    } else if (!Character.isSurrogate(c)) {
+                        target.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+                    } else if (isSurrogatePair(value, i)) {
+                        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                        target.put((byte) (0xF0 | codePoint >> 18)).put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                                .put((byte) (0x80 | codePoint >> 6 & 0x3F)).put((byte) (0x80 | codePoint & 0x3F));
+                    } else {
+                        target.put((byte) '?');
+                    }
+                }
+            }
+
+            @Override
+            public String decode(ByteBuffer source) {
+                int length = source.getInt();
+                String value;
+                if (source.hasArray()) {
+                    value = new String(source.array(), source.arrayOffset() + source.position(), length, StandardCharsets.UTF_8);
+                } else {
+                    byte[] bytes = new byte[length];
+                    source.get(source.position(), bytes);
+                    value = new String(bytes, StandardCharsets.UTF_8);
+                }
+                source.position(source.position() + length);
+                return value;
+            }
+
+            @Override
+            public int encodedSize(String value) {
+                return Integer.BYTES + utf8Length(value);
+            }
+        };
+    }
+
+    /**
+     * Returns the number of UTF-8 bytes of a string, counting an unpaired surrogate as the one byte {@code '?'}
+     * it is replaced with, as {@link String#getBytes} does.
+     */
+    private static int utf8Length(String value) {
+        int size = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                size += 1;
+            } else if (c < 0x800) {
+                size += 2;
+            } else if (!Character.isSurrogate(c)) {
+                size += 3;
+            } else if (isSurrogatePair(value, i)) {
+                size += 4;
+                i++;
+            } else {
+                size += 1;
+            }
+        }
+        return size;
+    }
+
+    private static boolean isSurrogatePair(String value, int index) {
+        return Character.isHighSurrogate(value.charAt(index))
+                && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1));
+    }
+
+    /**
+     * A codec for enum constants as their ordinal in a single byte (up to 256 constants) or four bytes.
+     */
+    static <E extends Enum<E>> ValueCodec<E> ordinal(Class<E> type) {
+        E[] constants = type.getEnumConstants();
+        boolean small = constants.length <= 256;
+        return new ValueCodec<>() {
+            @Override
+            public void encode(E value, ByteBuffer target) {
+                if (small) {
+                    target.put((byte) value.ordinal());
+                } else {
+                    target.putInt(value.ordinal());
+                }
+            }
+
+            @Override
+            public E decode(ByteBuffer source) {
+                return constants[small ? Byte.toUnsignedInt(source.get()) : source.getInt()];
+            }
+
+            @Override
+            public int encodedSize(E value) {
+                return small ? 1 : Integer.BYTES;
+            }
+        };
+    }
+}
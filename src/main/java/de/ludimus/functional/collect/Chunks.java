@@ -0,0 +1,70 @@
+package de.ludimus.functional.collect;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An append-only buffer made of linked array segments, used as collector state.
+ * {@link #concat} links the segments of both buffers in constant time, so combining partial results of a
+ * parallel stream never copies elements; they are copied exactly once, by {@link #toList()}.
+ */
+final class Chunks<T> {
+
+    private static final int FIRST_SEGMENT = 16;
+    private static final int MAX_SEGMENT = 1 << 14;
+
+    private static final class Segment {
+        final Object[] items;
+        int size;
+        Segment next;
+
+        Segment(int capacity) {
+            items = new Object[capacity];
+        }
+    }
+
+    private Segment head;
+    private Segment tail;
+    private int size;
+
+    void add(T item) {
+        if (tail == null) {
+            head = tail = new Segment(FIRST_SEGMENT);
+        } else if (tail.size == tail.items.length) {
+            Segment segment = new Segment(Math.min(MAX_SEGMENT, tail.items.length << 1));
+            tail.next = segment;
+            tail = segment;
+        }
+        tail.items[tail.size++] = item;
+        size++;
+    }
+
+    Chunks<T> concat(Chunks<T> other) {
+        if (other.head == null) {
+            return this;
+        }
+        if (head == null) {
+            return other;
+        }
+        tail.next = other.head;
+        tail = other.tail;
+        size += other.size;
+        return this;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    List<T> toList() {
+        Object[] items = new Object[size];
+        int offset = 0;
+        for (Segment segment = head; segment != null; segment = segment.next) {
+            System.arraycopy(segment.items, 0, items, offset, segment.size);
+            offset += segment.size;
+        }
+        return Collections.unmodifiableList((List<T>) Arrays.asList(items));
+    }
+}
@@ -0,0 +1,174 @@
+package de.ludimus.functional.collect;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.Left;
+import de.ludimus.functional.either.Right;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Single-pass {@link Collector}s for streams of {@link Either}.
+ * <p>
+ * All collectors keep encounter order and combine partial results in constant time,
+ * so they scale with {@code parallelStream()}; elements are copied once, when the final lists are built.
+ * The returned lists and maps are immutable.
+ */
+public final class EitherCollectors {
+
+    private EitherCollectors() {
+    }
+
+    /**
+     * Splits a stream of Either values into its Left and Right values.
+     *
+     * @param <L> the type of the Left values
+     * @param <R> the type of the Right values
+     * @return a collector producing a {@link Partition} of all Left and all Right values
+     */
+    public static <L, R> Collector<Either<L, R>, ?, Partition<L, R>> partition() {
+        return Collector.of(
+                PartitionState<L, R>::new,
+                PartitionState::add,
+                PartitionState::combine,
+                state -> new Partition<>(state.lefts.toList(), state.rights.toList()));
+    }
+
+    /**
+     * Collects all Right values, or the first Left value in encounter order if there is one.
+     * Right values are no longer buffered once a Left has been seen.
+     *
+     * @param <L> the type of the Left values
+     * @param <R> the type of the Right values
+     * @return a collector producing the first Left, or a Right with all Right values
+     */
+    public static <L, R> Collector<Either<L, R>, ?, Either<L, List<R>>> rightsOrFirstLeft() {
+        return Collector.of(
+                FirstLeftState<L, R>::new,
+                FirstLeftState::add,
+                FirstLeftState::combine,
+                state -> state.firstLeft != null ? Either.left(state.firstLeft) : Either.right(state.rights.toList()));
+    }
+
+    /**
+     * Collects all Right values, or all Left values if there is at least one.
+     * Right values are no longer buffered once a Left has been seen.
+     *
+     * @param <L> the type of the Left values
+     * @param <R> the type of the Right values
+     * @return a collector producing a Left with every Left value, or a Right with all Right values
+     */
+    public static <L, R> Collector<Either<L, R>, ?, Either<List<L>, List<R>>> toEitherList() {
+        return Collector.of(
+                FailFastState<L, R>::new,
+                FailFastState::add,
+                FailFastState::combine,
+                state -> state.lefts.isEmpty() ? Either.right(state.rights.toList()) : Either.left(state.lefts.toList()));
+    }
+
+    /**
+     * Groups the Left values of a stream by a classifier, ignoring Right values.
+     *
+     * @param classifier the function computing the group of a Left value
+     * @param <L>        the type of the Left values
+     * @param <R>        the type of the Right values
+     * @param <K>        the type of the group keys
+     * @return a collector producing a map from group key to the Left values of that group
+     */
+    public static <L, R, K> Collector<Either<L, R>, ?, Map<K, List<L>>> groupLefts(Function<? super L, ? extends K> classifier) {
+        Objects.requireNonNull(classifier);
+        return Collector.<Either<L, R>, Map<K, Chunks<L>>, Map<K, List<L>>>of(
+                HashMap::new,
+                (groups, either) -> {
+                    if (either instanceof Left<L, R>(L value)) {
+                        groups.computeIfAbsent(classifier.apply(value), key -> new Chunks<>()).add(value);
+                    }
+                },
+                (first, second) -> {
+                    second.forEach((key, lefts) -> first.merge(key, lefts, Chunks::concat));
+                    return first;
+                },
+                groups -> {
+                    Map<K, List<L>> result = HashMap.newHashMap(groups.size());
+                    groups.forEach((key, lefts) -> result.put(key, lefts.toList()));
+                    return Collections.unmodifiableMap(result);
+                });
+    }
+
+    private static final class PartitionState<L, R> {
+        Chunks<L> lefts = new Chunks<>();
+        Chunks<R> rights = new Chunks<>();
+
+        void add(Either<L, R> either) {
+            switch (either) {
+                case Left<L, R>(L value) -> lefts.add(value);
+                case Right<L, R>(R value) -> rights.add(value);
+            }
+        }
+
+        PartitionState<L, R> combine(PartitionState<L, R> other) {
+            lefts = lefts.concat(other.lefts);
+            rights = rights.concat(other.rights);
+            return this;
+        }
+    }
+
+    private static final class FirstLeftState<L, R> {
+        L firstLeft;
+        Chunks<R> rights = new Chunks<>();
+
+        void add(Either<L, R> either) {
+            if (firstLeft != null) {
+                return;
+            }
+            switch (either) {
+                case Left<L, R>(L value) -> {
+                    firstLeft = value;
+                    rights = null;
+                }
+                case Right<L, R>(R value) -> rights.add(value);
+            }
+        }
+
+        FirstLeftState<L, R> combine(FirstLeftState<L, R> other) {
+            if (firstLeft != null) {
+                return this;
+            }
+            if (other.firstLeft != null) {
+                return other;
+            }
+            rights = rights.concat(other.rights);
+            return this;
+        }
+    }
+
+    private static final class FailFastState<L, R> {
+        Chunks<L> lefts = new Chunks<>();
+        Chunks<R> rights = new Chunks<>();
+
+        void add(Either<L, R> either) {
+            switch (either) {
+                case Left<L, R>(L value) -> {
+                    lefts.add(value);
+                    rights = null;
+                }
+                case Right<L, R>(R value) -> {
+                    if (rights != null) {
+                        rights.add(value);
+                    }
+                }
+            }
+        }
+
+        FailFastState<L, R> combine(FailFastState<L, R> other) {
+            lefts = lefts.concat(other.lefts);
+            rights = lefts.isEmpty() ? rights.concat(other.rights) : null;
+            return this;
+        }
+    }
+}
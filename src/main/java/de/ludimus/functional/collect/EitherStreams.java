@@ -0,0 +1,245 @@
+package de.ludimus.functional.collect;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.Left;
+import de.ludimus.functional.either.Right;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Stream operators for streams of {@link Either}.
+ * <p>
+ * Flattening uses {@link Stream#mapMulti} instead of {@code flatMap(Either::toStream)}, which would build a complete
+ * one-element {@link Stream} pipeline per element. {@link #takeWhileRight} and {@link #mapRightOrdered} are backed by
+ * their own {@link Spliterator}s.
+ */
+public final class EitherStreams {
+
+    private EitherStreams() {
+    }
+
+    /**
+     * Returns a {@link Stream#mapMulti} mapper passing on every Right value and dropping Lefts:
+     * {@code eithers.mapMulti(EitherStreams.rights())}.
+     *
+     * @param <L> the type of the Left values
+     * @param <R> the type of the Right values
+     * @return a mapper for {@code mapMulti}
+     */
+    public static <L, R> BiConsumer<Either<L, ? extends R>, Consumer<R>> rights() {
+        return (either, sink) -> {
+            if (either instanceof Right<L, ? extends R>(R value)) {
+                sink.accept(value);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link Stream#mapMulti} mapper passing on every Left value and dropping Rights.
+     *
+     * @param <L> the type of the Left values
+     * @param <R> the type of the Right values
+     * @return a mapper for {@code mapMulti}
+     */
+    public static <L, R> BiConsumer<Either<? extends L, R>, Consumer<L>> lefts() {
+        return (either, sink) -> {
+            if (either instanceof Left<? extends L, R>(L value)) {
+                sink.accept(value);
+            }
+        };
+    }
+
+    /**
+     * Flattens a stream of Eithers into its Right values, in encounter order.
+     *
+     * @param eithers the stream of Eithers
+     * @param <L>     the type of the Left values
+     * @param <R>     the type of the Right values
+     * @return a stream of the Right values
+     */
+    public static <L, R> Stream<R> rights(Stream<? extends Either<L, ? extends R>> eithers) {
+        return eithers.mapMulti(rights());
+    }
+
+    /**
+     * Flattens a stream of Eithers into its Left values, in encounter order.
+     *
+     * @param eithers the stream of Eithers
+     * @param <L>     the type of the Left values
+     * @param <R>     the type of the Right values
+     * @return a stream of the Left values
+     */
+    public static <L, R> Stream<L> lefts(Stream<? extends Either<? extends L, R>> eithers) {
+        return eithers.mapMulti(lefts());
+    }
+
+    /**
+     * Returns the Right values up to the first Left, and ends the stream there.
+     * The first Left value, if the stream reaches one, is passed to {@code onLeft} before the stream ends;
+     * nothing after it is pulled from the source.
+     * <p>
+     * The result is sequential in the sense that it does not split: "the first Left" requires encounter order,
+     * and a lazy prefix of unknown length cannot be divided ahead of time.
+     *
+     * @param eithers the stream of Eithers
+     * @param onLeft  receives the Left value that ended the stream
+     * @param <L>     the type of the Left values
+     * @param <R>     the type of the Right values
+     * @return a stream of the Right values before the first Left
+     */
+    public static <L, R> Stream<R> takeWhileRight(Stream<? extends Either<? extends L, ? extends R>> eithers, Consumer<? super L> onLeft) {
+        Objects.requireNonNull(onLeft);
+        return StreamSupport.stream(new TakeWhileRight<>(eithers.spliterator(), onLeft), false).onClose(eithers::close);
+    }
+
+    /**
+     * Maps the Right values of a list of Eithers, keeping Lefts as they are.
+     * <p>
+     * The stream splits the list by index, so it is {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}
+     * and each half of a split is exactly half the work. Parallel {@code toList()} and {@code toArray()} therefore
+     * write results straight into their final position, in the original order.
+     *
+     * @param eithers the Eithers; should be {@link RandomAccess} and must not be modified while the stream runs
+     * @param mapper  the function to apply to the Right values
+     * @param <L>     the type of the Left values
+     * @param <R>     the type of the Right values
+     * @param <R2>    the type of the new Right values
+     * @return a sequential stream of the mapped Eithers; call {@code parallel()} to run it in parallel
+     */
+    public static <L, R, R2> Stream<Either<L, R2>> mapRightOrdered(List<? extends Either<L, R>> eithers, Function<? super R, ? extends R2> mapper) {
+        Objects.requireNonNull(mapper);
+        List<? extends Either<L, R>> source = eithers instanceof RandomAccess ? eithers : List.copyOf(eithers);
+        return StreamSupport.stream(new MapRight<>(source, mapper, 0, source.size()), false);
+    }
+
+    private static final class TakeWhileRight<L, R> implements Spliterator<R>, Consumer<Either<? extends L, ? extends R>> {
+
+        private final Spliterator<? extends Either<? extends L, ? extends R>> source;
+        private final Consumer<? super L> onLeft;
+        private Consumer<? super R> action;
+        private boolean done;
+
+        TakeWhileRight(Spliterator<? extends Either<? extends L, ? extends R>> source, Consumer<? super L> onLeft) {
+            this.source = source;
+            this.onLeft = onLeft;
+        }
+
+        @Override
+        public void accept(Either<? extends L, ? extends R> either) {
+            switch (either) {
+                case Right<? extends L, ? extends R>(R value) -> action.accept(value);
+                case Left<? extends L, ? extends R>(L value) -> {
+                    done = true;
+                    onLeft.accept(value);
+                }
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            if (done) {
+                return false;
+            }
+            this.action = action;
+            if (!source.tryAdvance(this)) {
+                done = true;
+            }
+            return !done;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super R> action) {
+            this.action = action;
+            while (!done) {
+                if (!source.tryAdvance(this)) {
+                    done = true;
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return done ? 0 : source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return (source.characteristics() & (ORDERED | IMMUTABLE | CONCURRENT)) | NONNULL;
+        }
+    }
+
+    private static final class MapRight<L, R, R2> implements Spliterator<Either<L, R2>> {
+
+        private final List<? extends Either<L, R>> source;
+        private final Function<? super R, ? extends R2> mapper;
+        private int index;
+        private final int end;
+
+        MapRight(List<? extends Either<L, R>> source, Function<? super R, ? extends R2> mapper, int index, int end) {
+            this.source = source;
+            this.mapper = mapper;
+            this.index = index;
+            this.end = end;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Either<L, R2> map(Either<L, R> either) {
+            return switch (either) {
+                case Left<L, R> left -> (Either<L, R2>) (Either<L, ?>) left;
+                case Right<L, R>(R value) -> new Right<>(mapper.apply(value));
+            };
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Either<L, R2>> action) {
+            if (index >= end) {
+                return false;
+            }
+            action.accept(map(source.get(index++)));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Either<L, R2>> action) {
+            int i = index;
+            index = end;
+            for (; i < end; i++) {
+                action.accept(map(source.get(i)));
+            }
+        }
+
+        @Override
+        public Spliterator<Either<L, R2>> trySplit() {
+            int mid = (index + end) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            MapRight<L, R, R2> prefix = new MapRight<>(source, mapper, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+}
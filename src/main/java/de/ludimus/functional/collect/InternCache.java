@@ -0,0 +1,128 @@
+package de.ludimus.functional.collect;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Canonical wrappers, such as one shared {@code Some} per value, for the values that recur most: both booleans,
+ * the integers of a small range, every enum constant, and values registered at runtime in an {@link InternTable}.
+ * All lookups are lock-free reads; {@link #get} returns {@code null} for any other value.
+ *
+ * @param <W> the type of the wrappers
+ */
+public final class InternCache<W> {
+
+    /**
+     * The system property setting the lowest cached integer, -128 by default.
+     */
+    public static final String MIN_INT_PROPERTY = "de.ludimus.functional.cache.minInt";
+
+    /**
+     * The system property setting the highest cached integer, 1023 by default.
+     */
+    public static final String MAX_INT_PROPERTY = "de.ludimus.functional.cache.maxInt";
+
+    /**
+     * The lowest integer the cached range may start at; lower settings are clamped to it.
+     */
+    public static final int MIN_INT_LIMIT = Short.MIN_VALUE;
+
+    /**
+     * The highest integer the cached range may end at; higher settings are clamped to it.
+     */
+    public static final int MAX_INT_LIMIT = Short.MAX_VALUE;
+
+    private static final int REGISTERED_CAPACITY = 4096;
+
+    private final W trueWrapper;
+    private final W falseWrapper;
+    private final int minInt;
+    private final Object[] ints;
+    private final ClassValue<Object[]> enums;
+    private final InternTable<Object, W> registered;
+
+    /**
+     * Creates a cache.
+     *
+     * @param minInt  the lowest cached integer, clamped to {@link #MIN_INT_LIMIT}
+     * @param maxInt  the highest cached integer, clamped to {@link #MAX_INT_LIMIT}; {@code minInt - 1} caches none
+     * @param factory creates the wrapper of a value
+     * @throws IllegalArgumentException if {@code maxInt} is less than {@code minInt - 1}
+     */
+    public InternCache(int minInt, int maxInt, Function<Object, ? extends W> factory) {
+        Objects.requireNonNull(factory);
+        if ((long) maxInt < (long) minInt - 1) {
+            throw new IllegalArgumentException("cached integer range is empty: maxInt " + maxInt + " < minInt " + minInt + " - 1");
+        }
+        this.minInt = Math.max(minInt, MIN_INT_LIMIT);
+        int clampedMax = Math.min(maxInt, MAX_INT_LIMIT);
+        this.ints = new Object[Math.max(0, clampedMax - this.minInt + 1)];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = factory.apply(this.minInt + i);
+        }
+        this.trueWrapper = factory.apply(Boolean.TRUE);
+        this.falseWrapper = factory.apply(Boolean.FALSE);
+        this.enums = new ClassValue<>() {
+            @Override
+            protected Object[] computeValue(Class<?> type) {
+                Object[] constants = type.getEnumConstants();
+                Object[] wrappers = new Object[constants.length];
+                for (int i = 0; i < constants.length; i++) {
+                    wrappers[i] = factory.apply(constants[i]);
+                }
+                return wrappers;
+            }
+        };
+        this.registered = new InternTable<>(REGISTERED_CAPACITY, factory);
+    }
+
+    /**
+     * Creates a cache of the integer range set by {@link #MIN_INT_PROPERTY} and {@link #MAX_INT_PROPERTY}.
+     *
+     * @param factory creates the wrapper of a value
+     * @param <W>     the type of the wrappers
+     * @return a new cache
+     * @throws IllegalArgumentException if a property is not an integer or the range is empty
+     */
+    public static <W> InternCache<W> fromSystemProperties(Function<Object, ? extends W> factory) {
+        return new InternCache<>(intProperty(MIN_INT_PROPERTY, -128), intProperty(MAX_INT_PROPERTY, 1023), factory);
+    }
+
+    /**
+     * Returns the canonical wrapper of a value.
+     *
+     * @param value the value, not {@code null}
+     * @return the shared wrapper, or {@code null} if the value is not cached
+     */
+    @SuppressWarnings("unchecked")
+    public W get(Object value) {
+        return switch (value) {
+            case Boolean b -> b ? trueWrapper : falseWrapper;
+            case Integer i when i >= minInt && i - minInt < ints.length -> (W) ints[i - minInt];
+            case Enum<?> e -> (W) enums.get(e.getDeclaringClass())[e.ordinal()];
+            default -> registered.get(value);
+        };
+    }
+
+    /**
+     * Registers a value whose wrapper should be shared from now on.
+     *
+     * @param value the value, which must be immutable
+     * @return {@code true} if the value is now shared, {@code false} if the registry is full
+     */
+    public boolean register(Object value) {
+        return registered.register(value) != null;
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("system property " + name + " is not an integer: " + value, e);
+        }
+    }
+}
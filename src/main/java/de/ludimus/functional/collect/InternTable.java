@@ -0,0 +1,115 @@
+package de.ludimus.functional.collect;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * A fixed-size, lock-free table of canonical instances, such as one shared {@code Some} per registered value.
+ * <p>
+ * The table is open-addressed with linear probing over an {@link AtomicReferenceArray}. Lookups are plain volatile
+ * reads and {@code equals} checks; registration claims an empty slot with a single compare-and-set, so concurrent
+ * registrations of the same value agree on one instance. Entries are never removed, and once the table is three
+ * quarters full further registrations are refused, which keeps probe sequences short and guarantees empty slots.
+ *
+ * @param <V> the type of the values
+ * @param <W> the type of the canonical instances
+ */
+public final class InternTable<V, W> {
+
+    private record Entry<V, W>(V value, W canonical) {
+    }
+
+    private final AtomicReferenceArray<Entry<V, W>> slots;
+    private final int mask;
+    private final int maxEntries;
+    private final AtomicInteger entries = new AtomicInteger();
+    private final Function<? super V, ? extends W> factory;
+
+    /**
+     * Creates an empty table.
+     *
+     * @param capacity the number of slots, rounded up to a power of two; at most three quarters of them are used
+     * @param factory  creates the canonical instance of a value when it is registered
+     */
+    public InternTable(int capacity, Function<? super V, ? extends W> factory) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30: " + capacity);
+        }
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.maxEntries = size - Math.max(1, size >>> 2);
+        this.factory = Objects.requireNonNull(factory);
+    }
+
+    /**
+     * Returns the canonical instance of a registered value.
+     *
+     * @param value the value to look up
+     * @return the canonical instance, or {@code null} if the value is not registered
+     */
+    public W get(Object value) {
+        for (int i = spread(value.hashCode()); ; i = (i + 1) & mask) {
+            Entry<V, W> entry = slots.get(i);
+            if (entry == null) {
+                return null;
+            }
+            if (matches(entry, value)) {
+                return entry.canonical;
+            }
+        }
+    }
+
+    /**
+     * Registers a value, unless it already is.
+     *
+     * @param value the value to register
+     * @return the canonical instance, or {@code null} if the table is full and the value was not registered before
+     */
+    public W register(V value) {
+        Objects.requireNonNull(value);
+        Entry<V, W> created = null;
+        for (int i = spread(value.hashCode()); ; i = (i + 1) & mask) {
+            Entry<V, W> entry = slots.get(i);
+            while (entry == null) {
+                if (created == null) {
+                    created = new Entry<>(value, factory.apply(value));
+                }
+                if (entries.incrementAndGet() > maxEntries) {
+                    entries.decrementAndGet();
+                    return null;
+                }
+                if (slots.compareAndSet(i, null, created)) {
+                    return created.canonical;
+                }
+                entries.decrementAndGet();
+                entry = slots.get(i);
+            }
+            if (matches(entry, value)) {
+                return entry.canonical;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of registered values.
+     */
+    public int size() {
+        return entries.get();
+    }
+
+    /**
+     * Values only match if they are of the same class: equal values of different classes, such as a
+     * {@code List.of(1)} and an {@code ArrayList} holding 1, must not share a canonical instance typed for one of them.
+     */
+    private static boolean matches(Entry<?, ?> entry, Object value) {
+        return entry.value.getClass() == value.getClass() && entry.value.equals(value);
+    }
+
+    private int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
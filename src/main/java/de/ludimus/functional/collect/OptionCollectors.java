@@ -0,0 +1,35 @@
+package de.ludimus.functional.collect;
+
+import de.ludimus.functional.option.Option;
+import de.ludimus.functional.option.Some;
+
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * Single-pass {@link Collector}s for streams of {@link Option}.
+ * Like {@link EitherCollectors}, partial results are combined in constant time and the result lists are immutable.
+ */
+public final class OptionCollectors {
+
+    private OptionCollectors() {
+    }
+
+    /**
+     * Collects the values of all Some elements in encounter order, skipping None elements.
+     *
+     * @param <T> the type of the values
+     * @return a collector producing an immutable list of all present values
+     */
+    public static <T> Collector<Option<T>, ?, List<T>> flattening() {
+        return Collector.<Option<T>, Chunks<T>, List<T>>of(
+                Chunks::new,
+                (values, option) -> {
+                    if (option instanceof Some<T>(T value)) {
+                        values.add(value);
+                    }
+                },
+                Chunks::concat,
+                Chunks::toList);
+    }
+}
@@ -0,0 +1,64 @@
+package de.ludimus.functional.collect;
+
+import de.ludimus.functional.option.Option;
+import de.ludimus.functional.option.Some;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Stream operators for streams of {@link Option}.
+ * <p>
+ * {@code flatMap(Option::stream)} builds a complete one-element {@link Stream} pipeline per element.
+ * The operators here use {@link Stream#mapMulti} instead, which pushes the value straight downstream.
+ */
+public final class OptionStreams {
+
+    private OptionStreams() {
+    }
+
+    /**
+     * Returns a {@link Stream#mapMulti} mapper passing on the value of every Some and dropping None:
+     * {@code options.mapMulti(OptionStreams.present())}.
+     *
+     * @param <T> the type of the values
+     * @return a mapper for {@code mapMulti}
+     */
+    public static <T> BiConsumer<Option<? extends T>, Consumer<T>> present() {
+        return (option, sink) -> {
+            if (option instanceof Some<? extends T>(T value)) {
+                sink.accept(value);
+            }
+        };
+    }
+
+    /**
+     * Flattens a stream of Options into the values of its Some elements, in encounter order.
+     *
+     * @param options the stream of Options
+     * @param <T>     the type of the values
+     * @return a stream of the present values
+     */
+    public static <T> Stream<T> values(Stream<? extends Option<? extends T>> options) {
+        return options.mapMulti(present());
+    }
+
+    /**
+     * Maps every element to an Option and keeps the present values, like {@code map(mapper).flatMap(Option::stream)}.
+     *
+     * @param stream the stream to map
+     * @param mapper the function returning an Option
+     * @param <T>    the type of the elements
+     * @param <U>    the type of the values
+     * @return a stream of the present mapped values
+     */
+    public static <T, U> Stream<U> mapPresent(Stream<T> stream, Function<? super T, ? extends Option<? extends U>> mapper) {
+        return stream.mapMulti((element, sink) -> {
+            if (mapper.apply(element) instanceof Some<? extends U>(U value)) {
+                sink.accept(value);
+            }
+        });
+    }
+}
@@ -0,0 +1,519 @@
+package de.ludimus.functional.collect;
+
+import de.ludimus.functional.option.Option;
+import de.ludimus.functional.option.Some;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent hash map: an immutable map whose updates share structure with the previous version.
+ * <p>
+ * Entries are kept in a hash array mapped trie (HAMT) with 32-way bitmap-indexed nodes, so {@link #get},
+ * {@link #put} and {@link #remove} are O(log32 n) and only copy the path to the changed entry.
+ * Keys with equal hash codes share a collision node. Instances are deeply immutable and can be read
+ * by any number of threads without synchronization. {@link Builder} loads many entries in place.
+ * Neither keys nor values may be {@code null}.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class PMap<K, V> implements Iterable<Map.Entry<K, V>> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final Object NOT_FOUND = new Object();
+
+    private static final PMap<?, ?> EMPTY = new PMap<>(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> PMap<K, V> empty() {
+        return (PMap<K, V>) EMPTY;
+    }
+
+    public static <K, V> PMap<K, V> from(Map<? extends K, ? extends V> map) {
+        Builder<K, V> builder = builder();
+        map.forEach(builder::put);
+        return builder.build();
+    }
+
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>(empty());
+    }
+
+    /**
+     * Returns a builder initialized with the entries of this map. This map is not affected by the builder.
+     */
+    public Builder<K, V> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value mapped to the key, or None if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public Option<V> get(K key) {
+        Object value = root.find(0, hash(key), key);
+        return value == NOT_FOUND ? Option.none() : new Some<>((V) value);
+    }
+
+    public boolean containsKey(K key) {
+        return root.find(0, hash(key), key) != NOT_FOUND;
+    }
+
+    /**
+     * Returns a map with the key mapped to the value. Returns this map if the mapping already exists.
+     */
+    public PMap<K, V> put(K key, V value) {
+        Objects.requireNonNull(value);
+        boolean[] added = new boolean[1];
+        Node newRoot = root.assoc(null, 0, hash(key), key, value, added);
+        return newRoot == root ? this : new PMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map without the key. Returns this map if the key is not present.
+     */
+    public PMap<K, V> remove(K key) {
+        Node newRoot = root.without(null, 0, hash(key), key, new boolean[1]);
+        return newRoot == root ? this : new PMap<>(newRoot == null ? BitmapNode.EMPTY : newRoot, size - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Entries entries = new Entries(root);
+        while (entries.advance()) {
+            action.accept((K) entries.key, (V) entries.value);
+        }
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        Entries entries = new Entries(root);
+        return new Iterator<>() {
+            private boolean ready = entries.advance();
+
+            @Override
+            public boolean hasNext() {
+                return ready;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public Map.Entry<K, V> next() {
+                if (!ready) {
+                    throw new NoSuchElementException();
+                }
+                Map.Entry<K, V> entry = new AbstractMap.SimpleImmutableEntry<>((K) entries.key, (V) entries.value);
+                ready = entries.advance();
+                return entry;
+            }
+        };
+    }
+
+    public Stream<Map.Entry<K, V>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PMap<?, ?> other) || size != other.size) {
+            return false;
+        }
+        Entries entries = new Entries(root);
+        while (entries.advance()) {
+            Object key = entries.key;
+            if (!entries.value.equals(other.root.find(0, hash(key), key))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        Entries entries = new Entries(root);
+        while (entries.advance()) {
+            hash += entries.key.hashCode() ^ entries.value.hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("PMap{");
+        Entries entries = new Entries(root);
+        boolean first = true;
+        while (entries.advance()) {
+            if (!first) {
+                result.append(", ");
+            }
+            result.append(entries.key).append('=').append(entries.value);
+            first = false;
+        }
+        return result.append('}').toString();
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private sealed interface Node permits BitmapNode, CollisionNode {
+
+        Object find(int shift, int hash, Object key);
+
+        Node assoc(Object edit, int shift, int hash, Object key, Object value, boolean[] added);
+
+        Node without(Object edit, int shift, int hash, Object key, boolean[] removed);
+
+        Object[] entries();
+    }
+
+    /**
+     * A trie node holding up to 32 slots, indexed by a bitmap of the occupied hash fragments.
+     * Each slot is a key/value pair in {@code array}; a {@code null} key marks a slot whose value is a child node.
+     */
+    private static final class BitmapNode implements Node {
+
+        static final BitmapNode EMPTY = new BitmapNode(null, 0, new Object[0]);
+
+        final Object edit;
+        int bitmap;
+        Object[] array;
+
+        BitmapNode(Object edit, int bitmap, Object[] array) {
+            this.edit = edit;
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        public Object find(int shift, int hash, Object key) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return NOT_FOUND;
+            }
+            int index = index(bit);
+            Object slotKey = array[2 * index];
+            Object slotValue = array[2 * index + 1];
+            if (slotKey == null) {
+                return ((Node) slotValue).find(shift + BITS, hash, key);
+            }
+            return key.equals(slotKey) ? slotValue : NOT_FOUND;
+        }
+
+        @Override
+        public Node assoc(Object edit, int shift, int hash, Object key, Object value, boolean[] added) {
+            int bit = bit(hash, shift);
+            int index = index(bit);
+            if ((bitmap & bit) != 0) {
+                Object slotKey = array[2 * index];
+                Object slotValue = array[2 * index + 1];
+                if (slotKey == null) {
+                    Node child = (Node) slotValue;
+                    Node newChild = child.assoc(edit, shift + BITS, hash, key, value, added);
+                    return newChild == child ? this : withSlot(edit, 2 * index, null, newChild);
+                }
+                if (key.equals(slotKey)) {
+                    return slotValue == value ? this : withSlot(edit, 2 * index, slotKey, value);
+                }
+                added[0] = true;
+                Node child = pair(edit, shift + BITS, slotKey, slotValue, hash, key, value);
+                return withSlot(edit, 2 * index, null, child);
+            }
+            added[0] = true;
+            int count = Integer.bitCount(bitmap);
+            Object[] newArray = new Object[2 * (count + 1)];
+            System.arraycopy(array, 0, newArray, 0, 2 * index);
+            newArray[2 * index] = key;
+            newArray[2 * index + 1] = value;
+            System.arraycopy(array, 2 * index, newArray, 2 * (index + 1), 2 * (count - index));
+            return withArray(edit, bitmap | bit, newArray);
+        }
+
+        @Override
+        public Node without(Object edit, int shift, int hash, Object key, boolean[] removed) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = index(bit);
+            Object slotKey = array[2 * index];
+            Object slotValue = array[2 * index + 1];
+            if (slotKey == null) {
+                Node child = (Node) slotValue;
+                Node newChild = child.without(edit, shift + BITS, hash, key, removed);
+                if (newChild == child) {
+                    return this;
+                }
+                if (newChild != null) {
+                    return withSlot(edit, 2 * index, null, newChild);
+                }
+            } else if (key.equals(slotKey)) {
+                removed[0] = true;
+            } else {
+                return this;
+            }
+            if (bitmap == bit) {
+                return null;
+            }
+            int count = Integer.bitCount(bitmap);
+            Object[] newArray = new Object[2 * (count - 1)];
+            System.arraycopy(array, 0, newArray, 0, 2 * index);
+            System.arraycopy(array, 2 * (index + 1), newArray, 2 * index, 2 * (count - index - 1));
+            return withArray(edit, bitmap ^ bit, newArray);
+        }
+
+        @Override
+        public Object[] entries() {
+            return array;
+        }
+
+        private BitmapNode withSlot(Object edit, int keyIndex, Object key, Object value) {
+            if (edit != null && this.edit == edit) {
+                array[keyIndex] = key;
+                array[keyIndex + 1] = value;
+                return this;
+            }
+            Object[] newArray = array.clone();
+            newArray[keyIndex] = key;
+            newArray[keyIndex + 1] = value;
+            return new BitmapNode(edit, bitmap, newArray);
+        }
+
+        private BitmapNode withArray(Object edit, int newBitmap, Object[] newArray) {
+            if (edit != null && this.edit == edit) {
+                bitmap = newBitmap;
+                array = newArray;
+                return this;
+            }
+            return new BitmapNode(edit, newBitmap, newArray);
+        }
+
+        private static Node pair(Object edit, int shift, Object key1, Object value1, int hash2, Object key2, Object value2) {
+            int hash1 = hash(key1);
+            if (hash1 == hash2) {
+                return new CollisionNode(edit, hash1, new Object[]{key1, value1, key2, value2});
+            }
+            boolean[] ignored = new boolean[1];
+            return EMPTY
+                    .assoc(edit, shift, hash1, key1, value1, ignored)
+                    .assoc(edit, shift, hash2, key2, value2, ignored);
+        }
+    }
+
+    /**
+     * A leaf holding all entries whose keys share the same full hash code.
+     */
+    private static final class CollisionNode implements Node {
+
+        final Object edit;
+        final int hash;
+        Object[] array;
+
+        CollisionNode(Object edit, int hash, Object[] array) {
+            this.edit = edit;
+            this.hash = hash;
+            this.array = array;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Object find(int shift, int hash, Object key) {
+            int index = indexOf(key);
+            return index < 0 ? NOT_FOUND : array[index + 1];
+        }
+
+        @Override
+        public Node assoc(Object edit, int shift, int hash, Object key, Object value, boolean[] added) {
+            if (hash != this.hash) {
+                return new BitmapNode(edit, bit(this.hash, shift), new Object[]{null, this})
+                        .assoc(edit, shift, hash, key, value, added);
+            }
+            int index = indexOf(key);
+            Object[] newArray;
+            if (index >= 0) {
+                if (array[index + 1] == value) {
+                    return this;
+                }
+                newArray = array.clone();
+                newArray[index + 1] = value;
+            } else {
+                added[0] = true;
+                newArray = Arrays.copyOf(array, array.length + 2);
+                newArray[array.length] = key;
+                newArray[array.length + 1] = value;
+            }
+            if (edit != null && this.edit == edit) {
+                array = newArray;
+                return this;
+            }
+            return new CollisionNode(edit, hash, newArray);
+        }
+
+        @Override
+        public Node without(Object edit, int shift, int hash, Object key, boolean[] removed) {
+            int index = indexOf(key);
+            if (index < 0) {
+                return this;
+            }
+            removed[0] = true;
+            if (array.length == 2) {
+                return null;
+            }
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, index);
+            System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+            if (edit != null && this.edit == edit) {
+                array = newArray;
+                return this;
+            }
+            return new CollisionNode(edit, hash, newArray);
+        }
+
+        @Override
+        public Object[] entries() {
+            return array;
+        }
+    }
+
+    /**
+     * Depth-first cursor over the entries of a trie, using an explicit stack of node arrays.
+     */
+    private static final class Entries {
+
+        private static final int MAX_DEPTH = 32 / BITS + 2;
+
+        private final Object[][] arrays = new Object[MAX_DEPTH][];
+        private final int[] positions = new int[MAX_DEPTH];
+        private int depth;
+        Object key;
+        Object value;
+
+        Entries(Node root) {
+            arrays[0] = root.entries();
+        }
+
+        boolean advance() {
+            while (depth >= 0) {
+                Object[] array = arrays[depth];
+                int position = positions[depth];
+                if (position >= array.length) {
+                    depth--;
+                    continue;
+                }
+                positions[depth] = position + 2;
+                Object slotKey = array[position];
+                Object slotValue = array[position + 1];
+                if (slotKey != null) {
+                    key = slotKey;
+                    value = slotValue;
+                    return true;
+                }
+                depth++;
+                arrays[depth] = ((Node) slotValue).entries();
+                positions[depth] = 0;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A single-threaded builder that updates a map in place.
+     * Nodes created by the builder are owned by it and mutated directly; nodes shared with the map it
+     * started from are copied on first write. After {@link #build()} the builder can no longer be used.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     */
+    public static final class Builder<K, V> {
+
+        private Object edit = new Object();
+        private Node root;
+        private int size;
+        private final boolean[] changed = new boolean[1];
+
+        private Builder(PMap<K, V> map) {
+            root = map.root;
+            size = map.size;
+        }
+
+        public Builder<K, V> put(K key, V value) {
+            Objects.requireNonNull(value);
+            ensureUsable();
+            changed[0] = false;
+            root = root.assoc(edit, 0, hash(key), key, value, changed);
+            if (changed[0]) {
+                size++;
+            }
+            return this;
+        }
+
+        public Builder<K, V> remove(K key) {
+            ensureUsable();
+            changed[0] = false;
+            Node newRoot = root.without(edit, 0, hash(key), key, changed);
+            root = newRoot == null ? BitmapNode.EMPTY : newRoot;
+            if (changed[0]) {
+                size--;
+            }
+            return this;
+        }
+
+        public PMap<K, V> build() {
+            ensureUsable();
+            edit = null;
+            return size == 0 ? empty() : new PMap<>(root, size);
+        }
+
+        private void ensureUsable() {
+            if (edit == null) {
+                throw new IllegalStateException("Builder has already been built");
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package de.ludimus.functional.collect;
+
+import de.ludimus.functional.option.Option;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent hash set, backed by a {@link PMap} from each element to itself.
+ * Shares the structural properties of PMap: O(log32 n) updates that only copy the changed path,
+ * deep immutability, and in-place bulk loading through {@link Builder}. Elements may not be {@code null}.
+ *
+ * @param <E> the type of the elements
+ */
+public final class PSet<E> implements Iterable<E> {
+
+    private static final PSet<?> EMPTY = new PSet<>(PMap.empty());
+
+    private final PMap<E, E> map;
+
+    private PSet(PMap<E, E> map) {
+        this.map = map;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PSet<E> empty() {
+        return (PSet<E>) EMPTY;
+    }
+
+    @SafeVarargs
+    public static <E> PSet<E> of(E... elements) {
+        Builder<E> builder = builder();
+        for (E element : elements) {
+            builder.add(element);
+        }
+        return builder.build();
+    }
+
+    public static <E> PSet<E> from(Iterable<? extends E> elements) {
+        Builder<E> builder = builder();
+        for (E element : elements) {
+            builder.add(element);
+        }
+        return builder.build();
+    }
+
+    public static <E> Builder<E> builder() {
+        return new Builder<>(PMap.<E, E>empty().toBuilder());
+    }
+
+    /**
+     * Returns a builder initialized with the elements of this set. This set is not affected by the builder.
+     */
+    public Builder<E> toBuilder() {
+        return new Builder<>(map.toBuilder());
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    public boolean contains(E element) {
+        return map.containsKey(element);
+    }
+
+    /**
+     * Returns the element of this set that is equal to the given one, or None if there is none.
+     */
+    public Option<E> find(E element) {
+        return map.get(element);
+    }
+
+    public PSet<E> add(E element) {
+        PMap<E, E> added = map.put(element, element);
+        return added == map ? this : new PSet<>(added);
+    }
+
+    public PSet<E> remove(E element) {
+        PMap<E, E> removed = map.remove(element);
+        return removed == map ? this : removed.isEmpty() ? empty() : new PSet<>(removed);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        Iterator<Map.Entry<E, E>> entries = map.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return entries.next().getKey();
+            }
+        };
+    }
+
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof PSet<?> other && map.equals(other.map);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (E element : this) {
+            hash += element.hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("PSet[");
+        Iterator<E> elements = iterator();
+        while (elements.hasNext()) {
+            result.append(elements.next());
+            if (elements.hasNext()) {
+                result.append(", ");
+            }
+        }
+        return result.append(']').toString();
+    }
+
+    /**
+     * A single-threaded builder that adds to a set in place, see {@link PMap.Builder}.
+     *
+     * @param <E> the type of the elements
+     */
+    public static final class Builder<E> {
+
+        private final PMap.Builder<E, E> map;
+
+        private Builder(PMap.Builder<E, E> map) {
+            this.map = map;
+        }
+
+        public Builder<E> add(E element) {
+            map.put(element, element);
+            return this;
+        }
+
+        public Builder<E> remove(E element) {
+            map.remove(element);
+            return this;
+        }
+
+        public PSet<E> build() {
+            PMap<E, E> built = map.build();
+            return built.isEmpty() ? empty() : new PSet<>(built);
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package de.ludimus.functional.collect;
+
+import de.ludimus.functional.option.Option;
+import de.ludimus.functional.option.Some;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent vector: an immutable, indexed sequence whose updates share structure with the previous version.
+ * <p>
+ * Elements are kept in a bit-partitioned trie of 32-wide nodes plus a separate tail array, so {@link #get},
+ * {@link #set} and {@link #append} are O(log32 n) and only copy the path to the changed leaf.
+ * Instances are deeply immutable and can be shared between threads without synchronization.
+ * {@link Builder} loads many elements without creating an intermediate version per element.
+ *
+ * @param <T> the type of the elements
+ */
+public final class PVector<T> implements Iterable<T> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+    private static final PVector<?> EMPTY = new PVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private static final class Node {
+        final Object edit;
+        final Object[] array;
+
+        Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    private final int size;
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    private PVector(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> PVector<T> empty() {
+        return (PVector<T>) EMPTY;
+    }
+
+    @SafeVarargs
+    public static <T> PVector<T> of(T... elements) {
+        Builder<T> builder = new Builder<>(empty());
+        for (T element : elements) {
+            builder.add(element);
+        }
+        return builder.build();
+    }
+
+    public static <T> PVector<T> from(Iterable<? extends T> elements) {
+        Builder<T> builder = new Builder<>(empty());
+        for (T element : elements) {
+            builder.add(element);
+        }
+        return builder.build();
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>(empty());
+    }
+
+    /**
+     * Returns a builder initialized with the elements of this vector. This vector is not affected by the builder.
+     */
+    public Builder<T> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the element at the given index, or None if the index is out of range.
+     */
+    @SuppressWarnings("unchecked")
+    public Option<T> get(int index) {
+        if (index < 0 || index >= size) {
+            return Option.none();
+        }
+        return new Some<>((T) leafFor(index)[index & MASK]);
+    }
+
+    /**
+     * Returns a vector with the element at the given index replaced.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public PVector<T> set(int index, T element) {
+        Objects.checkIndex(index, size);
+        Objects.requireNonNull(element);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PVector<>(size, shift, root, newTail);
+        }
+        return new PVector<>(size, shift, assoc(shift, root, index, element), tail);
+    }
+
+    /**
+     * Returns a vector with the element added at the end.
+     */
+    public PVector<T> append(T element) {
+        Objects.requireNonNull(element);
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PVector<>(size + 1, shift, root, newTail);
+        }
+        Node tailNode = new Node(null, tail);
+        int newShift = shift;
+        Node newRoot;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(null, size, shift, root, tailNode);
+        }
+        return new PVector<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int index;
+            private Object[] leaf = size > 0 ? leafFor(0) : null;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                if (index > 0 && (index & MASK) == 0) {
+                    leaf = leafFor(index);
+                }
+                return (T) leaf[index++ & MASK];
+            }
+        };
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PVector<?> other) || size != other.size) {
+            return false;
+        }
+        Iterator<?> otherElements = other.iterator();
+        for (T element : this) {
+            if (!element.equals(otherElements.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (T element : this) {
+            hash = 31 * hash + element.hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("PVector[");
+        Iterator<T> elements = iterator();
+        while (elements.hasNext()) {
+            result.append(elements.next());
+            if (elements.hasNext()) {
+                result.append(", ");
+            }
+        }
+        return result.append(']').toString();
+    }
+
+    private int tailOffset() {
+        return tailOffset(size);
+    }
+
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(int index) {
+        return leafFor(index, size, shift, root, tail);
+    }
+
+    private static Object[] leafFor(int index, int size, int shift, Node root, Object[] tail) {
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    private static Node assoc(int level, Node node, int index, Object element) {
+        Node copy = new Node(null, node.array.clone());
+        if (level == 0) {
+            copy.array[index & MASK] = element;
+        } else {
+            int child = (index >>> level) & MASK;
+            copy.array[child] = assoc(level - BITS, (Node) node.array[child], index, element);
+        }
+        return copy;
+    }
+
+    /**
+     * Copies the path to the rightmost leaf and hangs the full tail below it.
+     * With a non-null {@code edit} token, nodes already owned by that token are updated in place.
+     */
+    private static Node pushTail(Object edit, int size, int level, Node parent, Node tailNode) {
+        Node result = editable(edit, parent);
+        int child = ((size - 1) >>> level) & MASK;
+        Node inserted;
+        if (level == BITS) {
+            inserted = tailNode;
+        } else {
+            Node existing = (Node) parent.array[child];
+            inserted = existing != null
+                    ? pushTail(edit, size, level - BITS, existing, tailNode)
+                    : newPath(edit, level - BITS, tailNode);
+        }
+        result.array[child] = inserted;
+        return result;
+    }
+
+    private static Node newPath(Object edit, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Node path = new Node(edit, new Object[WIDTH]);
+        path.array[0] = newPath(edit, level - BITS, node);
+        return path;
+    }
+
+    private static Node editable(Object edit, Node node) {
+        return edit != null && node.edit == edit ? node : new Node(edit, node.array.clone());
+    }
+
+    /**
+     * A single-threaded builder that appends to a vector in place.
+     * Nodes created by the builder are owned by it and mutated directly; nodes shared with the vector it
+     * started from are copied on first write. After {@link #build()} the builder can no longer be used.
+     *
+     * @param <T> the type of the elements
+     */
+    public static final class Builder<T> {
+
+        private Object edit = new Object();
+        private int size;
+        private int shift;
+        private Node root;
+        private Object[] tail;
+
+        private Builder(PVector<T> vector) {
+            size = vector.size;
+            shift = vector.shift;
+            root = vector.root;
+            tail = Arrays.copyOf(vector.tail, WIDTH);
+        }
+
+        public Builder<T> add(T element) {
+            Objects.requireNonNull(element);
+            ensureUsable();
+            if (size - tailOffset(size) < WIDTH) {
+                tail[size & MASK] = element;
+                size++;
+                return this;
+            }
+            Node tailNode = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = element;
+            if ((size >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(edit, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(edit, size, shift, root, tailNode);
+            }
+            size++;
+            return this;
+        }
+
+        public Builder<T> addAll(Iterable<? extends T> elements) {
+            for (T element : elements) {
+                add(element);
+            }
+            return this;
+        }
+
+        public PVector<T> build() {
+            ensureUsable();
+            edit = null;
+            return new PVector<>(size, shift, root, Arrays.copyOf(tail, size - tailOffset(size)));
+        }
+
+        private void ensureUsable() {
+            if (edit == null) {
+                throw new IllegalStateException("Builder has already been built");
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package de.ludimus.functional.collect;
+
+import java.util.List;
+
+/**
+ * The Left and Right values of a stream of Either values, each in encounter order.
+ *
+ * @param lefts  the Left values
+ * @param rights the Right values
+ * @param <L>    the type of Left value
+ * @param <R>    the type of Right value
+ */
+public record Partition<L, R>(List<L> lefts, List<R> rights) {
+}
@@ -0,0 +1,13 @@
+package de.ludimus.functional.either;
+
+/**
+ * A function that may throw a checked exception.
+ *
+ * @param <T> the type of the input
+ * @param <R> the type of the result
+ */
+@FunctionalInterface
+public interface CheckedFunction<T, R> {
+
+    R apply(T value) throws Exception;
+}
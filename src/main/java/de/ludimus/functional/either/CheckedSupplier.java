@@ -0,0 +1,12 @@
+package de.ludimus.functional.either;
+
+/**
+ * A supplier that may throw a checked exception.
+ *
+ * @param <T> the type of the supplied value
+ */
+@FunctionalInterface
+public interface CheckedSupplier<T> {
+
+    T get() throws Exception;
+}
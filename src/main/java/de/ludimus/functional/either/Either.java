@@ -2,7 +2,13 @@ package de.ludimus.functional.either;
 
 import de.ludimus.functional.option.Option;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -40,6 +46,79 @@ public sealed interface Either<L, R> permits Left, Right {
         return new Right<>(value);
     }
 
+    /**
+     * Like {@link #right}, but returns a shared Right for booleans, small integers, enum constants and values
+     * registered with {@link #registerCached}, so hot paths producing the same few values do not allocate.
+     * Callers must not rely on identity: other values still get a fresh Right.
+     *
+     * @param value the Right value
+     * @param <L>   the type of the Left value
+     * @param <R>   the type of the Right value
+     * @return a possibly shared Either instance containing the Right value
+     */
+    static <L, R> Either<L, R> rightCached(R value) {
+        return RightCache.of(value);
+    }
+
+    /**
+     * Registers a value whose Right {@link #rightCached} should share. Registered values are kept for the lifetime
+     * of the JVM, so this is meant for a bounded set of common values such as status codes or currency names.
+     *
+     * @param value the value to register, which must be immutable
+     * @return {@code true} if the value is now shared, {@code false} if the registry is full
+     */
+    static boolean registerCached(Object value) {
+        return RightCache.register(value);
+    }
+
+    /**
+     * Turns a sequence of Either values into a single Either holding all Right values in order.
+     * Iteration stops at the first Left, which is returned as the result.
+     *
+     * @param eithers the Either values to combine
+     * @param <L>     the type of the Left value
+     * @param <R>     the type of the Right values
+     * @return the first Left encountered, or a Right containing an immutable list of all Right values
+     */
+    static <L, R> Either<L, List<R>> sequence(Iterable<? extends Either<L, R>> eithers) {
+        return traverse(eithers, Function.identity());
+    }
+
+    /**
+     * Applies a function returning Either to every value and collects the Right results in order.
+     * Iteration stops at the first Left, so the mapper is not applied to the remaining values.
+     * The result list is presized when the source reports an exact size and wraps the backing array without copying.
+     *
+     * @param values the values to transform
+     * @param mapper the function to apply to each value
+     * @param <A>    the type of the input values
+     * @param <L>    the type of the Left value
+     * @param <R>    the type of the Right values
+     * @return the first Left produced by the mapper, or a Right containing an immutable list of all Right values
+     */
+    @SuppressWarnings("unchecked")
+    static <A, L, R> Either<L, List<R>> traverse(Iterable<? extends A> values, Function<? super A, Either<L, R>> mapper) {
+        Spliterator<? extends A> source = values.spliterator();
+        long exactSize = source.getExactSizeIfKnown();
+        Object[] results = new Object[exactSize >= 0 ? (int) exactSize : 16];
+        int size = 0;
+        for (Iterator<? extends A> iterator = Spliterators.iterator(source); iterator.hasNext(); ) {
+            switch (mapper.apply(iterator.next())) {
+                case Left<L, R> left -> {
+                    return (Either<L, List<R>>) (Either<L, ?>) left;
+                }
+                case Right<L, R>(R value) -> {
+                    if (size == results.length) {
+                        results = Arrays.copyOf(results, Math.max(16, size + (size >> 1)));
+                    }
+                    results[size++] = value;
+                }
+            }
+        }
+        List<Object> list = Arrays.asList(results);
+        return new Right<>(Collections.unmodifiableList((List<R>) (size == results.length ? list : list.subList(0, size))));
+    }
+
     /**
      * Checks if this instance is a Left value.
      *
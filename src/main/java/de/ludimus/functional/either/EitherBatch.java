@@ -0,0 +1,160 @@
+package de.ludimus.functional.either;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An immutable, columnar sequence of {@link Either} values.
+ * A bitset tags each position as Right (bit set) or Left, and the values live in separate Left and Right columns,
+ * so a batch costs one bit and one column slot per element instead of one {@link Left}/{@link Right} record.
+ * <p>
+ * Because instances are immutable, bulk operations share every column they do not change:
+ * {@link #mapRight} reuses the tags and the Left column, {@link #mapLeft} reuses the tags and the Right column.
+ *
+ * @param <L> the type of Left values
+ * @param <R> the type of Right values
+ */
+public final class EitherBatch<L, R> {
+
+    private final long[] rightTags;
+    private final Object[] lefts;
+    private final Object[] rights;
+
+    EitherBatch(long[] rightTags, Object[] lefts, Object[] rights) {
+        this.rightTags = rightTags;
+        this.lefts = lefts;
+        this.rights = rights;
+    }
+
+    /**
+     * Creates an EitherBatch from a list of Eithers.
+     *
+     * @param eithers the Eithers, in order
+     * @param <L>     the type of the Left values
+     * @param <R>     the type of the Right values
+     * @return an EitherBatch holding the same values
+     */
+    public static <L, R> EitherBatch<L, R> from(List<? extends Either<L, R>> eithers) {
+        int size = eithers.size();
+        long[] rightTags = new long[(size + 63) >>> 6];
+        Object[] lefts = new Object[size];
+        Object[] rights = new Object[size];
+        int i = 0;
+        for (Either<L, R> either : eithers) {
+            switch (either) {
+                case Left<L, R>(L value) -> lefts[i] = value;
+                case Right<L, R>(R value) -> {
+                    rightTags[i >>> 6] |= 1L << i;
+                    rights[i] = value;
+                }
+            }
+            i++;
+        }
+        return new EitherBatch<>(rightTags, lefts, rights);
+    }
+
+    public int size() {
+        return lefts.length;
+    }
+
+    public boolean isRight(int index) {
+        Objects.checkIndex(index, lefts.length);
+        return isRightUnchecked(index);
+    }
+
+    private boolean isRightUnchecked(int index) {
+        return (rightTags[index >>> 6] & (1L << index)) != 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Either<L, R> get(int index) {
+        return isRight(index) ? new Right<>((R) rights[index]) : new Left<>((L) lefts[index]);
+    }
+
+    public int countRights() {
+        int count = 0;
+        for (long word : rightTags) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public int countLefts() {
+        return lefts.length - countRights();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R2> EitherBatch<L, R2> mapRight(Function<? super R, ? extends R2> mapper) {
+        Object[] mapped = new Object[rights.length];
+        for (int i = 0; i < rights.length; i++) {
+            if (isRightUnchecked(i)) {
+                mapped[i] = Objects.requireNonNull(mapper.apply((R) rights[i]));
+            }
+        }
+        return new EitherBatch<>(rightTags, lefts, mapped);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <L2> EitherBatch<L2, R> mapLeft(Function<? super L, ? extends L2> mapper) {
+        Object[] mapped = new Object[lefts.length];
+        for (int i = 0; i < lefts.length; i++) {
+            if (!isRightUnchecked(i)) {
+                mapped[i] = Objects.requireNonNull(mapper.apply((L) lefts[i]));
+            }
+        }
+        return new EitherBatch<>(rightTags, mapped, rights);
+    }
+
+    /**
+     * Turns every Right value that does not match the predicate into a Left produced by {@code leftMapper}.
+     * The Right column is shared with this instance.
+     */
+    @SuppressWarnings("unchecked")
+    public EitherBatch<L, R> filterRight(Predicate<? super R> predicate, Function<? super R, ? extends L> leftMapper) {
+        long[] filtered = rightTags.clone();
+        Object[] filteredLefts = lefts.clone();
+        for (int i = 0; i < rights.length; i++) {
+            if (isRightUnchecked(i) && !predicate.test((R) rights[i])) {
+                filtered[i >>> 6] &= ~(1L << i);
+                filteredLefts[i] = Objects.requireNonNull(leftMapper.apply((R) rights[i]));
+            }
+        }
+        return new EitherBatch<>(filtered, filteredLefts, rights);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <A> A fold(A identity, BiFunction<A, ? super L, A> leftAccumulator, BiFunction<A, ? super R, A> rightAccumulator) {
+        A result = identity;
+        for (int i = 0; i < lefts.length; i++) {
+            result = isRightUnchecked(i)
+                    ? rightAccumulator.apply(result, (R) rights[i])
+                    : leftAccumulator.apply(result, (L) lefts[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the Right values, in order, like {@link Either#toStream()} does for a single Either.
+     */
+    @SuppressWarnings("unchecked")
+    public Stream<R> stream() {
+        return IntStream.range(0, rights.length).filter(this::isRightUnchecked).mapToObj(i -> (R) rights[i]);
+    }
+
+    /**
+     * Returns the Left values, in order.
+     */
+    @SuppressWarnings("unchecked")
+    public Stream<L> leftStream() {
+        return IntStream.range(0, lefts.length).filter(i -> !isRightUnchecked(i)).mapToObj(i -> (L) lefts[i]);
+    }
+
+    public List<Either<L, R>> toList() {
+        return IntStream.range(0, lefts.length).mapToObj(this::get).toList();
+    }
+}
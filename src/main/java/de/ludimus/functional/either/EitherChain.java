@@ -0,0 +1,74 @@
+package de.ludimus.functional.either;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+record EitherChain<L, In, Out>(PipelineStage last, MethodHandle chain) implements EitherPipeline<L, In, Out> {
+
+    static final EitherPipeline<?, ?, ?> START = new EitherChain<>(null, PipelineStage.RIGHT);
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> EitherPipeline<L, In, U> map(Function<? super Out, ? extends U> mapper) {
+        return append(PipelineStage.MAP, (Function<Object, Object>) Objects.requireNonNull(mapper), null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> EitherPipeline<L, In, U> flatMap(Function<? super Out, ? extends Either<L, U>> mapper) {
+        return append(PipelineStage.FLAT_MAP, (Function<Object, Object>) (Function<?, ?>) Objects.requireNonNull(mapper), null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public EitherPipeline<L, In, Out> filter(Predicate<? super Out> predicate, Function<? super Out, ? extends L> leftMapper) {
+        return append(PipelineStage.FILTER, (Function<Object, Object>) Objects.requireNonNull(leftMapper),
+                (Predicate<Object>) Objects.requireNonNull(predicate));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public EitherLongPipeline<L, In> mapToLong(ToLongFunction<? super Out> mapper) {
+        return EitherLongChain.start(last, (ToLongFunction<Object>) Objects.requireNonNull(mapper));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Either<L, Out> apply(In input) {
+        return (Either<L, Out>) PipelineStage.invoke(chain, input);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Either<L, Out> applyTo(Either<L, ? extends In> either) {
+        return switch (either) {
+            case Left<L, ? extends In> left -> (Either<L, Out>) left;
+            case Right<L, ? extends In>(In value) -> apply(value);
+        };
+    }
+
+    @Override
+    public EitherBatch<L, Out> applyAll(In[] inputs) {
+        long[] rightTags = new long[(inputs.length + 63) >>> 6];
+        Object[] lefts = new Object[inputs.length];
+        Object[] rights = new Object[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            switch ((Either<?, ?>) PipelineStage.invoke(chain, inputs[i])) {
+                case Left<?, ?>(Object left) -> lefts[i] = left;
+                case Right<?, ?>(Object right) -> {
+                    rightTags[i >>> 6] |= 1L << i;
+                    rights[i] = right;
+                }
+            }
+        }
+        return new EitherBatch<>(rightTags, lefts, rights);
+    }
+
+    private <U> EitherPipeline<L, In, U> append(int kind, Function<Object, Object> function, Predicate<Object> predicate) {
+        PipelineStage stage = new PipelineStage(last, kind, function, predicate);
+        return new EitherChain<>(stage, PipelineStage.compile(stage, PipelineStage.RIGHT, PipelineStage.KEEP_LEFT, PipelineStage.LEFT));
+    }
+}
@@ -0,0 +1,149 @@
+package de.ludimus.functional.either;
+
+import de.ludimus.functional.option.OptionDouble;
+
+import java.util.function.Function;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+/**
+ * A primitive specialization of {@link Either} whose Right value is a {@code double}.
+ * The Right value is held unboxed, so creating and mapping a Right never allocates a {@link Double}.
+ *
+ * @param <L> the type of Left value
+ */
+public sealed interface EitherDouble<L> permits LeftDouble, RightDouble {
+
+    /**
+     * Creates an EitherDouble instance representing a Left value.
+     *
+     * @param value the Left value
+     * @param <L>   the type of the Left value
+     * @return an EitherDouble instance containing a Left value
+     */
+    static <L> EitherDouble<L> left(L value) {
+        return new LeftDouble<>(value);
+    }
+
+    /**
+     * Creates an EitherDouble instance representing a Right value.
+     *
+     * @param value the Right value
+     * @param <L>   the type of the Left value
+     * @return an EitherDouble instance containing a Right value
+     */
+    static <L> EitherDouble<L> right(double value) {
+        return new RightDouble<>(value);
+    }
+
+    /**
+     * Converts a boxed {@link Either} into its primitive specialization.
+     *
+     * @param either the Either to convert
+     * @param <L>    the type of the Left value
+     * @return an EitherDouble holding the same Left or (unboxed) Right value
+     */
+    static <L> EitherDouble<L> fromEither(Either<L, Double> either) {
+        return switch (either) {
+            case Left<L, Double>(L value) -> new LeftDouble<>(value);
+            case Right<L, Double>(Double value) -> new RightDouble<>(value);
+        };
+    }
+
+    /**
+     * Checks if this instance is a Left value.
+     *
+     * @return true if this is a Left value, false otherwise
+     */
+    boolean isLeft();
+
+    /**
+     * Checks if this instance is a Right value.
+     *
+     * @return true if this is a Right value, false otherwise
+     */
+    boolean isRight();
+
+    /**
+     * Maps the Right value of this EitherDouble by applying a primitive function to it.
+     *
+     * @param mapper the function to apply to the Right value
+     * @return a new EitherDouble instance with the Right value transformed
+     */
+    EitherDouble<L> mapRight(DoubleUnaryOperator mapper);
+
+    /**
+     * Maps the Right value of this EitherDouble to an object, leaving the primitive specialization.
+     *
+     * @param mapper the function to apply to the Right value
+     * @param <R2>   the type of the resulting Right value
+     * @return a new Either instance with the Right value transformed
+     */
+    <R2> Either<L, R2> mapRightToObj(DoubleFunction<? extends R2> mapper);
+
+    /**
+     * Maps the Left value of this EitherDouble by applying a function to it.
+     *
+     * @param mapper the function to apply to the Left value
+     * @param <L2>   the type of the resulting Left value
+     * @return a new EitherDouble instance with the Left value transformed
+     */
+    <L2> EitherDouble<L2> mapLeft(Function<? super L, ? extends L2> mapper);
+
+    /**
+     * Transforms the Right value of this EitherDouble to another EitherDouble by applying a function to it.
+     *
+     * @param mapper the function to apply to the Right value
+     * @return a new EitherDouble instance resulting from the transformation
+     */
+    EitherDouble<L> flatMapRight(DoubleFunction<EitherDouble<L>> mapper);
+
+    /**
+     * Transforms the Left value of this EitherDouble to another EitherDouble by applying a function to it.
+     *
+     * @param mapper the function to apply to the Left value
+     * @param <L2>   the type of the Left value in the new EitherDouble
+     * @return a new EitherDouble instance resulting from the transformation
+     */
+    <L2> EitherDouble<L2> flatMapLeft(Function<? super L, EitherDouble<L2>> mapper);
+
+    /**
+     * Returns the Right value or a default value if this is a Left.
+     *
+     * @param other the default value to return if this is a Left
+     * @return the Right value if this is Right, or the default value if this is Left
+     */
+    double getOrElse(double other);
+
+    /**
+     * Applies a function to the value inside this EitherDouble, whether it is a Left or a Right.
+     *
+     * @param leftMapper  the function to apply if this is a Left
+     * @param rightMapper the function to apply if this is a Right
+     * @param <T>         the type of the result of the functions
+     * @return the result of applying the appropriate function to the value inside this EitherDouble
+     */
+    <T> T fold(Function<? super L, ? extends T> leftMapper, DoubleFunction<? extends T> rightMapper);
+
+    /**
+     * Converts this EitherDouble to a {@link DoubleStream}, containing the Right value if it exists, or an empty stream if this is a Left.
+     *
+     * @return a DoubleStream containing the Right value if present, otherwise an empty DoubleStream
+     */
+    DoubleStream toStream();
+
+    /**
+     * Converts this EitherDouble to an {@link OptionDouble}, containing the Right value if it exists, or None if this is a Left.
+     *
+     * @return an OptionDouble containing the Right value if present, otherwise None
+     */
+    OptionDouble toOption();
+
+    /**
+     * Converts this EitherDouble to a boxed {@link Either}.
+     *
+     * @return an Either holding the same Left or (boxed) Right value
+     */
+    Either<L, Double> toEither();
+}
@@ -0,0 +1,231 @@
+package de.ludimus.functional.either;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An asynchronous {@link Either}: a {@link CompletableFuture} of an Either with combinators that mirror Either's.
+ * <p>
+ * Stages that are already complete are handled synchronously: a completed Left is passed through unchanged
+ * without registering a dependent stage, and a completed Right is mapped on the calling thread. Either way,
+ * a throwing mapper fails the returned stage rather than throwing to the caller.
+ * Pending stages run their mapper on the thread that completes the source, so no executor hop is introduced.
+ * Exceptional completion of the underlying future is propagated as-is.
+ *
+ * @param <L> the type of Left value
+ * @param <R> the type of Right value
+ */
+public final class EitherFuture<L, R> {
+
+    private final CompletableFuture<Either<L, R>> future;
+
+    private EitherFuture(CompletableFuture<Either<L, R>> future) {
+        this.future = future;
+    }
+
+    /**
+     * Wraps a future of an Either.
+     *
+     * @param future the future to wrap
+     * @param <L>    the type of the Left value
+     * @param <R>    the type of the Right value
+     * @return an EitherFuture completing with the same Either
+     */
+    public static <L, R> EitherFuture<L, R> of(CompletionStage<Either<L, R>> future) {
+        return new EitherFuture<>(future.toCompletableFuture());
+    }
+
+    /**
+     * Creates an already completed EitherFuture.
+     *
+     * @param either the result
+     * @param <L>    the type of the Left value
+     * @param <R>    the type of the Right value
+     * @return an EitherFuture completed with the given Either
+     */
+    public static <L, R> EitherFuture<L, R> completed(Either<L, R> either) {
+        return new EitherFuture<>(CompletableFuture.completedFuture(Objects.requireNonNull(either)));
+    }
+
+    /**
+     * Creates an EitherFuture already completed with a Left value.
+     *
+     * @param value the Left value
+     * @param <L>   the type of the Left value
+     * @param <R>   the type of the Right value
+     * @return an EitherFuture completed with a Left value
+     */
+    public static <L, R> EitherFuture<L, R> left(L value) {
+        return completed(Either.left(value));
+    }
+
+    /**
+     * Creates an EitherFuture already completed with a Right value.
+     *
+     * @param value the Right value
+     * @param <L>   the type of the Left value
+     * @param <R>   the type of the Right value
+     * @return an EitherFuture completed with a Right value
+     */
+    public static <L, R> EitherFuture<L, R> right(R value) {
+        return completed(Either.right(value));
+    }
+
+    /**
+     * Maps the Right value once it is available.
+     *
+     * @param mapper the function to apply to the Right value
+     * @param <R2>   the type of the resulting Right value
+     * @return a new EitherFuture with the Right value transformed
+     */
+    @SuppressWarnings("unchecked")
+    public <R2> EitherFuture<L, R2> mapRight(Function<? super R, ? extends R2> mapper) {
+        return switch (completedOrNull()) {
+            case null -> new EitherFuture<>(future.thenApply(either -> either.mapRight(mapper)));
+            case Left<L, R> left -> (EitherFuture<L, R2>) this;
+            case Right<L, R> right -> now(() -> completed(right.mapRight(mapper)));
+        };
+    }
+
+    /**
+     * Maps the Left value once it is available.
+     *
+     * @param mapper the function to apply to the Left value
+     * @param <L2>   the type of the resulting Left value
+     * @return a new EitherFuture with the Left value transformed
+     */
+    @SuppressWarnings("unchecked")
+    public <L2> EitherFuture<L2, R> mapLeft(Function<? super L, ? extends L2> mapper) {
+        return switch (completedOrNull()) {
+            case null -> new EitherFuture<>(future.thenApply(either -> either.mapLeft(mapper)));
+            case Left<L, R> left -> now(() -> completed(left.mapLeft(mapper)));
+            case Right<L, R> right -> (EitherFuture<L2, R>) this;
+        };
+    }
+
+    /**
+     * Chains an asynchronous computation on the Right value.
+     *
+     * @param mapper the function to apply to the Right value
+     * @param <R2>   the type of the Right value of the new EitherFuture
+     * @return the EitherFuture produced by the mapper, or this Left
+     */
+    @SuppressWarnings("unchecked")
+    public <R2> EitherFuture<L, R2> flatMapRight(Function<? super R, EitherFuture<L, R2>> mapper) {
+        return switch (completedOrNull()) {
+            case null -> new EitherFuture<>(future.thenCompose(either -> switch (either) {
+                case Left<L, R> left -> CompletableFuture.completedFuture((Either<L, R2>) (Either<L, ?>) left);
+                case Right<L, R>(R value) -> mapper.apply(value).future;
+            }));
+            case Left<L, R> left -> (EitherFuture<L, R2>) this;
+            case Right<L, R>(R value) -> now(() -> mapper.apply(value));
+        };
+    }
+
+    /**
+     * Turns a Left value into a Right value.
+     *
+     * @param recovery the function producing a Right value from the Left value
+     * @return a new EitherFuture that is always Right unless the underlying future fails
+     */
+    public EitherFuture<L, R> recover(Function<? super L, ? extends R> recovery) {
+        return switch (completedOrNull()) {
+            case null -> new EitherFuture<>(future.thenApply(either -> either.flatMapLeft(l -> Either.right(recovery.apply(l)))));
+            case Left<L, R>(L value) -> now(() -> right(recovery.apply(value)));
+            case Right<L, R> right -> this;
+        };
+    }
+
+    /**
+     * Applies a function to the Left or Right value once it is available.
+     *
+     * @param leftMapper  the function to apply if the result is a Left
+     * @param rightMapper the function to apply if the result is a Right
+     * @param <T>         the type of the result of the functions
+     * @return a future of the result of applying the appropriate function
+     */
+    public <T> CompletableFuture<T> fold(Function<? super L, ? extends T> leftMapper, Function<? super R, ? extends T> rightMapper) {
+        Either<L, R> either = completedOrNull();
+        if (either == null) {
+            return future.thenApply(e -> e.fold(leftMapper, rightMapper));
+        }
+        try {
+            return CompletableFuture.completedFuture(either.fold(leftMapper, rightMapper));
+        } catch (Throwable e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Combines this EitherFuture with another one that runs concurrently.
+     * The result completes as soon as either side completes with a Left, without waiting for the other side;
+     * otherwise it completes with both Right values combined.
+     *
+     * @param other    the EitherFuture to combine with
+     * @param combiner the function combining both Right values
+     * @param <R2>     the type of the other Right value
+     * @param <R3>     the type of the combined Right value
+     * @return an EitherFuture of the first Left to complete, or of the combined Right values
+     */
+    @SuppressWarnings("unchecked")
+    public <R2, R3> EitherFuture<L, R3> zipPar(EitherFuture<L, R2> other, BiFunction<? super R, ? super R2, ? extends R3> combiner) {
+        if (completedOrNull() instanceof Left) {
+            return (EitherFuture<L, R3>) this;
+        }
+        if (other.completedOrNull() instanceof Left) {
+            return (EitherFuture<L, R3>) other;
+        }
+        CompletableFuture<Either<L, R3>> result = new CompletableFuture<>();
+        future.whenComplete((either, failure) -> completeOnLeftOrFailure(result, either, failure));
+        other.future.whenComplete((either, failure) -> completeOnLeftOrFailure(result, either, failure));
+        future.thenCombine(other.future, (Either<L, R> first, Either<L, R2> second) ->
+                        first.<R3>flatMapRight(r -> second.mapRight(r2 -> combiner.apply(r, r2))))
+                .whenComplete((either, failure) -> {
+                    if (failure != null) {
+                        result.completeExceptionally(failure);
+                    } else {
+                        result.complete(either);
+                    }
+                });
+        return new EitherFuture<>(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <L, R> void completeOnLeftOrFailure(CompletableFuture<Either<L, R>> result, Either<L, ?> either, Throwable failure) {
+        if (failure != null) {
+            result.completeExceptionally(failure);
+        } else if (either instanceof Left) {
+            result.complete((Either<L, R>) either);
+        }
+    }
+
+    /**
+     * Returns a future completing with the same result. Completing it does not affect this EitherFuture.
+     *
+     * @return a future of the Either
+     */
+    public CompletableFuture<Either<L, R>> toCompletableFuture() {
+        return future.copy();
+    }
+
+    /**
+     * Runs a step on an already completed result. A throwing step gives a failed EitherFuture,
+     * as it would have through {@link CompletableFuture#thenApply} on a pending one.
+     */
+    private static <L, R> EitherFuture<L, R> now(Supplier<EitherFuture<L, R>> step) {
+        try {
+            return step.get();
+        } catch (Throwable e) {
+            return new EitherFuture<>(CompletableFuture.failedFuture(e));
+        }
+    }
+
+    private Either<L, R> completedOrNull() {
+        return future.state() == Future.State.SUCCESS ? future.resultNow() : null;
+    }
+}
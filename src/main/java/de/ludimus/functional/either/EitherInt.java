@@ -0,0 +1,149 @@
+package de.ludimus.functional.either;
+
+import de.ludimus.functional.option.OptionInt;
+
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * A primitive specialization of {@link Either} whose Right value is a {@code int}.
+ * The Right value is held unboxed, so creating and mapping a Right never allocates an {@link Integer}.
+ *
+ * @param <L> the type of Left value
+ */
+public sealed interface EitherInt<L> permits LeftInt, RightInt {
+
+    /**
+     * Creates an EitherInt instance representing a Left value.
+     *
+     * @param value the Left value
+     * @param <L>   the type of the Left value
+     * @return an EitherInt instance containing a Left value
+     */
+    static <L> EitherInt<L> left(L value) {
+        return new LeftInt<>(value);
+    }
+
+    /**
+     * Creates an EitherInt instance representing a Right value.
+     *
+     * @param value the Right value
+     * @param <L>   the type of the Left value
+     * @return an EitherInt instance containing a Right value
+     */
+    static <L> EitherInt<L> right(int value) {
+        return new RightInt<>(value);
+    }
+
+    /**
+     * Converts a boxed {@link Either} into its primitive specialization.
+     *
+     * @param either the Either to convert
+     * @param <L>    the type of the Left value
+     * @return an EitherInt holding the same Left or (unboxed) Right value
+     */
+    static <L> EitherInt<L> fromEither(Either<L, Integer> either) {
+        return switch (either) {
+            case Left<L, Integer>(L value) -> new LeftInt<>(value);
+            case Right<L, Integer>(Integer value) -> new RightInt<>(value);
+        };
+    }
+
+    /**
+     * Checks if this instance is a Left value.
+     *
+     * @return true if this is a Left value, false otherwise
+     */
+    boolean isLeft();
+
+    /**
+     * Checks if this instance is a Right value.
+     *
+     * @return true if this is a Right value, false otherwise
+     */
+    boolean isRight();
+
+    /**
+     * Maps the Right value of this EitherInt by applying a primitive function to it.
+     *
+     * @param mapper the function to apply to the Right value
+     * @return a new EitherInt instance with the Right value transformed
+     */
+    EitherInt<L> mapRight(IntUnaryOperator mapper);
+
+    /**
+     * Maps the Right value of this EitherInt to an object, leaving the primitive specialization.
+     *
+     * @param mapper the function to apply to the Right value
+     * @param <R2>   the type of the resulting Right value
+     * @return a new Either instance with the Right value transformed
+     */
+    <R2> Either<L, R2> mapRightToObj(IntFunction<? extends R2> mapper);
+
+    /**
+     * Maps the Left value of this EitherInt by applying a function to it.
+     *
+     * @param mapper the function to apply to the Left value
+     * @param <L2>   the type of the resulting Left value
+     * @return a new EitherInt instance with the Left value transformed
+     */
+    <L2> EitherInt<L2> mapLeft(Function<? super L, ? extends L2> mapper);
+
+    /**
+     * Transforms the Right value of this EitherInt to another EitherInt by applying a function to it.
+     *
+     * @param mapper the function to apply to the Right value
+     * @return a new EitherInt instance resulting from the transformation
+     */
+    EitherInt<L> flatMapRight(IntFunction<EitherInt<L>> mapper);
+
+    /**
+     * Transforms the Left value of this EitherInt to another EitherInt by applying a function to it.
+     *
+     * @param mapper the function to apply to the Left value
+     * @param <L2>   the type of the Left value in the new EitherInt
+     * @return a new EitherInt instance resulting from the transformation
+     */
+    <L2> EitherInt<L2> flatMapLeft(Function<? super L, EitherInt<L2>> mapper);
+
+    /**
+     * Returns the Right value or a default value if this is a Left.
+     *
+     * @param other the default value to return if this is a Left
+     * @return the Right value if this is Right, or the default value if this is Left
+     */
+    int getOrElse(int other);
+
+    /**
+     * Applies a function to the value inside this EitherInt, whether it is a Left or a Right.
+     *
+     * @param leftMapper  the function to apply if this is a Left
+     * @param rightMapper the function to apply if this is a Right
+     * @param <T>         the type of the result of the functions
+     * @return the result of applying the appropriate function to the value inside this EitherInt
+     */
+    <T> T fold(Function<? super L, ? extends T> leftMapper, IntFunction<? extends T> rightMapper);
+
+    /**
+     * Converts this EitherInt to a {@link IntStream}, containing the Right value if it exists, or an empty stream if this is a Left.
+     *
+     * @return a IntStream containing the Right value if present, otherwise an empty IntStream
+     */
+    IntStream toStream();
+
+    /**
+     * Converts this EitherInt to an {@link OptionInt}, containing the Right value if it exists, or None if this is a Left.
+     *
+     * @return an OptionInt containing the Right value if present, otherwise None
+     */
+    OptionInt toOption();
+
+    /**
+     * Converts this EitherInt to a boxed {@link Either}.
+     *
+     * @return an Either holding the same Left or (boxed) Right value
+     */
+    Either<L, Integer> toEither();
+}
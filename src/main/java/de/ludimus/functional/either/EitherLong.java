@@ -0,0 +1,149 @@
+package de.ludimus.functional.either;
+
+import de.ludimus.functional.option.OptionLong;
+
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+/**
+ * A primitive specialization of {@link Either} whose Right value is a {@code long}.
+ * The Right value is held unboxed, so creating and mapping a Right never allocates a {@link Long}.
+ *
+ * @param <L> the type of Left value
+ */
+public sealed interface EitherLong<L> permits LeftLong, RightLong {
+
+    /**
+     * Creates an EitherLong instance representing a Left value.
+     *
+     * @param value the Left value
+     * @param <L>   the type of the Left value
+     * @return an EitherLong instance containing a Left value
+     */
+    static <L> EitherLong<L> left(L value) {
+        return new LeftLong<>(value);
+    }
+
+    /**
+     * Creates an EitherLong instance representing a Right value.
+     *
+     * @param value the Right value
+     * @param <L>   the type of the Left value
+     * @return an EitherLong instance containing a Right value
+     */
+    static <L> EitherLong<L> right(long value) {
+        return new RightLong<>(value);
+    }
+
+    /**
+     * Converts a boxed {@link Either} into its primitive specialization.
+     *
+     * @param either the Either to convert
+     * @param <L>    the type of the Left value
+     * @return an EitherLong holding the same Left or (unboxed) Right value
+     */
+    static <L> EitherLong<L> fromEither(Either<L, Long> either) {
+        return switch (either) {
+            case Left<L, Long>(L value) -> new LeftLong<>(value);
+            case Right<L, Long>(Long value) -> new RightLong<>(value);
+        };
+    }
+
+    /**
+     * Checks if this instance is a Left value.
+     *
+     * @return true if this is a Left value, false otherwise
+     */
+    boolean isLeft();
+
+    /**
+     * Checks if this instance is a Right value.
+     *
+     * @return true if this is a Right value, false otherwise
+     */
+    boolean isRight();
+
+    /**
+     * Maps the Right value of this EitherLong by applying a primitive function to it.
+     *
+     * @param mapper the function to apply to the Right value
+     * @return a new EitherLong instance with the Right value transformed
+     */
+    EitherLong<L> mapRight(LongUnaryOperator mapper);
+
+    /**
+     * Maps the Right value of this EitherLong to an object, leaving the primitive specialization.
+     *
+     * @param mapper the function to apply to the Right value
+     * @param <R2>   the type of the resulting Right value
+     * @return a new Either instance with the Right value transformed
+     */
+    <R2> Either<L, R2> mapRightToObj(LongFunction<? extends R2> mapper);
+
+    /**
+     * Maps the Left value of this EitherLong by applying a function to it.
+     *
+     * @param mapper the function to apply to the Left value
+     * @param <L2>   the type of the resulting Left value
+     * @return a new EitherLong instance with the Left value transformed
+     */
+    <L2> EitherLong<L2> mapLeft(Function<? super L, ? extends L2> mapper);
+
+    /**
+     * Transforms the Right value of this EitherLong to another EitherLong by applying a function to it.
+     *
+     * @param mapper the function to apply to the Right value
+     * @return a new EitherLong instance resulting from the transformation
+     */
+    EitherLong<L> flatMapRight(LongFunction<EitherLong<L>> mapper);
+
+    /**
+     * Transforms the Left value of this EitherLong to another EitherLong by applying a function to it.
+     *
+     * @param mapper the function to apply to the Left value
+     * @param <L2>   the type of the Left value in the new EitherLong
+     * @return a new EitherLong instance resulting from the transformation
+     */
+    <L2> EitherLong<L2> flatMapLeft(Function<? super L, EitherLong<L2>> mapper);
+
+    /**
+     * Returns the Right value or a default value if this is a Left.
+     *
+     * @param other the default value to return if this is a Left
+     * @return the Right value if this is Right, or the default value if this is Left
+     */
+    long getOrElse(long other);
+
+    /**
+     * Applies a function to the value inside this EitherLong, whether it is a Left or a Right.
+     *
+     * @param leftMapper  the function to apply if this is a Left
+     * @param rightMapper the function to apply if this is a Right
+     * @param <T>         the type of the result of the functions
+     * @return the result of applying the appropriate function to the value inside this EitherLong
+     */
+    <T> T fold(Function<? super L, ? extends T> leftMapper, LongFunction<? extends T> rightMapper);
+
+    /**
+     * Converts this EitherLong to a {@link LongStream}, containing the Right value if it exists, or an empty stream if this is a Left.
+     *
+     * @return a LongStream containing the Right value if present, otherwise an empty LongStream
+     */
+    LongStream toStream();
+
+    /**
+     * Converts this EitherLong to an {@link OptionLong}, containing the Right value if it exists, or None if this is a Left.
+     *
+     * @return an OptionLong containing the Right value if present, otherwise None
+     */
+    OptionLong toOption();
+
+    /**
+     * Converts this EitherLong to a boxed {@link Either}.
+     *
+     * @return an Either holding the same Left or (boxed) Right value
+     */
+    Either<L, Long> toEither();
+}
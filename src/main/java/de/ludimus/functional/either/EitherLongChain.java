@@ -0,0 +1,106 @@
+package de.ludimus.functional.either;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+record EitherLongChain<L, In>(PipelineStage prefix, ToLongFunction<Object> toLong, LongStage last, MethodHandle chain)
+        implements EitherLongPipeline<L, In> {
+
+    /**
+     * One recorded primitive stage: a map if {@code predicate} is {@code null}, a filter otherwise.
+     */
+    record LongStage(LongStage previous, LongUnaryOperator operator, LongPredicate predicate, LongFunction<Object> leftMapper) {
+    }
+
+    private static final MethodHandle TO_LONG;
+    private static final MethodHandle APPLY_AS_LONG;
+    private static final MethodHandle TEST;
+    private static final MethodHandle APPLY;
+    private static final MethodHandle RIGHT_LONG;
+    private static final MethodHandle LEFT_LONG;
+    private static final MethodHandle LEFT_LONG_OF_LEFT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TO_LONG = lookup.findVirtual(ToLongFunction.class, "applyAsLong", MethodType.methodType(long.class, Object.class));
+            APPLY_AS_LONG = lookup.findVirtual(LongUnaryOperator.class, "applyAsLong", MethodType.methodType(long.class, long.class));
+            TEST = lookup.findVirtual(LongPredicate.class, "test", MethodType.methodType(boolean.class, long.class));
+            APPLY = lookup.findVirtual(LongFunction.class, "apply", MethodType.methodType(Object.class, long.class));
+            RIGHT_LONG = lookup.findStatic(EitherLongChain.class, "rightLong", MethodType.methodType(Object.class, long.class));
+            LEFT_LONG = lookup.findStatic(EitherLongChain.class, "leftLong", MethodType.methodType(Object.class, Object.class));
+            LEFT_LONG_OF_LEFT = lookup.findStatic(EitherLongChain.class, "leftLongOfLeft", MethodType.methodType(Object.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    static <L, In> EitherLongPipeline<L, In> start(PipelineStage prefix, ToLongFunction<Object> toLong) {
+        return new EitherLongChain<>(prefix, toLong, null, compile(prefix, toLong, null));
+    }
+
+    private static MethodHandle compile(PipelineStage prefix, ToLongFunction<Object> toLong, LongStage last) {
+        MethodHandle chain = RIGHT_LONG;
+        for (LongStage stage = last; stage != null; stage = stage.previous()) {
+            chain = stage.predicate() == null
+                    ? MethodHandles.filterArguments(chain, 0, APPLY_AS_LONG.bindTo(stage.operator()))
+                    : MethodHandles.guardWithTest(TEST.bindTo(stage.predicate()), chain,
+                    MethodHandles.filterArguments(LEFT_LONG, 0, APPLY.bindTo(stage.leftMapper())));
+        }
+        chain = MethodHandles.filterArguments(chain, 0, TO_LONG.bindTo(toLong));
+        return PipelineStage.compile(prefix, chain, LEFT_LONG_OF_LEFT, LEFT_LONG);
+    }
+
+    @Override
+    public EitherLongPipeline<L, In> map(LongUnaryOperator mapper) {
+        return append(new LongStage(last, Objects.requireNonNull(mapper), null, null));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public EitherLongPipeline<L, In> filter(LongPredicate predicate, LongFunction<? extends L> leftMapper) {
+        return append(new LongStage(last, null, Objects.requireNonNull(predicate),
+                (LongFunction<Object>) Objects.requireNonNull(leftMapper)));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public EitherLong<L> apply(In input) {
+        return (EitherLong<L>) PipelineStage.invoke(chain, input);
+    }
+
+    @Override
+    public List<EitherLong<L>> applyAll(In[] inputs) {
+        @SuppressWarnings("unchecked")
+        EitherLong<L>[] results = (EitherLong<L>[]) new EitherLong<?>[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            results[i] = apply(inputs[i]);
+        }
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    private EitherLongPipeline<L, In> append(LongStage stage) {
+        return new EitherLongChain<>(prefix, toLong, stage, compile(prefix, toLong, stage));
+    }
+
+    private static Object rightLong(long value) {
+        return new RightLong<>(value);
+    }
+
+    private static Object leftLong(Object value) {
+        return new LeftLong<>(value);
+    }
+
+    private static Object leftLongOfLeft(Object left) {
+        return new LeftLong<>(((Left<?, ?>) left).value());
+    }
+}
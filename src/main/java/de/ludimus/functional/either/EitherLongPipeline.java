@@ -0,0 +1,49 @@
+package de.ludimus.functional.either;
+
+import java.util.List;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * The primitive continuation of an {@link EitherPipeline}, created by {@link EitherPipeline#mapToLong}.
+ * Right values stay unboxed through every stage and the result is an {@link EitherLong}.
+ *
+ * @param <L>  the type of Left values
+ * @param <In> the type of the input
+ */
+public sealed interface EitherLongPipeline<L, In> permits EitherLongChain {
+
+    /**
+     * Adds a stage mapping the Right value.
+     *
+     * @param mapper the function to apply to the Right value
+     * @return a new pipeline with the stage added
+     */
+    EitherLongPipeline<L, In> map(LongUnaryOperator mapper);
+
+    /**
+     * Adds a stage that stops with a Left produced by {@code leftMapper} when the value does not match the predicate.
+     *
+     * @param predicate  the predicate to test the Right value against
+     * @param leftMapper the function producing the Left value for a rejected value
+     * @return a new pipeline with the stage added
+     */
+    EitherLongPipeline<L, In> filter(LongPredicate predicate, LongFunction<? extends L> leftMapper);
+
+    /**
+     * Runs the pipeline on one input.
+     *
+     * @param input the input
+     * @return a RightLong of the output value, or a LeftLong of the first stage that stopped
+     */
+    EitherLong<L> apply(In input);
+
+    /**
+     * Runs the pipeline on every input.
+     *
+     * @param inputs the inputs
+     * @return the results, in input order
+     */
+    List<EitherLong<L>> applyAll(In[] inputs);
+}
@@ -0,0 +1,96 @@
+package de.ludimus.functional.either;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * A reusable chain of Right-biased {@link Either} stages, built once and applied to many inputs.
+ * <p>
+ * Applying {@code mapRight(f).mapRight(g)} to a {@link Right} allocates an intermediate Right per stage unless the JIT
+ * manages to inline the whole chain. A pipeline records the stages instead and compiles them into one composed
+ * function when it is built, so applying it allocates no Either between stages, only the final {@link Right}, or the
+ * {@link Left} a stage stopped with. Keep pipelines in {@code static final} fields: the JIT then inlines every stage
+ * of the composed function into the caller.
+ * <p>
+ * {@link #applyAll} writes straight into an {@link EitherBatch}, and {@link #mapToLong} continues on unboxed
+ * {@code long} values. Pipelines are immutable and safe to share between threads.
+ *
+ * @param <L>   the type of Left values
+ * @param <In>  the type of the input
+ * @param <Out> the type of the output Right value
+ */
+public sealed interface EitherPipeline<L, In, Out> extends Function<In, Either<L, Out>> permits EitherChain {
+
+    /**
+     * Returns the empty pipeline, which maps every input to a Right of itself.
+     *
+     * @param <L> the type of Left values
+     * @param <T> the type of the input
+     * @return the empty pipeline
+     */
+    @SuppressWarnings("unchecked")
+    static <L, T> EitherPipeline<L, T, T> start() {
+        return (EitherPipeline<L, T, T>) EitherChain.START;
+    }
+
+    /**
+     * Adds a stage mapping the Right value.
+     *
+     * @param mapper the function to apply to the Right value
+     * @param <U>    the type of the new Right value
+     * @return a new pipeline with the stage added
+     */
+    <U> EitherPipeline<L, In, U> map(Function<? super Out, ? extends U> mapper);
+
+    /**
+     * Adds a stage that continues with the Right value of the Either returned by the mapper, or stops with its Left.
+     *
+     * @param mapper the function returning an Either
+     * @param <U>    the type of the new Right value
+     * @return a new pipeline with the stage added
+     */
+    <U> EitherPipeline<L, In, U> flatMap(Function<? super Out, ? extends Either<L, U>> mapper);
+
+    /**
+     * Adds a stage that stops with a Left produced by {@code leftMapper} when the value does not match the predicate.
+     *
+     * @param predicate  the predicate to test the Right value against
+     * @param leftMapper the function producing the Left value for a rejected value
+     * @return a new pipeline with the stage added
+     */
+    EitherPipeline<L, In, Out> filter(Predicate<? super Out> predicate, Function<? super Out, ? extends L> leftMapper);
+
+    /**
+     * Continues the pipeline on unboxed {@code long} Right values.
+     *
+     * @param mapper the function converting the Right value to a long
+     * @return a primitive pipeline starting with the stages of this pipeline
+     */
+    EitherLongPipeline<L, In> mapToLong(ToLongFunction<? super Out> mapper);
+
+    /**
+     * Runs the pipeline on one input.
+     *
+     * @param input the input
+     * @return a Right of the output value, or the Left of the first stage that stopped
+     */
+    @Override
+    Either<L, Out> apply(In input);
+
+    /**
+     * Runs the pipeline on the Right value of an Either. A Left is returned as is.
+     *
+     * @param either the input Either
+     * @return a Right of the output value, or a Left
+     */
+    Either<L, Out> applyTo(Either<L, ? extends In> either);
+
+    /**
+     * Runs the pipeline on every input, writing the results into the columns of an EitherBatch.
+     *
+     * @param inputs the inputs
+     * @return the results, in input order
+     */
+    EitherBatch<L, Out> applyAll(In[] inputs);
+}
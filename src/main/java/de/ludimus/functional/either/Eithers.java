@@ -0,0 +1,135 @@
+package de.ludimus.functional.either;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Static counterparts of the {@link Either} operations, dispatching with a {@code switch} over the sealed
+ * {@code Left}/{@code Right} hierarchy instead of an interface call.
+ * <p>
+ * {@code either.mapRight(f)} is one call site for every Either in the application, so its profile soon sees both
+ * records and every mapper class. A static method here is small enough to be inlined into each caller, where the
+ * type test and the mapper call are compiled against that caller's own types.
+ */
+public final class Eithers {
+
+    private Eithers() {
+    }
+
+    /**
+     * Same as {@link Either#mapRight}.
+     *
+     * @param either the Either to map
+     * @param mapper the function to apply to a Right value
+     * @param <L>    the type of Left value
+     * @param <R>    the type of Right value
+     * @param <R2>   the type of the resulting Right value
+     * @return a Right with the mapped value, or the Left itself
+     */
+    @SuppressWarnings("unchecked")
+    public static <L, R, R2> Either<L, R2> mapRight(Either<L, R> either, Function<? super R, ? extends R2> mapper) {
+        return switch (either) {
+            case Right<L, R>(R value) -> new Right<>(mapper.apply(value));
+            case Left<L, R> left -> (Either<L, R2>) (Either<L, ?>) left;
+        };
+    }
+
+    /**
+     * Same as {@link Either#mapLeft}.
+     *
+     * @param either the Either to map
+     * @param mapper the function to apply to a Left value
+     * @param <L>    the type of Left value
+     * @param <R>    the type of Right value
+     * @param <L2>   the type of the resulting Left value
+     * @return a Left with the mapped value, or the Right itself
+     */
+    @SuppressWarnings("unchecked")
+    public static <L, R, L2> Either<L2, R> mapLeft(Either<L, R> either, Function<? super L, ? extends L2> mapper) {
+        return switch (either) {
+            case Left<L, R>(L value) -> new Left<>(mapper.apply(value));
+            case Right<L, R> right -> (Either<L2, R>) (Either<?, R>) right;
+        };
+    }
+
+    /**
+     * Same as {@link Either#flatMapRight}.
+     *
+     * @param either the Either to map
+     * @param mapper the function to apply to a Right value
+     * @param <L>    the type of Left value
+     * @param <R>    the type of Right value
+     * @param <R2>   the type of the resulting Right value
+     * @return the Either returned by the mapper, or the Left itself
+     */
+    @SuppressWarnings("unchecked")
+    public static <L, R, R2> Either<L, R2> flatMapRight(Either<L, R> either, Function<? super R, Either<L, R2>> mapper) {
+        return switch (either) {
+            case Right<L, R>(R value) -> mapper.apply(value);
+            case Left<L, R> left -> (Either<L, R2>) (Either<L, ?>) left;
+        };
+    }
+
+    /**
+     * Same as {@link Either#flatMapLeft}.
+     *
+     * @param either the Either to map
+     * @param mapper the function to apply to a Left value
+     * @param <L>    the type of Left value
+     * @param <R>    the type of Right value
+     * @param <L2>   the type of the resulting Left value
+     * @return the Either returned by the mapper, or the Right itself
+     */
+    @SuppressWarnings("unchecked")
+    public static <L, R, L2> Either<L2, R> flatMapLeft(Either<L, R> either, Function<? super L, Either<L2, R>> mapper) {
+        return switch (either) {
+            case Left<L, R>(L value) -> mapper.apply(value);
+            case Right<L, R> right -> (Either<L2, R>) (Either<?, R>) right;
+        };
+    }
+
+    /**
+     * Turns a Right whose value does not match the predicate into a Left produced by {@code leftMapper}.
+     *
+     * @param either     the Either to filter
+     * @param predicate  the condition a Right value must satisfy
+     * @param leftMapper produces the Left value for a Right that does not match
+     * @param <L>        the type of Left value
+     * @param <R>        the type of Right value
+     * @return the Either itself, or a Left
+     */
+    public static <L, R> Either<L, R> filterRight(Either<L, R> either, Predicate<? super R> predicate, Function<? super R, ? extends L> leftMapper) {
+        return switch (either) {
+            case Right<L, R>(R value) -> predicate.test(value) ? either : new Left<>(leftMapper.apply(value));
+            case Left<L, R> left -> left;
+        };
+    }
+
+    /**
+     * Same as {@link Either#fold}.
+     *
+     * @param either      the Either to fold
+     * @param leftMapper  the function to apply to a Left value
+     * @param rightMapper the function to apply to a Right value
+     * @param <L>         the type of Left value
+     * @param <R>         the type of Right value
+     * @param <T>         the type of the result
+     * @return the result of the applied function
+     */
+    public static <L, R, T> T fold(Either<L, R> either, Function<? super L, ? extends T> leftMapper, Function<? super R, ? extends T> rightMapper) {
+        return switch (either) {
+            case Left<L, R>(L value) -> leftMapper.apply(value);
+            case Right<L, R>(R value) -> rightMapper.apply(value);
+        };
+    }
+
+    /**
+     * Same as {@link Either#getOrElse}.
+     */
+    public static <L, R> R getOrElse(Either<L, R> either, R other) {
+        return switch (either) {
+            case Right<L, R>(R value) -> value;
+            case Left<L, R> left -> other;
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package de.ludimus.functional.either;
+
+import de.ludimus.functional.option.Option;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+public record Failure<T>(Throwable exception) implements Try<T> {
+    public Failure {
+        Objects.requireNonNull(exception);
+    }
+
+    @Override
+    public boolean isSuccess() {
+        return false;
+    }
+
+    @Override
+    public boolean isFailure() {
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> Try<U> map(CheckedFunction<? super T, ? extends U> mapper) {
+        return (Try<U>) this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> Try<U> flatMap(Function<? super T, Try<U>> mapper) {
+        return (Try<U>) this;
+    }
+
+    @Override
+    public Try<T> recover(Function<? super Throwable, ? extends T> recovery) {
+        return new Success<>(recovery.apply(exception));
+    }
+
+    @Override
+    public T getOrElse(T other) {
+        return other;
+    }
+
+    @Override
+    public <U> U fold(Function<? super Throwable, ? extends U> failureMapper, Function<? super T, ? extends U> successMapper) {
+        return failureMapper.apply(exception);
+    }
+
+    @Override
+    public Either<Throwable, T> toEither() {
+        return new Left<>(exception);
+    }
+
+    @Override
+    public Option<T> toOption() {
+        return Option.none();
+    }
+}
@@ -1,6 +1,5 @@
 package de.ludimus.functional.either;
 
-import de.ludimus.functional.option.None;
 import de.ludimus.functional.option.Option;
 
 import java.util.Objects;
@@ -24,8 +23,9 @@ public record Left<L, R>(L value) implements Either<L, R> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <R2> Either<L, R2> mapRight(Function<? super R, ? extends R2> mapper) {
-        return new Left<>(value);
+        return (Either<L, R2>) this;
     }
 
     @Override
@@ -34,8 +34,9 @@ public record Left<L, R>(L value) implements Either<L, R> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <R2> Either<L, R2> flatMapRight(Function<? super R, Either<L, R2>> mapper) {
-        return new Left<>(value);
+        return (Either<L, R2>) this;
     }
 
     @Override
@@ -65,6 +66,6 @@ public record Left<L, R>(L value) implements Either<L, R> {
 
     @Override
     public Option<R> toOption() {
-        return new None<>();
+        return Option.none();
     }
 }
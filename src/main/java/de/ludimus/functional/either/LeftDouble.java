@@ -0,0 +1,75 @@
+package de.ludimus.functional.either;
+
+import de.ludimus.functional.option.OptionDouble;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+public record LeftDouble<L>(L value) implements EitherDouble<L> {
+    public LeftDouble {
+        Objects.requireNonNull(value);
+    }
+
+    @Override
+    public boolean isLeft() {
+        return true;
+    }
+
+    @Override
+    public boolean isRight() {
+        return false;
+    }
+
+    @Override
+    public EitherDouble<L> mapRight(DoubleUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public <R2> Either<L, R2> mapRightToObj(DoubleFunction<? extends R2> mapper) {
+        return new Left<>(value);
+    }
+
+    @Override
+    public <L2> EitherDouble<L2> mapLeft(Function<? super L, ? extends L2> mapper) {
+        return new LeftDouble<>(mapper.apply(value));
+    }
+
+    @Override
+    public EitherDouble<L> flatMapRight(DoubleFunction<EitherDouble<L>> mapper) {
+        return this;
+    }
+
+    @Override
+    public <L2> EitherDouble<L2> flatMapLeft(Function<? super L, EitherDouble<L2>> mapper) {
+        return mapper.apply(value);
+    }
+
+    @Override
+    public double getOrElse(double other) {
+        return other;
+    }
+
+    @Override
+    public <T> T fold(Function<? super L, ? extends T> leftMapper, DoubleFunction<? extends T> rightMapper) {
+        return leftMapper.apply(value);
+    }
+
+    @Override
+    public DoubleStream toStream() {
+        return DoubleStream.empty();
+    }
+
+    @Override
+    public OptionDouble toOption() {
+        return OptionDouble.none();
+    }
+
+    @Override
+    public Either<L, Double> toEither() {
+        return new Left<>(value);
+    }
+}
@@ -0,0 +1,75 @@
+package de.ludimus.functional.either;
+
+import de.ludimus.functional.option.OptionInt;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+public record LeftInt<L>(L value) implements EitherInt<L> {
+    public LeftInt {
+        Objects.requireNonNull(value);
+    }
+
+    @Override
+    public boolean isLeft() {
+        return true;
+    }
+
+    @Override
+    public boolean isRight() {
+        return false;
+    }
+
+    @Override
+    public EitherInt<L> mapRight(IntUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public <R2> Either<L, R2> mapRightToObj(IntFunction<? extends R2> mapper) {
+        return new Left<>(value);
+    }
+
+    @Override
+    public <L2> EitherInt<L2> mapLeft(Function<? super L, ? extends L2> mapper) {
+        return new LeftInt<>(mapper.apply(value));
+    }
+
+    @Override
+    public EitherInt<L> flatMapRight(IntFunction<EitherInt<L>> mapper) {
+        return this;
+    }
+
+    @Override
+    public <L2> EitherInt<L2> flatMapLeft(Function<? super L, EitherInt<L2>> mapper) {
+        return mapper.apply(value);
+    }
+
+    @Override
+    public int getOrElse(int other) {
+        return other;
+    }
+
+    @Override
+    public <T> T fold(Function<? super L, ? extends T> leftMapper, IntFunction<? extends T> rightMapper) {
+        return leftMapper.apply(value);
+    }
+
+    @Override
+    public IntStream toStream() {
+        return IntStream.empty();
+    }
+
+    @Override
+    public OptionInt toOption() {
+        return OptionInt.none();
+    }
+
+    @Override
+    public Either<L, Integer> toEither() {
+        return new Left<>(value);
+    }
+}
@@ -0,0 +1,75 @@
+package de.ludimus.functional.either;
+
+import de.ludimus.functional.option.OptionLong;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+public record LeftLong<L>(L value) implements EitherLong<L> {
+    public LeftLong {
+        Objects.requireNonNull(value);
+    }
+
+    @Override
+    public boolean isLeft() {
+        return true;
+    }
+
+    @Override
+    public boolean isRight() {
+        return false;
+    }
+
+    @Override
+    public EitherLong<L> mapRight(LongUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public <R2> Either<L, R2> mapRightToObj(LongFunction<? extends R2> mapper) {
+        return new Left<>(value);
+    }
+
+    @Override
+    public <L2> EitherLong<L2> mapLeft(Function<? super L, ? extends L2> mapper) {
+        return new LeftLong<>(mapper.apply(value));
+    }
+
+    @Override
+    public EitherLong<L> flatMapRight(LongFunction<EitherLong<L>> mapper) {
+        return this;
+    }
+
+    @Override
+    public <L2> EitherLong<L2> flatMapLeft(Function<? super L, EitherLong<L2>> mapper) {
+        return mapper.apply(value);
+    }
+
+    @Override
+    public long getOrElse(long other) {
+        return other;
+    }
+
+    @Override
+    public <T> T fold(Function<? super L, ? extends T> leftMapper, LongFunction<? extends T> rightMapper) {
+        return leftMapper.apply(value);
+    }
+
+    @Override
+    public LongStream toStream() {
+        return LongStream.empty();
+    }
+
+    @Override
+    public OptionLong toOption() {
+        return OptionLong.none();
+    }
+
+    @Override
+    public Either<L, Long> toEither() {
+        return new Left<>(value);
+    }
+}
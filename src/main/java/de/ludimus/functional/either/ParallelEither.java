@@ -0,0 +1,165 @@
+package de.ludimus.functional.either;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Parallel counterparts of {@link Either#traverse} for CPU-bound mappers, run on a {@link ForkJoinPool}.
+ */
+public final class ParallelEither {
+
+    private static final int LEAVES_PER_WORKER = 8;
+
+    private ParallelEither() {
+    }
+
+    /**
+     * Runs {@link #traverse(List, Function, ForkJoinPool)} on the common pool.
+     */
+    public static <A, L, B> Either<L, List<B>> traverse(List<? extends A> values, Function<? super A, Either<L, B>> mapper) {
+        return traverse(values, mapper, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Applies a function returning Either to every value in parallel and collects the Right results in order.
+     * <p>
+     * The list is split recursively into subtasks. Once a Left is found at some index, every subtask that has not
+     * started and covers only later indices is dropped, and running subtasks stop when they pass that index; elements
+     * before it are still mapped, because one of them may produce a Left further left. The result is therefore
+     * the same as that of the sequential {@link Either#traverse}: the left-most Left, or all Right values in order.
+     * Right values are written straight into a presized array that backs the result list.
+     * <p>
+     * The list should support fast random access. A mapper exception is treated like a Left at its index: it is
+     * rethrown if no Left was found before that index, as the sequential traverse would, and ignored otherwise.
+     *
+     * @param values the values to transform
+     * @param mapper the function to apply to each value; it may be called concurrently
+     * @param pool   the pool to run the subtasks on
+     * @param <A>    the type of the input values
+     * @param <L>    the type of the Left value
+     * @param <B>    the type of the Right values
+     * @return the left-most Left produced by the mapper, or a Right containing an immutable list of all Right values
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, L, B> Either<L, List<B>> traverse(List<? extends A> values, Function<? super A, Either<L, B>> mapper, ForkJoinPool pool) {
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(pool);
+        Traversal<A, L, B> traversal = new Traversal<>(values, mapper, pool.getParallelism());
+        pool.invoke(new Segment<>(traversal, 0, values.size()));
+        int leftIndex = traversal.leftIndex.get();
+        if (leftIndex != Traversal.NO_LEFT) {
+            if (traversal.results[leftIndex] instanceof Thrown(Throwable failure)) {
+                if (failure instanceof Error error) {
+                    throw error;
+                }
+                throw (RuntimeException) failure;
+            }
+            return (Either<L, List<B>>) traversal.results[leftIndex];
+        }
+        return new Right<>(Collections.unmodifiableList((List<B>) Arrays.asList(traversal.results)));
+    }
+
+    /**
+     * An exception thrown by the mapper, recorded at its index like a Left.
+     */
+    private record Thrown(Throwable failure) {
+    }
+
+    /**
+     * The state shared by all subtasks of one traversal. {@code results} holds the Right value at each mapped index,
+     * except at {@code leftIndex}, where it holds the left-most Left, or {@link Thrown} exception, found so far.
+     */
+    private static final class Traversal<A, L, B> {
+
+        static final int NO_LEFT = Integer.MAX_VALUE;
+
+        final List<? extends A> values;
+        final Function<? super A, Either<L, B>> mapper;
+        final Object[] results;
+        final int leafSize;
+        final AtomicInteger leftIndex = new AtomicInteger(NO_LEFT);
+
+        Traversal(List<? extends A> values, Function<? super A, Either<L, B>> mapper, int parallelism) {
+            this.values = values;
+            this.mapper = mapper;
+            this.results = new Object[values.size()];
+            this.leafSize = Math.max(1, values.size() / (parallelism * LEAVES_PER_WORKER));
+        }
+
+        /**
+         * Whether an element at the index can no longer affect the result.
+         */
+        boolean isDecided(int index) {
+            return index > leftIndex.get();
+        }
+
+        void map(int from, int to) {
+            for (int i = from; i < to && !isDecided(i); i++) {
+                Either<L, B> result;
+                try {
+                    result = mapper.apply(values.get(i));
+                } catch (RuntimeException | Error e) {
+                    recordLeft(i, new Thrown(e));
+                    return;
+                }
+                switch (result) {
+                    case Right<L, B>(B value) -> results[i] = value;
+                    case Left<L, B> left -> {
+                        recordLeft(i, left);
+                        return;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Publishes a Left or exception unless one further left is already known. The slot is written before the index
+         * is lowered to it, and it is only read after every subtask has been joined.
+         */
+        private void recordLeft(int index, Object outcome) {
+            results[index] = outcome;
+            int current;
+            do {
+                current = leftIndex.get();
+            } while (index < current && !leftIndex.compareAndSet(current, index));
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class Segment<A, L, B> extends RecursiveAction {
+
+        private final Traversal<A, L, B> traversal;
+        private final int from;
+        private final int to;
+
+        Segment(Traversal<A, L, B> traversal, int from, int to) {
+            this.traversal = traversal;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (traversal.isDecided(from)) {
+                return;
+            }
+            if (to - from <= traversal.leafSize) {
+                traversal.map(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            Segment<A, L, B> right = new Segment<>(traversal, middle, to);
+            right.fork();
+            new Segment<>(traversal, from, middle).compute();
+            if (!(traversal.isDecided(middle) && right.tryUnfork())) {
+                right.join();
+            }
+        }
+    }
+}
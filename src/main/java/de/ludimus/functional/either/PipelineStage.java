@@ -0,0 +1,98 @@
+package de.ludimus.functional.either;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * One recorded stage of an {@link EitherPipeline}, linked to the stage before it.
+ * <p>
+ * {@link #compile} turns the stages into a single method handle of type {@code (Object)Object}, built back to front so
+ * every stage calls the next one directly and Left results return straight out of the chain. Method handles reached
+ * through a constant are inlined by the JIT as a whole, with every mapper bound as a constant receiver, so a pipeline
+ * in a {@code static final} field compiles to the same code as the hand-written chain, without its intermediate Rights.
+ */
+record PipelineStage(PipelineStage previous, int kind, Function<Object, Object> function, Predicate<Object> predicate) {
+
+    static final int MAP = 0;
+    static final int FLAT_MAP = 1;
+    static final int FILTER = 2;
+
+    private static final MethodHandle APPLY;
+    private static final MethodHandle TEST;
+    private static final MethodHandle IS_RIGHT;
+    private static final MethodHandle RIGHT_VALUE;
+    static final MethodHandle RIGHT;
+    static final MethodHandle LEFT;
+    static final MethodHandle KEEP_LEFT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodType unary = MethodType.methodType(Object.class, Object.class);
+            APPLY = lookup.findVirtual(Function.class, "apply", unary);
+            TEST = lookup.findVirtual(Predicate.class, "test", MethodType.methodType(boolean.class, Object.class));
+            IS_RIGHT = lookup.findStatic(PipelineStage.class, "isRight", MethodType.methodType(boolean.class, Object.class));
+            RIGHT_VALUE = lookup.findStatic(PipelineStage.class, "rightValue", unary);
+            RIGHT = lookup.findStatic(PipelineStage.class, "right", unary);
+            LEFT = lookup.findStatic(PipelineStage.class, "left", unary);
+            KEEP_LEFT = MethodHandles.identity(Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Compiles the stages ending in {@code last} in front of {@code terminal}.
+     *
+     * @param last     the last stage, or {@code null} for none
+     * @param terminal the handle receiving the output value, {@code (Object)Object}
+     * @param onLeft   the handle receiving a Left returned by a flatMap stage, {@code (Object)Object}
+     * @param leftOf   the handle receiving the Left value of a rejected filter stage, {@code (Object)Object}
+     * @return the compiled chain, {@code (Object)Object}
+     */
+    static MethodHandle compile(PipelineStage last, MethodHandle terminal, MethodHandle onLeft, MethodHandle leftOf) {
+        MethodHandle chain = terminal;
+        for (PipelineStage stage = last; stage != null; stage = stage.previous) {
+            MethodHandle function = APPLY.bindTo(stage.function);
+            chain = switch (stage.kind) {
+                case MAP -> MethodHandles.filterArguments(chain, 0, function);
+                case FLAT_MAP -> MethodHandles.filterArguments(
+                        MethodHandles.guardWithTest(IS_RIGHT, MethodHandles.filterArguments(chain, 0, RIGHT_VALUE), onLeft),
+                        0, function);
+                default -> MethodHandles.guardWithTest(TEST.bindTo(stage.predicate), chain,
+                        MethodHandles.filterArguments(leftOf, 0, function));
+            };
+        }
+        return chain;
+    }
+
+    static Object invoke(MethodHandle chain, Object value) {
+        try {
+            return (Object) chain.invokeExact(value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    private static boolean isRight(Object either) {
+        return either instanceof Right<?, ?>;
+    }
+
+    private static Object rightValue(Object right) {
+        return ((Right<?, ?>) right).value();
+    }
+
+    private static Object right(Object value) {
+        return new Right<>(value);
+    }
+
+    private static Object left(Object value) {
+        return new Left<>(value);
+    }
+}
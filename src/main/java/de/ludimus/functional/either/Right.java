@@ -29,8 +29,9 @@ public record Right<L, R>(R value) implements Either<L, R> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <L2> Either<L2, R> mapLeft(Function<? super L, ? extends L2> mapper) {
-        return new Right<>(value);
+        return (Either<L2, R>) this;
     }
 
     @Override
@@ -39,8 +40,9 @@ public record Right<L, R>(R value) implements Either<L, R> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <L2> Either<L2, R> flatMapLeft(Function<? super L, Either<L2, R>> mapper) {
-        return new Right<>(value);
+        return (Either<L2, R>) this;
     }
 
     @Override
@@ -0,0 +1,24 @@
+package de.ludimus.functional.either;
+
+import de.ludimus.functional.collect.InternCache;
+
+/**
+ * The shared Right instances behind {@link Either#rightCached} and {@link Either#registerCached}.
+ */
+final class RightCache {
+
+    private static final InternCache<Right<?, ?>> CACHE = InternCache.fromSystemProperties(Right::new);
+
+    private RightCache() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <L, R> Right<L, R> of(R value) {
+        Right<?, ?> cached = CACHE.get(value);
+        return cached != null ? (Right<L, R>) cached : new Right<>(value);
+    }
+
+    static boolean register(Object value) {
+        return CACHE.register(value);
+    }
+}
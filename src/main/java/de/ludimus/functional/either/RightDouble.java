@@ -0,0 +1,73 @@
+package de.ludimus.functional.either;
+
+import de.ludimus.functional.option.OptionDouble;
+
+import java.util.function.Function;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+public record RightDouble<L>(double value) implements EitherDouble<L> {
+
+    @Override
+    public boolean isLeft() {
+        return false;
+    }
+
+    @Override
+    public boolean isRight() {
+        return true;
+    }
+
+    @Override
+    public EitherDouble<L> mapRight(DoubleUnaryOperator mapper) {
+        return new RightDouble<>(mapper.applyAsDouble(value));
+    }
+
+    @Override
+    public <R2> Either<L, R2> mapRightToObj(DoubleFunction<? extends R2> mapper) {
+        return new Right<>(mapper.apply(value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <L2> EitherDouble<L2> mapLeft(Function<? super L, ? extends L2> mapper) {
+        return (EitherDouble<L2>) this;
+    }
+
+    @Override
+    public EitherDouble<L> flatMapRight(DoubleFunction<EitherDouble<L>> mapper) {
+        return mapper.apply(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <L2> EitherDouble<L2> flatMapLeft(Function<? super L, EitherDouble<L2>> mapper) {
+        return (EitherDouble<L2>) this;
+    }
+
+    @Override
+    public double getOrElse(double other) {
+        return value;
+    }
+
+    @Override
+    public <T> T fold(Function<? super L, ? extends T> leftMapper, DoubleFunction<? extends T> rightMapper) {
+        return rightMapper.apply(value);
+    }
+
+    @Override
+    public DoubleStream toStream() {
+        return DoubleStream.of(value);
+    }
+
+    @Override
+    public OptionDouble toOption() {
+        return OptionDouble.of(value);
+    }
+
+    @Override
+    public Either<L, Double> toEither() {
+        return new Right<>(value);
+    }
+}
@@ -0,0 +1,73 @@
+package de.ludimus.functional.either;
+
+import de.ludimus.functional.option.OptionInt;
+
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+public record RightInt<L>(int value) implements EitherInt<L> {
+
+    @Override
+    public boolean isLeft() {
+        return false;
+    }
+
+    @Override
+    public boolean isRight() {
+        return true;
+    }
+
+    @Override
+    public EitherInt<L> mapRight(IntUnaryOperator mapper) {
+        return new RightInt<>(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public <R2> Either<L, R2> mapRightToObj(IntFunction<? extends R2> mapper) {
+        return new Right<>(mapper.apply(value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <L2> EitherInt<L2> mapLeft(Function<? super L, ? extends L2> mapper) {
+        return (EitherInt<L2>) this;
+    }
+
+    @Override
+    public EitherInt<L> flatMapRight(IntFunction<EitherInt<L>> mapper) {
+        return mapper.apply(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <L2> EitherInt<L2> flatMapLeft(Function<? super L, EitherInt<L2>> mapper) {
+        return (EitherInt<L2>) this;
+    }
+
+    @Override
+    public int getOrElse(int other) {
+        return value;
+    }
+
+    @Override
+    public <T> T fold(Function<? super L, ? extends T> leftMapper, IntFunction<? extends T> rightMapper) {
+        return rightMapper.apply(value);
+    }
+
+    @Override
+    public IntStream toStream() {
+        return IntStream.of(value);
+    }
+
+    @Override
+    public OptionInt toOption() {
+        return OptionInt.of(value);
+    }
+
+    @Override
+    public Either<L, Integer> toEither() {
+        return new Right<>(value);
+    }
+}
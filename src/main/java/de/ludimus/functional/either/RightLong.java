@@ -0,0 +1,73 @@
+package de.ludimus.functional.either;
+
+import de.ludimus.functional.option.OptionLong;
+
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+public record RightLong<L>(long value) implements EitherLong<L> {
+
+    @Override
+    public boolean isLeft() {
+        return false;
+    }
+
+    @Override
+    public boolean isRight() {
+        return true;
+    }
+
+    @Override
+    public EitherLong<L> mapRight(LongUnaryOperator mapper) {
+        return new RightLong<>(mapper.applyAsLong(value));
+    }
+
+    @Override
+    public <R2> Either<L, R2> mapRightToObj(LongFunction<? extends R2> mapper) {
+        return new Right<>(mapper.apply(value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <L2> EitherLong<L2> mapLeft(Function<? super L, ? extends L2> mapper) {
+        return (EitherLong<L2>) this;
+    }
+
+    @Override
+    public EitherLong<L> flatMapRight(LongFunction<EitherLong<L>> mapper) {
+        return mapper.apply(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <L2> EitherLong<L2> flatMapLeft(Function<? super L, EitherLong<L2>> mapper) {
+        return (EitherLong<L2>) this;
+    }
+
+    @Override
+    public long getOrElse(long other) {
+        return value;
+    }
+
+    @Override
+    public <T> T fold(Function<? super L, ? extends T> leftMapper, LongFunction<? extends T> rightMapper) {
+        return rightMapper.apply(value);
+    }
+
+    @Override
+    public LongStream toStream() {
+        return LongStream.of(value);
+    }
+
+    @Override
+    public OptionLong toOption() {
+        return OptionLong.of(value);
+    }
+
+    @Override
+    public Either<L, Long> toEither() {
+        return new Right<>(value);
+    }
+}
@@ -0,0 +1,25 @@
+package de.ludimus.functional.either;
+
+import java.io.Serial;
+
+/**
+ * A runtime exception that neither captures a stack trace nor records suppressed exceptions.
+ * <p>
+ * Filling in the stack trace is by far the most expensive part of creating an exception. Throwing a
+ * StacklessException (or a subclass) on hot failure paths makes the failure almost as cheap as the success path.
+ * Because instances carry no per-throw state, a single instance can also be preallocated in a
+ * {@code static final} field and thrown or wrapped in a {@link Failure} any number of times.
+ */
+public class StacklessException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public StacklessException(String message) {
+        super(message, null, false, false);
+    }
+
+    public StacklessException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
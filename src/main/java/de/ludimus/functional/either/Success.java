@@ -0,0 +1,58 @@
+package de.ludimus.functional.either;
+
+import de.ludimus.functional.option.Option;
+import de.ludimus.functional.option.Some;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+public record Success<T>(T value) implements Try<T> {
+    public Success {
+        Objects.requireNonNull(value);
+    }
+
+    @Override
+    public boolean isSuccess() {
+        return true;
+    }
+
+    @Override
+    public boolean isFailure() {
+        return false;
+    }
+
+    @Override
+    public <U> Try<U> map(CheckedFunction<? super T, ? extends U> mapper) {
+        return Try.of(() -> mapper.apply(value));
+    }
+
+    @Override
+    public <U> Try<U> flatMap(Function<? super T, Try<U>> mapper) {
+        return mapper.apply(value);
+    }
+
+    @Override
+    public Try<T> recover(Function<? super Throwable, ? extends T> recovery) {
+        return this;
+    }
+
+    @Override
+    public T getOrElse(T other) {
+        return value;
+    }
+
+    @Override
+    public <U> U fold(Function<? super Throwable, ? extends U> failureMapper, Function<? super T, ? extends U> successMapper) {
+        return successMapper.apply(value);
+    }
+
+    @Override
+    public Either<Throwable, T> toEither() {
+        return new Right<>(value);
+    }
+
+    @Override
+    public Option<T> toOption() {
+        return new Some<>(value);
+    }
+}
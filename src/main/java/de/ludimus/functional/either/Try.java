@@ -0,0 +1,132 @@
+package de.ludimus.functional.either;
+
+import de.ludimus.functional.option.Option;
+
+import java.util.function.Function;
+
+/**
+ * A sealed interface representing the result of a computation that may throw, either a Success or a Failure.
+ * Try is an {@link Either} specialized to a {@link Throwable} on the failure side.
+ * <p>
+ * Try adds no cost to the failure path beyond the exception itself. For hot failure paths, throw a
+ * {@link StacklessException} or pass a preallocated one to {@link #failure(Throwable)}, which avoids
+ * filling in a stack trace entirely.
+ *
+ * @param <T> the type of the value of a Success
+ */
+public sealed interface Try<T> permits Success, Failure {
+
+    /**
+     * Runs a supplier and captures its result or the exception it throws.
+     * An {@link InterruptedException} is captured as well, with the interrupt flag of the thread restored.
+     *
+     * @param supplier the computation to run
+     * @param <T>      the type of the result
+     * @return a Success with the result, or a Failure with the thrown exception
+     */
+    static <T> Try<T> of(CheckedSupplier<? extends T> supplier) {
+        try {
+            return new Success<>(supplier.get());
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return new Failure<>(e);
+        }
+    }
+
+    /**
+     * Creates a Try instance representing a successful value.
+     *
+     * @param value the value
+     * @param <T>   the type of the value
+     * @return a Success containing the value
+     */
+    static <T> Try<T> success(T value) {
+        return new Success<>(value);
+    }
+
+    /**
+     * Creates a Try instance representing a failure.
+     * Passing a preallocated {@link StacklessException} makes this allocation of the Failure record the only cost.
+     *
+     * @param exception the cause of the failure
+     * @param <T>       the type of the value
+     * @return a Failure containing the exception
+     */
+    static <T> Try<T> failure(Throwable exception) {
+        return new Failure<>(exception);
+    }
+
+    /**
+     * Checks if this instance is a Success.
+     *
+     * @return true if this is a Success, false otherwise
+     */
+    boolean isSuccess();
+
+    /**
+     * Checks if this instance is a Failure.
+     *
+     * @return true if this is a Failure, false otherwise
+     */
+    boolean isFailure();
+
+    /**
+     * Maps the value of a Success by applying a function that may throw.
+     *
+     * @param mapper the function to apply to the value
+     * @param <U>    the type of the resulting value
+     * @return a Success with the mapped value, a Failure if the mapper threw, or this Failure
+     */
+    <U> Try<U> map(CheckedFunction<? super T, ? extends U> mapper);
+
+    /**
+     * Transforms the value of a Success into another Try.
+     *
+     * @param mapper the function to apply to the value
+     * @param <U>    the type of the value of the new Try
+     * @return the Try returned by the mapper, or this Failure
+     */
+    <U> Try<U> flatMap(Function<? super T, Try<U>> mapper);
+
+    /**
+     * Turns a Failure into a Success by applying a function to its exception.
+     *
+     * @param recovery the function producing a value from the exception
+     * @return this Success, or a Success with the recovered value
+     */
+    Try<T> recover(Function<? super Throwable, ? extends T> recovery);
+
+    /**
+     * Returns the value or a default value if this is a Failure.
+     *
+     * @param other the default value to return if this is a Failure
+     * @return the value if this is a Success, or the default value
+     */
+    T getOrElse(T other);
+
+    /**
+     * Applies a function to the exception or to the value.
+     *
+     * @param failureMapper the function to apply if this is a Failure
+     * @param successMapper the function to apply if this is a Success
+     * @param <U>           the type of the result of the functions
+     * @return the result of applying the appropriate function
+     */
+    <U> U fold(Function<? super Throwable, ? extends U> failureMapper, Function<? super T, ? extends U> successMapper);
+
+    /**
+     * Converts this Try to an {@link Either}, with the exception on the Left.
+     *
+     * @return a Right with the value if this is a Success, otherwise a Left with the exception
+     */
+    Either<Throwable, T> toEither();
+
+    /**
+     * Converts this Try to an {@link Option}, containing the value if this is a Success.
+     *
+     * @return an Option containing the value if present, otherwise None
+     */
+    Option<T> toOption();
+}
@@ -0,0 +1,11 @@
+package de.ludimus.functional.eval;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+record Always<A>(Supplier<? extends A> supplier) implements Eval<A> {
+
+    Always {
+        Objects.requireNonNull(supplier);
+    }
+}
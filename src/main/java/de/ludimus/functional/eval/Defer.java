@@ -0,0 +1,11 @@
+package de.ludimus.functional.eval;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+record Defer<A>(Supplier<? extends Eval<A>> supplier) implements Eval<A> {
+
+    Defer {
+        Objects.requireNonNull(supplier);
+    }
+}
@@ -0,0 +1,188 @@
+package de.ludimus.functional.eval;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.Left;
+import de.ludimus.functional.either.Right;
+import de.ludimus.functional.option.None;
+import de.ludimus.functional.option.Option;
+import de.ludimus.functional.option.Some;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A lazy, stack-safe computation of a value.
+ * <p>
+ * {@link #flatMap} and {@link #defer} only build a description of the computation; {@link #value()} runs it
+ * in a single loop with an explicit, heap-allocated continuation stack. Chains of any depth, nested either way,
+ * therefore evaluate in constant Java stack, where the equivalent recursion over {@link Either#flatMapRight}
+ * or {@link Option#flatMap} would overflow after a few thousand levels.
+ * <p>
+ * {@link #flatMapRight} and {@link #flatMapSome} thread an {@link Either} or {@link Option} through such a chain,
+ * short-circuiting on the first Left or None.
+ *
+ * @param <A> the type of the value
+ */
+public sealed interface Eval<A> permits Now, Always, Later, Defer, FlatMapped {
+
+    /**
+     * Creates an Eval of an already computed value.
+     *
+     * @param value the value
+     * @param <A>   the type of the value
+     * @return an Eval returning the value
+     */
+    static <A> Eval<A> now(A value) {
+        return new Now<>(value);
+    }
+
+    /**
+     * Creates an Eval that runs the supplier every time it is evaluated.
+     *
+     * @param supplier the computation
+     * @param <A>      the type of the value
+     * @return an Eval running the supplier
+     */
+    static <A> Eval<A> always(Supplier<? extends A> supplier) {
+        return new Always<>(supplier);
+    }
+
+    /**
+     * Creates an Eval that runs the supplier the first time it is evaluated and remembers the result.
+     *
+     * @param supplier the computation
+     * @param <A>      the type of the value
+     * @return an Eval running the supplier at most once
+     */
+    static <A> Eval<A> later(Supplier<? extends A> supplier) {
+        return new Later<>(supplier);
+    }
+
+    /**
+     * Suspends the creation of an Eval. This is the building block for stack-safe recursion:
+     * a recursive call wrapped in {@code defer} returns immediately instead of growing the stack.
+     *
+     * @param supplier the supplier of the Eval
+     * @param <A>      the type of the value
+     * @return an Eval evaluating the supplied Eval
+     */
+    static <A> Eval<A> defer(Supplier<? extends Eval<A>> supplier) {
+        return new Defer<>(supplier);
+    }
+
+    /**
+     * Runs a loop in constant stack: {@code step} is applied to the state until it returns a Right.
+     * A Left carries the next state.
+     *
+     * @param initial the initial state
+     * @param step    the step function
+     * @param <S>     the type of the state
+     * @param <B>     the type of the result
+     * @return an Eval of the first Right value
+     */
+    static <S, B> Eval<B> tailRec(S initial, Function<? super S, ? extends Eval<Either<S, B>>> step) {
+        return step.apply(initial).flatMap(either -> switch (either) {
+            case Left<S, B>(S next) -> tailRec(next, step);
+            case Right<S, B>(B result) -> now(result);
+        });
+    }
+
+    /**
+     * Binds the Right value of an Eval of an Either, leaving a Left untouched.
+     *
+     * @param eval   the Eval of an Either
+     * @param mapper the function to apply to the Right value
+     * @param <L>    the type of Left value
+     * @param <R>    the type of Right value
+     * @param <R2>   the type of the new Right value
+     * @return an Eval of the Left, or of the Either returned by the mapper
+     */
+    @SuppressWarnings("unchecked")
+    static <L, R, R2> Eval<Either<L, R2>> flatMapRight(Eval<Either<L, R>> eval,
+                                                      Function<? super R, ? extends Eval<Either<L, R2>>> mapper) {
+        return eval.flatMap(either -> switch (either) {
+            case Left<L, R> left -> now((Either<L, R2>) (Either<L, ?>) left);
+            case Right<L, R>(R value) -> mapper.apply(value);
+        });
+    }
+
+    /**
+     * Binds the value of an Eval of an Option, leaving None untouched.
+     *
+     * @param eval   the Eval of an Option
+     * @param mapper the function to apply to the value
+     * @param <T>    the type of the value
+     * @param <U>    the type of the new value
+     * @return an Eval of None, or of the Option returned by the mapper
+     */
+    static <T, U> Eval<Option<U>> flatMapSome(Eval<Option<T>> eval,
+                                              Function<? super T, ? extends Eval<Option<U>>> mapper) {
+        return eval.flatMap(option -> switch (option) {
+            case None<T>() -> now(Option.none());
+            case Some<T>(T value) -> mapper.apply(value);
+        });
+    }
+
+    /**
+     * Maps the value of this Eval.
+     *
+     * @param mapper the function to apply to the value
+     * @param <B>    the type of the new value
+     * @return an Eval of the mapped value
+     */
+    default <B> Eval<B> map(Function<? super A, ? extends B> mapper) {
+        return new FlatMapped<>(this, value -> new Now<>(mapper.apply(value)));
+    }
+
+    /**
+     * Binds the value of this Eval to the next computation. Nothing is run until {@link #value()} is called.
+     *
+     * @param mapper the function returning the next computation
+     * @param <B>    the type of the new value
+     * @return an Eval of the next computation
+     */
+    default <B> Eval<B> flatMap(Function<? super A, ? extends Eval<B>> mapper) {
+        return new FlatMapped<>(this, mapper);
+    }
+
+    /**
+     * Evaluates this computation in constant stack.
+     *
+     * @return the value
+     */
+    @SuppressWarnings("unchecked")
+    default A value() {
+        Eval<Object> current = (Eval<Object>) this;
+        Function<Object, Eval<Object>>[] continuations = null;
+        int top = 0;
+        while (true) {
+            Object result;
+            switch (current) {
+                case FlatMapped<?, Object> flatMapped -> {
+                    if (continuations == null) {
+                        continuations = (Function<Object, Eval<Object>>[]) new Function<?, ?>[16];
+                    } else if (top == continuations.length) {
+                        continuations = Arrays.copyOf(continuations, top << 1);
+                    }
+                    continuations[top++] = (Function<Object, Eval<Object>>) flatMapped.mapper();
+                    current = (Eval<Object>) flatMapped.source();
+                    continue;
+                }
+                case Defer<Object> defer -> {
+                    current = defer.supplier().get();
+                    continue;
+                }
+                case Now<Object> now -> result = now.value();
+                case Always<Object> always -> result = always.supplier().get();
+                case Later<Object> later -> result = later.value();
+            }
+            if (top == 0) {
+                return (A) result;
+            }
+            Function<Object, Eval<Object>> next = continuations[--top];
+            continuations[top] = null;
+            current = next.apply(result);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package de.ludimus.functional.eval;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+record FlatMapped<A, B>(Eval<A> source, Function<? super A, ? extends Eval<B>> mapper) implements Eval<B> {
+
+    FlatMapped {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(mapper);
+    }
+}
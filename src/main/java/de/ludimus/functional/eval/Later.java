@@ -0,0 +1,24 @@
+package de.ludimus.functional.eval;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+final class Later<A> implements Eval<A> {
+
+    private Supplier<? extends A> supplier;
+    private A value;
+
+    Later(Supplier<? extends A> supplier) {
+        this.supplier = Objects.requireNonNull(supplier);
+    }
+
+    @Override
+    public synchronized A value() {
+        Supplier<? extends A> pending = supplier;
+        if (pending != null) {
+            value = pending.get();
+            supplier = null;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,188 @@
+package de.ludimus.functional.eval;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A value computed by a supplier on first access and remembered afterwards.
+ * <p>
+ * The supplier runs at most once, even under concurrent access: the first caller claims the computation with a
+ * compare-and-set and other callers wait for its result. Once computed, {@link #get()} is a single acquire read,
+ * with no locking and no {@code synchronized}, which would pin virtual threads. A Lazy is safely publishable
+ * through a data race. The supplier is released once the value is set, so a computed Lazy no longer keeps what the
+ * supplier captured alive. If the supplier throws, the exception reaches every caller waiting for that computation
+ * and nothing is remembered, so the next call tries again.
+ * <p>
+ * {@link #map} and {@link #flatMap} return new Lazy values that run only when they are read.
+ *
+ * @param <T> the type of the value
+ */
+public final class Lazy<T> implements Supplier<T> {
+
+    private static final Object NULL = new Object();
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(Lazy.class, "state", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final class Pending {
+        final Thread owner = Thread.currentThread();
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+    }
+
+    /**
+     * Holds the computation until its value is set. The holder is final, so the supplier is visible to any thread
+     * that sees this Lazy, and it is cleared only while {@link #state} is a {@link Pending} about to become the
+     * value, so no thread can claim the computation afterwards.
+     */
+    private final AtomicReference<Supplier<? extends T>> supplier;
+
+    /**
+     * {@code null} before the first computation, a {@link Pending} while it runs, and then the value,
+     * with {@link #NULL} standing in for a {@code null} value.
+     */
+    @SuppressWarnings("unused")
+    private Object state;
+
+    private Lazy(Supplier<? extends T> supplier) {
+        this.supplier = new AtomicReference<>(supplier);
+    }
+
+    /**
+     * Creates a Lazy that runs the supplier the first time its value is read.
+     *
+     * @param supplier the computation
+     * @param <T>      the type of the value
+     * @return a Lazy running the supplier at most once
+     */
+    public static <T> Lazy<T> of(Supplier<? extends T> supplier) {
+        return new Lazy<>(Objects.requireNonNull(supplier));
+    }
+
+    /**
+     * Creates an already computed Lazy.
+     *
+     * @param value the value
+     * @param <T>   the type of the value
+     * @return a Lazy holding the value
+     */
+    public static <T> Lazy<T> value(T value) {
+        // a thread that misses the plain write below through a data race computes the same value from the supplier
+        Lazy<T> lazy = new Lazy<>(() -> value);
+        lazy.state = value != null ? value : NULL;
+        return lazy;
+    }
+
+    /**
+     * Returns the value, computing it if this is the first call.
+     *
+     * @return the value
+     * @throws IllegalStateException if the supplier reads this Lazy again while computing it
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get() {
+        Object current = STATE.getAcquire(this);
+        if (current == null || current instanceof Pending) {
+            return evaluate();
+        }
+        return current == NULL ? null : (T) current;
+    }
+
+    /**
+     * Returns whether the value has been computed.
+     */
+    public boolean isEvaluated() {
+        Object current = STATE.getAcquire(this);
+        return current != null && !(current instanceof Pending);
+    }
+
+    /**
+     * Returns a Lazy applying the mapper to this value when it is read.
+     *
+     * @param mapper the function to apply
+     * @param <U>    the type of the new value
+     * @return a Lazy of the mapped value
+     */
+    public <U> Lazy<U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return new Lazy<>(() -> mapper.apply(get()));
+    }
+
+    /**
+     * Returns a Lazy reading the Lazy returned by the mapper when it is read.
+     *
+     * @param mapper the function to apply
+     * @param <U>    the type of the new value
+     * @return a Lazy of the value of the returned Lazy
+     */
+    public <U> Lazy<U> flatMap(Function<? super T, ? extends Lazy<? extends U>> mapper) {
+        Objects.requireNonNull(mapper);
+        return new Lazy<>(() -> mapper.apply(get()).get());
+    }
+
+    @Override
+    public String toString() {
+        return isEvaluated() ? "Lazy[" + get() + "]" : "Lazy[?]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private T evaluate() {
+        while (true) {
+            Object current = STATE.getAcquire(this);
+            if (current == null) {
+                Pending pending = new Pending();
+                if (STATE.compareAndSet(this, null, pending)) {
+                    return compute(pending);
+                }
+            } else if (current instanceof Pending pending) {
+                if (pending.owner == Thread.currentThread()) {
+                    throw new IllegalStateException("Lazy value depends on itself");
+                }
+                await(pending);
+            } else {
+                return current == NULL ? null : (T) current;
+            }
+        }
+    }
+
+    private T compute(Pending pending) {
+        T value;
+        try {
+            value = supplier.get().get();
+        } catch (Throwable e) {
+            STATE.setRelease(this, null);
+            pending.done.completeExceptionally(e);
+            throw e;
+        }
+        supplier.set(null);
+        STATE.setRelease(this, value != null ? value : NULL);
+        pending.done.complete(null);
+        return value;
+    }
+
+    private static void await(Pending pending) {
+        try {
+            pending.done.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package de.ludimus.functional.eval;
+
+import de.ludimus.functional.either.Either;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An {@link Either} computed on first access and remembered afterwards, with the guarantees of {@link Lazy}.
+ * <p>
+ * {@link #mapRight}, {@link #mapLeft} and {@link #flatMapRight} only describe the computation; it runs on the first
+ * terminal call ({@link #get}, {@link #isRight}, {@link #getOrElse}, {@link #fold}, ...) and never if no terminal
+ * call is made.
+ *
+ * @param <L> the type of Left value
+ * @param <R> the type of Right value
+ */
+public final class LazyEither<L, R> {
+
+    private final Lazy<Either<L, R>> either;
+
+    private LazyEither(Lazy<Either<L, R>> either) {
+        this.either = either;
+    }
+
+    /**
+     * Creates a LazyEither of an Either computed on first access.
+     *
+     * @param supplier the computation of the Either
+     * @param <L>      the type of Left value
+     * @param <R>      the type of Right value
+     * @return a LazyEither running the supplier at most once
+     */
+    public static <L, R> LazyEither<L, R> defer(Supplier<Either<L, R>> supplier) {
+        return new LazyEither<>(Lazy.of(supplier));
+    }
+
+    /**
+     * Creates a LazyEither of a Right value computed on first access.
+     *
+     * @param supplier the computation of the Right value
+     * @param <L>      the type of Left value
+     * @param <R>      the type of Right value
+     * @return a LazyEither running the supplier at most once
+     */
+    public static <L, R> LazyEither<L, R> right(Supplier<? extends R> supplier) {
+        Objects.requireNonNull(supplier);
+        return new LazyEither<>(Lazy.of(() -> Either.right(supplier.get())));
+    }
+
+    /**
+     * Returns the Either, computing it if this is the first terminal call.
+     */
+    public Either<L, R> get() {
+        return either.get();
+    }
+
+    public boolean isEvaluated() {
+        return either.isEvaluated();
+    }
+
+    public boolean isLeft() {
+        return get().isLeft();
+    }
+
+    public boolean isRight() {
+        return get().isRight();
+    }
+
+    public R getOrElse(R other) {
+        return get().getOrElse(other);
+    }
+
+    public <T> T fold(Function<? super L, ? extends T> leftMapper, Function<? super R, ? extends T> rightMapper) {
+        return get().fold(leftMapper, rightMapper);
+    }
+
+    public <R2> LazyEither<L, R2> mapRight(Function<? super R, ? extends R2> mapper) {
+        Objects.requireNonNull(mapper);
+        return new LazyEither<>(either.map(value -> value.mapRight(mapper)));
+    }
+
+    public <L2> LazyEither<L2, R> mapLeft(Function<? super L, ? extends L2> mapper) {
+        Objects.requireNonNull(mapper);
+        return new LazyEither<>(either.map(value -> value.mapLeft(mapper)));
+    }
+
+    public <R2> LazyEither<L, R2> flatMapRight(Function<? super R, Either<L, R2>> mapper) {
+        Objects.requireNonNull(mapper);
+        return new LazyEither<>(either.map(value -> value.flatMapRight(mapper)));
+    }
+
+    @Override
+    public String toString() {
+        return isEvaluated() ? "LazyEither[" + get() + "]" : "LazyEither[?]";
+    }
+}
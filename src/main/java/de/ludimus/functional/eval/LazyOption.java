@@ -0,0 +1,95 @@
+package de.ludimus.functional.eval;
+
+import de.ludimus.functional.option.Option;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * An {@link Option} computed on first access and remembered afterwards, with the guarantees of {@link Lazy}.
+ * <p>
+ * {@link #map}, {@link #flatMap} and {@link #filter} only describe the computation; it runs on the first terminal
+ * call ({@link #get}, {@link #isPresent}, {@link #orElse}, ...) and never if no terminal call is made.
+ *
+ * @param <T> the type of the value
+ */
+public final class LazyOption<T> {
+
+    private final Lazy<Option<T>> option;
+
+    private LazyOption(Lazy<Option<T>> option) {
+        this.option = option;
+    }
+
+    /**
+     * Creates a LazyOption of a value computed on first access, None if the supplier returns {@code null}.
+     *
+     * @param supplier the computation of the value
+     * @param <T>      the type of the value
+     * @return a LazyOption running the supplier at most once
+     */
+    public static <T> LazyOption<T> of(Supplier<? extends T> supplier) {
+        Objects.requireNonNull(supplier);
+        return new LazyOption<>(Lazy.of(() -> Option.of(supplier.get())));
+    }
+
+    /**
+     * Creates a LazyOption of an Option computed on first access.
+     *
+     * @param supplier the computation of the Option
+     * @param <T>      the type of the value
+     * @return a LazyOption running the supplier at most once
+     */
+    public static <T> LazyOption<T> defer(Supplier<Option<T>> supplier) {
+        return new LazyOption<>(Lazy.of(supplier));
+    }
+
+    /**
+     * Returns the Option, computing it if this is the first terminal call.
+     */
+    public Option<T> get() {
+        return option.get();
+    }
+
+    public boolean isEvaluated() {
+        return option.isEvaluated();
+    }
+
+    public boolean isPresent() {
+        return get().isPresent();
+    }
+
+    public boolean isEmpty() {
+        return get().isEmpty();
+    }
+
+    public T orElse(T other) {
+        return get().orElse(other);
+    }
+
+    public T orElseGet(Supplier<? extends T> supplier) {
+        return get().orElseGet(supplier);
+    }
+
+    public <U> LazyOption<U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return new LazyOption<>(option.map(value -> value.map(mapper)));
+    }
+
+    public <U> LazyOption<U> flatMap(Function<? super T, Option<U>> mapper) {
+        Objects.requireNonNull(mapper);
+        return new LazyOption<>(option.map(value -> value.flatMap(mapper)));
+    }
+
+    public LazyOption<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return new LazyOption<>(option.map(value -> value.flatMap(v -> predicate.test(v) ? value : Option.none())));
+    }
+
+    @Override
+    public String toString() {
+        return isEvaluated() ? "LazyOption[" + get() + "]" : "LazyOption[?]";
+    }
+}
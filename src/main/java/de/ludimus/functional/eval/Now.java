@@ -0,0 +1,9 @@
+package de.ludimus.functional.eval;
+
+record Now<A>(A value) implements Eval<A> {
+
+    @Override
+    public A value() {
+        return value;
+    }
+}
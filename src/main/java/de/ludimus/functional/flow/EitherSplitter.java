@@ -0,0 +1,159 @@
+package de.ludimus.functional.flow;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.Left;
+import de.ludimus.functional.either.Right;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link Flow.Processor} that splits a flow of {@link Either} values into two channels: the Right values, which
+ * it publishes itself, and the Left values, which go to the dead-letter channel {@link #lefts()} in batches.
+ * <p>
+ * Each channel has its own demand. Upstream is asked for exactly as many elements as the Right subscriber requests,
+ * plus one more for every Left, so Lefts never use up Right demand. Lefts are collected into batches of a fixed
+ * size and offered to the dead-letter subscribers without blocking; each of them is served on the executor with
+ * its own bounded buffer. When a dead-letter subscriber falls further behind than that buffer, its batches are
+ * dropped and counted in {@link #droppedLefts()}, so a slow error sink never stalls the Right flow.
+ * <p>
+ * Subscribe to {@link #lefts()} before upstream starts: Lefts with no dead-letter subscriber are dropped as well.
+ *
+ * @param <L> the type of Left values
+ * @param <R> the type of Right values
+ */
+public final class EitherSplitter<L, R> extends OrderedProcessor<Either<L, R>, R, R> {
+
+    private final int batchSize;
+    private final SubmissionPublisher<List<L>> lefts;
+    private final LongAdder droppedLefts = new LongAdder();
+    private final Object batchLock = new Object();
+    private List<L> batch;
+
+    private EitherSplitter(int batchSize, int maxBufferedBatches, Executor executor) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        if (maxBufferedBatches <= 0) {
+            throw new IllegalArgumentException("maxBufferedBatches must be positive: " + maxBufferedBatches);
+        }
+        this.batchSize = batchSize;
+        this.lefts = new SubmissionPublisher<>(executor, maxBufferedBatches);
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * Creates an EitherSplitter delivering Left batches on the common pool, buffering up to
+     * {@link Flow#defaultBufferSize()} batches per dead-letter subscriber.
+     *
+     * @param batchSize the number of Left values per batch
+     * @param <L>       the type of Left values
+     * @param <R>       the type of Right values
+     * @return a new EitherSplitter
+     */
+    public static <L, R> EitherSplitter<L, R> of(int batchSize) {
+        return of(batchSize, Flow.defaultBufferSize(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an EitherSplitter.
+     *
+     * @param batchSize          the number of Left values per batch
+     * @param maxBufferedBatches the number of batches buffered per dead-letter subscriber before batches are dropped
+     * @param executor           runs the dead-letter subscribers
+     * @param <L>                the type of Left values
+     * @param <R>                the type of Right values
+     * @return a new EitherSplitter
+     */
+    public static <L, R> EitherSplitter<L, R> of(int batchSize, int maxBufferedBatches, Executor executor) {
+        return new EitherSplitter<>(batchSize, maxBufferedBatches, executor);
+    }
+
+    /**
+     * Returns the dead-letter channel. It publishes the Left values in batches of the configured size, except for
+     * the last batch, which is flushed when upstream terminates. The channel completes when upstream terminates,
+     * even with an error: that error is reported to the Right subscriber, and failing this channel as well would
+     * discard the batches still buffered for slow dead-letter subscribers.
+     */
+    public Flow.Publisher<List<L>> lefts() {
+        return lefts;
+    }
+
+    /**
+     * Returns the number of Left values that a dead-letter subscriber did not receive, summed over subscribers.
+     */
+    public long droppedLefts() {
+        return droppedLefts.sum();
+    }
+
+    @Override
+    protected void accept(Either<L, R> either) {
+        switch (either) {
+            case Right<L, R>(R value) -> enqueue(value);
+            case Left<L, R>(L value) -> {
+                synchronized (batchLock) {
+                    batch.add(value);
+                    if (batch.size() == batchSize) {
+                        flush();
+                    }
+                }
+                requestUpstream(1);
+            }
+        }
+    }
+
+    @Override
+    protected boolean isReady(R item) {
+        return true;
+    }
+
+    @Override
+    protected R valueOf(R item) {
+        return item;
+    }
+
+    @Override
+    protected void onRequest(long n) {
+        requestUpstream(n);
+    }
+
+    @Override
+    protected void onUpstreamTerminated(Throwable error) {
+        synchronized (batchLock) {
+            if (!batch.isEmpty()) {
+                flush();
+            }
+            lefts.close();
+        }
+    }
+
+    @Override
+    protected void onCancel() {
+        lefts.close();
+    }
+
+    private void flush() {
+        List<L> full = batch;
+        batch = new ArrayList<>(batchSize);
+        if (lefts.isClosed()) {
+            return;
+        }
+        if (!lefts.hasSubscribers()) {
+            droppedLefts.add(full.size());
+            return;
+        }
+        try {
+            lefts.offer(full, (subscriber, dropped) -> {
+                droppedLefts.add(dropped.size());
+                return false;
+            });
+        } catch (IllegalStateException e) {
+            // closed by a concurrent cancel
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package de.ludimus.functional.flow;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The downstream half shared by the processors of this package: a single subscriber, its demand, and an ordered
+ * queue of pending elements that a drain loop emits as they become ready and demand allows.
+ * <p>
+ * The drain loop is serialized with a work-in-progress counter, so upstream signals, downstream requests and
+ * completions of asynchronous work may call {@link #drain()} from any thread without locking. Upstream demand is
+ * entirely up to the subclass via {@link #requestUpstream}; requests are accumulated and forwarded by the drain
+ * loop, as is cancellation, so calls to the upstream subscription never overlap (Reactive Streams §2.7), and
+ * requests made before the upstream subscription arrives are forwarded once it does.
+ *
+ * @param <T> the type of the upstream elements
+ * @param <Q> the type of the queued elements
+ * @param <U> the type of the emitted elements
+ */
+abstract class OrderedProcessor<T, Q, U> implements Flow.Processor<T, U> {
+
+    /**
+     * A subscription that ignores all calls: it marks a cancelled upstream and is handed to rejected subscribers.
+     */
+    private static final Flow.Subscription CANCELLED = new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+
+    private final Queue<Q> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicLong upstreamDemand = new AtomicLong();
+    private final AtomicReference<Flow.Subscriber<? super U>> downstream = new AtomicReference<>();
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+    private final AtomicBoolean upstreamTerminated = new AtomicBoolean();
+    private volatile boolean upstreamCancelRequested;
+    private volatile boolean done;
+    private volatile Throwable error;
+    private volatile boolean cancelled;
+    private boolean terminated;
+
+    private final Flow.Subscription subscription = new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("request must be positive: " + n));
+                return;
+            }
+            add(requested, n);
+            onRequest(n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                cancelUpstream();
+                onCancel();
+                queue.clear();
+            }
+        }
+    };
+
+    /**
+     * Processes an element from upstream, typically by {@link #enqueue enqueueing} something for downstream.
+     */
+    protected abstract void accept(T item);
+
+    /**
+     * Returns whether the queued element can be emitted.
+     */
+    protected abstract boolean isReady(Q item);
+
+    /**
+     * Returns the element to emit for a ready queued element. A thrown exception fails the flow.
+     */
+    protected abstract U valueOf(Q item);
+
+    /**
+     * Called after downstream requested {@code n} more elements.
+     */
+    protected void onRequest(long n) {
+    }
+
+    /**
+     * Called after an element was emitted downstream.
+     */
+    protected void onEmitted() {
+    }
+
+    /**
+     * Called once when upstream completes ({@code error == null}) or fails, before downstream is told. It is also
+     * called when this processor fails the flow itself and cancels upstream; then it may run concurrently with a
+     * late {@link #accept}.
+     */
+    protected void onUpstreamTerminated(Throwable error) {
+    }
+
+    /**
+     * Called once when downstream cancels.
+     */
+    protected void onCancel() {
+    }
+
+    @Override
+    public final void subscribe(Flow.Subscriber<? super U> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(CANCELLED);
+            subscriber.onError(new IllegalStateException("only one subscriber is supported"));
+            return;
+        }
+        subscriber.onSubscribe(subscription);
+        drain();
+    }
+
+    @Override
+    public final void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription);
+        if (!upstream.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return;
+        }
+        drain();
+    }
+
+    @Override
+    public final void onNext(T item) {
+        if (!cancelled && !done) {
+            accept(Objects.requireNonNull(item));
+        }
+    }
+
+    @Override
+    public final void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        if (!done) {
+            upstreamTerminated(throwable);
+            error = throwable;
+            done = true;
+            drain();
+        }
+    }
+
+    @Override
+    public final void onComplete() {
+        if (!done) {
+            upstreamTerminated(null);
+            done = true;
+            drain();
+        }
+    }
+
+    /**
+     * Asks upstream for {@code n} more elements. The request is forwarded by the drain loop.
+     */
+    protected final void requestUpstream(long n) {
+        if (n > 0) {
+            add(upstreamDemand, n);
+            drain();
+        }
+    }
+
+    protected final void enqueue(Q item) {
+        queue.offer(item);
+        drain();
+    }
+
+    protected final boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Cancels upstream and signals the error downstream, ahead of any queued elements.
+     */
+    protected final void fail(Throwable throwable) {
+        cancelUpstream();
+        upstreamTerminated(throwable);
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    protected final void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            forwardUpstream();
+            Flow.Subscriber<? super U> subscriber = downstream.get();
+            if (subscriber != null && !terminated) {
+                emit(subscriber);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void emit(Flow.Subscriber<? super U> subscriber) {
+        long demand = requested.get();
+        long emitted = 0;
+        while (!cancelled) {
+            Throwable failure = error;
+            if (failure != null) {
+                terminate();
+                subscriber.onError(failure);
+                break;
+            }
+            Q head = queue.peek();
+            if (head == null) {
+                if (done) {
+                    terminate();
+                    subscriber.onComplete();
+                }
+                break;
+            }
+            if (emitted == demand || !isReady(head)) {
+                break;
+            }
+            queue.poll();
+            U value;
+            try {
+                value = valueOf(head);
+            } catch (RuntimeException e) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                cancelUpstream();
+                upstreamTerminated(cause);
+                terminate();
+                subscriber.onError(cause);
+                break;
+            }
+            subscriber.onNext(value);
+            emitted++;
+            onEmitted();
+        }
+        if (emitted > 0 && demand != Long.MAX_VALUE) {
+            requested.addAndGet(-emitted);
+        }
+    }
+
+    private void terminate() {
+        terminated = true;
+        queue.clear();
+    }
+
+    private void upstreamTerminated(Throwable throwable) {
+        if (upstreamTerminated.compareAndSet(false, true)) {
+            onUpstreamTerminated(throwable);
+        }
+    }
+
+    /**
+     * Marks upstream for cancellation; the drain loop cancels it, or cancels it on arrival.
+     */
+    private void cancelUpstream() {
+        upstreamCancelRequested = true;
+        drain();
+    }
+
+    /**
+     * Forwards pending cancellation or demand to upstream. Only called from the drain loop.
+     */
+    private void forwardUpstream() {
+        Flow.Subscription current = upstream.get();
+        if (current == null || current == CANCELLED) {
+            return;
+        }
+        if (upstreamCancelRequested || cancelled) {
+            upstream.set(CANCELLED);
+            current.cancel();
+            return;
+        }
+        long demand = upstreamDemand.getAndSet(0);
+        if (demand > 0) {
+            current.request(demand);
+        }
+    }
+
+    private static void add(AtomicLong counter, long n) {
+        counter.accumulateAndGet(n, (current, more) -> current + more < 0 ? Long.MAX_VALUE : current + more);
+    }
+}
@@ -0,0 +1,85 @@
+package de.ludimus.functional.flow;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.Left;
+import de.ludimus.functional.either.Right;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * A {@link Flow.Processor} applying {@link Either#mapRight} on an executor, with at most {@code parallelism}
+ * values in flight, and emitting the results in upstream order.
+ * <p>
+ * Upstream is asked for {@code parallelism} elements up front and for one more each time a result is emitted, so
+ * mapped-but-unrequested results never exceed {@code parallelism} either. Left values pass through without
+ * touching the executor, but keep their position. If the mapper throws, upstream is cancelled and the exception
+ * fails the flow once its position is reached.
+ *
+ * @param <L>  the type of Left values
+ * @param <R>  the type of Right values
+ * @param <R2> the type of the mapped Right values
+ */
+public final class ParallelMapRight<L, R, R2>
+        extends OrderedProcessor<Either<L, R>, CompletableFuture<Either<L, R2>>, Either<L, R2>> {
+
+    private final Function<? super R, ? extends R2> mapper;
+    private final Executor executor;
+
+    private ParallelMapRight(Function<? super R, ? extends R2> mapper, int parallelism, Executor executor) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.mapper = Objects.requireNonNull(mapper);
+        this.executor = Objects.requireNonNull(executor);
+        requestUpstream(parallelism);
+    }
+
+    /**
+     * Creates a ParallelMapRight.
+     *
+     * @param mapper      the function to apply to Right values
+     * @param parallelism the maximum number of values mapped or waiting to be emitted at a time
+     * @param executor    runs the mapper
+     * @param <L>         the type of Left values
+     * @param <R>         the type of Right values
+     * @param <R2>        the type of the mapped Right values
+     * @return a new ParallelMapRight
+     */
+    public static <L, R, R2> ParallelMapRight<L, R, R2> of(Function<? super R, ? extends R2> mapper,
+                                                          int parallelism, Executor executor) {
+        return new ParallelMapRight<>(mapper, parallelism, executor);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void accept(Either<L, R> either) {
+        switch (either) {
+            case Left<L, R> left -> enqueue(CompletableFuture.completedFuture((Either<L, R2>) (Either<L, ?>) left));
+            case Right<L, R>(R value) -> {
+                CompletableFuture<Either<L, R2>> mapped =
+                        CompletableFuture.supplyAsync(() -> Either.right(mapper.apply(value)), executor);
+                enqueue(mapped);
+                mapped.whenComplete((result, failure) -> drain());
+            }
+        }
+    }
+
+    @Override
+    protected boolean isReady(CompletableFuture<Either<L, R2>> item) {
+        return item.isDone();
+    }
+
+    @Override
+    protected Either<L, R2> valueOf(CompletableFuture<Either<L, R2>> item) {
+        return item.join();
+    }
+
+    @Override
+    protected void onEmitted() {
+        requestUpstream(1);
+    }
+}
@@ -0,0 +1,17 @@
+package de.ludimus.functional.io;
+
+import java.util.Objects;
+
+/**
+ * The Left of a line that failed to parse, with the position of the line in the file.
+ *
+ * @param offset the byte offset of the first byte of the line
+ * @param error  the Left value returned by the line parser
+ * @param <L>    the type of the parser's Left values
+ */
+public record LineError<L>(long offset, L error) {
+
+    public LineError {
+        Objects.requireNonNull(error);
+    }
+}
@@ -0,0 +1,101 @@
+package de.ludimus.functional.io;
+
+import de.ludimus.functional.parse.FieldCursor;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A line of a {@link MappedLines} file, read in place from the mapped bytes. The line terminator
+ * ({@code \n} or {@code \r\n}) is not part of the view.
+ * <p>
+ * A view is reused for every line of a chunk, so a parser must not keep it after it returns; copy what it needs,
+ * for example with {@link #toString()}. As a {@link CharSequence} each byte is one ISO-8859-1 character, which is
+ * exact for ASCII; decode {@link #buffer()} from {@link #start()} to get another charset.
+ */
+public final class LineView implements CharSequence {
+
+    private final ByteBuffer buffer;
+    private final long bufferOffset;
+    private int start;
+    private int length;
+
+    LineView(ByteBuffer buffer, long bufferOffset) {
+        this.buffer = buffer;
+        this.bufferOffset = bufferOffset;
+    }
+
+    void set(int start, int length) {
+        this.start = start;
+        this.length = length;
+    }
+
+    /**
+     * Returns the byte offset of the line in the file.
+     */
+    public long offset() {
+        return bufferOffset + start;
+    }
+
+    /**
+     * Returns the read-only mapped buffer that holds the line, for reading it with absolute gets.
+     */
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * Returns the index of the line's first byte in {@link #buffer()}.
+     */
+    public int start() {
+        return start;
+    }
+
+    /**
+     * Returns the length of the line in bytes.
+     */
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, length);
+        return (char) (buffer.get(start + index) & 0xFF);
+    }
+
+    /**
+     * Returns a copy of part of the line.
+     */
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        Objects.checkFromToIndex(from, to, length);
+        return copy(from, to - from);
+    }
+
+    /**
+     * Points the cursor at this line, so its fields are read straight from the mapped bytes.
+     *
+     * @param cursor the cursor to reset
+     * @return the cursor
+     */
+    public FieldCursor fields(FieldCursor cursor) {
+        return cursor.reset(buffer, start, length);
+    }
+
+    /**
+     * Returns a copy of the line.
+     */
+    @Override
+    public String toString() {
+        return copy(0, length);
+    }
+
+    private String copy(int from, int count) {
+        byte[] bytes = new byte[count];
+        buffer.get(start + from, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,209 @@
+package de.ludimus.functional.io;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.Left;
+import de.ludimus.functional.either.Right;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Parses the lines of a memory-mapped file into a parallel stream of {@link Either} results.
+ * <p>
+ * {@link #open} maps the file read-only, in regions of up to 1 GiB that end at a line break, and cuts the regions into
+ * chunks of about {@code chunkSize} bytes, again at line breaks. The parallel stream splits over the chunks; within a
+ * chunk, lines are found eight bytes at a time and handed to the parser as a {@link LineView} over the mapped bytes,
+ * so no line is copied or decoded unless the parser does it. Lines end with {@code \n} or {@code \r\n}; a last line
+ * without a terminator is included.
+ * <p>
+ * A Left from the parser is wrapped in a {@link LineError} with the byte offset of the line; Rights are passed through.
+ * The mapping stays valid until the instance is garbage collected, independent of the file channel.
+ */
+public final class MappedLines {
+
+    /**
+     * The default chunk size, 4 MiB: large enough that per-chunk overhead is negligible, small enough to balance
+     * a few GiB over many cores.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 4 << 20;
+
+    private static final long REGION_SIZE = 1L << 30;
+
+    private static final long NEWLINES = 0x0A0A_0A0A_0A0A_0A0AL;
+    private static final long ONES = 0x0101_0101_0101_0101L;
+    private static final long HIGH_BITS = 0x8080_8080_8080_8080L;
+
+    /**
+     * A range of a mapped region that starts at the beginning of a line and ends after a line break or at the end of the file.
+     */
+    private record Chunk(ByteBuffer region, long regionOffset, int start, int end) {
+
+        <L, R> void forEachLine(Function<? super LineView, Either<L, R>> parser, Consumer<? super Either<LineError<L>, R>> sink) {
+            LineView line = new LineView(region, regionOffset);
+            int position = start;
+            while (position < end) {
+                int newline = indexOfNewline(region, position, end);
+                int lineEnd = newline < 0 ? end : newline;
+                int length = lineEnd - position;
+                if (length > 0 && region.get(lineEnd - 1) == '\r') {
+                    length--;
+                }
+                line.set(position, length);
+                sink.accept(withOffset(parser.apply(line), line.offset()));
+                position = lineEnd + 1;
+            }
+        }
+    }
+
+    private final long size;
+    private final Chunk[] chunks;
+
+    private MappedLines(long size, Chunk[] chunks) {
+        this.size = size;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Maps a file with the {@link #DEFAULT_CHUNK_SIZE}.
+     */
+    public static MappedLines open(Path file) throws IOException {
+        return open(file, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Maps a file and finds its chunk boundaries. Only the bytes around each boundary are read here.
+     *
+     * @param file      the file to read
+     * @param chunkSize the approximate number of bytes per chunk
+     * @return the mapped file
+     * @throws IOException if the file cannot be mapped, or a single line is longer than 1 GiB
+     */
+    public static MappedLines open(Path file, int chunkSize) throws IOException {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<Chunk> chunks = new ArrayList<>();
+            long position = 0;
+            while (position < size) {
+                long mapped = Math.min(REGION_SIZE, size - position);
+                ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, mapped).order(ByteOrder.LITTLE_ENDIAN);
+                int regionLength = (int) mapped;
+                if (position + mapped < size) {
+                    int lastNewline = lastIndexOfNewline(region, regionLength);
+                    if (lastNewline < 0) {
+                        throw new IOException("Line longer than " + REGION_SIZE + " bytes at offset " + position);
+                    }
+                    regionLength = lastNewline + 1;
+                }
+                addChunks(chunks, region, position, regionLength, chunkSize);
+                position += regionLength;
+            }
+            return new MappedLines(size, chunks.toArray(new Chunk[0]));
+        }
+    }
+
+    /**
+     * Returns the size of the file in bytes.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Parses every line in parallel, in no particular order. This is the fastest mode when the results are
+     * aggregated or their order does not matter.
+     *
+     * @param parser the parser for one line; called concurrently and must not keep the view
+     * @param <L>    the type of the parser's Left values
+     * @param <R>    the type of the parser's Right values
+     * @return a parallel, unordered stream with one result per line
+     */
+    public <L, R> Stream<Either<LineError<L>, R>> parse(Function<? super LineView, Either<L, R>> parser) {
+        return stream(Arrays.stream(chunks).parallel().unordered(), parser);
+    }
+
+    /**
+     * Parses every line in parallel, keeping file order as the encounter order, so that {@code toList()} or
+     * {@code forEachOrdered} see the results in the order of the lines.
+     *
+     * @param parser the parser for one line; called concurrently and must not keep the view
+     * @param <L>    the type of the parser's Left values
+     * @param <R>    the type of the parser's Right values
+     * @return a parallel, ordered stream with one result per line
+     */
+    public <L, R> Stream<Either<LineError<L>, R>> parseOrdered(Function<? super LineView, Either<L, R>> parser) {
+        return stream(Arrays.stream(chunks).parallel(), parser);
+    }
+
+    private static <L, R> Stream<Either<LineError<L>, R>> stream(Stream<Chunk> chunks, Function<? super LineView, Either<L, R>> parser) {
+        Objects.requireNonNull(parser);
+        return chunks.mapMulti((chunk, sink) -> chunk.forEachLine(parser, sink));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <L, R> Either<LineError<L>, R> withOffset(Either<L, R> parsed, long offset) {
+        return switch (parsed) {
+            case Right<L, R> right -> (Either<LineError<L>, R>) (Either<?, R>) right;
+            case Left<L, R>(L error) -> new Left<>(new LineError<>(offset, error));
+        };
+    }
+
+    private static void addChunks(List<Chunk> chunks, ByteBuffer region, long regionOffset, int length, int chunkSize) {
+        int start = 0;
+        while (start < length) {
+            int end = length;
+            if (length - start > chunkSize) {
+                int newline = indexOfNewline(region, start + chunkSize - 1, length);
+                if (newline >= 0) {
+                    end = newline + 1;
+                }
+            }
+            chunks.add(new Chunk(region, regionOffset, start, end));
+            start = end;
+        }
+    }
+
+    /**
+     * Finds the first {@code \n} in {@code [from, to)}, testing eight bytes per step: after XOR with a word of
+     * newlines, a matching byte is zero, and the lowest zero byte is the lowest byte whose high bit survives
+     * {@code (x - 0x01..) & ~x & 0x80..}. The buffer is little-endian, so the lowest byte comes first in the file.
+     */
+    static int indexOfNewline(ByteBuffer buffer, int from, int to) {
+        int i = from;
+        for (; i <= to - Long.BYTES; i += Long.BYTES) {
+            long x = buffer.getLong(i) ^ NEWLINES;
+            long found = (x - ONES) & ~x & HIGH_BITS;
+            if (found != 0) {
+                return i + (Long.numberOfTrailingZeros(found) >>> 3);
+            }
+        }
+        for (; i < to; i++) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOfNewline(ByteBuffer buffer, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
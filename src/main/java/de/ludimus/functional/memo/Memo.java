@@ -0,0 +1,307 @@
+package de.ludimus.functional.memo;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.option.Option;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * A concurrent, bounded memoizing wrapper around a function returning {@link Option} or {@link Either}.
+ * <ul>
+ *     <li>Reads of cached results are lock-free ({@link ConcurrentHashMap#get}) and only set a reference bit.</li>
+ *     <li>Concurrent misses for the same key load once; the other callers wait for that result (single flight).</li>
+ *     <li>The number of cached results is bounded by {@link Builder#maximumSize}, with CLOCK (second chance) eviction.</li>
+ *     <li>Negative results ({@code None}, {@code Left}) have their own time-to-live, see {@link Builder#negativeTtl}.</li>
+ * </ul>
+ * If the loader throws, nothing is cached and the exception is rethrown to every caller waiting for that load.
+ * A loader that looks up its own key in the same Memo gets an {@link IllegalStateException} instead of waiting
+ * for itself forever.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the memoized results
+ */
+public final class Memo<K, V> implements Function<K, V> {
+
+    private static final long NEVER = Long.MAX_VALUE;
+
+    /**
+     * Hit, miss and eviction counts of a Memo.
+     *
+     * @param hits      lookups answered from the cache, including callers that waited for another caller's load
+     * @param misses    lookups that ran the loader
+     * @param evictions results removed to respect the size bound
+     */
+    public record Stats(long hits, long misses, long evictions) {
+
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 1.0 : (double) hits / requests;
+        }
+    }
+
+    private static final class Node<K, V> {
+        final K key;
+        final CompletableFuture<V> loaded = new CompletableFuture<>();
+        /**
+         * The thread running the loader, cleared once the load completes.
+         */
+        volatile Thread owner = Thread.currentThread();
+        volatile long expiresAt;
+        volatile V value;
+        volatile boolean referenced;
+
+        Node(K key) {
+            this.key = key;
+        }
+    }
+
+    private final Function<? super K, ? extends V> loader;
+    private final Predicate<? super V> negative;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final LongSupplier ticker;
+
+    private final ConcurrentHashMap<K, Node<K, V>> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock clockLock = new ReentrantLock();
+    private final Node<K, V>[] clock;
+    private int hand;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    private Memo(Builder<K, V> builder) {
+        this.loader = builder.loader;
+        this.negative = builder.negative;
+        this.ttlNanos = builder.ttlNanos;
+        this.negativeTtlNanos = builder.negativeTtlNanos;
+        this.ticker = builder.ticker;
+        this.clock = (Node<K, V>[]) new Node<?, ?>[builder.maximumSize];
+    }
+
+    /**
+     * Memoizes an Option-returning function with the default settings of {@link #forOption}.
+     */
+    public static <K, V> Memo<K, Option<V>> of(Function<? super K, Option<V>> loader) {
+        return Memo.<K, V>forOption(loader).build();
+    }
+
+    /**
+     * Memoizes an Either-returning function with the default settings of {@link #forEither}.
+     */
+    public static <K, L, R> Memo<K, Either<L, R>> ofEither(Function<? super K, Either<L, R>> loader) {
+        return Memo.<K, L, R>forEither(loader).build();
+    }
+
+    /**
+     * Starts configuring a Memo for an Option-returning function, treating None as the negative result.
+     */
+    public static <K, V> Builder<K, Option<V>> forOption(Function<? super K, Option<V>> loader) {
+        return new Builder<>(loader, Option::isEmpty);
+    }
+
+    /**
+     * Starts configuring a Memo for an Either-returning function, treating Left as the negative result.
+     */
+    public static <K, L, R> Builder<K, Either<L, R>> forEither(Function<? super K, Either<L, R>> loader) {
+        return new Builder<>(loader, Either::isLeft);
+    }
+
+    /**
+     * Returns the memoized result for the key, loading it on a miss.
+     *
+     * @throws IllegalStateException if called by the loader for the key it is loading
+     */
+    @Override
+    public V apply(K key) {
+        Objects.requireNonNull(key);
+        while (true) {
+            Node<K, V> node = entries.get(key);
+            if (node == null) {
+                Node<K, V> created = new Node<>(key);
+                node = entries.putIfAbsent(key, created);
+                if (node == null) {
+                    misses.increment();
+                    return load(created);
+                }
+            }
+            V value = node.value;
+            if (value == null) {
+                if (node.owner == Thread.currentThread()) {
+                    throw new IllegalStateException("Memo loader depends on its own key: " + key);
+                }
+                hits.increment();
+                return await(node);
+            }
+            long expiresAt = node.expiresAt;
+            if (expiresAt == NEVER || ticker.getAsLong() - expiresAt < 0) {
+                if (!node.referenced) {
+                    node.referenced = true;
+                }
+                hits.increment();
+                return value;
+            }
+            entries.remove(key, node);
+        }
+    }
+
+    /**
+     * Removes the cached result for the key, if any.
+     */
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Returns the number of cached and in-flight results.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private V load(Node<K, V> node) {
+        V value;
+        try {
+            value = Objects.requireNonNull(loader.apply(node.key), "loader returned null");
+        } catch (RuntimeException | Error e) {
+            entries.remove(node.key, node);
+            node.owner = null;
+            node.loaded.completeExceptionally(e);
+            throw e;
+        }
+        long ttl = negative.test(value) ? negativeTtlNanos : ttlNanos;
+        if (ttl == 0) {
+            entries.remove(node.key, node);
+        } else {
+            node.expiresAt = ttl == NEVER ? NEVER : ticker.getAsLong() + ttl;
+            node.value = value;
+            admit(node);
+        }
+        node.owner = null;
+        node.loaded.complete(value);
+        return value;
+    }
+
+    private static <V> V await(Node<?, V> node) {
+        try {
+            return node.loaded.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Places a freshly loaded node on the clock. The hand skips slots whose node is no longer cached,
+     * gives referenced nodes a second chance by clearing their bit, and evicts the first unreferenced one.
+     * Only the loading path takes this lock; reads never do.
+     */
+    private void admit(Node<K, V> node) {
+        clockLock.lock();
+        try {
+            while (true) {
+                Node<K, V> current = clock[hand];
+                if (current != null && entries.get(current.key) == current) {
+                    if (current.referenced) {
+                        current.referenced = false;
+                        hand = (hand + 1) % clock.length;
+                        continue;
+                    }
+                    entries.remove(current.key, current);
+                    evictions.increment();
+                }
+                clock[hand] = node;
+                hand = (hand + 1) % clock.length;
+                return;
+            }
+        } finally {
+            clockLock.unlock();
+        }
+    }
+
+    /**
+     * Configures a {@link Memo}. By default at most 10,000 results are kept and results never expire.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the memoized results
+     */
+    public static final class Builder<K, V> {
+
+        private final Function<? super K, ? extends V> loader;
+        private final Predicate<? super V> negative;
+        private int maximumSize = 10_000;
+        private long ttlNanos = NEVER;
+        private long negativeTtlNanos = NEVER;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder(Function<? super K, ? extends V> loader, Predicate<? super V> negative) {
+            this.loader = Objects.requireNonNull(loader);
+            this.negative = negative;
+        }
+
+        /**
+         * Sets the maximum number of cached results.
+         */
+        public Builder<K, V> maximumSize(int maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets how long positive results (Some, Right) are cached.
+         */
+        public Builder<K, V> ttl(Duration ttl) {
+            this.ttlNanos = toNanos(ttl);
+            return this;
+        }
+
+        /**
+         * Sets how long negative results (None, Left) are cached. {@link Duration#ZERO} disables negative caching.
+         */
+        public Builder<K, V> negativeTtl(Duration ttl) {
+            this.negativeTtlNanos = toNanos(ttl);
+            return this;
+        }
+
+        /**
+         * Sets the nanosecond time source used for expiry, {@link System#nanoTime()} by default.
+         */
+        public Builder<K, V> ticker(LongSupplier ticker) {
+            this.ticker = Objects.requireNonNull(ticker);
+            return this;
+        }
+
+        public Memo<K, V> build() {
+            return new Memo<>(this);
+        }
+
+        private static long toNanos(Duration ttl) {
+            if (ttl.isNegative()) {
+                throw new IllegalArgumentException("ttl must not be negative: " + ttl);
+            }
+            return ttl.toNanos();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package de.ludimus.functional.metrics;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.Left;
+import de.ludimus.functional.either.Right;
+import de.ludimus.functional.option.None;
+import de.ludimus.functional.option.Option;
+import de.ludimus.functional.option.Some;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of one named call site: outcomes by kind, Left outcomes by the class of the Left value,
+ * and the latency of the instrumented computation. All counters are {@link LongAdder}s, which stripe
+ * concurrent updates over per-thread cells instead of contending on a single value.
+ */
+public final class CallSiteMetrics {
+
+    private final String name;
+    private final LongAdder rights = new LongAdder();
+    private final LongAdder lefts = new LongAdder();
+    private final LongAdder somes = new LongAdder();
+    private final LongAdder nones = new LongAdder();
+    private final ConcurrentHashMap<Class<?>, LongAdder> leftsByClass = new ConcurrentHashMap<>();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    CallSiteMetrics(String name) {
+        this.name = name;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public void record(Either<?, ?> outcome, long nanos) {
+        switch (outcome) {
+            case Right<?, ?> right -> rights.increment();
+            case Left<?, ?>(Object value) -> {
+                lefts.increment();
+                LongAdder byClass = leftsByClass.get(value.getClass());
+                if (byClass == null) {
+                    byClass = leftsByClass.computeIfAbsent(value.getClass(), type -> new LongAdder());
+                }
+                byClass.increment();
+            }
+        }
+        latency.record(nanos);
+    }
+
+    public void record(Option<?> outcome, long nanos) {
+        switch (outcome) {
+            case Some<?> some -> somes.increment();
+            case None<?> none -> nones.increment();
+        }
+        latency.record(nanos);
+    }
+
+    public CallSiteSnapshot snapshot() {
+        Map<String, Long> byClass = new TreeMap<>();
+        leftsByClass.forEach((type, count) -> byClass.put(type.getName(), count.sum()));
+        return new CallSiteSnapshot(name, rights.sum(), lefts.sum(), somes.sum(), nones.sum(), byClass, latency.snapshot());
+    }
+
+    void reset() {
+        rights.reset();
+        lefts.reset();
+        somes.reset();
+        nones.reset();
+        leftsByClass.clear();
+        latency.reset();
+    }
+}
@@ -0,0 +1,37 @@
+package de.ludimus.functional.metrics;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A point-in-time copy of the counters of one call site.
+ *
+ * @param name         the call site name
+ * @param rights       the number of Right outcomes
+ * @param lefts        the number of Left outcomes
+ * @param somes        the number of Some outcomes
+ * @param nones        the number of None outcomes
+ * @param leftsByClass the number of Left outcomes by the class name of the Left value
+ * @param latency      the latency distribution of the instrumented computations, in nanoseconds
+ */
+public record CallSiteSnapshot(String name, long rights, long lefts, long somes, long nones,
+                               Map<String, Long> leftsByClass, HistogramSnapshot latency) {
+
+    public CallSiteSnapshot {
+        Objects.requireNonNull(name);
+        leftsByClass = Map.copyOf(leftsByClass);
+        Objects.requireNonNull(latency);
+    }
+
+    public long total() {
+        return rights + lefts + somes + nones;
+    }
+
+    /**
+     * Returns the share of Left and None outcomes among all outcomes, or 0 if there were none.
+     */
+    public double failureRate() {
+        long total = total();
+        return total == 0 ? 0 : (double) (lefts + nones) / total;
+    }
+}
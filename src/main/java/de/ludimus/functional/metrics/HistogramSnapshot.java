@@ -0,0 +1,88 @@
+package de.ludimus.functional.metrics;
+
+import java.util.Arrays;
+
+/**
+ * A point-in-time copy of a {@link LatencyHistogram}.
+ */
+public final class HistogramSnapshot {
+
+    private final long[] counts;
+    private final long total;
+
+    HistogramSnapshot(long[] counts) {
+        this.counts = counts;
+        long sum = 0;
+        for (long count : counts) {
+            sum += count;
+        }
+        this.total = sum;
+    }
+
+    public long count() {
+        return total;
+    }
+
+    /**
+     * Returns an upper bound of the value at the given percentile, within the 12.5% precision of the buckets.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the highest value of the bucket holding the percentile, or 0 if nothing was recorded
+     */
+    public long valueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return LatencyHistogram.upperBound(i);
+            }
+        }
+        return LatencyHistogram.upperBound(counts.length - 1);
+    }
+
+    /**
+     * Returns an upper bound of the largest recorded value, or 0 if nothing was recorded.
+     */
+    public long max() {
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (counts[i] != 0) {
+                return LatencyHistogram.upperBound(i);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the number of values in each bucket, for exporters; see {@link #bucketLowerBound(int)}.
+     */
+    public long[] bucketCounts() {
+        return counts.clone();
+    }
+
+    public static long bucketLowerBound(int bucket) {
+        return LatencyHistogram.lowerBound(bucket);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof HistogramSnapshot other && Arrays.equals(counts, other.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+        return "HistogramSnapshot[count=" + total + ", p50=" + valueAtPercentile(50) + ", p99=" + valueAtPercentile(99)
+                + ", max=" + max() + "]";
+    }
+}
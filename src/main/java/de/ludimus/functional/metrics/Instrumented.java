@@ -0,0 +1,166 @@
+package de.ludimus.functional.metrics;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.option.Option;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Opt-in instrumentation of computations returning {@link Either} or {@link Option}.
+ * <p>
+ * Each instrumented call counts its outcome and records its latency under a call site name in a
+ * {@link MetricsRegistry}. While the registry is disabled, the computation runs directly after one volatile read.
+ * The decorating mappers resolve their call site once, when they are created; prefer them in hot paths
+ * over the supplier methods, which look the call site up on every enabled call.
+ */
+public final class Instrumented {
+
+    private Instrumented() {
+    }
+
+    /**
+     * Runs the supplier and records its outcome in the global registry.
+     *
+     * @param name     the call site name
+     * @param supplier the computation
+     * @param <L>      the type of Left value
+     * @param <R>      the type of Right value
+     * @return the result of the supplier
+     */
+    public static <L, R> Either<L, R> either(String name, Supplier<? extends Either<L, R>> supplier) {
+        return either(MetricsRegistry.global(), name, supplier);
+    }
+
+    /**
+     * Runs the supplier and records its outcome in the given registry.
+     *
+     * @param registry the registry to record in
+     * @param name     the call site name
+     * @param supplier the computation
+     * @param <L>      the type of Left value
+     * @param <R>      the type of Right value
+     * @return the result of the supplier
+     */
+    public static <L, R> Either<L, R> either(MetricsRegistry registry, String name, Supplier<? extends Either<L, R>> supplier) {
+        if (!registry.isEnabled()) {
+            return supplier.get();
+        }
+        long start = System.nanoTime();
+        Either<L, R> result = supplier.get();
+        registry.callSite(name).record(result, System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Runs the supplier and records its outcome in the global registry.
+     *
+     * @param name     the call site name
+     * @param supplier the computation
+     * @param <T>      the type of the value
+     * @return the result of the supplier
+     */
+    public static <T> Option<T> option(String name, Supplier<? extends Option<T>> supplier) {
+        return option(MetricsRegistry.global(), name, supplier);
+    }
+
+    /**
+     * Runs the supplier and records its outcome in the given registry.
+     *
+     * @param registry the registry to record in
+     * @param name     the call site name
+     * @param supplier the computation
+     * @param <T>      the type of the value
+     * @return the result of the supplier
+     */
+    public static <T> Option<T> option(MetricsRegistry registry, String name, Supplier<? extends Option<T>> supplier) {
+        if (!registry.isEnabled()) {
+            return supplier.get();
+        }
+        long start = System.nanoTime();
+        Option<T> result = supplier.get();
+        registry.callSite(name).record(result, System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Decorates a function returning an Either, recording every outcome in the global registry.
+     *
+     * @param name   the call site name
+     * @param mapper the function to decorate
+     * @param <T>    the type of the argument
+     * @param <L>    the type of Left value
+     * @param <R>    the type of Right value
+     * @return the decorated function
+     */
+    public static <T, L, R> Function<T, Either<L, R>> eitherMapper(String name, Function<? super T, ? extends Either<L, R>> mapper) {
+        return eitherMapper(MetricsRegistry.global(), name, mapper);
+    }
+
+    /**
+     * Decorates a function returning an Either, for use with {@code flatMapRight} or streams,
+     * recording every outcome in the given registry.
+     *
+     * @param registry the registry to record in
+     * @param name     the call site name
+     * @param mapper   the function to decorate
+     * @param <T>      the type of the argument
+     * @param <L>      the type of Left value
+     * @param <R>      the type of Right value
+     * @return the decorated function
+     */
+    public static <T, L, R> Function<T, Either<L, R>> eitherMapper(MetricsRegistry registry, String name,
+                                                                   Function<? super T, ? extends Either<L, R>> mapper) {
+        Objects.requireNonNull(mapper);
+        CallSiteMetrics metrics = registry.callSite(name);
+        return value -> {
+            if (!registry.isEnabled()) {
+                return mapper.apply(value);
+            }
+            long start = System.nanoTime();
+            Either<L, R> result = mapper.apply(value);
+            metrics.record(result, System.nanoTime() - start);
+            return result;
+        };
+    }
+
+    /**
+     * Decorates a function returning an Option, recording every outcome in the global registry.
+     *
+     * @param name   the call site name
+     * @param mapper the function to decorate
+     * @param <T>    the type of the argument
+     * @param <U>    the type of the value
+     * @return the decorated function
+     */
+    public static <T, U> Function<T, Option<U>> optionMapper(String name, Function<? super T, ? extends Option<U>> mapper) {
+        return optionMapper(MetricsRegistry.global(), name, mapper);
+    }
+
+    /**
+     * Decorates a function returning an Option, for use with {@code flatMap} or streams,
+     * recording every outcome in the given registry.
+     *
+     * @param registry the registry to record in
+     * @param name     the call site name
+     * @param mapper   the function to decorate
+     * @param <T>      the type of the argument
+     * @param <U>      the type of the value
+     * @return the decorated function
+     */
+    public static <T, U> Function<T, Option<U>> optionMapper(MetricsRegistry registry, String name,
+                                                            Function<? super T, ? extends Option<U>> mapper) {
+        Objects.requireNonNull(mapper);
+        CallSiteMetrics metrics = registry.callSite(name);
+        return value -> {
+            if (!registry.isEnabled()) {
+                return mapper.apply(value);
+            }
+            long start = System.nanoTime();
+            Option<U> result = mapper.apply(value);
+            metrics.record(result, System.nanoTime() - start);
+            return result;
+        };
+    }
+}
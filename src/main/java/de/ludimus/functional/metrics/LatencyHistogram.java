@@ -0,0 +1,62 @@
+package de.ludimus.functional.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent histogram of non-negative durations in nanoseconds with fixed, log-linear buckets, in the style
+ * of HdrHistogram: values below 8 have a bucket each, every power-of-two range above is split into 8 equal buckets.
+ * Any recorded value is therefore reported within 12.5% of its true size, over the full {@code long} range,
+ * with a fixed footprint and no resizing.
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKETS = 8;
+    static final int BUCKETS = (63 - 2) * SUB_BUCKETS;
+
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+
+    LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) Math.max(nanos, 0);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exponent - 3)) & (SUB_BUCKETS - 1);
+        return (exponent - 2) * SUB_BUCKETS + sub;
+    }
+
+    static long lowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + 2;
+        return (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - 3);
+    }
+
+    static long upperBound(int bucket) {
+        return bucket < SUB_BUCKETS ? bucket : lowerBound(bucket) + (1L << (bucket / SUB_BUCKETS - 1)) - 1;
+    }
+
+    public void record(long nanos) {
+        counts[bucketOf(nanos)].increment();
+    }
+
+    public HistogramSnapshot snapshot() {
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts[i].sum();
+        }
+        return new HistogramSnapshot(snapshot);
+    }
+
+    void reset() {
+        for (LongAdder count : counts) {
+            count.reset();
+        }
+    }
+}
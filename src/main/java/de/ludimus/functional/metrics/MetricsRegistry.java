@@ -0,0 +1,60 @@
+package de.ludimus.functional.metrics;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the {@link CallSiteMetrics} of named call sites and a switch for all instrumentation using this registry.
+ * A disabled registry costs the instrumented code a single volatile read per call.
+ * Registries start disabled.
+ */
+public final class MetricsRegistry {
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final ConcurrentHashMap<String, CallSiteMetrics> callSites = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+
+    /**
+     * Returns the registry used by the {@link Instrumented} methods without a registry parameter.
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the metrics of the named call site, creating them on first use.
+     */
+    public CallSiteMetrics callSite(String name) {
+        Objects.requireNonNull(name);
+        CallSiteMetrics metrics = callSites.get(name);
+        return metrics != null ? metrics : callSites.computeIfAbsent(name, CallSiteMetrics::new);
+    }
+
+    /**
+     * Returns a snapshot of every call site, by name. Counters are read one by one while they may still change,
+     * so a snapshot is not atomic across counters.
+     */
+    public Map<String, CallSiteSnapshot> snapshot() {
+        Map<String, CallSiteSnapshot> snapshot = new TreeMap<>();
+        callSites.forEach((name, metrics) -> snapshot.put(name, metrics.snapshot()));
+        return snapshot;
+    }
+
+    /**
+     * Sets every counter to zero. Call sites stay registered.
+     */
+    public void reset() {
+        callSites.values().forEach(CallSiteMetrics::reset);
+    }
+}
@@ -0,0 +1,42 @@
+package de.ludimus.functional.option;
+
+/**
+ * Helpers for the presence bitsets of the columnar option containers.
+ * Bits beyond the logical size are always kept clear, so population counts need no masking.
+ */
+final class Bits {
+
+    private Bits() {
+    }
+
+    static long[] create(int size) {
+        return new long[(size + 63) >>> 6];
+    }
+
+    static long[] allSet(int size) {
+        long[] words = create(size);
+        for (int i = 0; i < words.length; i++) {
+            words[i] = -1L;
+        }
+        if ((size & 63) != 0) {
+            words[words.length - 1] = (1L << size) - 1;
+        }
+        return words;
+    }
+
+    static boolean get(long[] words, int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    static void set(long[] words, int index) {
+        words[index >>> 6] |= 1L << index;
+    }
+
+    static int count(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
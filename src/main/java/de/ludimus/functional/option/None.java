@@ -7,6 +7,8 @@ import java.util.stream.Stream;
 
 public record None<T>() implements Option<T> {
 
+    static final None<?> INSTANCE = new None<>();
+
     @Override
     public boolean isPresent() {
         return false;
@@ -29,12 +31,12 @@ public record None<T>() implements Option<T> {
 
     @Override
     public <U> Option<U> map(Function<? super T, ? extends U> mapper) {
-        return new None<>();
+        return Option.none();
     }
 
     @Override
     public <U> Option<U> flatMap(Function<? super T, Option<U>> mapper) {
-        return new None<>();
+        return Option.none();
     }
 
     @Override
@@ -0,0 +1,73 @@
+package de.ludimus.functional.option;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+public record NoneDouble() implements OptionDouble {
+
+    static final NoneDouble INSTANCE = new NoneDouble();
+
+    @Override
+    public boolean isPresent() {
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return true;
+    }
+
+    @Override
+    public double get() {
+        throw new UnsupportedOperationException("No value present");
+    }
+
+    @Override
+    public void ifPresent(DoubleConsumer action) {
+        // Do nothing
+    }
+
+    @Override
+    public OptionDouble map(DoubleUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public <U> Option<U> mapToObj(DoubleFunction<? extends U> mapper) {
+        return Option.none();
+    }
+
+    @Override
+    public OptionDouble flatMap(DoubleFunction<OptionDouble> mapper) {
+        return this;
+    }
+
+    @Override
+    public double orElse(double other) {
+        return other;
+    }
+
+    @Override
+    public double orElseGet(DoubleSupplier supplier) {
+        return supplier.getAsDouble();
+    }
+
+    @Override
+    public <T> T fold(Supplier<? extends T> noneMapper, DoubleFunction<? extends T> someMapper) {
+        return noneMapper.get();
+    }
+
+    @Override
+    public DoubleStream stream() {
+        return DoubleStream.empty();
+    }
+
+    @Override
+    public Option<Double> toOption() {
+        return Option.none();
+    }
+}
@@ -0,0 +1,73 @@
+package de.ludimus.functional.option;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+public record NoneInt() implements OptionInt {
+
+    static final NoneInt INSTANCE = new NoneInt();
+
+    @Override
+    public boolean isPresent() {
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return true;
+    }
+
+    @Override
+    public int get() {
+        throw new UnsupportedOperationException("No value present");
+    }
+
+    @Override
+    public void ifPresent(IntConsumer action) {
+        // Do nothing
+    }
+
+    @Override
+    public OptionInt map(IntUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public <U> Option<U> mapToObj(IntFunction<? extends U> mapper) {
+        return Option.none();
+    }
+
+    @Override
+    public OptionInt flatMap(IntFunction<OptionInt> mapper) {
+        return this;
+    }
+
+    @Override
+    public int orElse(int other) {
+        return other;
+    }
+
+    @Override
+    public int orElseGet(IntSupplier supplier) {
+        return supplier.getAsInt();
+    }
+
+    @Override
+    public <T> T fold(Supplier<? extends T> noneMapper, IntFunction<? extends T> someMapper) {
+        return noneMapper.get();
+    }
+
+    @Override
+    public IntStream stream() {
+        return IntStream.empty();
+    }
+
+    @Override
+    public Option<Integer> toOption() {
+        return Option.none();
+    }
+}
@@ -0,0 +1,73 @@
+package de.ludimus.functional.option;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+public record NoneLong() implements OptionLong {
+
+    static final NoneLong INSTANCE = new NoneLong();
+
+    @Override
+    public boolean isPresent() {
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return true;
+    }
+
+    @Override
+    public long get() {
+        throw new UnsupportedOperationException("No value present");
+    }
+
+    @Override
+    public void ifPresent(LongConsumer action) {
+        // Do nothing
+    }
+
+    @Override
+    public OptionLong map(LongUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public <U> Option<U> mapToObj(LongFunction<? extends U> mapper) {
+        return Option.none();
+    }
+
+    @Override
+    public OptionLong flatMap(LongFunction<OptionLong> mapper) {
+        return this;
+    }
+
+    @Override
+    public long orElse(long other) {
+        return other;
+    }
+
+    @Override
+    public long orElseGet(LongSupplier supplier) {
+        return supplier.getAsLong();
+    }
+
+    @Override
+    public <T> T fold(Supplier<? extends T> noneMapper, LongFunction<? extends T> someMapper) {
+        return noneMapper.get();
+    }
+
+    @Override
+    public LongStream stream() {
+        return LongStream.empty();
+    }
+
+    @Override
+    public Option<Long> toOption() {
+        return Option.none();
+    }
+}
@@ -1,5 +1,11 @@
 package de.ludimus.functional.option;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -8,11 +14,75 @@ import java.util.stream.Stream;
 public sealed interface Option<T> permits Some, None {
 
     static <T> Option<T> of(T value) {
-        return value != null ? new Some<>(value) : new None<>();
+        return value != null ? new Some<>(value) : none();
     }
 
+    /**
+     * Like {@link #of}, but returns a shared Some for booleans, small integers, enum constants and values registered
+     * with {@link #registerCached}, so hot paths producing the same few values do not allocate.
+     * Callers must not rely on identity: other values still get a fresh Some.
+     *
+     * @param value the value, may be {@code null}
+     * @param <T>   the type of the value
+     * @return a possibly shared Some holding the value, or None if it is {@code null}
+     */
+    static <T> Option<T> ofCached(T value) {
+        return value != null ? SomeCache.of(value) : none();
+    }
+
+    /**
+     * Registers a value whose Some {@link #ofCached} should share. Registered values are kept for the lifetime
+     * of the JVM, so this is meant for a bounded set of common values such as status codes or currency names.
+     *
+     * @param value the value to register, which must be immutable
+     * @return {@code true} if the value is now shared, {@code false} if the registry is full
+     */
+    static boolean registerCached(Object value) {
+        return SomeCache.register(value);
+    }
+
+    @SuppressWarnings("unchecked")
     static <T> Option<T> none() {
-        return new None<>();
+        return (Option<T>) None.INSTANCE;
+    }
+
+    /**
+     * Turns a sequence of Options into a single Option holding all values in order.
+     * Iteration stops at the first None, which is returned as the result.
+     *
+     * @param options the Options to combine
+     * @param <T>     the type of the values
+     * @return None if any Option is empty, otherwise a Some containing an immutable list of all values
+     */
+    static <T> Option<List<T>> sequence(Iterable<? extends Option<T>> options) {
+        return traverse(options, Function.identity());
+    }
+
+    /**
+     * Applies an Option-returning function to every value, stopping at the first None.
+     * The result list is presized when the source reports an exact size and wraps the backing array without copying.
+     */
+    @SuppressWarnings("unchecked")
+    static <A, T> Option<List<T>> traverse(Iterable<? extends A> values, Function<? super A, Option<T>> mapper) {
+        Spliterator<? extends A> source = values.spliterator();
+        long exactSize = source.getExactSizeIfKnown();
+        Object[] results = new Object[exactSize >= 0 ? (int) exactSize : 16];
+        int size = 0;
+        for (Iterator<? extends A> iterator = Spliterators.iterator(source); iterator.hasNext(); ) {
+            switch (mapper.apply(iterator.next())) {
+                case None<T>() -> {
+                    return none();
+                }
+                case Some<T>(T value) -> {
+                    if (size == results.length) {
+                        results = Arrays.copyOf(results, Math.max(16, size + (size >> 1)));
+                    }
+                    results[size++] = value;
+                }
+            }
+        }
+        List<Object> list = Arrays.asList(results);
+        return new Some<>(Collections.unmodifiableList((List<T>) (size == results.length ? list : list.subList(0, size))));
     }
 
     boolean isPresent();
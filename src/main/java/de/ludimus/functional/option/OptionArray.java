@@ -0,0 +1,149 @@
+package de.ludimus.functional.option;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An immutable, columnar sequence of {@link Option} values.
+ * Presence is stored in a bitset next to a plain value array, so a million entries cost
+ * one array slot and one bit each instead of one {@link Some} record per present value.
+ * Bulk operations run over the columns directly; {@link #get(int)} materializes a single Option on demand.
+ *
+ * @param <T> the type of the values
+ */
+public final class OptionArray<T> {
+
+    private final long[] present;
+    private final Object[] values;
+
+    OptionArray(long[] present, Object[] values) {
+        this.present = present;
+        this.values = values;
+    }
+
+    /**
+     * Creates an OptionArray from a list of Options.
+     *
+     * @param options the Options, in order
+     * @param <T>     the type of the values
+     * @return an OptionArray holding the same values
+     */
+    public static <T> OptionArray<T> from(List<? extends Option<T>> options) {
+        long[] present = Bits.create(options.size());
+        Object[] values = new Object[options.size()];
+        int i = 0;
+        for (Option<T> option : options) {
+            if (option instanceof Some<T>(T value)) {
+                Bits.set(present, i);
+                values[i] = value;
+            }
+            i++;
+        }
+        return new OptionArray<>(present, values);
+    }
+
+    /**
+     * Creates an OptionArray from an array in which {@code null} marks an absent value.
+     *
+     * @param values the values, copied
+     * @param <T>    the type of the values
+     * @return an OptionArray with a present value for every non-null element
+     */
+    public static <T> OptionArray<T> ofNullable(T[] values) {
+        Object[] copy = Arrays.copyOf(values, values.length, Object[].class);
+        long[] present = Bits.create(copy.length);
+        for (int i = 0; i < copy.length; i++) {
+            if (copy[i] != null) {
+                Bits.set(present, i);
+            }
+        }
+        return new OptionArray<>(present, copy);
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isPresent(int index) {
+        Objects.checkIndex(index, values.length);
+        return Bits.get(present, index);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Option<T> get(int index) {
+        return isPresent(index) ? new Some<>((T) values[index]) : Option.none();
+    }
+
+    public int countPresent() {
+        return Bits.count(present);
+    }
+
+    public int countEmpty() {
+        return values.length - Bits.count(present);
+    }
+
+    /**
+     * Applies a function to every present value. A {@code null} result makes that position absent, as in {@link Option#map}.
+     */
+    @SuppressWarnings("unchecked")
+    public <U> OptionArray<U> map(Function<? super T, ? extends U> mapper) {
+        long[] mappedPresent = present.clone();
+        Object[] mapped = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (Bits.get(present, i)) {
+                U value = mapper.apply((T) values[i]);
+                if (value == null) {
+                    mappedPresent[i >>> 6] &= ~(1L << i);
+                }
+                mapped[i] = value;
+            }
+        }
+        return new OptionArray<>(mappedPresent, mapped);
+    }
+
+    /**
+     * Makes every present value that does not match the predicate absent. Positions are preserved
+     * and the value column is shared with this instance.
+     */
+    @SuppressWarnings("unchecked")
+    public OptionArray<T> filter(Predicate<? super T> predicate) {
+        long[] filtered = present.clone();
+        for (int i = 0; i < values.length; i++) {
+            if (Bits.get(present, i) && !predicate.test((T) values[i])) {
+                filtered[i >>> 6] &= ~(1L << i);
+            }
+        }
+        return new OptionArray<>(filtered, values);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <A> A fold(A identity, BiFunction<A, ? super T, A> accumulator) {
+        A result = identity;
+        for (int i = 0; i < values.length; i++) {
+            if (Bits.get(present, i)) {
+                result = accumulator.apply(result, (T) values[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the present values, in order.
+     */
+    @SuppressWarnings("unchecked")
+    public Stream<T> stream() {
+        return IntStream.range(0, values.length)
+                .filter(i -> Bits.get(present, i))
+                .mapToObj(i -> (T) values[i]);
+    }
+
+    public List<Option<T>> toList() {
+        return IntStream.range(0, values.length).mapToObj(this::get).toList();
+    }
+}
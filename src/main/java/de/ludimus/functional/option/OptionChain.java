@@ -0,0 +1,67 @@
+package de.ludimus.functional.option;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+record OptionChain<In, Out>(PipelineStage last, MethodHandle chain) implements OptionPipeline<In, Out> {
+
+    private static final MethodHandle NONE = PipelineStage.constant(Object.class, None.INSTANCE);
+
+    static final OptionPipeline<?, ?> START = new OptionChain<>(null, PipelineStage.SOME);
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> OptionPipeline<In, U> map(Function<? super Out, ? extends U> mapper) {
+        return append(PipelineStage.MAP, (Function<Object, Object>) Objects.requireNonNull(mapper), null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> OptionPipeline<In, U> flatMap(Function<? super Out, Option<U>> mapper) {
+        return append(PipelineStage.FLAT_MAP, (Function<Object, Object>) (Function<?, ?>) Objects.requireNonNull(mapper), null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public OptionPipeline<In, Out> filter(Predicate<? super Out> predicate) {
+        return append(PipelineStage.FILTER, null, (Predicate<Object>) Objects.requireNonNull(predicate));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public OptionLongPipeline<In> mapToLong(ToLongFunction<? super Out> mapper) {
+        return OptionLongChain.start(last, (ToLongFunction<Object>) Objects.requireNonNull(mapper));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Option<Out> apply(In input) {
+        return input == null ? Option.none() : (Option<Out>) PipelineStage.invoke(chain, input);
+    }
+
+    @Override
+    public Option<Out> applyTo(Option<? extends In> option) {
+        return option instanceof Some<? extends In>(In value) ? apply(value) : Option.none();
+    }
+
+    @Override
+    public OptionArray<Out> applyAll(In[] inputs) {
+        long[] present = Bits.create(inputs.length);
+        Object[] values = new Object[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            if (inputs[i] != null && PipelineStage.invoke(chain, inputs[i]) instanceof Some<?>(Object value)) {
+                Bits.set(present, i);
+                values[i] = value;
+            }
+        }
+        return new OptionArray<>(present, values);
+    }
+
+    private <U> OptionPipeline<In, U> append(int kind, Function<Object, Object> function, Predicate<Object> predicate) {
+        PipelineStage stage = new PipelineStage(last, kind, function, predicate);
+        return new OptionChain<>(stage, PipelineStage.compile(stage, PipelineStage.SOME, NONE));
+    }
+}
@@ -0,0 +1,54 @@
+package de.ludimus.functional.option;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+/**
+ * A primitive specialization of {@link Option} for {@code double} values.
+ * The value is held unboxed, so creating and mapping an OptionDouble never allocates a {@link Double}.
+ */
+public sealed interface OptionDouble permits SomeDouble, NoneDouble {
+
+    static OptionDouble of(double value) {
+        return new SomeDouble(value);
+    }
+
+    static OptionDouble none() {
+        return NoneDouble.INSTANCE;
+    }
+
+    static OptionDouble fromOption(Option<Double> option) {
+        return switch (option) {
+            case Some<Double>(Double value) -> new SomeDouble(value);
+            case None<Double>() -> none();
+        };
+    }
+
+    boolean isPresent();
+
+    boolean isEmpty();
+
+    double get();
+
+    void ifPresent(DoubleConsumer action);
+
+    OptionDouble map(DoubleUnaryOperator mapper);
+
+    <U> Option<U> mapToObj(DoubleFunction<? extends U> mapper);
+
+    OptionDouble flatMap(DoubleFunction<OptionDouble> mapper);
+
+    double orElse(double other);
+
+    double orElseGet(DoubleSupplier supplier);
+
+    <T> T fold(Supplier<? extends T> noneMapper, DoubleFunction<? extends T> someMapper);
+
+    DoubleStream stream();
+
+    Option<Double> toOption();
+}
@@ -0,0 +1,54 @@
+package de.ludimus.functional.option;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * A primitive specialization of {@link Option} for {@code int} values.
+ * The value is held unboxed, so creating and mapping an OptionInt never allocates an {@link Integer}.
+ */
+public sealed interface OptionInt permits SomeInt, NoneInt {
+
+    static OptionInt of(int value) {
+        return new SomeInt(value);
+    }
+
+    static OptionInt none() {
+        return NoneInt.INSTANCE;
+    }
+
+    static OptionInt fromOption(Option<Integer> option) {
+        return switch (option) {
+            case Some<Integer>(Integer value) -> new SomeInt(value);
+            case None<Integer>() -> none();
+        };
+    }
+
+    boolean isPresent();
+
+    boolean isEmpty();
+
+    int get();
+
+    void ifPresent(IntConsumer action);
+
+    OptionInt map(IntUnaryOperator mapper);
+
+    <U> Option<U> mapToObj(IntFunction<? extends U> mapper);
+
+    OptionInt flatMap(IntFunction<OptionInt> mapper);
+
+    int orElse(int other);
+
+    int orElseGet(IntSupplier supplier);
+
+    <T> T fold(Supplier<? extends T> noneMapper, IntFunction<? extends T> someMapper);
+
+    IntStream stream();
+
+    Option<Integer> toOption();
+}
@@ -0,0 +1,54 @@
+package de.ludimus.functional.option;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * A primitive specialization of {@link Option} for {@code long} values.
+ * The value is held unboxed, so creating and mapping an OptionLong never allocates a {@link Long}.
+ */
+public sealed interface OptionLong permits SomeLong, NoneLong {
+
+    static OptionLong of(long value) {
+        return new SomeLong(value);
+    }
+
+    static OptionLong none() {
+        return NoneLong.INSTANCE;
+    }
+
+    static OptionLong fromOption(Option<Long> option) {
+        return switch (option) {
+            case Some<Long>(Long value) -> new SomeLong(value);
+            case None<Long>() -> none();
+        };
+    }
+
+    boolean isPresent();
+
+    boolean isEmpty();
+
+    long get();
+
+    void ifPresent(LongConsumer action);
+
+    OptionLong map(LongUnaryOperator mapper);
+
+    <U> Option<U> mapToObj(LongFunction<? extends U> mapper);
+
+    OptionLong flatMap(LongFunction<OptionLong> mapper);
+
+    long orElse(long other);
+
+    long orElseGet(LongSupplier supplier);
+
+    <T> T fold(Supplier<? extends T> noneMapper, LongFunction<? extends T> someMapper);
+
+    LongStream stream();
+
+    Option<Long> toOption();
+}
@@ -0,0 +1,152 @@
+package de.ludimus.functional.option;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * An immutable, columnar sequence of {@link OptionLong} values: a presence bitset next to a {@code long[]}.
+ * Absent positions hold zero in the value column.
+ * <p>
+ * When every position is present, {@link #map} runs a branch-free loop over the value column
+ * that the JIT can unroll and vectorize; otherwise only present positions are mapped.
+ */
+public final class OptionLongArray {
+
+    private final long[] present;
+    private final long[] values;
+    private final int presentCount;
+
+    OptionLongArray(long[] present, long[] values) {
+        this.present = present;
+        this.values = values;
+        this.presentCount = Bits.count(present);
+    }
+
+    /**
+     * Creates an OptionLongArray in which every value is present.
+     *
+     * @param values the values, copied
+     * @return an OptionLongArray holding the values
+     */
+    public static OptionLongArray of(long... values) {
+        return new OptionLongArray(Bits.allSet(values.length), values.clone());
+    }
+
+    /**
+     * Creates an OptionLongArray from a list of OptionLongs.
+     *
+     * @param options the OptionLongs, in order
+     * @return an OptionLongArray holding the same values
+     */
+    public static OptionLongArray from(List<OptionLong> options) {
+        long[] present = Bits.create(options.size());
+        long[] values = new long[options.size()];
+        int i = 0;
+        for (OptionLong option : options) {
+            if (option instanceof SomeLong(long value)) {
+                Bits.set(present, i);
+                values[i] = value;
+            }
+            i++;
+        }
+        return new OptionLongArray(present, values);
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isPresent(int index) {
+        Objects.checkIndex(index, values.length);
+        return Bits.get(present, index);
+    }
+
+    public OptionLong get(int index) {
+        return isPresent(index) ? new SomeLong(values[index]) : OptionLong.none();
+    }
+
+    public int countPresent() {
+        return presentCount;
+    }
+
+    public int countEmpty() {
+        return values.length - presentCount;
+    }
+
+    public OptionLongArray map(LongUnaryOperator mapper) {
+        long[] mapped = new long[values.length];
+        if (presentCount == values.length) {
+            for (int i = 0; i < values.length; i++) {
+                mapped[i] = mapper.applyAsLong(values[i]);
+            }
+        } else {
+            for (int i = 0; i < values.length; i++) {
+                if (Bits.get(present, i)) {
+                    mapped[i] = mapper.applyAsLong(values[i]);
+                }
+            }
+        }
+        return new OptionLongArray(present, mapped);
+    }
+
+    /**
+     * Makes every present value that does not match the predicate absent.
+     */
+    public OptionLongArray filter(LongPredicate predicate) {
+        long[] filtered = present.clone();
+        long[] kept = values.clone();
+        for (int i = 0; i < values.length; i++) {
+            if (Bits.get(present, i) && !predicate.test(values[i])) {
+                filtered[i >>> 6] &= ~(1L << i);
+                kept[i] = 0;
+            }
+        }
+        return new OptionLongArray(filtered, kept);
+    }
+
+    public long fold(long identity, LongBinaryOperator accumulator) {
+        long result = identity;
+        if (presentCount == values.length) {
+            for (long value : values) {
+                result = accumulator.applyAsLong(result, value);
+            }
+        } else {
+            for (int i = 0; i < values.length; i++) {
+                if (Bits.get(present, i)) {
+                    result = accumulator.applyAsLong(result, values[i]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the sum of the present values. Absent positions hold zero, so this is a plain loop over the value column.
+     */
+    public long sum() {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the present values, in order.
+     */
+    public LongStream stream() {
+        return presentCount == values.length
+                ? Arrays.stream(values)
+                : IntStream.range(0, values.length).filter(i -> Bits.get(present, i)).mapToLong(i -> values[i]);
+    }
+
+    public List<OptionLong> toList() {
+        return IntStream.range(0, values.length).mapToObj(this::get).toList();
+    }
+}
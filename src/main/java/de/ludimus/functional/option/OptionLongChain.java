@@ -0,0 +1,89 @@
+package de.ludimus.functional.option;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Objects;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+record OptionLongChain<In>(PipelineStage prefix, ToLongFunction<Object> toLong, LongStage last, MethodHandle chain)
+        implements OptionLongPipeline<In> {
+
+    /**
+     * One recorded primitive stage: a map if {@code predicate} is {@code null}, a filter otherwise.
+     */
+    record LongStage(LongStage previous, LongUnaryOperator operator, LongPredicate predicate) {
+    }
+
+    private static final MethodHandle TO_LONG;
+    private static final MethodHandle APPLY_AS_LONG;
+    private static final MethodHandle TEST;
+    private static final MethodHandle SOME_LONG;
+    private static final MethodHandle NONE = PipelineStage.constant(Object.class, NoneLong.INSTANCE);
+    private static final MethodHandle NONE_LONG = PipelineStage.constant(long.class, NoneLong.INSTANCE);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TO_LONG = lookup.findVirtual(ToLongFunction.class, "applyAsLong", MethodType.methodType(long.class, Object.class));
+            APPLY_AS_LONG = lookup.findVirtual(LongUnaryOperator.class, "applyAsLong", MethodType.methodType(long.class, long.class));
+            TEST = lookup.findVirtual(LongPredicate.class, "test", MethodType.methodType(boolean.class, long.class));
+            SOME_LONG = lookup.findStatic(OptionLongChain.class, "someLong", MethodType.methodType(Object.class, long.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    static <In> OptionLongPipeline<In> start(PipelineStage prefix, ToLongFunction<Object> toLong) {
+        return new OptionLongChain<>(prefix, toLong, null, compile(prefix, toLong, null));
+    }
+
+    private static MethodHandle compile(PipelineStage prefix, ToLongFunction<Object> toLong, LongStage last) {
+        MethodHandle chain = SOME_LONG;
+        for (LongStage stage = last; stage != null; stage = stage.previous()) {
+            chain = stage.predicate() == null
+                    ? MethodHandles.filterArguments(chain, 0, APPLY_AS_LONG.bindTo(stage.operator()))
+                    : MethodHandles.guardWithTest(TEST.bindTo(stage.predicate()), chain, NONE_LONG);
+        }
+        chain = MethodHandles.filterArguments(chain, 0, TO_LONG.bindTo(toLong));
+        return PipelineStage.compile(prefix, chain, NONE);
+    }
+
+    @Override
+    public OptionLongPipeline<In> map(LongUnaryOperator mapper) {
+        return append(new LongStage(last, Objects.requireNonNull(mapper), null));
+    }
+
+    @Override
+    public OptionLongPipeline<In> filter(LongPredicate predicate) {
+        return append(new LongStage(last, null, Objects.requireNonNull(predicate)));
+    }
+
+    @Override
+    public OptionLong apply(In input) {
+        return input == null ? OptionLong.none() : (OptionLong) PipelineStage.invoke(chain, input);
+    }
+
+    @Override
+    public OptionLongArray applyAll(In[] inputs) {
+        long[] present = Bits.create(inputs.length);
+        long[] values = new long[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            if (inputs[i] != null && PipelineStage.invoke(chain, inputs[i]) instanceof SomeLong(long value)) {
+                Bits.set(present, i);
+                values[i] = value;
+            }
+        }
+        return new OptionLongArray(present, values);
+    }
+
+    private OptionLongPipeline<In> append(LongStage stage) {
+        return new OptionLongChain<>(prefix, toLong, stage, compile(prefix, toLong, stage));
+    }
+
+    private static Object someLong(long value) {
+        return new SomeLong(value);
+    }
+}
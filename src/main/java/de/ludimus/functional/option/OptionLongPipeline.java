@@ -0,0 +1,45 @@
+package de.ludimus.functional.option;
+
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * The primitive continuation of an {@link OptionPipeline}, created by {@link OptionPipeline#mapToLong}.
+ * Values stay unboxed through every stage and the result is an {@link OptionLong}.
+ *
+ * @param <In> the type of the input
+ */
+public sealed interface OptionLongPipeline<In> permits OptionLongChain {
+
+    /**
+     * Adds a mapping stage.
+     *
+     * @param mapper the function to apply to the value
+     * @return a new pipeline with the stage added
+     */
+    OptionLongPipeline<In> map(LongUnaryOperator mapper);
+
+    /**
+     * Adds a stage that stops with None when the value does not match the predicate.
+     *
+     * @param predicate the predicate to test the value against
+     * @return a new pipeline with the stage added
+     */
+    OptionLongPipeline<In> filter(LongPredicate predicate);
+
+    /**
+     * Runs the pipeline on one input. A {@code null} input gives None.
+     *
+     * @param input the input
+     * @return a SomeLong of the output value, or None if a stage stopped
+     */
+    OptionLong apply(In input);
+
+    /**
+     * Runs the pipeline on every input, writing the results into the columns of an OptionLongArray.
+     *
+     * @param inputs the inputs; {@code null} elements give absent positions
+     * @return the results, in input order
+     */
+    OptionLongArray applyAll(In[] inputs);
+}
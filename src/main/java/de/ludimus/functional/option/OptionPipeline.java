@@ -0,0 +1,92 @@
+package de.ludimus.functional.option;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * A reusable chain of {@link Option} stages, built once and applied to many inputs.
+ * <p>
+ * Applying {@code map(f).map(g)} to a {@link Some} allocates an intermediate Some per stage unless the JIT manages to
+ * inline the whole chain. A pipeline records the stages instead and compiles them into one composed function when it
+ * is built, so applying it allocates no Option between stages: only the final {@link Some}, or nothing at all for None.
+ * Keep pipelines in {@code static final} fields: the JIT then inlines every stage of the composed function into the caller.
+ * <p>
+ * {@link #applyAll} writes straight into an {@link OptionArray}, and {@link #mapToLong} continues on unboxed
+ * {@code long} values. Pipelines are immutable and safe to share between threads.
+ *
+ * @param <In>  the type of the input
+ * @param <Out> the type of the output value
+ */
+public sealed interface OptionPipeline<In, Out> extends Function<In, Option<Out>> permits OptionChain {
+
+    /**
+     * Returns the empty pipeline, which maps every non-null input to a Some of itself.
+     *
+     * @param <T> the type of the input
+     * @return the empty pipeline
+     */
+    @SuppressWarnings("unchecked")
+    static <T> OptionPipeline<T, T> start() {
+        return (OptionPipeline<T, T>) OptionChain.START;
+    }
+
+    /**
+     * Adds a mapping stage. A {@code null} result stops the pipeline with None, as in {@link Option#map}.
+     *
+     * @param mapper the function to apply to the value
+     * @param <U>    the type of the new value
+     * @return a new pipeline with the stage added
+     */
+    <U> OptionPipeline<In, U> map(Function<? super Out, ? extends U> mapper);
+
+    /**
+     * Adds a stage that continues with the value of the Option returned by the mapper, or stops on None.
+     *
+     * @param mapper the function returning an Option
+     * @param <U>    the type of the new value
+     * @return a new pipeline with the stage added
+     */
+    <U> OptionPipeline<In, U> flatMap(Function<? super Out, Option<U>> mapper);
+
+    /**
+     * Adds a stage that stops with None when the value does not match the predicate.
+     *
+     * @param predicate the predicate to test the value against
+     * @return a new pipeline with the stage added
+     */
+    OptionPipeline<In, Out> filter(Predicate<? super Out> predicate);
+
+    /**
+     * Continues the pipeline on unboxed {@code long} values.
+     *
+     * @param mapper the function converting the value to a long
+     * @return a primitive pipeline starting with the stages of this pipeline
+     */
+    OptionLongPipeline<In> mapToLong(ToLongFunction<? super Out> mapper);
+
+    /**
+     * Runs the pipeline on one input. A {@code null} input gives None.
+     *
+     * @param input the input
+     * @return a Some of the output value, or None if a stage stopped
+     */
+    @Override
+    Option<Out> apply(In input);
+
+    /**
+     * Runs the pipeline on the value of an Option. None is returned as is.
+     *
+     * @param option the input Option
+     * @return a Some of the output value, or None
+     */
+    Option<Out> applyTo(Option<? extends In> option);
+
+    /**
+     * Runs the pipeline on every input, writing the results into the columns of an OptionArray.
+     *
+     * @param inputs the inputs; {@code null} elements give absent positions
+     * @return the results, in input order
+     */
+    OptionArray<Out> applyAll(In[] inputs);
+}
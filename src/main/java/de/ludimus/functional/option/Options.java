@@ -0,0 +1,114 @@
+package de.ludimus.functional.option;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Static counterparts of the {@link Option} operations, dispatching with a {@code switch} over the sealed
+ * {@code Some}/{@code None} hierarchy instead of an interface call.
+ * <p>
+ * {@code option.map(f)} is one call site for every Option in the application, so its profile soon sees both
+ * records and every mapper class. A static method here is small enough to be inlined into each caller, where the
+ * type test and the mapper call are compiled against that caller's own types; with a constant mapper the call
+ * is bound directly and the chain folds into straight-line code.
+ */
+public final class Options {
+
+    private Options() {
+    }
+
+    /**
+     * Same as {@link Option#map}.
+     *
+     * @param option the Option to map
+     * @param mapper the function to apply to a present value; a {@code null} result gives None
+     * @param <T>    the type of the value
+     * @param <U>    the type of the resulting value
+     * @return an Option with the mapped value, or None
+     */
+    public static <T, U> Option<U> map(Option<T> option, Function<? super T, ? extends U> mapper) {
+        return switch (option) {
+            case Some<T>(T value) -> Option.of(mapper.apply(value));
+            case None<T> none -> Option.none();
+        };
+    }
+
+    /**
+     * Same as {@link Option#flatMap}.
+     *
+     * @param option the Option to map
+     * @param mapper the function to apply to a present value
+     * @param <T>    the type of the value
+     * @param <U>    the type of the resulting value
+     * @return the Option returned by the mapper, or None
+     */
+    public static <T, U> Option<U> flatMap(Option<T> option, Function<? super T, Option<U>> mapper) {
+        return switch (option) {
+            case Some<T>(T value) -> mapper.apply(value);
+            case None<T> none -> Option.none();
+        };
+    }
+
+    /**
+     * Keeps a present value only if it matches the predicate.
+     *
+     * @param option    the Option to filter
+     * @param predicate the condition a present value must satisfy
+     * @param <T>       the type of the value
+     * @return the Option itself if its value matches, otherwise None
+     */
+    public static <T> Option<T> filter(Option<T> option, Predicate<? super T> predicate) {
+        return switch (option) {
+            case Some<T>(T value) -> predicate.test(value) ? option : Option.none();
+            case None<T> none -> none;
+        };
+    }
+
+    /**
+     * Applies one of two functions depending on whether a value is present.
+     *
+     * @param option    the Option to fold
+     * @param ifEmpty   supplies the result for None
+     * @param ifPresent the function to apply to a present value
+     * @param <T>       the type of the value
+     * @param <U>       the type of the result
+     * @return the result of the applied function
+     */
+    public static <T, U> U fold(Option<T> option, Supplier<? extends U> ifEmpty, Function<? super T, ? extends U> ifPresent) {
+        return switch (option) {
+            case Some<T>(T value) -> ifPresent.apply(value);
+            case None<T> none -> ifEmpty.get();
+        };
+    }
+
+    /**
+     * Same as {@link Option#orElse}.
+     */
+    public static <T> T orElse(Option<T> option, T other) {
+        return switch (option) {
+            case Some<T>(T value) -> value;
+            case None<T> none -> other;
+        };
+    }
+
+    /**
+     * Same as {@link Option#orElseGet}.
+     */
+    public static <T> T orElseGet(Option<T> option, Supplier<? extends T> supplier) {
+        return switch (option) {
+            case Some<T>(T value) -> value;
+            case None<T> none -> supplier.get();
+        };
+    }
+
+    /**
+     * Same as {@link Option#ifPresent}.
+     */
+    public static <T> void ifPresent(Option<T> option, Consumer<? super T> action) {
+        if (option instanceof Some<T>(T value)) {
+            action.accept(value);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package de.ludimus.functional.option;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * One recorded stage of an {@link OptionPipeline}, linked to the stage before it.
+ * <p>
+ * {@link #compile} turns the stages into a single method handle of type {@code (Object)Object}, built back to front so
+ * every stage calls the next one directly and None returns straight out of the chain. Method handles reached through a
+ * constant are inlined by the JIT as a whole, with every mapper bound as a constant receiver.
+ */
+record PipelineStage(PipelineStage previous, int kind, Function<Object, Object> function, Predicate<Object> predicate) {
+
+    static final int MAP = 0;
+    static final int FLAT_MAP = 1;
+    static final int FILTER = 2;
+
+    private static final MethodHandle APPLY;
+    private static final MethodHandle TEST;
+    private static final MethodHandle IS_NULL;
+    private static final MethodHandle IS_SOME;
+    private static final MethodHandle SOME_VALUE;
+    static final MethodHandle SOME;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodType unary = MethodType.methodType(Object.class, Object.class);
+            MethodType test = MethodType.methodType(boolean.class, Object.class);
+            APPLY = lookup.findVirtual(Function.class, "apply", unary);
+            TEST = lookup.findVirtual(Predicate.class, "test", test);
+            IS_NULL = lookup.findStatic(PipelineStage.class, "isNull", test);
+            IS_SOME = lookup.findStatic(PipelineStage.class, "isSome", test);
+            SOME_VALUE = lookup.findStatic(PipelineStage.class, "someValue", unary);
+            SOME = lookup.findStatic(PipelineStage.class, "some", unary);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Returns a handle of the given parameter type that ignores its argument and returns {@code none}.
+     */
+    static MethodHandle constant(Class<?> parameterType, Object none) {
+        return MethodHandles.dropArguments(MethodHandles.constant(Object.class, none), 0, parameterType);
+    }
+
+    /**
+     * Compiles the stages ending in {@code last} in front of {@code terminal}.
+     *
+     * @param last     the last stage, or {@code null} for none
+     * @param terminal the handle receiving the output value, {@code (Object)Object}
+     * @param none     the handle producing the result when a stage stops, {@code (Object)Object}
+     * @return the compiled chain, {@code (Object)Object}
+     */
+    static MethodHandle compile(PipelineStage last, MethodHandle terminal, MethodHandle none) {
+        MethodHandle chain = terminal;
+        for (PipelineStage stage = last; stage != null; stage = stage.previous) {
+            chain = switch (stage.kind) {
+                case MAP -> MethodHandles.filterArguments(MethodHandles.guardWithTest(IS_NULL, none, chain),
+                        0, APPLY.bindTo(stage.function));
+                case FLAT_MAP -> MethodHandles.filterArguments(
+                        MethodHandles.guardWithTest(IS_SOME, MethodHandles.filterArguments(chain, 0, SOME_VALUE), none),
+                        0, APPLY.bindTo(stage.function));
+                default -> MethodHandles.guardWithTest(TEST.bindTo(stage.predicate), chain, none);
+            };
+        }
+        return chain;
+    }
+
+    static Object invoke(MethodHandle chain, Object value) {
+        try {
+            return (Object) chain.invokeExact(value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    private static boolean isNull(Object value) {
+        return value == null;
+    }
+
+    private static boolean isSome(Object option) {
+        return option instanceof Some<?>;
+    }
+
+    private static Object someValue(Object some) {
+        return ((Some<?>) some).value();
+    }
+
+    private static Object some(Object value) {
+        return new Some<>(value);
+    }
+}
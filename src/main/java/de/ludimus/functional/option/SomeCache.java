@@ -0,0 +1,24 @@
+package de.ludimus.functional.option;
+
+import de.ludimus.functional.collect.InternCache;
+
+/**
+ * The shared Some instances behind {@link Option#ofCached} and {@link Option#registerCached}.
+ */
+final class SomeCache {
+
+    private static final InternCache<Some<?>> CACHE = InternCache.fromSystemProperties(Some::new);
+
+    private SomeCache() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Some<T> of(T value) {
+        Some<?> cached = CACHE.get(value);
+        return cached != null ? (Some<T>) cached : new Some<>(value);
+    }
+
+    static boolean register(Object value) {
+        return CACHE.register(value);
+    }
+}
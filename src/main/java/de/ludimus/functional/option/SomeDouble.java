@@ -0,0 +1,71 @@
+package de.ludimus.functional.option;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+public record SomeDouble(double value) implements OptionDouble {
+
+    @Override
+    public boolean isPresent() {
+        return true;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public double get() {
+        return value;
+    }
+
+    @Override
+    public void ifPresent(DoubleConsumer action) {
+        action.accept(value);
+    }
+
+    @Override
+    public OptionDouble map(DoubleUnaryOperator mapper) {
+        return new SomeDouble(mapper.applyAsDouble(value));
+    }
+
+    @Override
+    public <U> Option<U> mapToObj(DoubleFunction<? extends U> mapper) {
+        return Option.of(mapper.apply(value));
+    }
+
+    @Override
+    public OptionDouble flatMap(DoubleFunction<OptionDouble> mapper) {
+        return mapper.apply(value);
+    }
+
+    @Override
+    public double orElse(double other) {
+        return value;
+    }
+
+    @Override
+    public double orElseGet(DoubleSupplier supplier) {
+        return value;
+    }
+
+    @Override
+    public <T> T fold(Supplier<? extends T> noneMapper, DoubleFunction<? extends T> someMapper) {
+        return someMapper.apply(value);
+    }
+
+    @Override
+    public DoubleStream stream() {
+        return DoubleStream.of(value);
+    }
+
+    @Override
+    public Option<Double> toOption() {
+        return new Some<>(value);
+    }
+}
@@ -0,0 +1,71 @@
+package de.ludimus.functional.option;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+public record SomeInt(int value) implements OptionInt {
+
+    @Override
+    public boolean isPresent() {
+        return true;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int get() {
+        return value;
+    }
+
+    @Override
+    public void ifPresent(IntConsumer action) {
+        action.accept(value);
+    }
+
+    @Override
+    public OptionInt map(IntUnaryOperator mapper) {
+        return new SomeInt(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public <U> Option<U> mapToObj(IntFunction<? extends U> mapper) {
+        return Option.of(mapper.apply(value));
+    }
+
+    @Override
+    public OptionInt flatMap(IntFunction<OptionInt> mapper) {
+        return mapper.apply(value);
+    }
+
+    @Override
+    public int orElse(int other) {
+        return value;
+    }
+
+    @Override
+    public int orElseGet(IntSupplier supplier) {
+        return value;
+    }
+
+    @Override
+    public <T> T fold(Supplier<? extends T> noneMapper, IntFunction<? extends T> someMapper) {
+        return someMapper.apply(value);
+    }
+
+    @Override
+    public IntStream stream() {
+        return IntStream.of(value);
+    }
+
+    @Override
+    public Option<Integer> toOption() {
+        return new Some<>(value);
+    }
+}
@@ -0,0 +1,71 @@
+package de.ludimus.functional.option;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+public record SomeLong(long value) implements OptionLong {
+
+    @Override
+    public boolean isPresent() {
+        return true;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public long get() {
+        return value;
+    }
+
+    @Override
+    public void ifPresent(LongConsumer action) {
+        action.accept(value);
+    }
+
+    @Override
+    public OptionLong map(LongUnaryOperator mapper) {
+        return new SomeLong(mapper.applyAsLong(value));
+    }
+
+    @Override
+    public <U> Option<U> mapToObj(LongFunction<? extends U> mapper) {
+        return Option.of(mapper.apply(value));
+    }
+
+    @Override
+    public OptionLong flatMap(LongFunction<OptionLong> mapper) {
+        return mapper.apply(value);
+    }
+
+    @Override
+    public long orElse(long other) {
+        return value;
+    }
+
+    @Override
+    public long orElseGet(LongSupplier supplier) {
+        return value;
+    }
+
+    @Override
+    public <T> T fold(Supplier<? extends T> noneMapper, LongFunction<? extends T> someMapper) {
+        return someMapper.apply(value);
+    }
+
+    @Override
+    public LongStream stream() {
+        return LongStream.of(value);
+    }
+
+    @Override
+    public Option<Long> toOption() {
+        return new Some<>(value);
+    }
+}
@@ -0,0 +1,223 @@
+package de.ludimus.functional.parse;
+
+import de.ludimus.functional.either.EitherInt;
+import de.ludimus.functional.either.EitherLong;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Parsers for numbers and dates in a range of a {@link CharSequence} or of a {@link ByteBuffer} holding ASCII bytes.
+ * <p>
+ * The parsers read the range in place: they never copy it into a String, never throw on malformed input and
+ * never allocate a failure, which comes back as the shared Left of a {@link ParseError}. Successes are
+ * {@link EitherInt}/{@link EitherLong} Rights, which hold the value unboxed and are removed by escape analysis
+ * when the caller unwraps them right away. A range outside the input is a programming error and still throws
+ * {@link IndexOutOfBoundsException}. ByteBuffers are read with absolute gets, so their position is not changed.
+ */
+public final class Ascii {
+
+    private Ascii() {
+    }
+
+    /**
+     * Parses a decimal {@code int} with an optional leading sign.
+     *
+     * @param text   the text to read
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return the value, or a Left of {@link ParseError#EMPTY}, {@link ParseError#INVALID_CHARACTER} or {@link ParseError#OVERFLOW}
+     */
+    public static EitherInt<ParseError> parseInt(CharSequence text, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, text.length());
+        return toInt(text, null, offset, length);
+    }
+
+    /**
+     * Parses a decimal {@code int} with an optional leading sign from ASCII bytes.
+     *
+     * @param bytes  the buffer to read
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the value, or a Left of {@link ParseError#EMPTY}, {@link ParseError#INVALID_CHARACTER} or {@link ParseError#OVERFLOW}
+     */
+    public static EitherInt<ParseError> parseInt(ByteBuffer bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.limit());
+        return toInt(null, bytes, offset, length);
+    }
+
+    /**
+     * Parses a decimal {@code long} with an optional leading sign.
+     *
+     * @param text   the text to read
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return the value, or a Left of {@link ParseError#EMPTY}, {@link ParseError#INVALID_CHARACTER} or {@link ParseError#OVERFLOW}
+     */
+    public static EitherLong<ParseError> parseLong(CharSequence text, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, text.length());
+        ErrorSlot slot = new ErrorSlot();
+        long value = parseLong(text, null, offset, length, slot);
+        return slot.error == null ? EitherLong.right(value) : slot.error.leftLong();
+    }
+
+    /**
+     * Parses a decimal {@code long} with an optional leading sign from ASCII bytes.
+     *
+     * @param bytes  the buffer to read
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the value, or a Left of {@link ParseError#EMPTY}, {@link ParseError#INVALID_CHARACTER} or {@link ParseError#OVERFLOW}
+     */
+    public static EitherLong<ParseError> parseLong(ByteBuffer bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.limit());
+        ErrorSlot slot = new ErrorSlot();
+        long value = parseLong(null, bytes, offset, length, slot);
+        return slot.error == null ? EitherLong.right(value) : slot.error.leftLong();
+    }
+
+    /**
+     * Parses an ISO {@code yyyy-MM-dd} date into its epoch day, as {@link java.time.LocalDate#toEpochDay()} returns it.
+     *
+     * @param text   the text to read
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return the epoch day, or a Left of {@link ParseError#EMPTY} or {@link ParseError#INVALID_DATE}
+     */
+    public static EitherLong<ParseError> parseEpochDay(CharSequence text, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, text.length());
+        ErrorSlot slot = new ErrorSlot();
+        long value = parseEpochDay(text, null, offset, length, slot);
+        return slot.error == null ? EitherLong.right(value) : slot.error.leftLong();
+    }
+
+    /**
+     * Parses an ISO {@code yyyy-MM-dd} date in ASCII bytes into its epoch day.
+     *
+     * @param bytes  the buffer to read
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the epoch day, or a Left of {@link ParseError#EMPTY} or {@link ParseError#INVALID_DATE}
+     */
+    public static EitherLong<ParseError> parseEpochDay(ByteBuffer bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.limit());
+        ErrorSlot slot = new ErrorSlot();
+        long value = parseEpochDay(null, bytes, offset, length, slot);
+        return slot.error == null ? EitherLong.right(value) : slot.error.leftLong();
+    }
+
+    /**
+     * Returns the character at the index of whichever input is present. The choice does not change within a parse,
+     * so the JIT hoists it out of the loops.
+     */
+    static char charAt(CharSequence text, ByteBuffer bytes, int index) {
+        return text != null ? text.charAt(index) : (char) (bytes.get(index) & 0xFF);
+    }
+
+    private static EitherInt<ParseError> toInt(CharSequence text, ByteBuffer bytes, int offset, int length) {
+        ErrorSlot slot = new ErrorSlot();
+        int value = parseInt(text, bytes, offset, length, slot);
+        return slot.error == null ? EitherInt.right(value) : slot.error.leftInt();
+    }
+
+    static int parseInt(CharSequence text, ByteBuffer bytes, int offset, int length, ErrorSlot slot) {
+        long value = parseLong(text, bytes, offset, length, slot);
+        if ((int) value != value) {
+            slot.fail(ParseError.OVERFLOW);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Accumulates negatively, like {@link Long#parseLong}, so that {@link Long#MIN_VALUE} parses without overflow.
+     */
+    static long parseLong(CharSequence text, ByteBuffer bytes, int offset, int length, ErrorSlot slot) {
+        if (length == 0) {
+            return slot.fail(ParseError.EMPTY);
+        }
+        int i = offset;
+        int end = offset + length;
+        boolean negative = false;
+        char first = charAt(text, bytes, i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++i == end) {
+                return slot.fail(ParseError.INVALID_CHARACTER);
+            }
+        }
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = charAt(text, bytes, i) - '0';
+            if (digit < 0 || digit > 9) {
+                return slot.fail(ParseError.INVALID_CHARACTER);
+            }
+            if (result < multiplyLimit) {
+                return slot.fail(ParseError.OVERFLOW);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return slot.fail(ParseError.OVERFLOW);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    static long parseEpochDay(CharSequence text, ByteBuffer bytes, int offset, int length, ErrorSlot slot) {
+        if (length == 0) {
+            return slot.fail(ParseError.EMPTY);
+        }
+        if (length != 10 || charAt(text, bytes, offset + 4) != '-' || charAt(text, bytes, offset + 7) != '-') {
+            return slot.fail(ParseError.INVALID_DATE);
+        }
+        int year = digits(text, bytes, offset, 4);
+        int month = digits(text, bytes, offset + 5, 2);
+        int day = digits(text, bytes, offset + 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return slot.fail(ParseError.INVALID_DATE);
+        }
+        return epochDay(year, month, day);
+    }
+
+    /**
+     * Reads a fixed number of decimal digits, or returns -1 if any of them is not a digit.
+     */
+    private static int digits(CharSequence text, ByteBuffer bytes, int offset, int count) {
+        int result = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = charAt(text, bytes, i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * The day count of {@link java.time.LocalDate#toEpochDay()} for a year between 0 and 9999.
+     */
+    private static long epochDay(int year, int month, int day) {
+        long total = 365L * year;
+        total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (lengthOfMonth(year, 2) == 28) {
+                total--;
+            }
+        }
+        return total - 719_528;
+    }
+}
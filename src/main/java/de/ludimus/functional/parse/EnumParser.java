@@ -0,0 +1,125 @@
+package de.ludimus.functional.parse;
+
+import de.ludimus.functional.either.Either;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Parses the names of an enum's constants from a range of a {@link CharSequence} or of ASCII bytes.
+ * The Right result for every constant is created once, so parsing allocates nothing, whether it succeeds or not.
+ * Lookups only compare against constants whose name has the length of the range.
+ *
+ * @param <E> the type of the enum
+ */
+public final class EnumParser<E extends Enum<E>> {
+
+    private final boolean ignoreCase;
+    private final String[][] namesByLength;
+    private final Either<ParseError, E>[][] rightsByLength;
+
+    @SuppressWarnings("unchecked")
+    private EnumParser(Class<E> type, boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+        E[] constants = type.getEnumConstants();
+        int maxLength = 0;
+        for (E constant : constants) {
+            maxLength = Math.max(maxLength, constant.name().length());
+        }
+        int[] counts = new int[maxLength + 1];
+        for (E constant : constants) {
+            counts[constant.name().length()]++;
+        }
+        namesByLength = new String[maxLength + 1][];
+        rightsByLength = (Either<ParseError, E>[][]) new Either<?, ?>[maxLength + 1][];
+        for (int length = 0; length <= maxLength; length++) {
+            namesByLength[length] = new String[counts[length]];
+            rightsByLength[length] = (Either<ParseError, E>[]) new Either<?, ?>[counts[length]];
+            counts[length] = 0;
+        }
+        for (E constant : constants) {
+            int length = constant.name().length();
+            namesByLength[length][counts[length]] = constant.name();
+            rightsByLength[length][counts[length]++] = Either.right(constant);
+        }
+    }
+
+    /**
+     * Creates a parser matching the constant names exactly.
+     *
+     * @param type the enum class
+     * @param <E>  the type of the enum
+     * @return the parser
+     */
+    public static <E extends Enum<E>> EnumParser<E> of(Class<E> type) {
+        return new EnumParser<>(Objects.requireNonNull(type), false);
+    }
+
+    /**
+     * Creates a parser matching the constant names regardless of ASCII case.
+     *
+     * @param type the enum class
+     * @param <E>  the type of the enum
+     * @return the parser
+     */
+    public static <E extends Enum<E>> EnumParser<E> ofIgnoreCase(Class<E> type) {
+        return new EnumParser<>(Objects.requireNonNull(type), true);
+    }
+
+    /**
+     * Parses a constant name.
+     *
+     * @param text   the text to read
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return the constant, or a Left of {@link ParseError#EMPTY} or {@link ParseError#UNKNOWN_VALUE}
+     */
+    public Either<ParseError, E> parse(CharSequence text, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, text.length());
+        return parse(text, null, offset, length);
+    }
+
+    /**
+     * Parses a constant name from ASCII bytes.
+     *
+     * @param bytes  the buffer to read
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the constant, or a Left of {@link ParseError#EMPTY} or {@link ParseError#UNKNOWN_VALUE}
+     */
+    public Either<ParseError, E> parse(ByteBuffer bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.limit());
+        return parse(null, bytes, offset, length);
+    }
+
+    Either<ParseError, E> parse(CharSequence text, ByteBuffer bytes, int offset, int length) {
+        if (length == 0) {
+            return ParseError.EMPTY.left();
+        }
+        if (length >= namesByLength.length) {
+            return ParseError.UNKNOWN_VALUE.left();
+        }
+        String[] names = namesByLength[length];
+        for (int candidate = 0; candidate < names.length; candidate++) {
+            if (matches(names[candidate], text, bytes, offset)) {
+                return rightsByLength[length][candidate];
+            }
+        }
+        return ParseError.UNKNOWN_VALUE.left();
+    }
+
+    private boolean matches(String name, CharSequence text, ByteBuffer bytes, int offset) {
+        for (int i = 0; i < name.length(); i++) {
+            char expected = name.charAt(i);
+            char actual = Ascii.charAt(text, bytes, offset + i);
+            if (expected != actual && !(ignoreCase && isLetter(expected) && (expected | 0x20) == (actual | 0x20))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+}
@@ -0,0 +1,17 @@
+package de.ludimus.functional.parse;
+
+/**
+ * Receives the error of a primitive parse, so that the parsed value can be returned as a plain {@code long}.
+ * A {@link FieldCursor} reuses one slot; the {@link Ascii} methods create one per call, which escape analysis removes.
+ * Returning an {@code EitherLong} from the core instead would defeat escape analysis as soon as both outcomes occur,
+ * because the fresh Right and the shared Left meet in one value.
+ */
+final class ErrorSlot {
+
+    ParseError error;
+
+    long fail(ParseError error) {
+        this.error = error;
+        return 0;
+    }
+}
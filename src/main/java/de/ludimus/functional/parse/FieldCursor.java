@@ -0,0 +1,232 @@
+package de.ludimus.functional.parse;
+
+import de.ludimus.functional.either.Left;
+import de.ludimus.functional.either.Right;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Reads the delimited fields of one record, such as a CSV line, from a {@link CharSequence} or from ASCII bytes,
+ * without copying them. The {@code next...} methods parse the next field with the {@link Ascii} and
+ * {@link EnumParser} parsers and return the plain value.
+ * <p>
+ * Errors are sticky: the first failure is kept, together with the index of its field, and every later
+ * {@code next...} call returns a zero value without reading. A {@link RecordParser} can therefore read all fields
+ * in straight-line code and check {@link #error()} once at the end.
+ * <p>
+ * A cursor is mutable and meant to be reused for many records by one thread; {@link #reset} starts the next record.
+ * Quoting is not supported: every delimiter ends a field.
+ */
+public final class FieldCursor {
+
+    private final char delimiter;
+    private final ErrorSlot slot = new ErrorSlot();
+    private CharSequence text;
+    private ByteBuffer bytes;
+    private int position;
+    private int end;
+    private boolean exhausted;
+    private int fieldStart;
+    private int fieldLength;
+    private int fieldIndex;
+    private ParseError error;
+    private int errorField;
+
+    /**
+     * Creates a cursor for records whose fields are separated by the delimiter.
+     *
+     * @param delimiter the field separator, an ASCII character for byte input
+     */
+    public FieldCursor(char delimiter) {
+        this.delimiter = delimiter;
+        reset("");
+    }
+
+    /**
+     * Starts reading a record that spans the whole text.
+     */
+    public FieldCursor reset(CharSequence line) {
+        return reset(line, 0, line.length());
+    }
+
+    /**
+     * Starts reading a record in a range of the text.
+     *
+     * @param line   the text holding the record
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return this cursor
+     */
+    public FieldCursor reset(CharSequence line, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, line.length());
+        return start(line, null, offset, length);
+    }
+
+    /**
+     * Starts reading a record in a range of ASCII bytes. The buffer's position is not changed.
+     *
+     * @param line   the buffer holding the record
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return this cursor
+     */
+    public FieldCursor reset(ByteBuffer line, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, line.limit());
+        return start(null, line, offset, length);
+    }
+
+    private FieldCursor start(CharSequence text, ByteBuffer bytes, int offset, int length) {
+        this.text = text;
+        this.bytes = bytes;
+        this.position = offset;
+        this.end = offset + length;
+        this.exhausted = false;
+        this.fieldIndex = 0;
+        this.error = null;
+        this.errorField = -1;
+        return this;
+    }
+
+    /**
+     * Returns whether the record has fields that were not read yet. An empty record has one empty field.
+     */
+    public boolean hasNext() {
+        return !exhausted;
+    }
+
+    public boolean hasError() {
+        return error != null;
+    }
+
+    /**
+     * Returns the first error of this record, or {@code null} if there was none.
+     */
+    public ParseError error() {
+        return error;
+    }
+
+    /**
+     * Returns the zero-based index of the field that caused the first error, or -1 if there was none.
+     */
+    public int errorField() {
+        return errorField;
+    }
+
+    /**
+     * Records an error for the field read last, unless an earlier error is already recorded.
+     *
+     * @param error the error
+     */
+    public void fail(ParseError error) {
+        Objects.requireNonNull(error);
+        if (this.error == null) {
+            this.error = error;
+            this.errorField = Math.max(0, fieldIndex - 1);
+        }
+    }
+
+    /**
+     * Skips the next field.
+     */
+    public void skip() {
+        advance();
+    }
+
+    /**
+     * Parses the next field with {@link Ascii#parseInt}.
+     *
+     * @return the value, or 0 after an error
+     */
+    public int nextInt() {
+        if (!advance()) {
+            return 0;
+        }
+        return checked(Ascii.parseInt(text, bytes, fieldStart, fieldLength, slot));
+    }
+
+    /**
+     * Parses the next field with {@link Ascii#parseLong}.
+     *
+     * @return the value, or 0 after an error
+     */
+    public long nextLong() {
+        if (!advance()) {
+            return 0;
+        }
+        return checked(Ascii.parseLong(text, bytes, fieldStart, fieldLength, slot));
+    }
+
+    /**
+     * Parses the next field with {@link Ascii#parseEpochDay}.
+     *
+     * @return the epoch day, or 0 after an error
+     */
+    public long nextEpochDay() {
+        if (!advance()) {
+            return 0;
+        }
+        return checked(Ascii.parseEpochDay(text, bytes, fieldStart, fieldLength, slot));
+    }
+
+    /**
+     * Parses the next field with an {@link EnumParser}.
+     *
+     * @param parser the parser for the enum
+     * @param <E>    the type of the enum
+     * @return the constant, or {@code null} after an error
+     */
+    public <E extends Enum<E>> E nextEnum(EnumParser<E> parser) {
+        if (!advance()) {
+            return null;
+        }
+        return switch (parser.parse(text, bytes, fieldStart, fieldLength)) {
+            case Right<ParseError, E>(E value) -> value;
+            case Left<ParseError, E>(ParseError failure) -> {
+                fail(failure);
+                yield null;
+            }
+        };
+    }
+
+    private int checked(int value) {
+        return (int) checked((long) value);
+    }
+
+    private long checked(long value) {
+        if (slot.error != null) {
+            fail(slot.error);
+            slot.error = null;
+            return 0;
+        }
+        return value;
+    }
+
+    /**
+     * Moves to the next field and returns whether it should be parsed.
+     */
+    private boolean advance() {
+        if (error != null) {
+            return false;
+        }
+        if (exhausted) {
+            fieldIndex++;
+            fail(ParseError.MISSING_FIELD);
+            return false;
+        }
+        int i = position;
+        while (i < end && Ascii.charAt(text, bytes, i) != delimiter) {
+            i++;
+        }
+        fieldStart = position;
+        fieldLength = i - position;
+        fieldIndex++;
+        if (i == end) {
+            exhausted = true;
+            position = end;
+        } else {
+            position = i + 1;
+        }
+        return true;
+    }
+}
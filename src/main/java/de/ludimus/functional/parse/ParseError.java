@@ -0,0 +1,58 @@
+package de.ludimus.functional.parse;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.EitherInt;
+import de.ludimus.functional.either.EitherLong;
+
+/**
+ * The reasons a parser rejects its input. Each constant holds its Left results, created once,
+ * so a failed parse returns a shared instance and allocates nothing.
+ */
+public enum ParseError {
+
+    /** The field is empty. */
+    EMPTY,
+    /** The field contains a character that is not allowed at its position. */
+    INVALID_CHARACTER,
+    /** The number does not fit the target type. */
+    OVERFLOW,
+    /** The field is not a valid {@code yyyy-MM-dd} date. */
+    INVALID_DATE,
+    /** The field does not name a known constant. */
+    UNKNOWN_VALUE,
+    /** The record has fewer fields than the parser reads. */
+    MISSING_FIELD,
+    /** The record has more fields than the parser reads. */
+    TRAILING_FIELDS,
+    /** The record was parsed but rejected by a {@link RecordParser#filter} condition, or built as {@code null}. */
+    INVALID_VALUE;
+
+    private final Either<ParseError, ?> left = Either.left(this);
+    private final EitherInt<ParseError> leftInt = EitherInt.left(this);
+    private final EitherLong<ParseError> leftLong = EitherLong.left(this);
+
+    /**
+     * Returns the shared Left holding this error.
+     *
+     * @param <T> the type of Right value
+     * @return a Left of this error
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Either<ParseError, T> left() {
+        return (Either<ParseError, T>) left;
+    }
+
+    /**
+     * Returns the shared {@link EitherInt} Left holding this error.
+     */
+    public EitherInt<ParseError> leftInt() {
+        return leftInt;
+    }
+
+    /**
+     * Returns the shared {@link EitherLong} Left holding this error.
+     */
+    public EitherLong<ParseError> leftLong() {
+        return leftLong;
+    }
+}
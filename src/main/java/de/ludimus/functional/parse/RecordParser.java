@@ -0,0 +1,136 @@
+package de.ludimus.functional.parse;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.Left;
+import de.ludimus.functional.either.Right;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Reads one record from a {@link FieldCursor}. Because the cursor's errors are sticky, a parser is usually a lambda
+ * that reads every field in order and builds the record:
+ * <pre>{@code
+ * EnumParser<Side> sides = EnumParser.of(Side.class);
+ * RecordParser<Trade> trades = fields -> new Trade(fields.nextLong(), fields.nextEnum(sides), fields.nextInt());
+ * Either<ParseError, Trade> trade = trades.parse(cursor.reset(line));
+ * }</pre>
+ * The combinators only run their functions when no error has been recorded, so they never see the placeholder
+ * values the cursor returns after a failure.
+ *
+ * @param <T> the type of the records
+ */
+@FunctionalInterface
+public interface RecordParser<T> {
+
+    /**
+     * Reads the fields of one record. The result is ignored if the cursor has an error afterwards.
+     *
+     * @param fields the cursor positioned at the record's first unread field
+     * @return the record
+     */
+    T read(FieldCursor fields);
+
+    /**
+     * Reads a whole record and checks that every field was consumed.
+     *
+     * @param fields the cursor, reset to the record
+     * @return the record, or a Left of the first error, {@link ParseError#TRAILING_FIELDS} if fields were left over,
+     * or {@link ParseError#INVALID_VALUE} if the parser produced {@code null}
+     */
+    default Either<ParseError, T> parse(FieldCursor fields) {
+        T value = read(fields);
+        if (fields.hasError()) {
+            return fields.error().left();
+        }
+        if (fields.hasNext()) {
+            return ParseError.TRAILING_FIELDS.left();
+        }
+        return value != null ? Either.right(value) : ParseError.INVALID_VALUE.left();
+    }
+
+    /**
+     * Transforms the record read by this parser.
+     *
+     * @param mapper the function to apply to the record
+     * @param <U>    the type of the resulting record
+     * @return a parser of the transformed records
+     */
+    default <U> RecordParser<U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return fields -> {
+            T value = read(fields);
+            return fields.hasError() ? null : mapper.apply(value);
+        };
+    }
+
+    /**
+     * Rejects records that do not match the predicate with {@link ParseError#INVALID_VALUE}.
+     *
+     * @param predicate the condition a record must satisfy
+     * @return a parser that validates its records
+     */
+    default RecordParser<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return fields -> {
+            T value = read(fields);
+            if (!fields.hasError() && !predicate.test(value)) {
+                fields.fail(ParseError.INVALID_VALUE);
+            }
+            return value;
+        };
+    }
+
+    /**
+     * Transforms the record with a function that may itself reject it. A {@code null} result of the function
+     * rejects the record with {@link ParseError#INVALID_VALUE}.
+     *
+     * @param mapper the function to apply to the record
+     * @param <U>    the type of the resulting record
+     * @return a parser of the transformed records
+     */
+    default <U> RecordParser<U> flatMap(Function<? super T, Either<ParseError, U>> mapper) {
+        Objects.requireNonNull(mapper);
+        return fields -> {
+            T value = read(fields);
+            if (fields.hasError()) {
+                return null;
+            }
+            return switch (mapper.apply(value)) {
+                case Right<ParseError, U>(U mapped) -> mapped;
+                case Left<ParseError, U>(ParseError error) -> {
+                    fields.fail(error);
+                    yield null;
+                }
+                case null -> {
+                    fields.fail(ParseError.INVALID_VALUE);
+                    yield null;
+                }
+            };
+        };
+    }
+
+    /**
+     * Reads the fields of two parsers one after the other and combines their records.
+     *
+     * @param first    reads the leading fields
+     * @param second   reads the fields after them
+     * @param combiner combines both records
+     * @param <A>      the type of the first records
+     * @param <B>      the type of the second records
+     * @param <T>      the type of the combined records
+     * @return a parser of the combined records
+     */
+    static <A, B, T> RecordParser<T> combine(RecordParser<A> first, RecordParser<B> second, BiFunction<? super A, ? super B, ? extends T> combiner) {
+        Objects.requireNonNull(first);
+        Objects.requireNonNull(second);
+        Objects.requireNonNull(combiner);
+        return fields -> {
+            A a = first.read(fields);
+            B b = second.read(fields);
+            return fields.hasError() ? null : combiner.apply(a, b);
+        };
+    }
+}
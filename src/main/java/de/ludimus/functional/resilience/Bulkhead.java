@@ -0,0 +1,119 @@
+package de.ludimus.functional.resilience;
+
+import de.ludimus.functional.either.Either;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of concurrent calls returning {@link Either}. A call that finds no free permit waits at most
+ * {@code maxWait} for one and is otherwise rejected with a Left, instead of queueing without bound.
+ * <p>
+ * Permits come from a non-fair {@link Semaphore}, whose uncontended acquire and release are a single compare-and-set.
+ * A waiting virtual thread parks without holding its carrier thread.
+ */
+public final class Bulkhead {
+
+    private final int maxConcurrentCalls;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+
+    private Bulkhead(int maxConcurrentCalls, long maxWaitNanos) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitNanos = maxWaitNanos;
+        this.permits = new Semaphore(maxConcurrentCalls);
+    }
+
+    /**
+     * Creates a bulkhead that rejects calls immediately when all permits are taken.
+     *
+     * @param maxConcurrentCalls the maximum number of calls running at the same time
+     * @return the bulkhead
+     */
+    public static Bulkhead of(int maxConcurrentCalls) {
+        return of(maxConcurrentCalls, Duration.ZERO);
+    }
+
+    /**
+     * Creates a bulkhead that lets calls wait for a permit.
+     *
+     * @param maxConcurrentCalls the maximum number of calls running at the same time
+     * @param maxWait            how long a call waits for a permit before it is rejected
+     * @return the bulkhead
+     */
+    public static Bulkhead of(int maxConcurrentCalls, Duration maxWait) {
+        if (maxConcurrentCalls <= 0) {
+            throw new IllegalArgumentException("maxConcurrentCalls must be positive: " + maxConcurrentCalls);
+        }
+        if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("maxWait must not be negative: " + maxWait);
+        }
+        return new Bulkhead(maxConcurrentCalls, maxWait.toNanos());
+    }
+
+    /**
+     * Runs the call if a permit is available within the maximum wait. If the waiting thread is interrupted,
+     * the call is rejected and the interrupt flag is restored.
+     *
+     * @param call     the call to protect
+     * @param rejected supplies the Left returned when no permit is available
+     * @param <L>      the type of Left value
+     * @param <R>      the type of Right value
+     * @return the result of the call, or a Left from {@code rejected}
+     */
+    public <L, R> Either<L, R> execute(Supplier<? extends Either<L, R>> call, Supplier<? extends L> rejected) {
+        if (!acquire()) {
+            return Either.left(rejected.get());
+        }
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Decorates a supplier with this bulkhead, see {@link #execute}.
+     */
+    public <L, R> Supplier<Either<L, R>> decorate(Supplier<? extends Either<L, R>> call, Supplier<? extends L> rejected) {
+        Objects.requireNonNull(call);
+        Objects.requireNonNull(rejected);
+        return () -> execute(call, rejected);
+    }
+
+    /**
+     * Decorates a function with this bulkhead, see {@link #execute}.
+     */
+    public <T, L, R> Function<T, Either<L, R>> decorateFunction(Function<? super T, ? extends Either<L, R>> call, Supplier<? extends L> rejected) {
+        Objects.requireNonNull(call);
+        Objects.requireNonNull(rejected);
+        return value -> execute(() -> call.apply(value), rejected);
+    }
+
+    public int maxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private boolean acquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        if (maxWaitNanos == 0) {
+            return false;
+        }
+        try {
+            return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package de.ludimus.functional.resilience;
+
+import de.ludimus.functional.either.Either;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A circuit breaker for calls returning {@link Either}, where a Left (or a thrown exception) counts as a failure.
+ * <ul>
+ *     <li>{@link State#CLOSED}: calls pass; their outcomes go into a ring buffer of the last
+ *     {@link Builder#slidingWindowSize} calls. Once {@link Builder#minimumCalls} outcomes are recorded and the failure
+ *     rate reaches {@link Builder#failureRateThreshold}, the breaker opens.</li>
+ *     <li>{@link State#OPEN}: calls are rejected without running, until {@link Builder#waitInOpen} has passed.</li>
+ *     <li>{@link State#HALF_OPEN}: {@link Builder#permittedCallsInHalfOpen} trial calls pass. If all of them succeed
+ *     the breaker closes with an empty window; the first failure opens it again.</li>
+ * </ul>
+ * The state machine takes no locks: the current phase is an immutable record swapped by compare-and-set, and the
+ * window is updated with atomic per-slot swaps. Every phase has a generation, and outcomes of calls that were permitted
+ * in an earlier phase are ignored, so a slow call from before the breaker opened cannot close it again.
+ */
+public final class CircuitBreaker {
+
+    /**
+     * The states of a circuit breaker.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final long REJECTED = -1;
+
+    /**
+     * @param trials    half-open trial calls not yet handed out
+     * @param successes half-open trial calls that succeeded
+     */
+    private record Phase(State state, long generation, long since, Window window, int trials, int successes) {
+    }
+
+    /**
+     * The outcomes of the last {@code size} calls. Each call claims the next slot and swaps its outcome in,
+     * adjusting the failure count by the difference to the outcome it replaced.
+     */
+    private static final class Window {
+        final AtomicIntegerArray slots;
+        final AtomicLong calls = new AtomicLong();
+        final AtomicInteger failures = new AtomicInteger();
+
+        Window(int size) {
+            this.slots = new AtomicIntegerArray(size);
+        }
+
+        void record(boolean failure) {
+            int slot = (int) (calls.getAndIncrement() % slots.length());
+            int outcome = failure ? 1 : 0;
+            int replaced = slots.getAndSet(slot, outcome);
+            if (outcome != replaced) {
+                failures.addAndGet(outcome - replaced);
+            }
+        }
+
+        int size() {
+            return (int) Math.min(calls.get(), slots.length());
+        }
+
+        double failureRate() {
+            int size = size();
+            return size == 0 ? 0.0 : (double) failures.get() / size;
+        }
+    }
+
+    private final double failureRateThreshold;
+    private final int slidingWindowSize;
+    private final int minimumCalls;
+    private final long waitInOpenNanos;
+    private final int permittedCallsInHalfOpen;
+    private final LongSupplier ticker;
+    private final AtomicReference<Phase> phase;
+
+    private CircuitBreaker(Builder builder) {
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slidingWindowSize = builder.slidingWindowSize;
+        this.minimumCalls = Math.min(builder.minimumCalls, builder.slidingWindowSize);
+        this.waitInOpenNanos = builder.waitInOpenNanos;
+        this.permittedCallsInHalfOpen = builder.permittedCallsInHalfOpen;
+        this.ticker = builder.ticker;
+        this.phase = new AtomicReference<>(closed(0));
+    }
+
+    /**
+     * Creates a circuit breaker with the default settings of {@link #builder()}.
+     */
+    public static CircuitBreaker ofDefaults() {
+        return builder().build();
+    }
+
+    /**
+     * Starts configuring a circuit breaker.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Runs the call if the breaker permits it and records its outcome.
+     *
+     * @param call     the call to protect
+     * @param rejected supplies the Left returned when the breaker rejects the call
+     * @param <L>      the type of Left value
+     * @param <R>      the type of Right value
+     * @return the result of the call, or a Left from {@code rejected}
+     */
+    public <L, R> Either<L, R> execute(Supplier<? extends Either<L, R>> call, Supplier<? extends L> rejected) {
+        long generation = acquire();
+        if (generation == REJECTED) {
+            return Either.left(rejected.get());
+        }
+        Either<L, R> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            record(generation, true);
+            throw e;
+        }
+        record(generation, result.isLeft());
+        return result;
+    }
+
+    /**
+     * Decorates a supplier with this circuit breaker, see {@link #execute}.
+     */
+    public <L, R> Supplier<Either<L, R>> decorate(Supplier<? extends Either<L, R>> call, Supplier<? extends L> rejected) {
+        Objects.requireNonNull(call);
+        Objects.requireNonNull(rejected);
+        return () -> execute(call, rejected);
+    }
+
+    /**
+     * Decorates a function with this circuit breaker, see {@link #execute}.
+     */
+    public <T, L, R> Function<T, Either<L, R>> decorateFunction(Function<? super T, ? extends Either<L, R>> call, Supplier<? extends L> rejected) {
+        Objects.requireNonNull(call);
+        Objects.requireNonNull(rejected);
+        return value -> execute(() -> call.apply(value), rejected);
+    }
+
+    /**
+     * Returns the current state. An open breaker whose wait has passed reports OPEN until the next call moves it to HALF_OPEN.
+     */
+    public State state() {
+        return phase.get().state;
+    }
+
+    /**
+     * Returns the failure rate over the current window, between 0 and 1. An open or half-open breaker has no window
+     * and reports 1.
+     */
+    public double failureRate() {
+        Phase current = phase.get();
+        return current.window == null ? 1.0 : current.window.failureRate();
+    }
+
+    /**
+     * Closes the breaker and clears its window.
+     */
+    public void reset() {
+        Phase current;
+        do {
+            current = phase.get();
+        } while (!phase.compareAndSet(current, closed(current.generation + 1)));
+    }
+
+    private Phase closed(long generation) {
+        return new Phase(State.CLOSED, generation, ticker.getAsLong(), new Window(slidingWindowSize), 0, 0);
+    }
+
+    /**
+     * Returns the generation of the phase in which the call is permitted, or {@link #REJECTED}.
+     */
+    private long acquire() {
+        while (true) {
+            Phase current = phase.get();
+            switch (current.state) {
+                case CLOSED -> {
+                    return current.generation;
+                }
+                case OPEN -> {
+                    long now = ticker.getAsLong();
+                    if (now - current.since < waitInOpenNanos) {
+                        return REJECTED;
+                    }
+                    Phase halfOpen = new Phase(State.HALF_OPEN, current.generation + 1, now, null, permittedCallsInHalfOpen - 1, 0);
+                    if (phase.compareAndSet(current, halfOpen)) {
+                        return halfOpen.generation;
+                    }
+                }
+                case HALF_OPEN -> {
+                    if (current.trials == 0) {
+                        return REJECTED;
+                    }
+                    Phase next = new Phase(State.HALF_OPEN, current.generation, current.since, null, current.trials - 1, current.successes);
+                    if (phase.compareAndSet(current, next)) {
+                        return current.generation;
+                    }
+                }
+            }
+        }
+    }
+
+    private void record(long generation, boolean failure) {
+        while (true) {
+            Phase current = phase.get();
+            if (current.generation != generation) {
+                return;
+            }
+            switch (current.state) {
+                case CLOSED -> {
+                    Window window = current.window;
+                    window.record(failure);
+                    if (failure && window.size() >= minimumCalls && window.failureRate() >= failureRateThreshold) {
+                        phase.compareAndSet(current, open(current));
+                    }
+                    return;
+                }
+                case HALF_OPEN -> {
+                    Phase next;
+                    if (failure) {
+                        next = open(current);
+                    } else if (current.successes + 1 == permittedCallsInHalfOpen) {
+                        next = closed(current.generation + 1);
+                    } else {
+                        next = new Phase(State.HALF_OPEN, current.generation, current.since, null, current.trials, current.successes + 1);
+                    }
+                    if (phase.compareAndSet(current, next)) {
+                        return;
+                    }
+                }
+                case OPEN -> {
+                    return;
+                }
+            }
+        }
+    }
+
+    private Phase open(Phase current) {
+        return new Phase(State.OPEN, current.generation + 1, ticker.getAsLong(), null, 0, 0);
+    }
+
+    /**
+     * Configures a {@link CircuitBreaker}. By default the breaker opens at a failure rate of 50% over the last
+     * 100 calls, once at least 10 calls are recorded, stays open for 10 seconds and closes after 5 successful trial calls.
+     */
+    public static final class Builder {
+
+        private double failureRateThreshold = 0.5;
+        private int slidingWindowSize = 100;
+        private int minimumCalls = 10;
+        private long waitInOpenNanos = Duration.ofSeconds(10).toNanos();
+        private int permittedCallsInHalfOpen = 5;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the failure rate, between 0 (exclusive) and 1 (inclusive), at which the breaker opens.
+         */
+        public Builder failureRateThreshold(double failureRateThreshold) {
+            if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+                throw new IllegalArgumentException("failureRateThreshold must be in (0, 1]: " + failureRateThreshold);
+            }
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the number of most recent calls the failure rate is computed over.
+         */
+        public Builder slidingWindowSize(int slidingWindowSize) {
+            this.slidingWindowSize = positive("slidingWindowSize", slidingWindowSize);
+            return this;
+        }
+
+        /**
+         * Sets the number of calls that must be recorded before the breaker can open, capped at the window size.
+         */
+        public Builder minimumCalls(int minimumCalls) {
+            this.minimumCalls = positive("minimumCalls", minimumCalls);
+            return this;
+        }
+
+        /**
+         * Sets how long the breaker stays open before it lets trial calls through.
+         */
+        public Builder waitInOpen(Duration waitInOpen) {
+            if (waitInOpen.isNegative()) {
+                throw new IllegalArgumentException("waitInOpen must not be negative: " + waitInOpen);
+            }
+            this.waitInOpenNanos = waitInOpen.toNanos();
+            return this;
+        }
+
+        /**
+         * Sets the number of trial calls in the half-open state that must all succeed to close the breaker.
+         */
+        public Builder permittedCallsInHalfOpen(int permittedCallsInHalfOpen) {
+            this.permittedCallsInHalfOpen = positive("permittedCallsInHalfOpen", permittedCallsInHalfOpen);
+            return this;
+        }
+
+        /**
+         * Sets the nanosecond time source, {@link System#nanoTime()} by default.
+         */
+        public Builder ticker(LongSupplier ticker) {
+            this.ticker = Objects.requireNonNull(ticker);
+            return this;
+        }
+
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+
+        private static int positive(String name, int value) {
+            if (value <= 0) {
+                throw new IllegalArgumentException(name + " must be positive: " + value);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package de.ludimus.functional.resilience;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.EitherFuture;
+import de.ludimus.functional.either.Left;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Retries calls returning {@link Either} while they return a retryable Left, with exponential backoff and jitter.
+ * Exceptions are not retried; they propagate from the attempt that threw them.
+ * <p>
+ * The delay before attempt {@code n + 1} is drawn from {@code (cap * (1 - jitter), cap]} where
+ * {@code cap = min(maxBackoff, initialBackoff * multiplier^(n - 1))}, so with the default full jitter concurrent
+ * callers that failed together spread their retries over the whole interval instead of retrying in lockstep.
+ * <p>
+ * {@link #execute} sleeps between attempts, which parks a virtual thread without holding its carrier; on platform
+ * threads prefer {@link #executeAsync}, which schedules the next attempt after the delay and blocks no thread at all.
+ *
+ * @param <L> the type of Left values
+ */
+public final class Retry<L> {
+
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final double multiplier;
+    private final double jitter;
+    private final Predicate<? super L> retryIf;
+
+    private Retry(Builder<L> builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoffNanos = builder.initialBackoffNanos;
+        this.maxBackoffNanos = Math.max(builder.maxBackoffNanos, builder.initialBackoffNanos);
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+        this.retryIf = builder.retryIf;
+    }
+
+    /**
+     * Starts configuring a Retry.
+     *
+     * @param <L> the type of Left values
+     * @return a builder with the default settings
+     */
+    public static <L> Builder<L> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Runs the call until it returns a Right, a Left that is not retryable, or the attempts are used up.
+     * If the thread is interrupted while waiting, no further attempt is made and the interrupt flag is restored.
+     *
+     * @param call the call to retry
+     * @param <R>  the type of Right value
+     * @return the result of the last attempt
+     */
+    public <R> Either<L, R> execute(Supplier<? extends Either<L, R>> call) {
+        for (int attempt = 1; ; attempt++) {
+            Either<L, R> result = call.get();
+            if (!shouldRetry(result, attempt)) {
+                return result;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(backoffNanos(attempt));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Decorates a supplier with this Retry, see {@link #execute}.
+     */
+    public <R> Supplier<Either<L, R>> decorate(Supplier<? extends Either<L, R>> call) {
+        Objects.requireNonNull(call);
+        return () -> execute(call);
+    }
+
+    /**
+     * Decorates a function with this Retry, see {@link #execute}.
+     */
+    public <T, R> Function<T, Either<L, R>> decorateFunction(Function<? super T, ? extends Either<L, R>> call) {
+        Objects.requireNonNull(call);
+        return value -> execute(() -> call.apply(value));
+    }
+
+    /**
+     * Runs an asynchronous call like {@link #execute}, scheduling each retry on the common pool after its delay.
+     */
+    public <R> EitherFuture<L, R> executeAsync(Supplier<EitherFuture<L, R>> call) {
+        return executeAsync(call, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs an asynchronous call like {@link #execute}. No thread waits during the backoff: each retry is submitted
+     * to the executor once its delay has passed. An exceptional completion or an exception thrown by the call
+     * completes the result exceptionally.
+     *
+     * @param call     the call to retry
+     * @param executor runs the retries
+     * @param <R>      the type of Right value
+     * @return the result of the last attempt
+     */
+    public <R> EitherFuture<L, R> executeAsync(Supplier<EitherFuture<L, R>> call, Executor executor) {
+        Objects.requireNonNull(call);
+        Objects.requireNonNull(executor);
+        CompletableFuture<Either<L, R>> result = new CompletableFuture<>();
+        attempt(call, executor, 1, result);
+        return EitherFuture.of(result);
+    }
+
+    /**
+     * Returns a delay before the attempt after {@code attempt}, drawn as described in the class documentation.
+     *
+     * @param attempt the number of the attempt that failed, starting at 1
+     * @return the randomized delay
+     */
+    public Duration backoff(int attempt) {
+        if (attempt <= 0) {
+            throw new IllegalArgumentException("attempt must be positive: " + attempt);
+        }
+        return Duration.ofNanos(backoffNanos(attempt));
+    }
+
+    private <R> void attempt(Supplier<EitherFuture<L, R>> call, Executor executor, int attempt, CompletableFuture<Either<L, R>> result) {
+        CompletableFuture<Either<L, R>> future;
+        try {
+            future = call.get().toCompletableFuture();
+        } catch (RuntimeException | Error e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        future.whenComplete((either, failure) -> {
+            try {
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                } else if (shouldRetry(either, attempt)) {
+                    CompletableFuture.delayedExecutor(backoffNanos(attempt), TimeUnit.NANOSECONDS, guarded(executor, result))
+                            .execute(() -> attempt(call, executor, attempt + 1, result));
+                } else {
+                    result.complete(either);
+                }
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * Wraps the executor so that a rejected retry fails the result. The delayed executor hands the task over
+     * on its own timer thread, where a rejection would otherwise be lost.
+     */
+    private static Executor guarded(Executor executor, CompletableFuture<?> result) {
+        return task -> {
+            try {
+                executor.execute(task);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        };
+    }
+
+    private boolean shouldRetry(Either<L, ?> result, int attempt) {
+        return attempt < maxAttempts && result instanceof Left<L, ?>(L value) && retryIf.test(value);
+    }
+
+    private long backoffNanos(int attempt) {
+        double cap = Math.min(maxBackoffNanos, initialBackoffNanos * Math.pow(multiplier, attempt - 1));
+        return (long) (cap - cap * jitter * ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * Configures a {@link Retry}. By default a call is attempted 3 times, every Left is retried, and the backoff
+     * starts at 100 ms, doubles per attempt up to 10 s and is fully jittered.
+     *
+     * @param <L> the type of Left values
+     */
+    public static final class Builder<L> {
+
+        private int maxAttempts = 3;
+        private long initialBackoffNanos = Duration.ofMillis(100).toNanos();
+        private long maxBackoffNanos = Duration.ofSeconds(10).toNanos();
+        private double multiplier = 2.0;
+        private double jitter = 1.0;
+        private Predicate<? super L> retryIf = left -> true;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the total number of attempts, including the first one.
+         */
+        public Builder<L> maxAttempts(int maxAttempts) {
+            if (maxAttempts <= 0) {
+                throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the delay cap after the first attempt and the multiplier applied to it after each further attempt.
+         */
+        public Builder<L> backoff(Duration initialBackoff, double multiplier) {
+            if (initialBackoff.isNegative()) {
+                throw new IllegalArgumentException("initialBackoff must not be negative: " + initialBackoff);
+            }
+            if (!(multiplier >= 1)) {
+                throw new IllegalArgumentException("multiplier must be at least 1: " + multiplier);
+            }
+            this.initialBackoffNanos = initialBackoff.toNanos();
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Sets the largest delay cap.
+         */
+        public Builder<L> maxBackoff(Duration maxBackoff) {
+            if (maxBackoff.isNegative()) {
+                throw new IllegalArgumentException("maxBackoff must not be negative: " + maxBackoff);
+            }
+            this.maxBackoffNanos = maxBackoff.toNanos();
+            return this;
+        }
+
+        /**
+         * Sets how much of the delay cap is randomized, from 0 (fixed delays) to 1 (full jitter).
+         */
+        public Builder<L> jitter(double jitter) {
+            if (!(jitter >= 0 && jitter <= 1)) {
+                throw new IllegalArgumentException("jitter must be in [0, 1]: " + jitter);
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Sets which Left values are retried; others are returned at once.
+         */
+        public Builder<L> retryIf(Predicate<? super L> retryIf) {
+            this.retryIf = Objects.requireNonNull(retryIf);
+            return this;
+        }
+
+        public Retry<L> build() {
+            return new Retry<>(this);
+        }
+    }
+}
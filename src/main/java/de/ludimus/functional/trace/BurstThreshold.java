@@ -0,0 +1,47 @@
+package de.ludimus.functional.trace;
+
+import jdk.jfr.SettingControl;
+
+import java.util.Set;
+
+/**
+ * The {@code burstThreshold} setting of {@link LeftBurstEvent}: the minimum number of Lefts within one window.
+ * When several recordings set it, the lowest value wins, so every recording sees the bursts it asked for.
+ */
+public final class BurstThreshold extends SettingControl {
+
+    static final long DEFAULT = 100;
+
+    private volatile long threshold = DEFAULT;
+
+    @Override
+    public String combine(Set<String> values) {
+        long lowest = Long.MAX_VALUE;
+        for (String value : values) {
+            lowest = Math.min(lowest, parse(value));
+        }
+        return String.valueOf(lowest == Long.MAX_VALUE ? DEFAULT : lowest);
+    }
+
+    @Override
+    public void setValue(String value) {
+        threshold = parse(value);
+    }
+
+    @Override
+    public String getValue() {
+        return String.valueOf(threshold);
+    }
+
+    boolean accepts(long leftCount) {
+        return leftCount >= threshold;
+    }
+
+    private static long parse(String value) {
+        try {
+            return Math.max(1, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return DEFAULT;
+        }
+    }
+}
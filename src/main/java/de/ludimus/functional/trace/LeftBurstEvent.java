@@ -0,0 +1,45 @@
+package de.ludimus.functional.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.SettingDefinition;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The number of Left results at a traced call site within one window, emitted when it reaches the
+ * {@code burstThreshold} setting (100 unless the recording configures another). The event starts when the window
+ * opens and ends when it is closed: by the next Left, or by the periodic hook, which runs at the {@code period}
+ * setting (1 s unless the recording configures another), when the call site stays quiet.
+ */
+@Name(LeftBurstEvent.NAME)
+@Label("Left Burst")
+@Category({"Functional", "Tracing"})
+@Description("A traced call site returned at least the threshold number of Lefts within one window")
+@StackTrace(false)
+@Period("1 s")
+public final class LeftBurstEvent extends Event {
+
+    public static final String NAME = "de.ludimus.functional.LeftBurst";
+
+    @Label("Call Site")
+    String callSite;
+
+    @Label("Left Count")
+    long leftCount;
+
+    @Label("Window")
+    @Timespan(Timespan.NANOSECONDS)
+    long window;
+
+    @Label("Burst Threshold")
+    @Description("Minimum number of Lefts within one window for the event to be recorded")
+    @SettingDefinition
+    protected boolean burstThreshold(BurstThreshold threshold) {
+        return threshold.accepts(leftCount);
+    }
+}
@@ -0,0 +1,95 @@
+package de.ludimus.functional.trace;
+
+import jdk.jfr.FlightRecorder;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the Lefts of one call site in windows of a fixed length. A window opens with the first Left after the
+ * previous one closed, and closes when a later Left finds it ended or, if the call site stays quiet, when the
+ * periodic hook of {@link LeftBurstEvent} finds it ended. The closing thread emits a {@link LeftBurstEvent} that
+ * begins at the window start, which JFR keeps only if the count reaches the recording's burst threshold.
+ * A count therefore never spans more than one window, and a burst followed by silence is still reported.
+ */
+final class LeftBurstTracker {
+
+    private static final Queue<WeakReference<LeftBurstTracker>> TRACKERS = new ConcurrentLinkedQueue<>();
+
+    static {
+        FlightRecorder.addPeriodicEvent(LeftBurstEvent.class, LeftBurstTracker::closeEndedWindows);
+    }
+
+    private static final class Window {
+        final long start = System.nanoTime();
+        final LongAdder lefts = new LongAdder();
+        final LeftBurstEvent event = new LeftBurstEvent();
+
+        Window() {
+            event.begin();
+        }
+    }
+
+    private final String callSite;
+    private final long windowNanos;
+    private final AtomicReference<Window> window = new AtomicReference<>();
+
+    LeftBurstTracker(String callSite, long windowNanos) {
+        this.callSite = callSite;
+        this.windowNanos = windowNanos;
+        TRACKERS.add(new WeakReference<>(this));
+    }
+
+    void recordLeft() {
+        if (!new LeftBurstEvent().isEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        Window current = window.get();
+        while (current == null || now - current.start >= windowNanos) {
+            Window next = new Window();
+            if (window.compareAndSet(current, next)) {
+                if (current != null) {
+                    close(current);
+                }
+                current = next;
+                break;
+            }
+            current = window.get();
+        }
+        current.lefts.increment();
+    }
+
+    private void closeIfEnded() {
+        Window current = window.get();
+        if (current != null && System.nanoTime() - current.start >= windowNanos && window.compareAndSet(current, null)) {
+            close(current);
+        }
+    }
+
+    private void close(Window closed) {
+        LeftBurstEvent event = closed.event;
+        event.end();
+        event.callSite = callSite;
+        event.leftCount = closed.lefts.sum();
+        event.window = windowNanos;
+        if (event.shouldCommit()) {
+            event.commit();
+        }
+    }
+
+    private static void closeEndedWindows() {
+        for (Iterator<WeakReference<LeftBurstTracker>> it = TRACKERS.iterator(); it.hasNext(); ) {
+            LeftBurstTracker tracker = it.next().get();
+            if (tracker == null) {
+                it.remove();
+            } else {
+                tracker.closeIfEnded();
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package de.ludimus.functional.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A traced mapper that ran longer than the event's threshold (20 ms unless the recording configures another).
+ */
+@Name(SlowMapperEvent.NAME)
+@Label("Slow Mapper")
+@Category({"Functional", "Tracing"})
+@Description("A mapper passed to mapRight, flatMap or a related operation ran longer than the threshold")
+@Threshold("20 ms")
+@StackTrace(false)
+public final class SlowMapperEvent extends Event {
+
+    public static final String NAME = "de.ludimus.functional.SlowMapper";
+
+    @Label("Call Site")
+    String callSite;
+
+    @Label("Outcome")
+    @Description("Right, Left, Some or None, or empty for a plain mapper")
+    String outcome;
+}
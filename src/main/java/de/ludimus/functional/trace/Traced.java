@@ -0,0 +1,174 @@
+package de.ludimus.functional.trace;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.Left;
+import de.ludimus.functional.either.Right;
+import de.ludimus.functional.option.Option;
+import de.ludimus.functional.option.Some;
+import jdk.jfr.FlightRecorder;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Tracing of Either and Option mappers with Java Flight Recorder events.
+ * <p>
+ * A traced mapper emits a {@link SlowMapperEvent} when it runs longer than the event threshold, and a traced mapper
+ * returning Either or Option feeds its call site's {@link LeftBurstEvent}. Both events are configured like any other
+ * JFR event, for example with the {@code functional.jfc} profile in this package:
+ * {@code -XX:StartFlightRecording:settings=default.jfc,settings=functional.jfc}, or in process with
+ * {@code Configuration.create(reader)} on that resource.
+ * While an event is disabled, a traced mapper checks that and then calls the mapper directly;
+ * the event object is never allocated once the JIT has removed it.
+ */
+public final class Traced {
+
+    static final Duration BURST_WINDOW = Duration.ofSeconds(1);
+
+    static {
+        FlightRecorder.register(SlowMapperEvent.class);
+        FlightRecorder.register(LeftBurstEvent.class);
+    }
+
+    private Traced() {
+    }
+
+    /**
+     * Traces a plain mapper, for example one passed to {@code mapRight}, with slow mapper events.
+     *
+     * @param callSite the call site name recorded with the events
+     * @param mapper   the mapper to trace
+     * @param <T>      the type of the argument
+     * @param <U>      the type of the result
+     * @return the traced mapper
+     */
+    public static <T, U> Function<T, U> mapper(String callSite, Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(callSite);
+        Objects.requireNonNull(mapper);
+        return value -> {
+            SlowMapperEvent event = new SlowMapperEvent();
+            if (!event.isEnabled()) {
+                return mapper.apply(value);
+            }
+            event.begin();
+            U result = mapper.apply(value);
+            event.end();
+            if (event.shouldCommit()) {
+                event.callSite = callSite;
+                event.outcome = "";
+                event.commit();
+            }
+            return result;
+        };
+    }
+
+    /**
+     * Traces a mapper returning an Either, for example one passed to {@code flatMapRight},
+     * with slow mapper and Left burst events.
+     *
+     * @param callSite the call site name recorded with the events
+     * @param mapper   the mapper to trace
+     * @param <T>      the type of the argument
+     * @param <L>      the type of Left value
+     * @param <R>      the type of Right value
+     * @return the traced mapper
+     */
+    public static <T, L, R> Function<T, Either<L, R>> eitherMapper(String callSite, Function<? super T, ? extends Either<L, R>> mapper) {
+        return eitherMapper(callSite, BURST_WINDOW, mapper);
+    }
+
+    /**
+     * Like {@link #eitherMapper(String, Function)}, counting Lefts in windows of the given length instead of one second.
+     *
+     * @param callSite    the call site name recorded with the events
+     * @param burstWindow the length of the window in which Lefts are counted
+     * @param mapper      the mapper to trace
+     * @param <T>         the type of the argument
+     * @param <L>         the type of Left value
+     * @param <R>         the type of Right value
+     * @return the traced mapper
+     */
+    public static <T, L, R> Function<T, Either<L, R>> eitherMapper(String callSite, Duration burstWindow, Function<? super T, ? extends Either<L, R>> mapper) {
+        Objects.requireNonNull(callSite);
+        Objects.requireNonNull(mapper);
+        LeftBurstTracker bursts = new LeftBurstTracker(callSite, windowNanos(burstWindow));
+        return value -> {
+            SlowMapperEvent event = new SlowMapperEvent();
+            Either<L, R> result;
+            if (event.isEnabled()) {
+                event.begin();
+                result = mapper.apply(value);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.callSite = callSite;
+                    event.outcome = result instanceof Right<L, R> ? "Right" : "Left";
+                    event.commit();
+                }
+            } else {
+                result = mapper.apply(value);
+            }
+            if (result instanceof Left<L, R>) {
+                bursts.recordLeft();
+            }
+            return result;
+        };
+    }
+
+    /**
+     * Traces a mapper returning an Option, for example one passed to {@code flatMap},
+     * with slow mapper and burst events; None results count towards the burst.
+     *
+     * @param callSite the call site name recorded with the events
+     * @param mapper   the mapper to trace
+     * @param <T>      the type of the argument
+     * @param <U>      the type of the value
+     * @return the traced mapper
+     */
+    public static <T, U> Function<T, Option<U>> optionMapper(String callSite, Function<? super T, ? extends Option<U>> mapper) {
+        return optionMapper(callSite, BURST_WINDOW, mapper);
+    }
+
+    /**
+     * Like {@link #optionMapper(String, Function)}, counting None results in windows of the given length instead of one second.
+     *
+     * @param callSite    the call site name recorded with the events
+     * @param burstWindow the length of the window in which None results are counted
+     * @param mapper      the mapper to trace
+     * @param <T>         the type of the argument
+     * @param <U>         the type of the value
+     * @return the traced mapper
+     */
+    public static <T, U> Function<T, Option<U>> optionMapper(String callSite, Duration burstWindow, Function<? super T, ? extends Option<U>> mapper) {
+        Objects.requireNonNull(callSite);
+        Objects.requireNonNull(mapper);
+        LeftBurstTracker bursts = new LeftBurstTracker(callSite, windowNanos(burstWindow));
+        return value -> {
+            SlowMapperEvent event = new SlowMapperEvent();
+            Option<U> result;
+            if (event.isEnabled()) {
+                event.begin();
+                result = mapper.apply(value);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.callSite = callSite;
+                    event.outcome = result instanceof Some<U> ? "Some" : "None";
+                    event.commit();
+                }
+            } else {
+                result = mapper.apply(value);
+            }
+            if (!(result instanceof Some<U>)) {
+                bursts.recordLeft();
+            }
+            return result;
+        };
+    }
+
+    private static long windowNanos(Duration window) {
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("burstWindow must be positive: " + window);
+        }
+        return window.toNanos();
+    }
+}
@@ -0,0 +1,57 @@
+package de.ludimus.functional.validation;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Runs a range of validators, writing valid values into a shared array and returning the accumulated errors,
+ * or {@code null} if every validator in the range succeeded. Tasks are never serialized.
+ */
+@SuppressWarnings("serial")
+final class CombineTask<E, A> extends RecursiveTask<Errors<E>> {
+
+    static final int PARALLEL_THRESHOLD = 128;
+
+    private static final int SEQUENTIAL_CHUNK = 32;
+
+    private final List<? extends Supplier<? extends Validated<E, A>>> validators;
+    private final Object[] values;
+    private final int from;
+    private final int to;
+
+    CombineTask(List<? extends Supplier<? extends Validated<E, A>>> validators, Object[] values, int from, int to) {
+        this.validators = validators;
+        this.values = values;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected Errors<E> compute() {
+        if (to - from <= SEQUENTIAL_CHUNK) {
+            return validateRange();
+        }
+        int middle = (from + to) >>> 1;
+        CombineTask<E, A> head = new CombineTask<>(validators, values, from, middle);
+        CombineTask<E, A> tail = new CombineTask<>(validators, values, middle, to);
+        head.fork();
+        Errors<E> tailErrors = tail.compute();
+        Errors<E> headErrors = head.join();
+        if (headErrors == null) {
+            return tailErrors;
+        }
+        return tailErrors == null ? headErrors : headErrors.concat(tailErrors);
+    }
+
+    Errors<E> validateRange() {
+        Errors<E> errors = null;
+        for (int i = from; i < to; i++) {
+            switch (validators.get(i).get()) {
+                case Valid<E, ? extends A>(var value) -> values[i] = value;
+                case Invalid<E, ? extends A>(Errors<E> more) -> errors = errors == null ? more : errors.concat(more);
+            }
+        }
+        return errors;
+    }
+}
@@ -0,0 +1,189 @@
+package de.ludimus.functional.validation;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A persistent, non-empty sequence of errors with constant-time {@link #append} and {@link #concat}.
+ * Concatenation only links the two operands, so accumulating errors never copies previously collected ones.
+ * Two instances are equal when they contain equal errors in the same order, regardless of how they were built.
+ *
+ * @param <E> the type of the errors
+ */
+public final class Errors<E> implements Iterable<E> {
+
+    private final E error;
+    private final Errors<E> first;
+    private final Errors<E> second;
+    private final int size;
+
+    private Errors(E error) {
+        this.error = Objects.requireNonNull(error);
+        this.first = null;
+        this.second = null;
+        this.size = 1;
+    }
+
+    private Errors(Errors<E> first, Errors<E> second) {
+        this.error = null;
+        this.first = first;
+        this.second = second;
+        this.size = first.size + second.size;
+    }
+
+    /**
+     * Creates an Errors instance holding a single error.
+     *
+     * @param error the error
+     * @param <E>   the type of the error
+     * @return an Errors instance containing only the given error
+     */
+    public static <E> Errors<E> of(E error) {
+        return new Errors<>(error);
+    }
+
+    /**
+     * Returns a new Errors instance with the given error added at the end.
+     *
+     * @param error the error to append
+     * @return the errors of this instance followed by the given error
+     */
+    public Errors<E> append(E error) {
+        return new Errors<>(this, new Errors<>(error));
+    }
+
+    /**
+     * Returns a new Errors instance holding the errors of this instance followed by those of {@code other}.
+     *
+     * @param other the errors to append
+     * @return the concatenation of both instances
+     */
+    public Errors<E> concat(Errors<E> other) {
+        return new Errors<>(this, other);
+    }
+
+    /**
+     * Returns the number of errors.
+     *
+     * @return the number of errors, always at least one
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the first error.
+     *
+     * @return the first error
+     */
+    public E head() {
+        Errors<E> node = this;
+        while (node.first != null) {
+            node = node.first;
+        }
+        return node.error;
+    }
+
+    /**
+     * Applies a function to every error.
+     *
+     * @param mapper the function to apply to each error
+     * @param <E2>   the type of the resulting errors
+     * @return a new Errors instance with every error transformed, in the same order
+     */
+    public <E2> Errors<E2> map(Function<? super E, ? extends E2> mapper) {
+        Object[] mapped = new Object[size];
+        int i = 0;
+        for (E e : this) {
+            mapped[i++] = mapper.apply(e);
+        }
+        return balanced(mapped, 0, mapped.length);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Errors<E> balanced(Object[] errors, int from, int to) {
+        if (to - from == 1) {
+            return new Errors<>((E) errors[from]);
+        }
+        int middle = (from + to) >>> 1;
+        return new Errors<>(balanced(errors, from, middle), balanced(errors, middle, to));
+    }
+
+    /**
+     * Returns the errors as an immutable list.
+     *
+     * @return an immutable list of all errors in order
+     */
+    @SuppressWarnings("unchecked")
+    public List<E> toList() {
+        Object[] errors = new Object[size];
+        int i = 0;
+        for (E e : this) {
+            errors[i++] = e;
+        }
+        return Collections.unmodifiableList((List<E>) Arrays.asList(errors));
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        Deque<Errors<E>> pending = new ArrayDeque<>();
+        pending.push(this);
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !pending.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (pending.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Errors<E> node = pending.pop();
+                while (node.first != null) {
+                    pending.push(node.second);
+                    node = node.first;
+                }
+                return node.error;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Errors<?> other) || size != other.size) {
+            return false;
+        }
+        Iterator<?> otherErrors = other.iterator();
+        for (E e : this) {
+            if (!e.equals(otherErrors.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (E e : this) {
+            hash = 31 * hash + e.hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "Errors" + toList();
+    }
+}
@@ -0,0 +1,65 @@
+package de.ludimus.functional.validation;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.Left;
+import de.ludimus.functional.option.Option;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+public record Invalid<E, A>(Errors<E> errors) implements Validated<E, A> {
+    public Invalid {
+        Objects.requireNonNull(errors);
+    }
+
+    @Override
+    public boolean isValid() {
+        return false;
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <B> Validated<E, B> map(Function<? super A, ? extends B> mapper) {
+        return (Validated<E, B>) this;
+    }
+
+    @Override
+    public <E2> Validated<E2, A> mapErrors(Function<? super E, ? extends E2> mapper) {
+        return new Invalid<>(errors.map(mapper));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <B, C> Validated<E, C> zip(Validated<E, B> other, BiFunction<? super A, ? super B, ? extends C> combiner) {
+        return switch (other) {
+            case Valid<E, B> valid -> (Validated<E, C>) this;
+            case Invalid<E, B>(Errors<E> more) -> new Invalid<>(errors.concat(more));
+        };
+    }
+
+    @Override
+    public A getOrElse(A other) {
+        return other;
+    }
+
+    @Override
+    public <T> T fold(Function<? super Errors<E>, ? extends T> invalidMapper, Function<? super A, ? extends T> validMapper) {
+        return invalidMapper.apply(errors);
+    }
+
+    @Override
+    public Either<Errors<E>, A> toEither() {
+        return new Left<>(errors);
+    }
+
+    @Override
+    public Option<A> toOption() {
+        return Option.none();
+    }
+}
@@ -0,0 +1,62 @@
+package de.ludimus.functional.validation;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.Right;
+import de.ludimus.functional.option.Option;
+import de.ludimus.functional.option.Some;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+public record Valid<E, A>(A value) implements Validated<E, A> {
+    public Valid {
+        Objects.requireNonNull(value);
+    }
+
+    @Override
+    public boolean isValid() {
+        return true;
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return false;
+    }
+
+    @Override
+    public <B> Validated<E, B> map(Function<? super A, ? extends B> mapper) {
+        return new Valid<>(mapper.apply(value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E2> Validated<E2, A> mapErrors(Function<? super E, ? extends E2> mapper) {
+        return (Validated<E2, A>) this;
+    }
+
+    @Override
+    public <B, C> Validated<E, C> zip(Validated<E, B> other, BiFunction<? super A, ? super B, ? extends C> combiner) {
+        return other.map(b -> combiner.apply(value, b));
+    }
+
+    @Override
+    public A getOrElse(A other) {
+        return value;
+    }
+
+    @Override
+    public <T> T fold(Function<? super Errors<E>, ? extends T> invalidMapper, Function<? super A, ? extends T> validMapper) {
+        return validMapper.apply(value);
+    }
+
+    @Override
+    public Either<Errors<E>, A> toEither() {
+        return new Right<>(value);
+    }
+
+    @Override
+    public Option<A> toOption() {
+        return new Some<>(value);
+    }
+}
@@ -0,0 +1,198 @@
+package de.ludimus.functional.validation;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.Left;
+import de.ludimus.functional.either.Right;
+import de.ludimus.functional.option.Option;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A sealed interface representing the result of a validation, either Valid or Invalid.
+ * Unlike {@link Either}, combining two Invalid results keeps the errors of both,
+ * so independent checks can report every problem instead of only the first one.
+ *
+ * @param <E> the type of the errors
+ * @param <A> the type of the validated value
+ */
+public sealed interface Validated<E, A> permits Valid, Invalid {
+
+    /**
+     * Creates a Validated instance representing a valid value.
+     *
+     * @param value the valid value
+     * @param <E>   the type of the errors
+     * @param <A>   the type of the value
+     * @return a Valid instance containing the value
+     */
+    static <E, A> Validated<E, A> valid(A value) {
+        return new Valid<>(value);
+    }
+
+    /**
+     * Creates a Validated instance representing a single error.
+     *
+     * @param error the error
+     * @param <E>   the type of the errors
+     * @param <A>   the type of the value
+     * @return an Invalid instance containing the error
+     */
+    static <E, A> Validated<E, A> invalid(E error) {
+        return new Invalid<>(Errors.of(error));
+    }
+
+    /**
+     * Converts an Either into a Validated, treating Left as a single error.
+     *
+     * @param either the Either to convert
+     * @param <E>    the type of the errors
+     * @param <A>    the type of the value
+     * @return Valid for a Right, Invalid with one error for a Left
+     */
+    static <E, A> Validated<E, A> fromEither(Either<E, A> either) {
+        return switch (either) {
+            case Left<E, A>(E error) -> invalid(error);
+            case Right<E, A>(A value) -> valid(value);
+        };
+    }
+
+    /**
+     * Combines validations in order, accumulating the errors of all Invalid ones.
+     *
+     * @param validations the validations to combine
+     * @param <E>         the type of the errors
+     * @param <A>         the type of the values
+     * @return Valid with an immutable list of all values, or Invalid with the errors of every Invalid input
+     */
+    static <E, A> Validated<E, List<A>> combine(List<? extends Validated<E, A>> validations) {
+        Object[] values = new Object[validations.size()];
+        Errors<E> errors = null;
+        int i = 0;
+        for (Validated<E, A> validation : validations) {
+            switch (validation) {
+                case Valid<E, A>(A value) -> values[i] = value;
+                case Invalid<E, A>(Errors<E> more) -> errors = errors == null ? more : errors.concat(more);
+            }
+            i++;
+        }
+        return errors == null ? new Valid<>(asList(values)) : new Invalid<>(errors);
+    }
+
+    /**
+     * Runs independent validators and combines their results like {@link #combine(List)},
+     * using the common pool once there are enough validators to be worth splitting.
+     *
+     * @param validators the validators to run
+     * @param <E>        the type of the errors
+     * @param <A>        the type of the values
+     * @return Valid with an immutable list of all values, or Invalid with the errors of every failing validator
+     */
+    static <E, A> Validated<E, List<A>> combineAll(List<? extends Supplier<? extends Validated<E, A>>> validators) {
+        return combineAll(validators, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs independent validators and combines their results like {@link #combine(List)}.
+     * When the number of validators is large, they are split recursively and run in parallel on the given pool;
+     * values and errors keep the order of the validators either way.
+     *
+     * @param validators the validators to run
+     * @param pool       the pool to run large validator lists on
+     * @param <E>        the type of the errors
+     * @param <A>        the type of the values
+     * @return Valid with an immutable list of all values, or Invalid with the errors of every failing validator
+     */
+    static <E, A> Validated<E, List<A>> combineAll(List<? extends Supplier<? extends Validated<E, A>>> validators, ForkJoinPool pool) {
+        Object[] values = new Object[validators.size()];
+        CombineTask<E, A> task = new CombineTask<>(validators, values, 0, values.length);
+        Errors<E> errors = values.length >= CombineTask.PARALLEL_THRESHOLD ? pool.invoke(task) : task.validateRange();
+        return errors == null ? new Valid<>(asList(values)) : new Invalid<>(errors);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> List<A> asList(Object[] values) {
+        return Collections.unmodifiableList((List<A>) Arrays.asList(values));
+    }
+
+    /**
+     * Checks if this instance is a Valid value.
+     *
+     * @return true if this is Valid, false otherwise
+     */
+    boolean isValid();
+
+    /**
+     * Checks if this instance is an Invalid value.
+     *
+     * @return true if this is Invalid, false otherwise
+     */
+    boolean isInvalid();
+
+    /**
+     * Maps the valid value by applying a function to it.
+     *
+     * @param mapper the function to apply to the valid value
+     * @param <B>    the type of the resulting value
+     * @return a new Validated instance with the value transformed
+     */
+    <B> Validated<E, B> map(Function<? super A, ? extends B> mapper);
+
+    /**
+     * Maps every error by applying a function to it.
+     *
+     * @param mapper the function to apply to each error
+     * @param <E2>   the type of the resulting errors
+     * @return a new Validated instance with the errors transformed
+     */
+    <E2> Validated<E2, A> mapErrors(Function<? super E, ? extends E2> mapper);
+
+    /**
+     * Combines this validation with another one. If both are valid, the values are combined;
+     * otherwise the errors of both are accumulated, this instance's first.
+     *
+     * @param other    the validation to combine with
+     * @param combiner the function combining both valid values
+     * @param <B>      the type of the other value
+     * @param <C>      the type of the combined value
+     * @return the combined validation
+     */
+    <B, C> Validated<E, C> zip(Validated<E, B> other, BiFunction<? super A, ? super B, ? extends C> combiner);
+
+    /**
+     * Returns the valid value or a default value if this is Invalid.
+     *
+     * @param other the default value to return if this is Invalid
+     * @return the valid value, or the default value
+     */
+    A getOrElse(A other);
+
+    /**
+     * Applies a function to either the errors or the valid value.
+     *
+     * @param invalidMapper the function to apply if this is Invalid
+     * @param validMapper   the function to apply if this is Valid
+     * @param <T>           the type of the result of the functions
+     * @return the result of applying the appropriate function
+     */
+    <T> T fold(Function<? super Errors<E>, ? extends T> invalidMapper, Function<? super A, ? extends T> validMapper);
+
+    /**
+     * Converts this Validated to an {@link Either}, with all errors on the Left.
+     *
+     * @return Right with the value if Valid, otherwise Left with the errors
+     */
+    Either<Errors<E>, A> toEither();
+
+    /**
+     * Converts this Validated to an {@link Option}, containing the value if valid.
+     *
+     * @return Some with the value if Valid, otherwise None
+     */
+    Option<A> toOption();
+}
@@ -0,0 +1,218 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.codec.EitherCodec;
+import de.ludimus.functional.codec.OptionCodec;
+import de.ludimus.functional.codec.RecordReader;
+import de.ludimus.functional.codec.RecordWriter;
+import de.ludimus.functional.codec.ValueCodec;
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.option.Option;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodecTest {
+
+    enum ErrorCode {NOT_FOUND, TIMEOUT}
+
+    private static <T> T roundTrip(ValueCodec<T> codec, T value, ByteBuffer buffer) {
+        buffer.clear();
+        codec.encode(value, buffer);
+        assertEquals(codec.encodedSize(value), buffer.position());
+        buffer.flip();
+        T decoded = codec.decode(buffer);
+        assertFalse(buffer.hasRemaining());
+        return decoded;
+    }
+
+    @Test
+    void testValueCodecsRoundTrip() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        assertEquals(-7, roundTrip(ValueCodec.int32(), -7, buffer));
+        assertEquals(Long.MIN_VALUE, roundTrip(ValueCodec.int64(), Long.MIN_VALUE, buffer));
+        assertEquals("", roundTrip(ValueCodec.utf8(), "", buffer));
+        assertEquals("grüße 😀 中", roundTrip(ValueCodec.utf8(), "grüße 😀 中", buffer));
+        assertEquals(ErrorCode.TIMEOUT, roundTrip(ValueCodec.ordinal(ErrorCode.class), ErrorCode.TIMEOUT, buffer));
+    }
+
+    @Test
+    void testUtf8DecodesFromDirectBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+        assertEquals("direct ä", roundTrip(ValueCodec.utf8(), "direct ä", buffer));
+    }
+
+    @Test
+    void testUtf8MatchesGetBytesForUnpairedSurrogates() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        for (String value : List.of("a\uD83Db", "\uDE00x", "end\uD83D", "\uD83D\uDE00\uDE00")) {
+            byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+            buffer.clear();
+            ValueCodec.utf8().encode(value, buffer);
+            assertEquals(Integer.BYTES + expected.length, ValueCodec.utf8().encodedSize(value));
+            assertEquals(ValueCodec.utf8().encodedSize(value), buffer.position());
+            assertArrayEquals(expected, Arrays.copyOfRange(buffer.array(), Integer.BYTES, buffer.position()));
+        }
+    }
+
+    @Test
+    void testRecordWriterRollsBackMismatchedCodec() {
+        ValueCodec<String> lying = new ValueCodec<>() {
+            @Override
+            public void encode(String value, ByteBuffer target) {
+                ValueCodec.utf8().encode(value, target);
+            }
+
+            @Override
+            public String decode(ByteBuffer source) {
+                return ValueCodec.utf8().decode(source);
+            }
+
+            @Override
+            public int encodedSize(String value) {
+                return ValueCodec.utf8().encodedSize(value) + 1;
+            }
+        };
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        RecordWriter<String> writer = new RecordWriter<>(lying, buffer);
+        assertThrows(IllegalStateException.class, () -> writer.write("abc"));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void testOptionRoundTrip() {
+        OptionCodec<String> codec = new OptionCodec<>(ValueCodec.utf8());
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        assertEquals(Option.of("value"), roundTrip(codec, Option.of("value"), buffer));
+        assertSame(Option.none(), roundTrip(codec, Option.<String>none(), buffer));
+        assertEquals(1, codec.encodedSize(Option.none()));
+    }
+
+    @Test
+    void testEitherRoundTrip() {
+        EitherCodec<ErrorCode, Long> codec = new EitherCodec<>(ValueCodec.ordinal(ErrorCode.class), ValueCodec.int64());
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        assertEquals(Either.right(42L), roundTrip(codec, Either.right(42L), buffer));
+        assertEquals(Either.left(ErrorCode.NOT_FOUND), roundTrip(codec, Either.left(ErrorCode.NOT_FOUND), buffer));
+        assertEquals(2, codec.encodedSize(Either.left(ErrorCode.NOT_FOUND)));
+        assertEquals(9, codec.encodedSize(Either.right(1L)));
+    }
+
+    @Test
+    void testNestedCodecs() {
+        EitherCodec<String, Option<Integer>> codec = new EitherCodec<>(ValueCodec.utf8(), new OptionCodec<>(ValueCodec.int32()));
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        assertEquals(Either.right(Option.of(3)), roundTrip(codec, Either.right(Option.of(3)), buffer));
+        assertEquals(Either.right(Option.none()), roundTrip(codec, Either.right(Option.none()), buffer));
+        assertEquals(Either.left("bad"), roundTrip(codec, Either.left("bad"), buffer));
+    }
+
+    @Test
+    void testPeekTagWithoutDecoding() {
+        EitherCodec<String, Integer> codec = new EitherCodec<>(ValueCodec.utf8(), ValueCodec.int32());
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        codec.encode(Either.left("oops"), buffer);
+        int second = buffer.position();
+        codec.encode(Either.right(5), buffer);
+        buffer.flip();
+
+        assertFalse(EitherCodec.isRight(buffer, 0));
+        assertTrue(EitherCodec.isRight(buffer, second));
+        assertEquals(0, buffer.position());
+        assertEquals(5, EitherCodec.payload(buffer, second).getInt());
+
+        assertThrows(IllegalStateException.class, () -> codec.decodeRight(buffer));
+        assertEquals(0, buffer.position());
+        assertEquals("oops", codec.decodeLeft(buffer));
+        assertEquals(5, codec.decodeRight(buffer));
+
+        ByteBuffer options = ByteBuffer.allocate(8);
+        new OptionCodec<>(ValueCodec.int32()).encode(Option.none(), options);
+        assertFalse(OptionCodec.isPresent(options, 0));
+    }
+
+    @Test
+    void testRejectsUnknownTag() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{7, 0, 0, 0, 1});
+        assertThrows(IllegalArgumentException.class, () -> new OptionCodec<>(ValueCodec.int32()).decode(buffer));
+        assertThrows(IllegalArgumentException.class, () -> EitherCodec.isRight(buffer, 0));
+    }
+
+    @Test
+    void testRecordStreamRoundTrip() {
+        EitherCodec<String, Integer> codec = new EitherCodec<>(ValueCodec.utf8(), ValueCodec.int32());
+        List<Either<String, Integer>> records = List.of(Either.right(1), Either.left("two"), Either.right(3));
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        RecordWriter<Either<String, Integer>> writer = new RecordWriter<>(codec, buffer);
+        records.forEach(record -> assertTrue(writer.write(record)));
+        buffer.flip();
+
+        RecordReader reader = new RecordReader(buffer);
+        List<Either<String, Integer>> decoded = new ArrayList<>();
+        while (reader.hasNext()) {
+            decoded.add(reader.next(codec));
+        }
+        assertEquals(records, decoded);
+        assertThrows(NoSuchElementException.class, reader::next);
+    }
+
+    @Test
+    void testRecordViewsAreZeroCopy() {
+        EitherCodec<String, Integer> codec = new EitherCodec<>(ValueCodec.utf8(), ValueCodec.int32());
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        RecordWriter<Either<String, Integer>> writer = new RecordWriter<>(codec, buffer);
+        writer.write(Either.left("skip me"));
+        writer.write(Either.right(9));
+        buffer.flip();
+
+        RecordReader reader = new RecordReader(buffer);
+        int rights = 0;
+        while (reader.hasNext()) {
+            ByteBuffer view = reader.next();
+            assertTrue(view.isReadOnly());
+            if (EitherCodec.isRight(view, 0)) {
+                rights++;
+                assertEquals(9, codec.decodeRight(view));
+            }
+        }
+        assertEquals(1, rights);
+    }
+
+    @Test
+    void testWriterRefusesRecordThatDoesNotFit() {
+        ByteBuffer buffer = ByteBuffer.allocate(12);
+        RecordWriter<Option<Long>> writer = new RecordWriter<>(new OptionCodec<>(ValueCodec.int64()), buffer);
+        assertFalse(writer.write(Option.of(1L)));
+        assertEquals(0, buffer.position());
+        assertTrue(writer.write(Option.none()));
+        assertEquals(5, buffer.position());
+    }
+
+    @Test
+    void testReaderResumesAfterPartialRecord() {
+        OptionCodec<String> codec = new OptionCodec<>(ValueCodec.utf8());
+        ByteBuffer encoded = ByteBuffer.allocate(64);
+        RecordWriter<Option<String>> writer = new RecordWriter<>(codec, encoded);
+        writer.write(Option.of("first"));
+        writer.write(Option.of("second"));
+        encoded.flip();
+
+        ByteBuffer window = ByteBuffer.allocate(64);
+        window.put(encoded.slice(0, 20)).flip();
+        RecordReader reader = new RecordReader(window);
+        assertEquals(Option.of("first"), reader.next(codec));
+        assertFalse(reader.hasNext());
+
+        window.compact();
+        window.put(encoded.slice(20, encoded.limit() - 20)).flip();
+        assertTrue(reader.hasNext());
+        assertEquals(Option.of("second"), reader.next(codec));
+        assertFalse(reader.hasNext());
+    }
+}
@@ -0,0 +1,73 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.collect.EitherCollectors;
+import de.ludimus.functional.collect.OptionCollectors;
+import de.ludimus.functional.collect.Partition;
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.option.Option;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollectorsTest {
+
+    private static final int SIZE = 100_000;
+
+    private static Stream<Either<String, Integer>> eithers(boolean parallel, int leftEvery) {
+        IntStream range = IntStream.range(0, SIZE);
+        return (parallel ? range.parallel() : range)
+                .mapToObj(i -> i % leftEvery == leftEvery - 1 ? Either.left("e" + i) : Either.right(i));
+    }
+
+    @Test
+    void testPartitionKeepsOrderInParallel() {
+        Partition<String, Integer> partition = eithers(true, 10).collect(EitherCollectors.partition());
+        assertEquals(SIZE / 10, partition.lefts().size());
+        assertEquals(SIZE - SIZE / 10, partition.rights().size());
+        assertEquals(eithers(false, 10).collect(EitherCollectors.partition()), partition);
+        assertEquals("e9", partition.lefts().get(0));
+        assertEquals(List.of(0, 1, 2), partition.rights().subList(0, 3));
+    }
+
+    @Test
+    void testPartitionResultIsImmutable() {
+        Partition<String, Integer> partition = Stream.of(Either.<String, Integer>right(1)).collect(EitherCollectors.partition());
+        assertThrows(UnsupportedOperationException.class, () -> partition.rights().add(2));
+        assertEquals(List.of(), partition.lefts());
+    }
+
+    @Test
+    void testRightsOrFirstLeft() {
+        assertEquals(Either.left("e49999"), eithers(true, 50_000).collect(EitherCollectors.rightsOrFirstLeft()));
+        List<Integer> rights = eithers(true, SIZE + 1).collect(EitherCollectors.rightsOrFirstLeft()).getOrElse(List.of());
+        assertEquals(IntStream.range(0, SIZE).boxed().toList(), rights);
+    }
+
+    @Test
+    void testToEitherList() {
+        Either<List<String>, List<Integer>> failed = eithers(true, 25_000).collect(EitherCollectors.toEitherList());
+        assertEquals(Either.left(List.of("e24999", "e49999", "e74999", "e99999")), failed);
+        Either<List<String>, List<Integer>> succeeded = eithers(true, SIZE + 1).collect(EitherCollectors.toEitherList());
+        assertEquals(SIZE, succeeded.getOrElse(List.of()).size());
+    }
+
+    @Test
+    void testGroupLefts() {
+        Map<Integer, List<String>> groups = eithers(true, 1_000).collect(EitherCollectors.groupLefts(String::length));
+        assertEquals(Map.of(4, List.of("e999"), 5, IntStream.range(1, 10).mapToObj(i -> "e" + (i * 1_000 + 999)).toList(),
+                6, IntStream.range(10, 100).mapToObj(i -> "e" + (i * 1_000 + 999)).toList()), groups);
+    }
+
+    @Test
+    void testFlattening() {
+        List<Integer> values = IntStream.range(0, SIZE).parallel()
+                .mapToObj(i -> i % 2 == 0 ? Option.of(i) : Option.<Integer>none())
+                .collect(OptionCollectors.flattening());
+        assertEquals(IntStream.range(0, SIZE).filter(i -> i % 2 == 0).boxed().toList(), values);
+    }
+}
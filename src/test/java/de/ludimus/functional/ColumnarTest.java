@@ -0,0 +1,84 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.EitherBatch;
+import de.ludimus.functional.option.Option;
+import de.ludimus.functional.option.OptionArray;
+import de.ludimus.functional.option.OptionLong;
+import de.ludimus.functional.option.OptionLongArray;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarTest {
+
+    @Test
+    void testOptionArrayRoundTrip() {
+        List<Option<String>> options = List.of(Option.of("a"), Option.none(), Option.of("c"));
+        OptionArray<String> array = OptionArray.from(options);
+        assertEquals(3, array.size());
+        assertEquals(2, array.countPresent());
+        assertEquals(1, array.countEmpty());
+        assertFalse(array.isPresent(1));
+        assertEquals(options, array.toList());
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(3));
+    }
+
+    @Test
+    void testOptionArrayBulkOperations() {
+        OptionArray<String> array = OptionArray.ofNullable(new String[]{"a", null, "bbb", "cc"});
+        OptionArray<Integer> lengths = array.map(String::length);
+        assertEquals(List.of(1, 3, 2), lengths.stream().toList());
+        assertEquals(List.of(Option.of(1), Option.none(), Option.none(), Option.of(2)), lengths.filter(i -> i < 3).toList());
+        assertEquals(6, lengths.fold(0, Integer::sum));
+        assertEquals(2, array.map(s -> s.length() == 1 ? null : s).countPresent());
+    }
+
+    @Test
+    void testOptionLongArrayDense() {
+        OptionLongArray array = OptionLongArray.of(IntStream.range(0, 1_000).asLongStream().toArray());
+        assertEquals(1_000, array.countPresent());
+        OptionLongArray doubled = array.map(v -> v * 2);
+        assertEquals(999 * 1_000, doubled.sum());
+        assertEquals(999 * 1_000, doubled.fold(0, Long::sum));
+        assertEquals(OptionLong.of(20), doubled.get(10));
+    }
+
+    @Test
+    void testOptionLongArraySparse() {
+        OptionLongArray array = OptionLongArray.from(List.of(OptionLong.of(1), OptionLong.none(), OptionLong.of(3), OptionLong.of(4)));
+        OptionLongArray mapped = array.map(v -> 10 / v);
+        assertEquals(List.of(OptionLong.of(10), OptionLong.none(), OptionLong.of(3), OptionLong.of(2)), mapped.toList());
+        OptionLongArray even = array.filter(v -> v % 2 == 0);
+        assertEquals(4, even.sum());
+        assertArrayEquals(new long[]{4}, even.stream().toArray());
+        assertEquals(8, array.fold(0, Long::sum));
+        assertEquals(1, array.countEmpty());
+    }
+
+    @Test
+    void testEitherBatchRoundTrip() {
+        List<Either<String, Integer>> eithers = IntStream.range(0, 200)
+                .mapToObj(i -> i % 7 == 0 ? Either.<String, Integer>left("e" + i) : Either.<String, Integer>right(i))
+                .toList();
+        EitherBatch<String, Integer> batch = EitherBatch.from(eithers);
+        assertEquals(200, batch.size());
+        assertEquals(29, batch.countLefts());
+        assertEquals(171, batch.countRights());
+        assertEquals(eithers, batch.toList());
+    }
+
+    @Test
+    void testEitherBatchBulkOperations() {
+        EitherBatch<String, Integer> batch = EitherBatch.from(List.of(Either.right(1), Either.left("a"), Either.right(20)));
+        assertEquals(List.of(Either.right("1"), Either.left("a"), Either.right("20")), batch.mapRight(Object::toString).toList());
+        assertEquals(List.of(Either.right(1), Either.left(1), Either.right(20)), batch.mapLeft(String::length).toList());
+        EitherBatch<String, Integer> small = batch.filterRight(i -> i < 10, i -> "too big: " + i);
+        assertEquals(List.of("a", "too big: 20"), small.leftStream().toList());
+        assertEquals(List.of(1), small.stream().toList());
+        assertEquals(21, batch.fold(0, (sum, l) -> sum, Integer::sum));
+    }
+}
@@ -0,0 +1,148 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.EitherFuture;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EitherFutureTest {
+
+    @Test
+    void testMapRightOnCompletedRightRunsSynchronously() {
+        EitherFuture<String, Integer> mapped = EitherFuture.<String, Integer>right(5).mapRight(r -> r * 2);
+        assertTrue(mapped.toCompletableFuture().isDone());
+        assertEquals(Either.right(10), mapped.toCompletableFuture().join());
+    }
+
+    @Test
+    void testCompletedLeftSkipsStages() {
+        EitherFuture<String, Integer> left = EitherFuture.left("Error");
+        assertSame(left, left.mapRight(r -> fail("Should not be called")));
+        assertSame(left, left.flatMapRight(r -> fail("Should not be called")));
+        assertEquals(Either.left("Error"), left.toCompletableFuture().join());
+    }
+
+    @Test
+    void testPendingStagesRunOnCompletingThread() throws InterruptedException {
+        CompletableFuture<Either<String, Integer>> source = new CompletableFuture<>();
+        AtomicReference<Thread> mapperThread = new AtomicReference<>();
+        EitherFuture<String, Integer> mapped = EitherFuture.of(source).mapRight(r -> {
+            mapperThread.set(Thread.currentThread());
+            return r + 1;
+        });
+        assertFalse(mapped.toCompletableFuture().isDone());
+
+        Thread completer = new Thread(() -> source.complete(Either.right(1)));
+        completer.start();
+        completer.join();
+
+        assertEquals(Either.right(2), mapped.toCompletableFuture().join());
+        assertSame(completer, mapperThread.get());
+    }
+
+    @Test
+    void testFlatMapRightOnPendingFuture() {
+        CompletableFuture<Either<String, Integer>> source = new CompletableFuture<>();
+        EitherFuture<String, Integer> chained = EitherFuture.of(source)
+                .flatMapRight(r -> EitherFuture.right(r * 10))
+                .flatMapRight(r -> r > 50 ? EitherFuture.left("Too big") : EitherFuture.right(r));
+        source.complete(Either.right(7));
+        assertEquals(Either.left("Too big"), chained.toCompletableFuture().join());
+    }
+
+    @Test
+    void testMapLeftAndRecover() {
+        assertEquals(Either.left(5), EitherFuture.<String, Integer>left("Error").mapLeft(String::length).toCompletableFuture().join());
+        assertEquals(Either.right(5), EitherFuture.<String, Integer>left("Error").recover(String::length).toCompletableFuture().join());
+
+        CompletableFuture<Either<String, Integer>> source = new CompletableFuture<>();
+        EitherFuture<String, Integer> recovered = EitherFuture.of(source).recover(String::length);
+        source.complete(Either.left("abc"));
+        assertEquals(Either.right(3), recovered.toCompletableFuture().join());
+    }
+
+    @Test
+    void testFold() {
+        assertEquals("Right: 1", EitherFuture.<String, Integer>right(1).fold(l -> "Left: " + l, r -> "Right: " + r).join());
+        CompletableFuture<Either<String, Integer>> source = new CompletableFuture<>();
+        CompletableFuture<String> folded = EitherFuture.of(source).fold(Function.identity(), Object::toString);
+        source.complete(Either.left("Error"));
+        assertEquals("Error", folded.join());
+    }
+
+    @Test
+    void testZipParCombinesRights() {
+        CompletableFuture<Either<String, Integer>> first = new CompletableFuture<>();
+        CompletableFuture<Either<String, Integer>> second = new CompletableFuture<>();
+        EitherFuture<String, Integer> zipped = EitherFuture.of(first).zipPar(EitherFuture.of(second), Integer::sum);
+        first.complete(Either.right(1));
+        assertFalse(zipped.toCompletableFuture().isDone());
+        second.complete(Either.right(2));
+        assertEquals(Either.right(3), zipped.toCompletableFuture().join());
+    }
+
+    @Test
+    void testZipParCompletesOnFirstLeftWithoutWaiting() {
+        CompletableFuture<Either<String, Integer>> slow = new CompletableFuture<>();
+        CompletableFuture<Either<String, Integer>> failing = new CompletableFuture<>();
+        EitherFuture<String, Integer> zipped = EitherFuture.of(slow).zipPar(EitherFuture.of(failing), Integer::sum);
+        failing.complete(Either.left("Error"));
+        assertEquals(Either.left("Error"), zipped.toCompletableFuture().join());
+        slow.complete(Either.right(1));
+        assertEquals(Either.left("Error"), zipped.toCompletableFuture().join());
+    }
+
+    @Test
+    void testExceptionalCompletionPropagates() {
+        CompletableFuture<Either<String, Integer>> source = new CompletableFuture<>();
+        EitherFuture<String, Integer> mapped = EitherFuture.of(source).mapRight(r -> r + 1);
+        source.completeExceptionally(new IllegalStateException("boom"));
+        CompletionException thrown = assertThrows(CompletionException.class, () -> mapped.toCompletableFuture().join());
+        assertInstanceOf(IllegalStateException.class, thrown.getCause());
+    }
+
+    @Test
+    void testThrowingMapperFailsCompletedFuture() {
+        EitherFuture<String, Integer> right = EitherFuture.right(1);
+        EitherFuture<String, Integer> left = EitherFuture.left("Error");
+        IllegalStateException boom = new IllegalStateException("boom");
+
+        assertSame(boom, causeOf(right.mapRight(r -> { throw boom; }).toCompletableFuture()));
+        assertSame(boom, causeOf(left.mapLeft(l -> { throw boom; }).toCompletableFuture()));
+        assertSame(boom, causeOf(right.<Integer>flatMapRight(r -> { throw boom; }).toCompletableFuture()));
+        assertSame(boom, causeOf(left.recover(l -> { throw boom; }).toCompletableFuture()));
+        assertSame(boom, causeOf(right.<Integer>fold(l -> 0, r -> { throw boom; })));
+    }
+
+    @Test
+    void testThrowingCombinerFailsZipPar() {
+        CompletableFuture<Either<String, Integer>> first = new CompletableFuture<>();
+        CompletableFuture<Either<String, Integer>> second = new CompletableFuture<>();
+        EitherFuture<String, Integer> zipped = EitherFuture.of(first).zipPar(EitherFuture.of(second), (a, b) -> {
+            throw new ArithmeticException("combine");
+        });
+        first.complete(Either.right(1));
+        second.complete(Either.right(2));
+        assertInstanceOf(ArithmeticException.class, causeOf(zipped.toCompletableFuture()));
+    }
+
+    @Test
+    void testToCompletableFutureIsACopy() {
+        CompletableFuture<Either<String, Integer>> source = new CompletableFuture<>();
+        EitherFuture<String, Integer> future = EitherFuture.of(source);
+        future.toCompletableFuture().complete(Either.left("forged"));
+        assertFalse(future.toCompletableFuture().isDone());
+        source.complete(Either.right(1));
+        assertEquals(Either.right(1), future.toCompletableFuture().join());
+    }
+
+    private static Throwable causeOf(CompletableFuture<?> future) {
+        return assertThrows(CompletionException.class, future::join).getCause();
+    }
+}
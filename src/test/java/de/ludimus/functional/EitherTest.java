@@ -8,7 +8,10 @@ import de.ludimus.functional.option.Option;
 import de.ludimus.functional.option.Some;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -168,4 +171,45 @@ class EitherTest {
         Option<Integer> option = left.toOption();
         assertTrue(option instanceof None, "Expected Option to be None for Left.");
     }
+
+    @Test
+    void testSequenceAllRight() {
+        List<Either<String, Integer>> eithers = List.of(Either.right(1), Either.right(2), Either.right(3));
+        Either<String, List<Integer>> sequenced = Either.sequence(eithers);
+        assertEquals(List.of(1, 2, 3), sequenced.getOrElse(List.of()));
+    }
+
+    @Test
+    void testSequenceReturnsFirstLeft() {
+        List<Either<String, Integer>> eithers = List.of(Either.right(1), Either.left("First"), Either.left("Second"));
+        assertEquals("First", Either.sequence(eithers).fold(Function.identity(), r -> "No Error"));
+    }
+
+    @Test
+    void testTraverseStopsAtFirstLeft() {
+        List<Integer> visited = new ArrayList<>();
+        Either<String, List<Integer>> result = Either.traverse(List.of(1, 2, 3, 4), i -> {
+            visited.add(i);
+            return i == 2 ? Either.left("Failed at " + i) : Either.right(i * 10);
+        });
+        assertEquals("Failed at 2", result.fold(Function.identity(), r -> "No Error"));
+        assertEquals(List.of(1, 2), visited);
+    }
+
+    @Test
+    void testTraverseOfUnsizedSource() {
+        Stream<Integer> stream = Stream.iterate(0, i -> i + 1).limit(100);
+        Either<String, List<Integer>> result = Either.traverse(stream::iterator, Either::right);
+        List<Integer> list = result.getOrElse(List.of());
+        assertEquals(100, list.size());
+        assertEquals(99, list.get(99));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(100));
+    }
+
+    @Test
+    void testTraverseResultIsImmutable() {
+        List<Integer> list = Either.<Integer, String, Integer>traverse(List.of(1, 2), Either::right).getOrElse(List.of());
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 5));
+        assertEquals(List.of(), Either.<Integer, String, Integer>traverse(List.of(), Either::right).getOrElse(null));
+    }
 }
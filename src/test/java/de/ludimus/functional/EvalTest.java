@@ -0,0 +1,117 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.eval.Eval;
+import de.ludimus.functional.option.Option;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EvalTest {
+
+    private static final int DEPTH = 1_000_000;
+
+    private static Eval<Long> sumTo(long n) {
+        return n == 0 ? Eval.now(0L) : Eval.defer(() -> sumTo(n - 1)).map(sum -> sum + n);
+    }
+
+    private static Eval<Either<String, Integer>> countDown(int n) {
+        Eval<Either<String, Integer>> step = Eval.now(Either.right(n));
+        return n == 0 ? step : Eval.flatMapRight(step, value -> Eval.defer(() -> countDown(value - 1)));
+    }
+
+    @Test
+    void testNowAndMap() {
+        assertEquals(6, Eval.now(3).map(x -> x * 2).value());
+    }
+
+    @Test
+    void testNothingRunsUntilValue() {
+        AtomicInteger calls = new AtomicInteger();
+        Eval<Integer> eval = Eval.always(calls::incrementAndGet).map(x -> x + 1);
+        assertEquals(0, calls.get());
+        assertEquals(2, eval.value());
+        assertEquals(3, eval.value());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testLaterRunsOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        Eval<Integer> eval = Eval.later(calls::incrementAndGet);
+        assertEquals(10, eval.map(x -> x * 10).value());
+        assertEquals(1, eval.value());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testDeepRecursionIsStackSafe() {
+        assertEquals((long) DEPTH * (DEPTH + 1) / 2, sumTo(DEPTH).value());
+    }
+
+    @Test
+    void testLeftNestedChainIsStackSafe() {
+        Eval<Integer> eval = Eval.now(0);
+        for (int i = 0; i < DEPTH; i++) {
+            eval = eval.flatMap(x -> Eval.now(x + 1));
+        }
+        assertEquals(DEPTH, eval.value());
+    }
+
+    @Test
+    void testRightNestedChainIsStackSafe() {
+        Eval<Integer> eval = Eval.now(0);
+        for (int i = 0; i < DEPTH; i++) {
+            Eval<Integer> inner = eval;
+            eval = Eval.now(1).flatMap(one -> inner.map(x -> x + one));
+        }
+        assertEquals(DEPTH, eval.value());
+    }
+
+    @Test
+    void testFlatMapRightRunsDeep() {
+        assertEquals(Either.right(0), countDown(DEPTH).value());
+    }
+
+    @Test
+    void testFlatMapRightShortCircuits() {
+        AtomicInteger calls = new AtomicInteger();
+        Eval<Either<String, Integer>> eval = Eval.flatMapRight(Eval.now(Either.<String, Integer>left("stop")), value -> {
+            calls.incrementAndGet();
+            return Eval.now(Either.right(value));
+        });
+        assertEquals(Either.left("stop"), eval.value());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void testFlatMapSome() {
+        Eval<Option<Integer>> eval = Eval.now(Option.of(2));
+        for (int i = 0; i < DEPTH; i++) {
+            eval = Eval.flatMapSome(eval, x -> Eval.now(Option.of(x)));
+        }
+        assertEquals(Option.of(2), eval.value());
+        assertEquals(Option.none(), Eval.flatMapSome(Eval.now(Option.<Integer>none()), x -> Eval.now(Option.of(x))).value());
+        assertEquals(Option.none(), Eval.flatMapSome(Eval.now(Option.of(1)), x -> Eval.now(Option.none())).value());
+    }
+
+    @Test
+    void testTailRec() {
+        Eval<Integer> collatzSteps = Eval.tailRec(new long[]{27, 0}, state -> Eval.now(state[0] == 1
+                ? Either.right((int) state[1])
+                : Either.left(new long[]{state[0] % 2 == 0 ? state[0] / 2 : 3 * state[0] + 1, state[1] + 1})));
+        assertEquals(111, collatzSteps.value());
+
+        assertEquals(DEPTH, Eval.tailRec(0, i -> Eval.now(i < DEPTH ? Either.left(i + 1) : Either.right(i))).value());
+    }
+
+    @Test
+    void testExceptionsPropagate() {
+        Eval<Integer> eval = Eval.now(1).map(x -> {
+            throw new IllegalStateException("boom");
+        });
+        assertThrows(IllegalStateException.class, eval::value);
+    }
+}
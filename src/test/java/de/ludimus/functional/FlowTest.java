@@ -0,0 +1,359 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.flow.EitherSplitter;
+import de.ludimus.functional.flow.ParallelMapRight;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlowTest {
+
+    /**
+     * Publishes a list on the requesting thread, in a loop so that requests made from onNext do not recurse.
+     */
+    private static final class ListPublisher<T> implements Flow.Publisher<T> {
+
+        private final List<T> items;
+        final AtomicLong requested = new AtomicLong();
+
+        ListPublisher(List<T> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+            AtomicInteger wip = new AtomicInteger();
+            AtomicLong demand = new AtomicLong();
+            int[] next = {0};
+            boolean[] cancelled = {false};
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requested.addAndGet(n);
+                    demand.addAndGet(n);
+                    if (wip.getAndIncrement() != 0) {
+                        return;
+                    }
+                    do {
+                        while (!cancelled[0] && demand.get() > 0 && next[0] < items.size()) {
+                            demand.decrementAndGet();
+                            subscriber.onNext(items.get(next[0]++));
+                        }
+                        if (!cancelled[0] && next[0] == items.size()) {
+                            cancelled[0] = true;
+                            subscriber.onComplete();
+                        }
+                    } while (wip.decrementAndGet() != 0);
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled[0] = true;
+                }
+            });
+        }
+    }
+
+    private static class Collector<T> implements Flow.Subscriber<T> {
+
+        final List<T> items = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch done = new CountDownLatch(1);
+        final long initialRequest;
+        volatile Throwable error;
+        volatile Flow.Subscription subscription;
+
+        Collector(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+
+        void await() throws InterruptedException {
+            assertTrue(done.await(10, TimeUnit.SECONDS), "flow did not terminate");
+        }
+    }
+
+    private static List<Either<String, Integer>> mixed(int size, int leftEvery) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> i % leftEvery == 0 ? Either.<String, Integer>left("bad " + i) : Either.<String, Integer>right(i))
+                .toList();
+    }
+
+    @Test
+    void testSplitterRoutesRightsAndBatchesLefts() throws Exception {
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            EitherSplitter<String, Integer> splitter = EitherSplitter.of(3, 16, executor);
+            Collector<List<String>> deadLetters = new Collector<>(Long.MAX_VALUE);
+            Collector<Integer> rights = new Collector<>(Long.MAX_VALUE);
+            splitter.lefts().subscribe(deadLetters);
+            splitter.subscribe(rights);
+            new ListPublisher<>(mixed(20, 5)).subscribe(splitter);
+
+            rights.await();
+            deadLetters.await();
+            assertEquals(IntStream.range(0, 20).filter(i -> i % 5 != 0).boxed().toList(), rights.items);
+            assertEquals(List.of(List.of("bad 0", "bad 5", "bad 10"), List.of("bad 15")), deadLetters.items);
+            assertEquals(0, splitter.droppedLefts());
+        }
+    }
+
+    @Test
+    void testLeftsDoNotUseRightDemand() throws Exception {
+        EitherSplitter<String, Integer> splitter = EitherSplitter.of(10);
+        Collector<Integer> rights = new Collector<>(4);
+        ListPublisher<Either<String, Integer>> publisher = new ListPublisher<>(mixed(100, 2));
+        splitter.subscribe(rights);
+        publisher.subscribe(splitter);
+
+        assertEquals(List.of(1, 3, 5, 7), rights.items);
+        assertEquals(8, publisher.requested.get());
+        rights.subscription.request(2);
+        assertEquals(List.of(1, 3, 5, 7, 9, 11), rights.items);
+        rights.subscription.cancel();
+        assertEquals(1, rights.done.getCount());
+    }
+
+    @Test
+    void testSlowErrorSinkDoesNotStallRights() throws Exception {
+        int size = 100_000;
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger sunk = new AtomicInteger();
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            EitherSplitter<String, Integer> splitter = EitherSplitter.of(10, 4, executor);
+            Collector<List<String>> slowSink = new Collector<>(1) {
+                @Override
+                public void onNext(List<String> batch) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    sunk.addAndGet(batch.size());
+                    subscription.request(1);
+                }
+            };
+            Collector<Integer> rights = new Collector<>(Long.MAX_VALUE);
+            splitter.lefts().subscribe(slowSink);
+            splitter.subscribe(rights);
+            new ListPublisher<>(mixed(size, 2)).subscribe(splitter);
+
+            rights.await();
+            assertEquals(size / 2, rights.items.size());
+            assertNull(rights.error);
+            assertTrue(splitter.droppedLefts() > 0);
+
+            release.countDown();
+            slowSink.await();
+            assertEquals(size / 2, sunk.get() + splitter.droppedLefts());
+        }
+    }
+
+    @Test
+    void testSplitterForwardsUpstreamError() throws Exception {
+        EitherSplitter<String, Integer> splitter = EitherSplitter.of(10);
+        Collector<List<String>> deadLetters = new Collector<>(Long.MAX_VALUE);
+        Collector<Integer> rights = new Collector<>(Long.MAX_VALUE);
+        splitter.lefts().subscribe(deadLetters);
+        splitter.subscribe(rights);
+        splitter.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        splitter.onNext(Either.left("lost"));
+        splitter.onError(new IllegalStateException("boom"));
+
+        rights.await();
+        deadLetters.await();
+        assertInstanceOf(IllegalStateException.class, rights.error);
+        assertNull(deadLetters.error);
+        assertEquals(List.of(List.of("lost")), deadLetters.items);
+    }
+
+    @Test
+    void testInvalidRequestClosesDeadLetters() throws Exception {
+        EitherSplitter<String, Integer> splitter = EitherSplitter.of(10);
+        Collector<List<String>> deadLetters = new Collector<>(Long.MAX_VALUE);
+        Collector<Integer> rights = new Collector<>(1);
+        AtomicInteger cancels = new AtomicInteger();
+        splitter.lefts().subscribe(deadLetters);
+        splitter.subscribe(rights);
+        splitter.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+                cancels.incrementAndGet();
+            }
+        });
+        splitter.onNext(Either.left("flushed"));
+        rights.subscription.request(0);
+
+        rights.await();
+        deadLetters.await();
+        assertInstanceOf(IllegalArgumentException.class, rights.error);
+        assertNull(deadLetters.error);
+        assertEquals(List.of(List.of("flushed")), deadLetters.items);
+        assertEquals(1, cancels.get());
+    }
+
+    @Test
+    void testUpstreamRequestsNeverOverlap() throws Exception {
+        int rounds = 20_000;
+        EitherSplitter<String, Integer> splitter = EitherSplitter.of(100);
+        Collector<Integer> rights = new Collector<>(1);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        AtomicLong requested = new AtomicLong();
+        splitter.subscribe(rights);
+        splitter.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                if (active.getAndIncrement() != 0) {
+                    overlaps.incrementAndGet();
+                }
+                requested.addAndGet(n);
+                for (int spin = 0; spin < 100; spin++) {
+                    Thread.onSpinWait();
+                }
+                active.decrementAndGet();
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        CountDownLatch start = new CountDownLatch(1);
+        Thread downstream = new Thread(() -> {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                return;
+            }
+            for (int i = 0; i < rounds; i++) {
+                rights.subscription.request(1);
+            }
+        });
+        downstream.start();
+        start.countDown();
+        for (int i = 0; i < rounds; i++) {
+            splitter.onNext(Either.left("bad " + i));
+        }
+        downstream.join();
+
+        assertEquals(0, overlaps.get());
+        assertEquals(2L * rounds + 1, requested.get());
+    }
+
+    @Test
+    void testParallelMapRightKeepsOrder() throws Exception {
+        int parallelism = 4;
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            ParallelMapRight<String, Integer, Integer> mapper = ParallelMapRight.of(x -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                inFlight.decrementAndGet();
+                return x * 10;
+            }, parallelism, executor);
+            Collector<Either<String, Integer>> results = new Collector<>(Long.MAX_VALUE);
+            mapper.subscribe(results);
+            new ListPublisher<>(mixed(200, 7)).subscribe(mapper);
+
+            results.await();
+            assertEquals(mixed(200, 7).stream().map(e -> e.mapRight(x -> x * 10)).toList(), results.items);
+            assertTrue(maxInFlight.get() <= parallelism);
+        }
+    }
+
+    @Test
+    void testParallelMapRightRespectsDemand() throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            ParallelMapRight<String, Integer, Integer> mapper = ParallelMapRight.of(x -> x + 1, 2, executor);
+            Collector<Either<String, Integer>> results = new Collector<>(3);
+            ListPublisher<Either<String, Integer>> publisher = new ListPublisher<>(mixed(50, 100));
+            mapper.subscribe(results);
+            publisher.subscribe(mapper);
+
+            Thread.sleep(100);
+            assertEquals(List.of(Either.left("bad 0"), Either.right(2), Either.right(3)), results.items);
+            assertTrue(publisher.requested.get() <= 5);
+            results.subscription.request(Long.MAX_VALUE);
+            results.await();
+            assertEquals(50, results.items.size());
+        }
+    }
+
+    @Test
+    void testParallelMapRightFailsOnMapperException() throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            ParallelMapRight<String, Integer, Integer> mapper = ParallelMapRight.of(x -> {
+                if (x == 5) {
+                    throw new ArithmeticException("five");
+                }
+                return x;
+            }, 2, executor);
+            Collector<Either<String, Integer>> results = new Collector<>(Long.MAX_VALUE);
+            mapper.subscribe(results);
+            new ListPublisher<>(mixed(50, 100)).subscribe(mapper);
+
+            results.await();
+            assertInstanceOf(ArithmeticException.class, results.error);
+            assertEquals(5, results.items.size());
+        }
+    }
+
+    @Test
+    void testSecondSubscriberIsRejected() {
+        EitherSplitter<String, Integer> splitter = EitherSplitter.of(1);
+        splitter.subscribe(new Collector<>(1));
+        Collector<Integer> second = new Collector<>(1);
+        splitter.subscribe(second);
+        assertInstanceOf(IllegalStateException.class, second.error);
+    }
+}
@@ -0,0 +1,149 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.collect.InternCache;
+import de.ludimus.functional.collect.InternTable;
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.Right;
+import de.ludimus.functional.option.Option;
+import de.ludimus.functional.option.Some;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InternTest {
+
+    @Test
+    void testOfCachedSharesCommonValues() {
+        assertSame(Option.ofCached(true), Option.ofCached(true));
+        assertSame(Option.ofCached(false), Option.ofCached(Boolean.valueOf("false")));
+        assertSame(Option.ofCached(-128), Option.ofCached(-128));
+        assertSame(Option.ofCached(1023), Option.ofCached(1023));
+        assertSame(Option.ofCached(DayOfWeek.MONDAY), Option.ofCached(DayOfWeek.MONDAY));
+        assertEquals(new Some<>(DayOfWeek.FRIDAY), Option.ofCached(DayOfWeek.FRIDAY));
+        assertEquals(Option.none(), Option.ofCached(null));
+    }
+
+    @Test
+    void testOfCachedAllocatesOtherValues() {
+        assertNotSame(Option.ofCached(1024), Option.ofCached(1024));
+        assertNotSame(Option.ofCached(-129), Option.ofCached(-129));
+        assertNotSame(Option.ofCached(7L), Option.ofCached(7L));
+        assertEquals(Option.of(1024), Option.ofCached(1024));
+    }
+
+    @Test
+    void testRegisteredValuesAreShared() {
+        String currency = new String("EUR-intern-test");
+        assertNotSame(Option.ofCached(currency), Option.ofCached(currency));
+        assertTrue(Option.registerCached(currency));
+        assertTrue(Option.registerCached(currency));
+        assertSame(Option.ofCached(currency), Option.ofCached(new String("EUR-intern-test")));
+    }
+
+    @Test
+    void testRightCachedSharesCommonValues() {
+        Either<String, Integer> first = Either.rightCached(42);
+        Either<Exception, Integer> second = Either.rightCached(42);
+        assertSame(first, second);
+        assertEquals(new Right<>(42), first);
+        assertSame(Either.rightCached(DayOfWeek.SUNDAY), Either.rightCached(DayOfWeek.SUNDAY));
+        assertNotSame(Either.rightCached("OK-intern-test"), Either.rightCached("OK-intern-test"));
+        assertTrue(Either.registerCached("OK-intern-test"));
+        assertSame(Either.rightCached("OK-intern-test"), Either.rightCached("OK-intern-test"));
+        assertThrows(NullPointerException.class, () -> Either.rightCached(null));
+    }
+
+    @Test
+    void testTableRefusesRegistrationsWhenFull() {
+        InternTable<Integer, Some<Integer>> table = new InternTable<>(8, Some::new);
+        for (int i = 0; i < 6; i++) {
+            assertNotNull(table.register(i));
+        }
+        assertNull(table.register(6));
+        assertNotNull(table.register(3));
+        assertEquals(6, table.size());
+        assertNull(table.get(6));
+        assertSame(table.register(5), table.get(5));
+    }
+
+    @Test
+    void testConcurrentRegistrationsAgreeOnOneInstance() throws Exception {
+        InternTable<String, Some<String>> table = new InternTable<>(1024, Some::new);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Some<String>>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int t = 0; t < 4; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    List<Some<String>> canonical = new ArrayList<>();
+                    for (int i = 0; i < 500; i++) {
+                        canonical.add(table.register("value-" + i));
+                    }
+                    return canonical;
+                }));
+            }
+            start.countDown();
+            List<Some<String>> expected = results.getFirst().get();
+            for (Future<List<Some<String>>> result : results) {
+                List<Some<String>> actual = result.get();
+                for (int i = 0; i < expected.size(); i++) {
+                    assertSame(expected.get(i), actual.get(i));
+                }
+            }
+        }
+        assertEquals(500, table.size());
+    }
+
+    @Test
+    void testEqualValuesOfAnotherClassAreNotShared() {
+        assertTrue(Option.registerCached(List.of(1, 2, 3)));
+        ArrayList<Integer> mutable = new ArrayList<>(List.of(1, 2, 3));
+        Option<ArrayList<Integer>> option = Option.ofCached(mutable);
+        assertSame(mutable, option.orElse(null));
+        assertSame(Option.ofCached(List.of(1, 2, 3)), Option.ofCached(List.of(1, 2, 3)));
+
+        assertTrue(Either.registerCached(List.of(4)));
+        Either<String, ArrayList<Integer>> right = Either.rightCached(new ArrayList<>(List.of(4)));
+        assertInstanceOf(ArrayList.class, right.getOrElse(null));
+    }
+
+    @Test
+    void testIntegerRangeIsClampedAndValidated() {
+        InternCache<Some<?>> wide = new InternCache<>(Integer.MIN_VALUE, Integer.MAX_VALUE, Some::new);
+        assertNotNull(wide.get(InternCache.MIN_INT_LIMIT));
+        assertNotNull(wide.get(InternCache.MAX_INT_LIMIT));
+        assertNull(wide.get(InternCache.MAX_INT_LIMIT + 1));
+        assertNull(wide.get(Integer.MIN_VALUE));
+
+        InternCache<Some<?>> none = new InternCache<>(0, -1, Some::new);
+        assertNull(none.get(0));
+        assertNotNull(none.get(true));
+
+        assertThrows(IllegalArgumentException.class, () -> new InternCache<>(10, 5, Some::new));
+    }
+
+    @Test
+    void testInvalidPropertyFailsClearly() {
+        System.setProperty(InternCache.MAX_INT_PROPERTY, "lots");
+        try {
+            IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                    () -> InternCache.fromSystemProperties(Some::new));
+            assertTrue(thrown.getMessage().contains(InternCache.MAX_INT_PROPERTY));
+        } finally {
+            System.clearProperty(InternCache.MAX_INT_PROPERTY);
+        }
+    }
+
+    @Test
+    void testInvalidCapacityIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new InternTable<String, String>(0, s -> s));
+    }
+}
@@ -0,0 +1,186 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.eval.Lazy;
+import de.ludimus.functional.eval.LazyEither;
+import de.ludimus.functional.eval.LazyOption;
+import de.ludimus.functional.option.Option;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyTest {
+
+    @Test
+    void testSupplierRunsOnceOnFirstRead() {
+        AtomicInteger calls = new AtomicInteger();
+        Lazy<Integer> lazy = Lazy.of(calls::incrementAndGet);
+        assertFalse(lazy.isEvaluated());
+        assertEquals(0, calls.get());
+        assertEquals(1, lazy.get());
+        assertEquals(1, lazy.get());
+        assertTrue(lazy.isEvaluated());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testNullValueIsRemembered() {
+        AtomicInteger calls = new AtomicInteger();
+        Lazy<String> lazy = Lazy.of(() -> {
+            calls.incrementAndGet();
+            return null;
+        });
+        assertNull(lazy.get());
+        assertNull(lazy.get());
+        assertEquals(1, calls.get());
+        assertTrue(Lazy.value(null).isEvaluated());
+    }
+
+    @Test
+    void testMapAndFlatMapAreDeferred() {
+        AtomicInteger calls = new AtomicInteger();
+        Lazy<Integer> base = Lazy.of(() -> calls.incrementAndGet() * 10);
+        Lazy<Integer> mapped = base.map(x -> x + 1).flatMap(x -> Lazy.of(() -> x * 2));
+        assertEquals(0, calls.get());
+        assertEquals(22, mapped.get());
+        assertEquals(10, base.get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testFailureIsNotRemembered() {
+        AtomicInteger calls = new AtomicInteger();
+        Lazy<Integer> lazy = Lazy.of(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalArgumentException("first");
+            }
+            return 7;
+        });
+        assertThrows(IllegalArgumentException.class, lazy::get);
+        assertFalse(lazy.isEvaluated());
+        assertEquals(7, lazy.get());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testSneakyCheckedExceptionIsNotRemembered() {
+        AtomicInteger calls = new AtomicInteger();
+        Lazy<Integer> lazy = Lazy.of(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw LazyTest.<RuntimeException>sneaky(new IOException("first"));
+            }
+            return 7;
+        });
+        assertThrows(IOException.class, lazy::get);
+        assertFalse(lazy.isEvaluated());
+        assertEquals(7, lazy.get());
+    }
+
+    @Test
+    void testSupplierIsReleasedAfterEvaluation() throws InterruptedException {
+        List<WeakReference<Object>> references = new ArrayList<>();
+        Lazy<Integer> lazy = capturing(references).map(hash -> 1);
+        WeakReference<Object> reference = references.getFirst();
+        assertEquals(1, lazy.get());
+        for (int i = 0; i < 20 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+    }
+
+    private static Lazy<Integer> capturing(List<WeakReference<Object>> references) {
+        Object captured = new Object();
+        references.add(new WeakReference<>(captured));
+        return Lazy.of(captured::hashCode);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> E sneaky(Throwable throwable) throws E {
+        throw (E) throwable;
+    }
+
+    @Test
+    void testSelfReferenceIsRejected() {
+        AtomicReference<Lazy<Integer>> self = new AtomicReference<>();
+        self.set(Lazy.of(() -> self.get().get() + 1));
+        assertThrows(IllegalStateException.class, () -> self.get().get());
+    }
+
+    @Test
+    void testConcurrentReadersShareOneComputation() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Lazy<Object> lazy = Lazy.of(() -> {
+            calls.incrementAndGet();
+            computing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return new Object();
+        });
+        List<Future<Object>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(lazy::get));
+            }
+            computing.await();
+            release.countDown();
+            for (Future<Object> result : results) {
+                assertSame(lazy.get(), result.get());
+            }
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testLazyOptionIsDeferredUntilTerminalCall() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyOption<String> option = LazyOption.of(() -> {
+            calls.incrementAndGet();
+            return "config";
+        });
+        LazyOption<Integer> length = option.map(String::length).filter(n -> n > 3);
+        assertEquals(0, calls.get());
+        assertEquals(Option.of(6), length.get());
+        assertEquals(6, length.orElse(0));
+        assertTrue(option.isPresent());
+        assertEquals(1, calls.get());
+        assertTrue(LazyOption.of(() -> null).isEmpty());
+        assertEquals("x", LazyOption.<String>defer(Option::none).orElseGet(() -> "x"));
+        assertEquals(Option.none(), option.flatMap(s -> Option.<Integer>none()).get());
+    }
+
+    @Test
+    void testLazyEitherIsDeferredUntilTerminalCall() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyEither<String, Integer> either = LazyEither.right(calls::incrementAndGet);
+        LazyEither<String, Integer> checked = either
+                .mapRight(x -> x * 100)
+                .flatMapRight(x -> x > 50 ? Either.right(x) : Either.left("small"));
+        assertEquals(0, calls.get());
+        assertEquals(Either.right(100), checked.get());
+        assertTrue(checked.isRight());
+        assertEquals(1, calls.get());
+
+        LazyEither<Integer, Integer> left = LazyEither.<String, Integer>defer(() -> Either.left("bad"))
+                .mapLeft(String::length);
+        assertTrue(left.isLeft());
+        assertEquals(-1, left.getOrElse(-1));
+        assertEquals(3, left.<Integer>fold(l -> l, r -> r));
+    }
+}
@@ -0,0 +1,121 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.io.LineError;
+import de.ludimus.functional.io.LineView;
+import de.ludimus.functional.io.MappedLines;
+import de.ludimus.functional.parse.FieldCursor;
+import de.ludimus.functional.parse.ParseError;
+import de.ludimus.functional.parse.RecordParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedLinesTest {
+
+    @TempDir
+    Path directory;
+
+    private Path write(String content) throws IOException {
+        Path file = Files.createTempFile(directory, "lines", ".txt");
+        Files.writeString(file, content, StandardCharsets.US_ASCII);
+        return file;
+    }
+
+    private static final Function<LineView, Either<String, String>> COPY = line -> Either.right(line.toString());
+
+    @Test
+    void testReadsLinesInFileOrder() throws IOException {
+        StringBuilder content = new StringBuilder();
+        List<Either<LineError<String>, String>> expected = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            String line = "line-" + i + "-" + "x".repeat(i % 37);
+            content.append(line).append('\n');
+            expected.add(Either.right(line));
+        }
+        Path file = write(content.toString());
+
+        for (int chunkSize : new int[]{1, 7, 64, 1000, MappedLines.DEFAULT_CHUNK_SIZE}) {
+            MappedLines lines = MappedLines.open(file, chunkSize);
+            assertEquals(expected, lines.parseOrdered(COPY).toList(), "chunk size " + chunkSize);
+            assertEquals(5_000, lines.parse(COPY).count());
+        }
+    }
+
+    @Test
+    void testLineTerminators() throws IOException {
+        MappedLines lines = MappedLines.open(write("a\r\nb\n\nc\rd\nlast"), 3);
+        assertEquals(List.of("a", "b", "", "c\rd", "last"),
+                lines.parseOrdered(COPY).map(either -> either.getOrElse(null)).toList());
+
+        assertEquals(List.of(), MappedLines.open(write("")).parseOrdered(COPY).toList());
+        assertEquals(List.of(Either.right("")), MappedLines.open(write("\n")).parseOrdered(COPY).toList());
+    }
+
+    @Test
+    void testLeftsCarryByteOffset() throws IOException {
+        String content = "ok\nbad one\nok\r\nbad two\nok";
+        MappedLines lines = MappedLines.open(write(content), 4);
+        Function<LineView, Either<Integer, String>> parser = line -> line.charAt(0) == 'b'
+                ? Either.left(line.length())
+                : Either.right(line.toString());
+
+        List<Either<LineError<Integer>, String>> results = lines.parseOrdered(parser).toList();
+
+        assertEquals(List.of(
+                Either.right("ok"),
+                Either.left(new LineError<>(content.indexOf("bad one"), 7)),
+                Either.right("ok"),
+                Either.left(new LineError<>(content.indexOf("bad two"), 7)),
+                Either.right("ok")), results);
+    }
+
+    @Test
+    void testParsesFieldsFromMappedBytes() throws IOException {
+        StringBuilder content = new StringBuilder();
+        long expectedSum = 0;
+        List<Long> badLineStarts = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            if (i % 1000 == 999) {
+                badLineStarts.add((long) content.length());
+                content.append(i).append(",oops\n");
+            } else {
+                content.append(i).append(',').append(i * 3).append('\n');
+                expectedSum += i * 3L;
+            }
+        }
+        MappedLines lines = MappedLines.open(write(content.toString()), 4096);
+        RecordParser<Long> second = fields -> {
+            fields.skip();
+            return fields.nextLong();
+        };
+        ThreadLocal<FieldCursor> cursors = ThreadLocal.withInitial(() -> new FieldCursor(','));
+
+        List<Either<LineError<ParseError>, Long>> results = lines.parse(line -> second.parse(line.fields(cursors.get()))).toList();
+
+        assertEquals(expectedSum, results.stream().mapToLong(either -> either.getOrElse(0L)).sum());
+        List<LineError<ParseError>> errors = results.stream()
+                .<LineError<ParseError>>mapMulti((either, sink) -> either.fold(left -> { sink.accept(left); return null; }, right -> null))
+                .toList();
+        assertEquals(badLineStarts, errors.stream().map(LineError::offset).toList());
+        for (LineError<ParseError> error : errors) {
+            assertEquals(ParseError.INVALID_CHARACTER, error.error());
+            int offset = (int) error.offset();
+            assertTrue(offset == 0 || content.charAt(offset - 1) == '\n', "offset " + offset + " is not a line start");
+        }
+    }
+
+    @Test
+    void testRejectsInvalidChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> MappedLines.open(directory, 0));
+    }
+}
@@ -0,0 +1,166 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.memo.Memo;
+import de.ludimus.functional.option.Option;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoTest {
+
+    @Test
+    void testCachesResults() {
+        AtomicInteger loads = new AtomicInteger();
+        Memo<String, Option<Integer>> memo = Memo.of(s -> {
+            loads.incrementAndGet();
+            return s.isEmpty() ? Option.none() : Option.of(s.length());
+        });
+        assertEquals(Option.of(5), memo.apply("Hello"));
+        assertEquals(Option.of(5), memo.apply("Hello"));
+        assertEquals(Option.none(), memo.apply(""));
+        assertEquals(Option.none(), memo.apply(""));
+        assertEquals(2, loads.get());
+        assertEquals(new Memo.Stats(2, 2, 0), memo.stats());
+        assertEquals(0.5, memo.stats().hitRate());
+    }
+
+    @Test
+    void testNegativeResultsHaveTheirOwnTtl() {
+        AtomicLong now = new AtomicLong();
+        AtomicInteger loads = new AtomicInteger();
+        Memo<Integer, Either<String, Integer>> memo = Memo.<Integer, String, Integer>forEither(i -> {
+                    loads.incrementAndGet();
+                    return i < 0 ? Either.left("negative") : Either.right(i);
+                })
+                .ttl(Duration.ofMinutes(10))
+                .negativeTtl(Duration.ofSeconds(1))
+                .ticker(now::get)
+                .build();
+
+        memo.apply(1);
+        memo.apply(-1);
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        memo.apply(1);
+        memo.apply(-1);
+        assertEquals(3, loads.get(), "only the Left should have expired");
+
+        now.addAndGet(Duration.ofMinutes(10).toNanos());
+        memo.apply(1);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void testNegativeCachingCanBeDisabled() {
+        AtomicInteger loads = new AtomicInteger();
+        Memo<String, Option<String>> memo = Memo.<String, String>forOption(s -> {
+            loads.incrementAndGet();
+            return Option.none();
+        }).negativeTtl(Duration.ZERO).build();
+        memo.apply("a");
+        memo.apply("a");
+        assertEquals(2, loads.get());
+        assertEquals(0, memo.size());
+    }
+
+    @Test
+    void testSizeIsBounded() {
+        Memo<Integer, Option<Integer>> memo = Memo.<Integer, Integer>forOption(Option::of).maximumSize(100).build();
+        for (int i = 0; i < 10_000; i++) {
+            memo.apply(i);
+        }
+        assertEquals(100, memo.size());
+        assertEquals(9_900, memo.stats().evictions());
+    }
+
+    @Test
+    void testClockKeepsFrequentlyReadEntries() {
+        Memo<Integer, Option<Integer>> memo = Memo.<Integer, Integer>forOption(Option::of).maximumSize(10).build();
+        for (int i = 0; i < 1_000; i++) {
+            memo.apply(-1);
+            memo.apply(i);
+        }
+        long missesBefore = memo.stats().misses();
+        memo.apply(-1);
+        assertEquals(missesBefore, memo.stats().misses(), "hot key should have survived eviction");
+    }
+
+    @Test
+    void testConcurrentMissesLoadOnce() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Memo<String, Option<String>> memo = Memo.of(key -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return Option.of(key.toUpperCase());
+        });
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            List<Future<Option<String>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> memo.apply("key")));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 15; i++) {
+                results.add(executor.submit(() -> memo.apply("key")));
+            }
+            Thread.sleep(50);
+            release.countDown();
+            for (Future<Option<String>> result : results) {
+                assertEquals(Option.of("KEY"), result.get(5, TimeUnit.SECONDS));
+            }
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, memo.stats().misses());
+    }
+
+    @Test
+    void testLoaderFailureIsNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+        Memo<String, Option<String>> memo = Memo.of(key -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("backend down");
+            }
+            return Option.of(key);
+        });
+        assertThrows(IllegalStateException.class, () -> memo.apply("a"));
+        assertEquals(Option.of("a"), memo.apply("a"));
+    }
+
+    @Test
+    void testReentrantLoadFailsInsteadOfHanging() {
+        AtomicInteger loads = new AtomicInteger();
+        List<Memo<String, Option<String>>> self = new ArrayList<>();
+        Memo<String, Option<String>> memo = Memo.of(key -> loads.incrementAndGet() == 1
+                ? self.getFirst().apply(key)
+                : Option.of(key));
+        self.add(memo);
+        assertThrows(IllegalStateException.class, () -> memo.apply("a"));
+        assertEquals(Option.of("a"), memo.apply("a"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testInvalidate() {
+        AtomicInteger loads = new AtomicInteger();
+        Memo<String, Option<Integer>> memo = Memo.of(key -> Option.of(loads.incrementAndGet()));
+        assertEquals(Option.of(1), memo.apply("a"));
+        memo.invalidate("a");
+        assertEquals(Option.of(2), memo.apply("a"));
+    }
+}
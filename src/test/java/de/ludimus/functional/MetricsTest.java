@@ -0,0 +1,154 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.metrics.CallSiteSnapshot;
+import de.ludimus.functional.metrics.HistogramSnapshot;
+import de.ludimus.functional.metrics.Instrumented;
+import de.ludimus.functional.metrics.MetricsRegistry;
+import de.ludimus.functional.option.Option;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsTest {
+
+    private static MetricsRegistry enabledRegistry() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.setEnabled(true);
+        return registry;
+    }
+
+    @Test
+    void testCountsEitherOutcomesAndLeftClasses() {
+        MetricsRegistry registry = enabledRegistry();
+        Instrumented.either(registry, "parse", () -> Either.right(1));
+        Instrumented.either(registry, "parse", () -> Either.left("bad"));
+        Instrumented.either(registry, "parse", () -> Either.left(new IllegalStateException()));
+        Instrumented.either(registry, "parse", () -> Either.left("worse"));
+
+        CallSiteSnapshot parse = registry.snapshot().get("parse");
+        assertEquals(1, parse.rights());
+        assertEquals(3, parse.lefts());
+        assertEquals(Map.of("java.lang.String", 2L, "java.lang.IllegalStateException", 1L), parse.leftsByClass());
+        assertEquals(4, parse.latency().count());
+        assertEquals(0.75, parse.failureRate());
+    }
+
+    @Test
+    void testCountsOptionOutcomes() {
+        MetricsRegistry registry = enabledRegistry();
+        Function<String, Option<Integer>> lookup = Instrumented.optionMapper(registry, "lookup",
+                key -> key.isEmpty() ? Option.none() : Option.of(key.length()));
+        assertEquals(Option.of(2), lookup.apply("ab"));
+        assertEquals(Option.none(), lookup.apply(""));
+        Instrumented.option(registry, "lookup", () -> Option.of(1));
+
+        CallSiteSnapshot snapshot = registry.snapshot().get("lookup");
+        assertEquals(2, snapshot.somes());
+        assertEquals(1, snapshot.nones());
+        assertEquals(3, snapshot.total());
+    }
+
+    @Test
+    void testDisabledRegistryRecordsNothing() {
+        MetricsRegistry registry = new MetricsRegistry();
+        assertFalse(registry.isEnabled());
+        Function<Integer, Either<String, Integer>> mapper = Instrumented.eitherMapper(registry, "site", Either::right);
+        assertEquals(Either.right(1), mapper.apply(1));
+        assertEquals(Either.left("x"), Instrumented.either(registry, "other", () -> Either.left("x")));
+
+        assertEquals(0, registry.snapshot().get("site").total());
+        assertNull(registry.snapshot().get("other"));
+
+        registry.setEnabled(true);
+        mapper.apply(2);
+        assertEquals(1, registry.snapshot().get("site").rights());
+    }
+
+    @Test
+    void testResetKeepsCallSites() {
+        MetricsRegistry registry = enabledRegistry();
+        Instrumented.either(registry, "site", () -> Either.left(1));
+        registry.reset();
+        CallSiteSnapshot snapshot = registry.snapshot().get("site");
+        assertEquals(0, snapshot.total());
+        assertTrue(snapshot.leftsByClass().isEmpty());
+        assertEquals(0, snapshot.latency().count());
+    }
+
+    @Test
+    void testHistogramPrecision() {
+        MetricsRegistry registry = enabledRegistry();
+        var metrics = registry.callSite("timed");
+        for (long nanos = 1; nanos <= 1_000; nanos++) {
+            metrics.record(Either.right(nanos), nanos);
+        }
+        metrics.record(Either.right(0), 5_000_000_000L);
+
+        HistogramSnapshot latency = metrics.snapshot().latency();
+        assertEquals(1_001, latency.count());
+        long median = latency.valueAtPercentile(50);
+        assertTrue(median >= 500 && median <= 500 * 1.125, "median " + median);
+        long p99 = latency.valueAtPercentile(99);
+        assertTrue(p99 >= 990 && p99 <= 990 * 1.125, "p99 " + p99);
+        long max = latency.max();
+        assertTrue(max >= 5_000_000_000L && max <= 5_000_000_000L * 1.125, "max " + max);
+        assertEquals(0, new MetricsRegistry().callSite("empty").snapshot().latency().valueAtPercentile(99));
+    }
+
+    @Test
+    void testHistogramBucketsCoverEveryValue() {
+        MetricsRegistry registry = enabledRegistry();
+        var metrics = registry.callSite("edges");
+        metrics.record(Either.right(1), Long.MAX_VALUE);
+        metrics.record(Either.right(1), 0);
+        metrics.record(Either.right(1), 7);
+        metrics.record(Either.right(1), 8);
+        long[] buckets = metrics.snapshot().latency().bucketCounts();
+        assertEquals(4, Arrays.stream(buckets).sum());
+        assertEquals(1, buckets[0]);
+        assertEquals(1, buckets[7]);
+        assertEquals(1, buckets[8]);
+        assertEquals(1, buckets[buckets.length - 1]);
+        assertEquals(8, HistogramSnapshot.bucketLowerBound(8));
+        assertEquals(16, HistogramSnapshot.bucketLowerBound(16));
+    }
+
+    @Test
+    void testConcurrentCounting() throws InterruptedException {
+        MetricsRegistry registry = enabledRegistry();
+        Function<Integer, Either<String, Integer>> mapper = Instrumented.eitherMapper(registry, "shared",
+                i -> i % 2 == 0 ? Either.right(i) : Either.left("odd"));
+        int threads = 8;
+        int perThread = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int i = 0; i < perThread; i++) {
+                    mapper.apply(i);
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        CallSiteSnapshot snapshot = registry.snapshot().get("shared");
+        assertEquals(threads * perThread / 2, snapshot.rights());
+        assertEquals(threads * perThread / 2, snapshot.lefts());
+        assertEquals(threads * perThread, snapshot.latency().count());
+    }
+}
@@ -4,6 +4,11 @@ import de.ludimus.functional.option.None;
 import de.ludimus.functional.option.Option;
 import de.ludimus.functional.option.Some;
 import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class OptionTest {
@@ -100,4 +105,29 @@ class OptionTest {
             case None() -> assertTrue(true, "Correctly matched None."); // This is expected
         }
     }
+
+    @Test
+    void testSequence() {
+        assertEquals(List.of("a", "b"), Option.sequence(List.of(Option.of("a"), Option.of("b"))).get());
+        assertTrue(Option.sequence(List.of(Option.of("a"), Option.<String>none())).isEmpty());
+    }
+
+    @Test
+    void testTraverseStopsAtFirstNone() {
+        List<String> visited = new ArrayList<>();
+        Option<List<Integer>> result = Option.traverse(List.of("1", "", "3"), s -> {
+            visited.add(s);
+            return s.isEmpty() ? Option.none() : Option.of(Integer.parseInt(s));
+        });
+        assertTrue(result.isEmpty());
+        assertEquals(List.of("1", ""), visited);
+    }
+
+    @Test
+    void testTraverseOfUnsizedSource() {
+        Stream<String> stream = Stream.of("a", "bb", "ccc").filter(s -> true);
+        List<Integer> lengths = Option.traverse(stream::iterator, s -> Option.of(s.length())).get();
+        assertEquals(List.of(1, 2, 3), lengths);
+        assertThrows(UnsupportedOperationException.class, () -> lengths.add(4));
+    }
 }
@@ -0,0 +1,101 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.ParallelEither;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelEitherTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    private static final List<Integer> VALUES = IntStream.range(0, 10_000).boxed().toList();
+
+    @AfterAll
+    static void shutdown() {
+        POOL.shutdown();
+    }
+
+    @Test
+    void testCollectsRightsInOrder() {
+        Either<String, List<Integer>> result = ParallelEither.traverse(VALUES, i -> Either.right(i * 2), POOL);
+
+        assertEquals(Either.traverse(VALUES, i -> Either.right(i * 2)), result);
+        List<Integer> list = result.fold(left -> List.of(), Function.identity());
+        assertEquals(10_000, list.size());
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 1));
+    }
+
+    @Test
+    void testReturnsLeftMostLeft() {
+        Set<Integer> failing = Set.of(9_000, 700, 5_000, 300);
+        for (int run = 0; run < 50; run++) {
+            Either<Integer, List<Integer>> result = ParallelEither.traverse(VALUES,
+                    i -> failing.contains(i) ? Either.left(i) : Either.right(i), POOL);
+            assertEquals(Either.left(300), result);
+        }
+    }
+
+    @Test
+    void testSkipsWorkAfterEarlyLeft() {
+        AtomicInteger calls = new AtomicInteger();
+        Either<String, List<Integer>> result = ParallelEither.traverse(VALUES, i -> {
+            calls.incrementAndGet();
+            return i == 0 ? Either.left("first") : Either.right(i);
+        }, POOL);
+
+        assertEquals(Either.left("first"), result);
+        assertTrue(calls.get() < VALUES.size() / 2, "mapped " + calls.get() + " values");
+    }
+
+    @Test
+    void testMapperExceptionPropagates() {
+        assertThrows(IllegalStateException.class, () -> ParallelEither.traverse(VALUES, i -> {
+            if (i == 4_321) {
+                throw new IllegalStateException();
+            }
+            return Either.right(i);
+        }, POOL));
+    }
+
+    @Test
+    void testMapperExceptionAfterLeftMostLeftIsIgnored() {
+        for (int run = 0; run < 50; run++) {
+            Either<Integer, List<Integer>> result = ParallelEither.traverse(VALUES, i -> {
+                if (i == 9_000) {
+                    throw new IllegalStateException();
+                }
+                return i == 10 ? Either.left(i) : Either.right(i);
+            }, POOL);
+            assertEquals(Either.left(10), result);
+        }
+    }
+
+    @Test
+    void testMapperExceptionBeforeLeftIsRethrown() {
+        for (int run = 0; run < 50; run++) {
+            assertThrows(IllegalStateException.class, () -> ParallelEither.traverse(VALUES, i -> {
+                if (i == 10) {
+                    throw new IllegalStateException();
+                }
+                return i == 9_000 ? Either.left(i) : Either.right(i);
+            }, POOL));
+        }
+    }
+
+    @Test
+    void testEmptyAndSingletonLists() {
+        assertEquals(Either.right(List.of()), ParallelEither.traverse(List.<Integer>of(), Either::<String, Integer>right, POOL));
+        assertEquals(Either.right(List.of(1)), ParallelEither.traverse(List.of(1), Either::<String, Integer>right));
+        assertEquals(Either.left("no"), ParallelEither.traverse(List.of(1), i -> Either.left("no")));
+    }
+}
@@ -0,0 +1,159 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.EitherInt;
+import de.ludimus.functional.either.EitherLong;
+import de.ludimus.functional.parse.Ascii;
+import de.ludimus.functional.parse.EnumParser;
+import de.ludimus.functional.parse.FieldCursor;
+import de.ludimus.functional.parse.ParseError;
+import de.ludimus.functional.parse.RecordParser;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParseTest {
+
+    enum Side { BUY, SELL, SHORT_SELL }
+
+    record Trade(long id, Side side, int quantity, LocalDate date) {
+    }
+
+    private static final EnumParser<Side> SIDES = EnumParser.of(Side.class);
+
+    private static final RecordParser<Trade> TRADES = fields -> new Trade(
+            fields.nextLong(), fields.nextEnum(SIDES), fields.nextInt(), LocalDate.ofEpochDay(fields.nextEpochDay()));
+
+    private static EitherInt<ParseError> parseInt(String text) {
+        return Ascii.parseInt(text, 0, text.length());
+    }
+
+    private static ByteBuffer ascii(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void testParseIntMatchesIntegerParseInt() {
+        for (String text : new String[]{"0", "7", "-7", "+42", "2147483647", "-2147483648", "000123"}) {
+            assertEquals(EitherInt.right(Integer.parseInt(text)), parseInt(text), text);
+        }
+        assertSame(ParseError.EMPTY.leftInt(), parseInt(""));
+        assertSame(ParseError.INVALID_CHARACTER.leftInt(), parseInt("-"));
+        assertSame(ParseError.INVALID_CHARACTER.leftInt(), parseInt("12a"));
+        assertSame(ParseError.INVALID_CHARACTER.leftInt(), parseInt(" 1"));
+        assertSame(ParseError.OVERFLOW.leftInt(), parseInt("2147483648"));
+        assertSame(ParseError.OVERFLOW.leftInt(), parseInt("-2147483649"));
+        assertSame(ParseError.OVERFLOW.leftInt(), parseInt("99999999999999999999"));
+    }
+
+    @Test
+    void testParseLongInRangesOfTextAndBytes() {
+        String line = "x;-9223372036854775808;9223372036854775807;9223372036854775808";
+        assertEquals(EitherLong.right(Long.MIN_VALUE), Ascii.parseLong(line, 2, 20));
+        assertEquals(EitherLong.right(Long.MAX_VALUE), Ascii.parseLong(line, 23, 19));
+        assertSame(ParseError.OVERFLOW.leftLong(), Ascii.parseLong(line, 43, 19));
+
+        ByteBuffer bytes = ascii(line);
+        bytes.position(5);
+        assertEquals(EitherLong.right(Long.MAX_VALUE), Ascii.parseLong(bytes, 23, 19));
+        assertEquals(EitherInt.right(-92), Ascii.parseInt(bytes, 2, 3));
+        assertEquals(5, bytes.position());
+        assertThrows(IndexOutOfBoundsException.class, () -> Ascii.parseLong(line, 60, 10));
+    }
+
+    @Test
+    void testParseEpochDay() {
+        for (String date : new String[]{"1970-01-01", "2024-02-29", "1900-03-01", "2000-12-31", "0001-01-01", "9999-12-31"}) {
+            assertEquals(EitherLong.right(LocalDate.parse(date).toEpochDay()), Ascii.parseEpochDay(date, 0, 10), date);
+            assertEquals(EitherLong.right(LocalDate.parse(date).toEpochDay()), Ascii.parseEpochDay(ascii(date), 0, 10), date);
+        }
+        for (String date : new String[]{"2023-02-29", "1900-02-29", "2024-13-01", "2024-04-31", "2024-00-10", "2024/01/01", "24-01-01", "2024-1a-01"}) {
+            assertSame(ParseError.INVALID_DATE.leftLong(), Ascii.parseEpochDay(date, 0, date.length()), date);
+        }
+        assertSame(ParseError.EMPTY.leftLong(), Ascii.parseEpochDay("", 0, 0));
+    }
+
+    @Test
+    void testEnumParser() {
+        assertEquals(Either.right(Side.SELL), SIDES.parse("xSELLx", 1, 4));
+        assertSame(SIDES.parse("BUY", 0, 3), SIDES.parse(ascii("BUY"), 0, 3));
+        assertSame(ParseError.UNKNOWN_VALUE.left(), SIDES.parse("buy", 0, 3));
+        assertSame(ParseError.UNKNOWN_VALUE.left(), SIDES.parse("SHORT_SELLING", 0, 13));
+        assertSame(ParseError.EMPTY.left(), SIDES.parse("", 0, 0));
+        assertEquals(Either.right(Side.SHORT_SELL), EnumParser.ofIgnoreCase(Side.class).parse("short_Sell", 0, 10));
+    }
+
+    @Test
+    void testRecordParserReadsFields() {
+        FieldCursor cursor = new FieldCursor(',');
+        assertEquals(Either.right(new Trade(17, Side.BUY, 250, LocalDate.of(2024, 3, 1))),
+                TRADES.parse(cursor.reset("17,BUY,250,2024-03-01")));
+
+        ByteBuffer bytes = ascii("header\n18,SELL,-5,2024-03-02\n");
+        assertEquals(Either.right(new Trade(18, Side.SELL, -5, LocalDate.of(2024, 3, 2))),
+                TRADES.parse(cursor.reset(bytes, 7, 21)));
+    }
+
+    @Test
+    void testRecordParserReportsFirstErrorAndField() {
+        FieldCursor cursor = new FieldCursor(',');
+        assertSame(ParseError.UNKNOWN_VALUE.left(), TRADES.parse(cursor.reset("17,HOLD,x,2024-03-01")));
+        assertEquals(1, cursor.errorField());
+
+        assertSame(ParseError.INVALID_CHARACTER.left(), TRADES.parse(cursor.reset("17,BUY,2x,2024-03-01")));
+        assertEquals(2, cursor.errorField());
+
+        assertSame(ParseError.MISSING_FIELD.left(), TRADES.parse(cursor.reset("17,BUY,250")));
+        assertEquals(3, cursor.errorField());
+
+        assertSame(ParseError.TRAILING_FIELDS.left(), TRADES.parse(cursor.reset("17,BUY,250,2024-03-01,extra")));
+        assertSame(ParseError.EMPTY.left(), TRADES.parse(cursor.reset(",BUY,250,2024-03-01")));
+        assertEquals(0, cursor.errorField());
+    }
+
+    @Test
+    void testCombinators() {
+        FieldCursor cursor = new FieldCursor(';');
+        RecordParser<Integer> quantity = FieldCursor::nextInt;
+        RecordParser<Integer> positive = quantity.filter(q -> q > 0);
+        RecordParser<String> label = positive.map(q -> "qty=" + q);
+        RecordParser<Side> side = fields -> fields.nextEnum(SIDES);
+        RecordParser<String> order = RecordParser.combine(side, label, (s, l) -> s + " " + l);
+
+        assertEquals(Either.right("BUY qty=3"), order.parse(cursor.reset("BUY;3")));
+        assertSame(ParseError.INVALID_VALUE.left(), order.parse(cursor.reset("BUY;0")));
+        assertEquals(1, cursor.errorField());
+        assertSame(ParseError.UNKNOWN_VALUE.left(), order.parse(cursor.reset("HOLD;0")));
+
+        RecordParser<Integer> even = quantity.flatMap(q -> q % 2 == 0 ? Either.right(q / 2) : ParseError.INVALID_VALUE.left());
+        assertEquals(Either.right(4), even.parse(cursor.reset("8")));
+        assertSame(ParseError.INVALID_VALUE.left(), even.parse(cursor.reset("7")));
+
+        RecordParser<String> nothing = quantity.map(q -> null);
+        assertSame(ParseError.INVALID_VALUE.left(), nothing.parse(cursor.reset("5")));
+        assertSame(ParseError.INVALID_VALUE.left(), quantity.flatMap(q -> null).parse(cursor.reset("5")));
+        assertSame(ParseError.INVALID_VALUE.left(), RecordParser.combine(side, quantity, (s, q) -> null).parse(cursor.reset("SELL;1")));
+    }
+
+    @Test
+    void testCursorFields() {
+        FieldCursor cursor = new FieldCursor('|').reset("");
+        assertTrue(cursor.hasNext());
+        cursor.skip();
+        assertFalse(cursor.hasNext());
+        assertFalse(cursor.hasError());
+
+        cursor.reset("1||3");
+        assertEquals(1, cursor.nextInt());
+        cursor.skip();
+        assertEquals(3, cursor.nextInt());
+        assertFalse(cursor.hasNext());
+        assertEquals(0, cursor.nextInt());
+        assertEquals(ParseError.MISSING_FIELD, cursor.error());
+        assertEquals(3, cursor.errorField());
+    }
+}
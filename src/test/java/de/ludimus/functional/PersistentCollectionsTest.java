@@ -0,0 +1,170 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.collect.PMap;
+import de.ludimus.functional.collect.PSet;
+import de.ludimus.functional.collect.PVector;
+import de.ludimus.functional.option.Option;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentCollectionsTest {
+
+    /**
+     * A key with a deliberately poor hash code, to exercise collision nodes.
+     */
+    private record CollidingKey(int id) {
+        @Override
+        public int hashCode() {
+            return id % 3;
+        }
+    }
+
+    @Test
+    void testVectorAppendAndGet() {
+        PVector<Integer> vector = PVector.empty();
+        for (int i = 0; i < 40_000; i++) {
+            vector = vector.append(i);
+        }
+        assertEquals(40_000, vector.size());
+        for (int i = 0; i < 40_000; i += 97) {
+            assertEquals(Option.of(i), vector.get(i));
+        }
+        assertEquals(Option.none(), vector.get(40_000));
+        assertEquals(Option.none(), vector.get(-1));
+        assertEquals(IntStream.range(0, 40_000).boxed().toList(), vector.stream().toList());
+    }
+
+    @Test
+    void testVectorSetSharesStructureWithoutChangingOriginal() {
+        PVector<Integer> original = PVector.from(IntStream.range(0, 5_000).boxed().toList());
+        PVector<Integer> updated = original.set(1_234, -1).set(4_999, -2);
+        assertEquals(Option.of(1_234), original.get(1_234));
+        assertEquals(Option.of(-1), updated.get(1_234));
+        assertEquals(Option.of(-2), updated.get(4_999));
+        assertEquals(Option.of(4_999), original.get(4_999));
+        assertThrows(IndexOutOfBoundsException.class, () -> original.set(5_000, 0));
+    }
+
+    @Test
+    void testVectorBuilder() {
+        PVector<Integer> base = PVector.of(1, 2, 3);
+        PVector.Builder<Integer> builder = base.toBuilder();
+        IntStream.range(4, 100_000).forEach(builder::add);
+        PVector<Integer> built = builder.build();
+        assertEquals(3, base.size());
+        assertEquals(IntStream.range(1, 100_000).boxed().toList(), built.stream().toList());
+        assertEquals(built, PVector.from(IntStream.range(1, 100_000).boxed().toList()));
+        assertThrows(IllegalStateException.class, () -> builder.add(1));
+        assertEquals(Option.of(100_000), built.append(100_000).get(99_999));
+    }
+
+    @Test
+    void testMapAgainstHashMap() {
+        Random random = new Random(42);
+        Map<Integer, Integer> expected = new HashMap<>();
+        PMap<Integer, Integer> map = PMap.empty();
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(10_000);
+            if (random.nextInt(4) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, i);
+                map = map.put(key, i);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (int key = 0; key < 10_000; key++) {
+            assertEquals(Option.of(expected.get(key)), map.get(key));
+        }
+        Map<Integer, Integer> iterated = map.stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        assertEquals(expected, iterated);
+        assertEquals(PMap.from(expected), map);
+        assertEquals(PMap.from(expected).hashCode(), map.hashCode());
+    }
+
+    @Test
+    void testMapBuilderAgainstHashMap() {
+        Random random = new Random(7);
+        Map<Integer, Integer> expected = new HashMap<>();
+        PMap.Builder<Integer, Integer> builder = PMap.builder();
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                builder.remove(key);
+            } else {
+                expected.put(key, i);
+                builder.put(key, i);
+            }
+        }
+        PMap<Integer, Integer> map = builder.build();
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected, map.stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+    }
+
+    @Test
+    void testMapSnapshotsAreIndependent() {
+        PMap<String, Integer> v1 = PMap.<String, Integer>empty().put("a", 1).put("b", 2);
+        PMap<String, Integer> v2 = v1.put("a", 10).remove("b");
+        assertEquals(Option.of(1), v1.get("a"));
+        assertEquals(Option.of(2), v1.get("b"));
+        assertEquals(Option.of(10), v2.get("a"));
+        assertTrue(v2.get("b").isEmpty());
+        assertSame(v1, v1.put("a", 1));
+        assertSame(v1, v1.remove("missing"));
+    }
+
+    @Test
+    void testMapWithCollidingKeys() {
+        PMap.Builder<CollidingKey, Integer> builder = PMap.builder();
+        for (int i = 0; i < 300; i++) {
+            builder.put(new CollidingKey(i), i);
+        }
+        PMap<CollidingKey, Integer> map = builder.build();
+        assertEquals(300, map.size());
+        for (int i = 0; i < 300; i++) {
+            assertEquals(Option.of(i), map.get(new CollidingKey(i)));
+        }
+        PMap<CollidingKey, Integer> removed = map;
+        for (int i = 0; i < 300; i += 2) {
+            removed = removed.remove(new CollidingKey(i));
+        }
+        assertEquals(150, removed.size());
+        assertTrue(removed.get(new CollidingKey(2)).isEmpty());
+        assertEquals(Option.of(3), removed.get(new CollidingKey(3)));
+        assertEquals(300, map.size());
+    }
+
+    @Test
+    void testMapBuilderDoesNotAffectSource() {
+        PMap<Integer, String> base = PMap.<Integer, String>empty().put(1, "one");
+        PMap<Integer, String> built = base.toBuilder().put(2, "two").remove(1).build();
+        assertEquals(Option.of("one"), base.get(1));
+        assertEquals(1, base.size());
+        assertEquals(PMap.from(Map.of(2, "two")), built);
+    }
+
+    @Test
+    void testSet() {
+        PSet<String> set = PSet.of("a", "b", "c");
+        PSet<String> updated = set.add("d").remove("a");
+        assertTrue(set.contains("a"));
+        assertFalse(updated.contains("a"));
+        assertEquals(Option.of("d"), updated.find("d"));
+        assertEquals(new HashSet<>(List.of("b", "c", "d")), new HashSet<>(updated.stream().toList()));
+        assertSame(set, set.add("a"));
+        assertEquals(PSet.from(new ArrayList<>(List.of("c", "b", "a"))), set);
+        assertTrue(set.remove("a").remove("b").remove("c").isEmpty());
+    }
+}
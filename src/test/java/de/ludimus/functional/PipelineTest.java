@@ -0,0 +1,157 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.EitherBatch;
+import de.ludimus.functional.either.EitherLong;
+import de.ludimus.functional.either.EitherLongPipeline;
+import de.ludimus.functional.either.EitherPipeline;
+import de.ludimus.functional.option.Option;
+import de.ludimus.functional.option.OptionArray;
+import de.ludimus.functional.option.OptionLong;
+import de.ludimus.functional.option.OptionLongArray;
+import de.ludimus.functional.option.OptionLongPipeline;
+import de.ludimus.functional.option.OptionPipeline;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelineTest {
+
+    private static final EitherPipeline<String, String, Integer> PARSE = EitherPipeline.<String, String>start()
+            .map(String::trim)
+            .flatMap(s -> s.chars().allMatch(Character::isDigit) && !s.isEmpty()
+                    ? Either.<String, Integer>right(Integer.parseInt(s))
+                    : Either.<String, Integer>left("not a number: " + s))
+            .map(i -> i * 2)
+            .filter(i -> i < 100, i -> "too large: " + i);
+
+    @Test
+    void testEitherPipelineMatchesChainedCalls() {
+        for (String input : List.of(" 21 ", "x", "60", "")) {
+            Either<String, Integer> chained = Either.<String, String>right(input)
+                    .mapRight(String::trim)
+                    .flatMapRight(s -> s.chars().allMatch(Character::isDigit) && !s.isEmpty()
+                            ? Either.<String, Integer>right(Integer.parseInt(s))
+                            : Either.<String, Integer>left("not a number: " + s))
+                    .mapRight(i -> i * 2)
+                    .flatMapRight(i -> i < 100 ? Either.<String, Integer>right(i) : Either.<String, Integer>left("too large: " + i));
+            assertEquals(chained, PARSE.apply(input), input);
+        }
+    }
+
+    @Test
+    void testEitherPipelineStopsAtFirstLeft() {
+        AtomicInteger later = new AtomicInteger();
+        EitherPipeline<String, Integer, Integer> pipeline = EitherPipeline.<String, Integer>start()
+                .filter(i -> i > 0, i -> "negative")
+                .map(i -> {
+                    later.incrementAndGet();
+                    return i;
+                });
+        assertEquals(Either.left("negative"), pipeline.apply(-1));
+        assertEquals(0, later.get());
+        assertEquals(Either.right(1), pipeline.apply(1));
+    }
+
+    @Test
+    void testEitherPipelineApplyTo() {
+        Either<String, String> left = Either.left("already failed");
+        assertSame(left, PARSE.applyTo(left));
+        assertEquals(Either.right(8), PARSE.applyTo(Either.right("4")));
+    }
+
+    @Test
+    void testEitherPipelineIsReusable() {
+        EitherPipeline<String, Integer, Integer> base = EitherPipeline.<String, Integer>start().map(i -> i + 1);
+        EitherPipeline<String, Integer, String> first = base.map(i -> "a" + i);
+        EitherPipeline<String, Integer, Integer> second = base.map(i -> i * 10);
+        assertEquals(Either.right("a2"), first.apply(1));
+        assertEquals(Either.right(20), second.apply(1));
+        assertEquals(Either.right(2), base.apply(1));
+        assertEquals(Either.right(5), EitherPipeline.<String, Integer>start().apply(5));
+    }
+
+    @Test
+    void testEitherPipelineIsAFunction() {
+        List<Either<String, Integer>> results = Stream.of("1", "x").map(PARSE).toList();
+        assertEquals(List.of(Either.right(2), Either.left("not a number: x")), results);
+    }
+
+    @Test
+    void testEitherPipelineApplyAll() {
+        EitherBatch<String, Integer> batch = PARSE.applyAll(new String[]{"1", "oops", "70", "3"});
+        assertEquals(List.of(Either.right(2), Either.left("not a number: oops"), Either.left("too large: 140"), Either.right(6)),
+                batch.toList());
+        assertEquals(2, batch.countRights());
+    }
+
+    @Test
+    void testEitherLongPipeline() {
+        EitherLongPipeline<String, String> pipeline = EitherPipeline.<String, String>start()
+                .filter(s -> !s.isEmpty(), s -> "empty")
+                .mapToLong(Long::parseLong)
+                .map(x -> x + 1)
+                .map(x -> x * 3)
+                .filter(x -> x % 2 == 0, x -> "odd: " + x);
+        assertEquals(EitherLong.right(6), pipeline.apply("1"));
+        assertEquals(EitherLong.left("odd: 9"), pipeline.apply("2"));
+        assertEquals(EitherLong.left("empty"), pipeline.apply(""));
+        assertEquals(List.of(EitherLong.right(6), EitherLong.left("empty")), pipeline.applyAll(new String[]{"1", ""}));
+    }
+
+    @Test
+    void testOptionPipeline() {
+        OptionPipeline<String, Integer> pipeline = OptionPipeline.<String>start()
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .flatMap(s -> s.length() < 4 ? Option.of(s.length()) : Option.none())
+                .map(n -> n * 10);
+        assertEquals(Option.of(20), pipeline.apply(" ab "));
+        assertEquals(Option.none(), pipeline.apply("   "));
+        assertEquals(Option.none(), pipeline.apply("long"));
+        assertEquals(Option.none(), pipeline.apply(null));
+        assertEquals(Option.of(10), pipeline.applyTo(Option.of("x")));
+        assertEquals(Option.none(), pipeline.applyTo(Option.none()));
+    }
+
+    @Test
+    void testOptionPipelineNullFromMapStopsChain() {
+        AtomicInteger calls = new AtomicInteger();
+        OptionPipeline<Integer, Integer> pipeline = OptionPipeline.<Integer>start()
+                .map(i -> i > 0 ? i : null)
+                .map(i -> {
+                    calls.incrementAndGet();
+                    return i + 1;
+                });
+        assertEquals(Option.none(), pipeline.apply(-1));
+        assertEquals(0, calls.get());
+        assertEquals(Option.of(2), pipeline.apply(1));
+    }
+
+    @Test
+    void testOptionPipelineApplyAll() {
+        OptionArray<Integer> results = OptionPipeline.<String>start()
+                .filter(s -> !s.isEmpty())
+                .map(String::length)
+                .applyAll(new String[]{"abc", "", null, "z"});
+        assertEquals(List.of(Option.of(3), Option.none(), Option.none(), Option.of(1)), results.toList());
+    }
+
+    @Test
+    void testOptionLongPipeline() {
+        OptionLongPipeline<String> pipeline = OptionPipeline.<String>start()
+                .mapToLong(String::length)
+                .map(x -> x * x)
+                .filter(x -> x > 1);
+        assertEquals(OptionLong.of(9), pipeline.apply("abc"));
+        assertEquals(OptionLong.none(), pipeline.apply("a"));
+
+        OptionLongArray results = pipeline.applyAll(new String[]{"ab", "a", null, "abcd"});
+        assertEquals(List.of(OptionLong.of(4), OptionLong.none(), OptionLong.none(), OptionLong.of(16)), results.toList());
+        assertEquals(20, results.sum());
+    }
+}
@@ -0,0 +1,97 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.EitherDouble;
+import de.ludimus.functional.either.EitherInt;
+import de.ludimus.functional.either.EitherLong;
+import de.ludimus.functional.either.LeftLong;
+import de.ludimus.functional.either.RightLong;
+import de.ludimus.functional.option.OptionLong;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveEitherTest {
+
+    @Test
+    void testLeftAndRightCreation() {
+        EitherLong<String> left = EitherLong.left("Error");
+        EitherLong<String> right = EitherLong.right(10L);
+        assertTrue(left.isLeft());
+        assertFalse(left.isRight());
+        assertTrue(right.isRight());
+        assertFalse(right.isLeft());
+    }
+
+    @Test
+    void testMapRight() {
+        assertEquals(20L, EitherLong.<String>right(10L).mapRight(v -> v * 2).getOrElse(0L));
+        assertEquals(0L, EitherLong.<String>left("Error").mapRight(v -> v * 2).getOrElse(0L));
+    }
+
+    @Test
+    void testMapRightToObj() {
+        assertEquals(Either.right("10"), EitherLong.<String>right(10L).mapRightToObj(Long::toString));
+        assertEquals(Either.left("Error"), EitherLong.<String>left("Error").mapRightToObj(Long::toString));
+    }
+
+    @Test
+    void testMapLeft() {
+        EitherLong<Integer> mapped = EitherLong.<String>left("Error").mapLeft(String::length);
+        assertEquals(5, mapped.fold(Function.identity(), v -> -1));
+        assertEquals(10L, EitherLong.<String>right(10L).mapLeft(String::length).getOrElse(0L));
+    }
+
+    @Test
+    void testFlatMapRight() {
+        assertEquals(11L, EitherLong.<String>right(10L).flatMapRight(v -> EitherLong.right(v + 1)).getOrElse(0L));
+        assertEquals("Too big", EitherLong.<String>right(10L)
+                .flatMapRight(v -> EitherLong.left("Too big"))
+                .fold(Function.identity(), v -> "No Error"));
+        assertEquals("Error", EitherLong.<String>left("Error")
+                .flatMapRight(v -> EitherLong.right(v + 1))
+                .fold(Function.identity(), v -> "No Error"));
+    }
+
+    @Test
+    void testFlatMapLeft() {
+        assertEquals(3L, EitherLong.<String>left("Error").flatMapLeft(l -> EitherLong.right(3L)).getOrElse(0L));
+        assertEquals(10L, EitherLong.<String>right(10L).flatMapLeft(l -> EitherLong.right(3L)).getOrElse(0L));
+    }
+
+    @Test
+    void testFold() {
+        assertEquals("Left: Error", EitherLong.<String>left("Error").fold(l -> "Left: " + l, r -> "Right: " + r));
+        assertEquals("Right: 10", EitherLong.<String>right(10L).fold(l -> "Left: " + l, r -> "Right: " + r));
+    }
+
+    @Test
+    void testToStreamAndToOption() {
+        assertEquals(10L, EitherLong.<String>right(10L).toStream().sum());
+        assertEquals(0, EitherLong.<String>left("Error").toStream().count());
+        assertEquals(OptionLong.of(10L), EitherLong.<String>right(10L).toOption());
+        assertTrue(EitherLong.<String>left("Error").toOption().isEmpty());
+    }
+
+    @Test
+    void testConversionToAndFromEither() {
+        assertEquals(Either.right(10L), EitherLong.<String>right(10L).toEither());
+        assertEquals(Either.left("Error"), EitherLong.<String>left("Error").toEither());
+        assertEquals(EitherLong.<String>right(10L), EitherLong.fromEither(Either.<String, Long>right(10L)));
+        assertEquals(EitherLong.<String>left("Error"), EitherLong.fromEither(Either.<String, Long>left("Error")));
+
+        assertEquals(EitherInt.<String>right(7), EitherInt.fromEither(EitherInt.<String>right(7).toEither()));
+        assertEquals(EitherDouble.<String>right(1.5), EitherDouble.fromEither(EitherDouble.<String>right(1.5).toEither()));
+    }
+
+    @Test
+    void testPatternMatching() {
+        EitherLong<String> right = EitherLong.right(10L);
+        switch (right) {
+            case LeftLong<String> l -> fail();
+            case RightLong<String>(long value) -> assertEquals(10L, value);
+        }
+    }
+}
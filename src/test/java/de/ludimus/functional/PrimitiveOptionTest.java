@@ -0,0 +1,95 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.option.NoneLong;
+import de.ludimus.functional.option.Option;
+import de.ludimus.functional.option.OptionDouble;
+import de.ludimus.functional.option.OptionInt;
+import de.ludimus.functional.option.OptionLong;
+import de.ludimus.functional.option.SomeLong;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveOptionTest {
+
+    @Test
+    void testSomeLongHoldsValue() {
+        OptionLong some = OptionLong.of(42L);
+        assertTrue(some.isPresent());
+        assertFalse(some.isEmpty());
+        assertEquals(42L, some.get());
+    }
+
+    @Test
+    void testNoneLongHoldsNoValue() {
+        OptionLong none = OptionLong.none();
+        assertFalse(none.isPresent());
+        assertTrue(none.isEmpty());
+        assertThrows(UnsupportedOperationException.class, none::get);
+    }
+
+    @Test
+    void testMap() {
+        assertEquals(OptionLong.of(84L), OptionLong.of(42L).map(v -> v * 2));
+        assertTrue(OptionLong.none().map(v -> v * 2).isEmpty());
+    }
+
+    @Test
+    void testMapToObj() {
+        assertEquals(Option.of("42"), OptionLong.of(42L).mapToObj(Long::toString));
+        assertTrue(OptionLong.of(42L).mapToObj(v -> null).isEmpty());
+        assertTrue(OptionLong.none().mapToObj(Long::toString).isEmpty());
+    }
+
+    @Test
+    void testFlatMap() {
+        assertEquals(OptionLong.of(43L), OptionLong.of(42L).flatMap(v -> OptionLong.of(v + 1)));
+        assertTrue(OptionLong.of(42L).flatMap(v -> OptionLong.none()).isEmpty());
+        assertTrue(OptionLong.none().flatMap(v -> OptionLong.of(v + 1)).isEmpty());
+    }
+
+    @Test
+    void testOrElseAndOrElseGet() {
+        assertEquals(42L, OptionLong.of(42L).orElse(0L));
+        assertEquals(0L, OptionLong.none().orElse(0L));
+        assertEquals(42L, OptionLong.of(42L).orElseGet(() -> fail("Should not be called")));
+        assertEquals(7L, OptionLong.none().orElseGet(() -> 7L));
+    }
+
+    @Test
+    void testFold() {
+        assertEquals("some 42", OptionLong.of(42L).fold(() -> "none", v -> "some " + v));
+        assertEquals("none", OptionLong.none().fold(() -> "none", v -> "some " + v));
+    }
+
+    @Test
+    void testIfPresentAndStream() {
+        long[] seen = new long[1];
+        OptionLong.of(42L).ifPresent(v -> seen[0] = v);
+        OptionLong.none().ifPresent(v -> fail("Should not be called"));
+        assertEquals(42L, seen[0]);
+        assertEquals(42L, OptionLong.of(42L).stream().sum());
+        assertEquals(0, OptionLong.none().stream().count());
+    }
+
+    @Test
+    void testConversionToAndFromOption() {
+        assertEquals(Option.of(42L), OptionLong.of(42L).toOption());
+        assertTrue(OptionLong.none().toOption().isEmpty());
+        assertEquals(OptionLong.of(42L), OptionLong.fromOption(Option.of(42L)));
+        assertSame(OptionLong.none(), OptionLong.fromOption(Option.none()));
+
+        assertEquals(OptionInt.of(7), OptionInt.fromOption(OptionInt.of(7).toOption()));
+        assertEquals(OptionDouble.of(1.5), OptionDouble.fromOption(OptionDouble.of(1.5).toOption()));
+        assertTrue(OptionDouble.fromOption(Option.none()).isEmpty());
+    }
+
+    @Test
+    void testPatternMatching() {
+        OptionLong some = OptionLong.of(42L);
+        switch (some) {
+            case SomeLong(long value) -> assertEquals(42L, value);
+            case NoneLong() -> fail("Some expected, but matched None.");
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.EitherFuture;
+import de.ludimus.functional.resilience.Bulkhead;
+import de.ludimus.functional.resilience.CircuitBreaker;
+import de.ludimus.functional.resilience.Retry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResilienceTest {
+
+    /**
+     * A local stand-in for a remote service: it fails while {@code failing} is set, and records how many
+     * calls it received and how many ran at the same time.
+     */
+    private static final class FakeBackend {
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        volatile boolean failing;
+        volatile int failFirst;
+        volatile long latencyMillis;
+
+        Either<String, Integer> call(int request) {
+            int number = calls.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                if (latencyMillis > 0) {
+                    Thread.sleep(latencyMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return failing || number <= failFirst ? Either.left("unavailable") : Either.right(request);
+        }
+    }
+
+    /**
+     * Runs {@code count} calls, each on its own virtual thread, and returns their results in order.
+     */
+    private static List<Either<String, Integer>> runConcurrently(int count, IntFunction<Either<String, Integer>> call) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Either<String, Integer>>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int request = i;
+                futures.add(executor.submit(() -> call.apply(request)));
+            }
+            List<Either<String, Integer>> results = new ArrayList<>();
+            for (Future<Either<String, Integer>> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        }
+    }
+
+    private static long count(List<Either<String, Integer>> results, Either<String, Integer> value) {
+        return results.stream().filter(value::equals).count();
+    }
+
+    @Test
+    void testBreakerOpensUnderConcurrentFailures() throws Exception {
+        FakeBackend backend = new FakeBackend();
+        backend.failing = true;
+        CircuitBreaker breaker = CircuitBreaker.builder().slidingWindowSize(50).minimumCalls(20).ticker(() -> 0).build();
+
+        List<Either<String, Integer>> results = runConcurrently(10_000, i -> breaker.execute(() -> backend.call(i), () -> "open"));
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(10_000, count(results, Either.left("unavailable")) + count(results, Either.left("open")));
+        assertEquals(backend.calls.get(), count(results, Either.left("unavailable")));
+        assertTrue(backend.calls.get() < 10_000);
+        assertTrue(backend.calls.get() >= 20);
+    }
+
+    @Test
+    void testBreakerStaysClosedBelowThreshold() throws Exception {
+        FakeBackend backend = new FakeBackend();
+        CircuitBreaker breaker = CircuitBreaker.builder().failureRateThreshold(0.5).slidingWindowSize(100).build();
+
+        List<Either<String, Integer>> results = runConcurrently(5_000, i -> breaker.execute(
+                () -> i % 4 == 0 ? Either.left("sometimes") : backend.call(i), () -> "open"));
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(0, count(results, Either.left("open")));
+        assertEquals(0.25, breaker.failureRate(), 0.1);
+    }
+
+    @Test
+    void testWindowSlidesOverOldFailures() {
+        CircuitBreaker breaker = CircuitBreaker.builder().slidingWindowSize(10).minimumCalls(10).failureRateThreshold(0.5).build();
+        for (int i = 0; i < 4; i++) {
+            breaker.execute(() -> Either.left("fail"), () -> "open");
+        }
+        for (int i = 0; i < 10; i++) {
+            breaker.execute(() -> Either.right(1), () -> "open");
+        }
+        assertEquals(0.0, breaker.failureRate());
+        for (int i = 0; i < 4; i++) {
+            breaker.execute(() -> Either.left("fail"), () -> "open");
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        breaker.execute(() -> Either.left("fail"), () -> "open");
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void testHalfOpenAdmitsOnlyTrialCallsAndCloses() throws Exception {
+        AtomicLong now = new AtomicLong();
+        FakeBackend backend = new FakeBackend();
+        backend.failing = true;
+        CircuitBreaker breaker = CircuitBreaker.builder()
+                .slidingWindowSize(10).minimumCalls(10).waitInOpen(Duration.ofSeconds(5)).permittedCallsInHalfOpen(3)
+                .ticker(now::get).build();
+        runConcurrently(100, i -> breaker.execute(() -> backend.call(i), () -> "open"));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        now.addAndGet(Duration.ofSeconds(4).toNanos());
+        assertEquals(Either.left("open"), breaker.execute(() -> backend.call(0), () -> "open"));
+
+        backend.failing = false;
+        backend.latencyMillis = 50;
+        int before = backend.calls.get();
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        List<Either<String, Integer>> trials = runConcurrently(1_000, i -> breaker.execute(() -> backend.call(i), () -> "open"));
+
+        assertEquals(3, backend.calls.get() - before);
+        assertEquals(997, count(trials, Either.left("open")));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(0.0, breaker.failureRate());
+    }
+
+    @Test
+    void testFailedTrialReopens() {
+        AtomicLong now = new AtomicLong();
+        CircuitBreaker breaker = CircuitBreaker.builder().slidingWindowSize(2).minimumCalls(2).waitInOpen(Duration.ofSeconds(1))
+                .ticker(now::get).build();
+        breaker.execute(() -> Either.left("fail"), () -> "open");
+        breaker.execute(() -> Either.left("fail"), () -> "open");
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertEquals(Either.left("fail"), breaker.execute(() -> Either.left("fail"), () -> "open"));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(Either.left("open"), breaker.execute(() -> Either.right(1), () -> "open"));
+    }
+
+    @Test
+    void testOutcomeOfCallFromEarlierPhaseIsIgnored() {
+        AtomicLong now = new AtomicLong();
+        CircuitBreaker breaker = CircuitBreaker.builder().slidingWindowSize(2).minimumCalls(2).permittedCallsInHalfOpen(2)
+                .waitInOpen(Duration.ofSeconds(1)).ticker(now::get).build();
+        Either<String, Integer> slow = breaker.execute(() -> {
+            breaker.execute(() -> Either.left("fail"), () -> "open");
+            breaker.execute(() -> Either.left("fail"), () -> "open");
+            now.addAndGet(Duration.ofSeconds(1).toNanos());
+            breaker.execute(() -> Either.right(1), () -> "open");
+            return Either.right(2);
+        }, () -> "open");
+
+        assertEquals(Either.right(2), slow);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        breaker.execute(() -> Either.right(3), () -> "open");
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void testThrowingCallCountsAsFailure() {
+        CircuitBreaker breaker = CircuitBreaker.builder().slidingWindowSize(1).minimumCalls(1).build();
+        assertThrows(IllegalStateException.class, () -> breaker.execute(() -> {
+            throw new IllegalStateException();
+        }, () -> "open"));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        breaker.reset();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void testBulkheadBoundsConcurrency() throws Exception {
+        FakeBackend backend = new FakeBackend();
+        backend.latencyMillis = 20;
+        Bulkhead bulkhead = Bulkhead.of(8);
+
+        List<Either<String, Integer>> results = runConcurrently(2_000, i -> bulkhead.execute(() -> backend.call(i), () -> "full"));
+
+        assertTrue(backend.maxInFlight.get() <= 8);
+        assertEquals(backend.calls.get(), 2_000 - count(results, Either.left("full")));
+        assertTrue(count(results, Either.left("full")) > 0);
+        assertEquals(8, bulkhead.availablePermits());
+    }
+
+    @Test
+    void testBulkheadWaitsForPermits() throws Exception {
+        FakeBackend backend = new FakeBackend();
+        backend.latencyMillis = 5;
+        Bulkhead bulkhead = Bulkhead.of(16, Duration.ofSeconds(30));
+
+        List<Either<String, Integer>> results = runConcurrently(500, i -> bulkhead.execute(() -> backend.call(i), () -> "full"));
+
+        assertEquals(0, count(results, Either.left("full")));
+        assertEquals(500, backend.calls.get());
+        assertTrue(backend.maxInFlight.get() <= 16);
+    }
+
+    @Test
+    void testRetryRecoversFromTransientFailures() {
+        FakeBackend backend = new FakeBackend();
+        backend.failFirst = 2;
+        Retry<String> retry = Retry.<String>builder().maxAttempts(3).backoff(Duration.ofMillis(1), 2).build();
+
+        assertEquals(Either.right(7), retry.execute(() -> backend.call(7)));
+        assertEquals(3, backend.calls.get());
+    }
+
+    @Test
+    void testRetryGivesUpAfterMaxAttemptsOrNonRetryableLeft() {
+        FakeBackend backend = new FakeBackend();
+        backend.failing = true;
+        Retry<String> retry = Retry.<String>builder().maxAttempts(4).backoff(Duration.ZERO, 1).build();
+        assertEquals(Either.left("unavailable"), retry.execute(() -> backend.call(1)));
+        assertEquals(4, backend.calls.get());
+
+        AtomicInteger attempts = new AtomicInteger();
+        Retry<String> onlyTimeouts = Retry.<String>builder().retryIf("timeout"::equals).backoff(Duration.ZERO, 1).build();
+        assertEquals(Either.left("bad request"), onlyTimeouts.execute(() -> {
+            attempts.incrementAndGet();
+            return Either.left("bad request");
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testBackoffIsJitteredWithinCap() {
+        Retry<String> retry = Retry.<String>builder()
+                .backoff(Duration.ofMillis(100), 2).maxBackoff(Duration.ofMillis(300)).build();
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(retry.backoff(1).compareTo(Duration.ofMillis(100)) <= 0);
+            assertTrue(retry.backoff(2).compareTo(Duration.ofMillis(200)) <= 0);
+            assertTrue(retry.backoff(10).compareTo(Duration.ofMillis(300)) <= 0);
+        }
+        assertNotEquals(retry.backoff(10), retry.backoff(10), "jittered delays should differ");
+
+        Retry<String> fixed = Retry.<String>builder().backoff(Duration.ofMillis(100), 2).jitter(0).build();
+        assertEquals(Duration.ofMillis(200), fixed.backoff(2));
+    }
+
+    @Test
+    void testRetryBackoffOnVirtualThreadsDoesNotNeedPlatformThreads() throws Exception {
+        FakeBackend backend = new FakeBackend();
+        Retry<String> retry = Retry.<String>builder().maxAttempts(3).backoff(Duration.ofMillis(200), 1).jitter(0).build();
+        AtomicInteger attempts = new AtomicInteger();
+
+        long start = System.nanoTime();
+        List<Either<String, Integer>> results = runConcurrently(10_000, i -> retry.execute(
+                () -> attempts.incrementAndGet() <= 10_000 ? Either.left("busy") : backend.call(i)));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(10_000, results.stream().filter(Either::isRight).count());
+        assertTrue(elapsedMillis < 10_000, "10,000 sleeping retries took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void testAsyncRetrySchedulesAttempts() throws Exception {
+        FakeBackend backend = new FakeBackend();
+        backend.failFirst = 2;
+        Retry<String> retry = Retry.<String>builder().maxAttempts(3).backoff(Duration.ofMillis(5), 2).build();
+
+        EitherFuture<String, Integer> result = retry.executeAsync(() -> EitherFuture.completed(backend.call(3)));
+
+        assertEquals(Either.right(3), result.toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertEquals(3, backend.calls.get());
+    }
+
+    @Test
+    void testAsyncRetryFailsWhenRetryIfThrows() {
+        Retry<String> retry = Retry.<String>builder().maxAttempts(3).backoff(Duration.ofMillis(1), 2)
+                .retryIf(left -> {
+                    throw new IllegalStateException("predicate");
+                }).build();
+
+        EitherFuture<String, Integer> result = retry.executeAsync(() -> EitherFuture.left("busy"));
+
+        ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> result.toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, thrown.getCause());
+    }
+
+    @Test
+    void testAsyncRetryFailsWhenExecutorRejects() {
+        Retry<String> retry = Retry.<String>builder().maxAttempts(3).backoff(Duration.ofMillis(1), 2).build();
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException("shut down");
+        };
+
+        EitherFuture<String, Integer> result = retry.executeAsync(() -> EitherFuture.left("busy"), rejecting);
+
+        ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> result.toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, thrown.getCause());
+    }
+
+    @Test
+    void testCombinedDecoratorsUnderLoad() throws Exception {
+        FakeBackend backend = new FakeBackend();
+        backend.latencyMillis = 2;
+        Bulkhead bulkhead = Bulkhead.of(32, Duration.ofSeconds(30));
+        CircuitBreaker breaker = CircuitBreaker.builder().slidingWindowSize(100).minimumCalls(50).build();
+        Retry<String> retry = Retry.<String>builder().maxAttempts(3).backoff(Duration.ofMillis(1), 2)
+                .retryIf(left -> !left.equals("open")).build();
+        var protectedCall = retry.decorateFunction(
+                breaker.decorateFunction(bulkhead.decorateFunction(backend::call, () -> "full"), () -> "open"));
+
+        List<Either<String, Integer>> results = runConcurrently(3_000, protectedCall::apply);
+
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(Either.right(i), results.get(i));
+        }
+        assertTrue(backend.maxInFlight.get() <= 32);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void testRejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder().failureRateThreshold(0));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder().slidingWindowSize(0));
+        assertThrows(IllegalArgumentException.class, () -> Bulkhead.of(0));
+        assertThrows(IllegalArgumentException.class, () -> Retry.builder().maxAttempts(0));
+        assertThrows(IllegalArgumentException.class, () -> Retry.builder().jitter(1.5));
+    }
+}
@@ -0,0 +1,102 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.EitherLong;
+import de.ludimus.functional.option.Option;
+import de.ludimus.functional.option.OptionLong;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Asserts that the short-circuit paths of Option and Either do not allocate,
+ * using the per-thread allocation counter of the running JVM.
+ */
+class ShortCircuitAllocationTest {
+
+    private static final int ITERATIONS = 100_000;
+
+    private static final Function<String, Integer> LENGTH = String::length;
+    private static final Function<String, Option<Integer>> OPTION_LENGTH = s -> Option.of(s.length());
+    private static final Function<String, Either<String, Integer>> EITHER_LENGTH = s -> Either.right(s.length());
+    private static final Function<Integer, String> TO_STRING = Object::toString;
+    private static final Function<Integer, Either<String, String>> EITHER_TO_STRING = i -> Either.left(i.toString());
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static Object sink;
+
+    @BeforeAll
+    static void requireAllocationCounters() {
+        assumeTrue(THREADS.isThreadAllocatedMemorySupported(), "Thread allocation counters not supported");
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * Runs the action once to resolve classes and call sites, then returns the average bytes allocated per call.
+     */
+    private static long bytesPerCall(Runnable action) {
+        action.run();
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            action.run();
+        }
+        return (THREADS.getCurrentThreadAllocatedBytes() - before) / ITERATIONS;
+    }
+
+    @Test
+    void testMeasurementDetectsAllocation() {
+        Option<String> some = Option.of("Hello");
+        assertTrue(bytesPerCall(() -> sink = some.map(LENGTH)) > 0, "Some.map is expected to allocate");
+    }
+
+    @Test
+    void testNoneIsShared() {
+        assertSame(Option.none(), Option.none());
+        assertSame(Option.none(), Option.of(null));
+        assertEquals(0, bytesPerCall(() -> sink = Option.none()));
+        assertEquals(0, bytesPerCall(() -> sink = Option.of(null)));
+    }
+
+    @Test
+    void testNoneCombinatorsDoNotAllocate() {
+        Option<String> none = Option.none();
+        assertEquals(0, bytesPerCall(() -> sink = none.map(LENGTH)));
+        assertEquals(0, bytesPerCall(() -> sink = none.flatMap(OPTION_LENGTH)));
+    }
+
+    @Test
+    void testLeftShortCircuitDoesNotAllocate() {
+        Either<String, String> left = Either.left("Error");
+        assertSame(left, left.mapRight(LENGTH));
+        assertEquals(0, bytesPerCall(() -> sink = left.mapRight(LENGTH)));
+        assertEquals(0, bytesPerCall(() -> sink = left.flatMapRight(EITHER_LENGTH)));
+        assertEquals(0, bytesPerCall(() -> sink = left.toOption()));
+    }
+
+    @Test
+    void testRightShortCircuitDoesNotAllocate() {
+        Either<Integer, String> right = Either.right("Hello");
+        assertSame(right, right.mapLeft(TO_STRING));
+        assertEquals(0, bytesPerCall(() -> sink = right.mapLeft(TO_STRING)));
+        assertEquals(0, bytesPerCall(() -> sink = right.flatMapLeft(EITHER_TO_STRING)));
+    }
+
+    @Test
+    void testPrimitiveShortCircuitDoesNotAllocate() {
+        OptionLong none = OptionLong.none();
+        EitherLong<String> left = EitherLong.left("Error");
+        EitherLong<String> right = EitherLong.right(10L);
+        assertEquals(0, bytesPerCall(() -> sink = none.map(v -> v + 1)));
+        assertEquals(0, bytesPerCall(() -> sink = none.mapToObj(Long::toString)));
+        assertEquals(0, bytesPerCall(() -> sink = left.mapRight(v -> v + 1)));
+        assertEquals(0, bytesPerCall(() -> sink = left.toOption()));
+        assertEquals(0, bytesPerCall(() -> sink = right.mapLeft(String::length)));
+    }
+}
@@ -0,0 +1,58 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.Eithers;
+import de.ludimus.functional.option.Option;
+import de.ludimus.functional.option.Options;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaticApiTest {
+
+    @Test
+    void testOptionsMatchInstanceMethods() {
+        Option<String> some = Option.of("abc");
+        Option<String> none = Option.none();
+
+        assertEquals(some.map(String::length), Options.map(some, String::length));
+        assertEquals(none.map(String::length), Options.map(none, String::length));
+        assertEquals(Option.none(), Options.map(some, s -> null));
+        assertEquals(Option.of('a'), Options.flatMap(some, s -> Option.of(s.charAt(0))));
+        assertEquals(Option.none(), Options.flatMap(none, s -> Option.of(s.charAt(0))));
+        assertSame(some, Options.filter(some, s -> s.startsWith("a")));
+        assertEquals(Option.none(), Options.filter(some, String::isEmpty));
+        assertEquals("abc", Options.orElse(some, "x"));
+        assertEquals("x", Options.orElseGet(none, () -> "x"));
+        assertEquals(3, Options.fold(some, () -> 0, String::length));
+        assertEquals(0, Options.fold(none, () -> 0, String::length));
+
+        List<String> seen = new ArrayList<>();
+        Options.ifPresent(some, seen::add);
+        Options.ifPresent(none, seen::add);
+        assertEquals(List.of("abc"), seen);
+    }
+
+    @Test
+    void testEithersMatchInstanceMethods() {
+        Either<String, Integer> right = Either.right(4);
+        Either<String, Integer> left = Either.left("bad");
+
+        assertEquals(right.mapRight(i -> i * 2), Eithers.mapRight(right, i -> i * 2));
+        assertSame(left, Eithers.mapRight(left, i -> i * 2));
+        assertEquals(Either.left(3), Eithers.mapLeft(left, String::length));
+        assertSame(right, Eithers.mapLeft(right, String::length));
+        assertEquals(Either.left("odd"), Eithers.flatMapRight(Either.<String, Integer>right(3),
+                i -> i % 2 == 0 ? Either.right(i) : Either.left("odd")));
+        assertEquals(Either.right(0), Eithers.flatMapLeft(left, l -> Either.right(0)));
+        assertSame(right, Eithers.filterRight(right, i -> i > 0, i -> "negative"));
+        assertEquals(Either.left("small"), Eithers.filterRight(right, i -> i > 10, i -> "small"));
+        assertEquals("r4", Eithers.fold(right, l -> "l" + l, r -> "r" + r));
+        assertEquals("lbad", Eithers.fold(left, l -> "l" + l, r -> "r" + r));
+        assertEquals(4, Eithers.getOrElse(right, 0));
+        assertEquals(0, Eithers.getOrElse(left, 0));
+    }
+}
@@ -0,0 +1,117 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.collect.EitherStreams;
+import de.ludimus.functional.collect.OptionStreams;
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.option.Option;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamsTest {
+
+    @Test
+    void testOptionValues() {
+        Stream<Option<Integer>> options = Stream.of(Option.of(1), Option.none(), Option.of(3));
+        assertEquals(List.of(1, 3), OptionStreams.values(options).toList());
+    }
+
+    @Test
+    void testOptionPresentWithMapMulti() {
+        List<String> values = Stream.of(Option.of("a"), Option.<String>none(), Option.of("c"))
+                .<String>mapMulti(OptionStreams.present())
+                .toList();
+        assertEquals(List.of("a", "c"), values);
+    }
+
+    @Test
+    void testOptionMapPresentParallelKeepsOrder() {
+        List<Integer> evens = OptionStreams.mapPresent(IntStream.range(0, 10_000).boxed().parallel(),
+                i -> i % 2 == 0 ? Option.of(i) : Option.none()).toList();
+        assertEquals(5_000, evens.size());
+        assertEquals(IntStream.range(0, 5_000).map(i -> i * 2).boxed().toList(), evens);
+    }
+
+    @Test
+    void testEitherRightsAndLefts() {
+        List<Either<String, Integer>> eithers = List.of(Either.right(1), Either.left("a"), Either.right(2), Either.left("b"));
+        assertEquals(List.of(1, 2), EitherStreams.rights(eithers.stream()).toList());
+        assertEquals(List.of("a", "b"), EitherStreams.lefts(eithers.stream()).toList());
+        assertEquals(List.of(1, 2), eithers.stream().<Integer>mapMulti(EitherStreams.rights()).toList());
+    }
+
+    @Test
+    void testTakeWhileRightStopsAtFirstLeft() {
+        AtomicInteger pulled = new AtomicInteger();
+        List<String> lefts = new ArrayList<>();
+        Stream<Either<String, Integer>> source = Stream.<Either<String, Integer>>of(
+                        Either.right(1), Either.right(2), Either.left("stop"), Either.right(3), Either.left("later"))
+                .peek(e -> pulled.incrementAndGet());
+        assertEquals(List.of(1, 2), EitherStreams.takeWhileRight(source, lefts::add).toList());
+        assertEquals(List.of("stop"), lefts);
+        assertEquals(3, pulled.get());
+    }
+
+    @Test
+    void testTakeWhileRightWithoutLeft() {
+        List<String> lefts = new ArrayList<>();
+        Stream<Either<String, Integer>> source = Stream.of(Either.right(1), Either.right(2));
+        assertEquals(List.of(1, 2), EitherStreams.takeWhileRight(source, lefts::add).toList());
+        assertTrue(lefts.isEmpty());
+    }
+
+    @Test
+    void testTakeWhileRightIsLazyWithTryAdvance() {
+        List<String> lefts = new ArrayList<>();
+        Stream<Either<String, Integer>> infinite = Stream.iterate(0, i -> i + 1)
+                .map(i -> i < 5 ? Either.<String, Integer>right(i) : Either.<String, Integer>left("at " + i));
+        assertEquals(List.of(0, 1), EitherStreams.takeWhileRight(infinite, lefts::add).limit(2).toList());
+        assertTrue(lefts.isEmpty());
+
+        Stream<Either<String, Integer>> again = Stream.iterate(0, i -> i + 1)
+                .map(i -> i < 5 ? Either.<String, Integer>right(i) : Either.<String, Integer>left("at " + i));
+        assertEquals(10, EitherStreams.takeWhileRight(again, lefts::add).mapToInt(Integer::intValue).sum());
+        assertEquals(List.of("at 5"), lefts);
+    }
+
+    @Test
+    void testTakeWhileRightClosesSource() {
+        AtomicInteger closed = new AtomicInteger();
+        Stream<Either<String, Integer>> source = Stream.<Either<String, Integer>>of(Either.right(1)).onClose(closed::incrementAndGet);
+        try (Stream<Integer> rights = EitherStreams.takeWhileRight(source, left -> {
+        })) {
+            assertEquals(1, rights.count());
+        }
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    void testMapRightOrderedParallel() {
+        List<Either<String, Integer>> eithers = IntStream.range(0, 100_000)
+                .mapToObj(i -> i % 7 == 0 ? Either.<String, Integer>left("bad " + i) : Either.<String, Integer>right(i))
+                .toList();
+        List<Either<String, Integer>> expected = eithers.stream().map(e -> e.mapRight(i -> i * 2)).toList();
+        assertEquals(expected, EitherStreams.mapRightOrdered(eithers, i -> i * 2).parallel().toList());
+        assertSame(eithers.get(0), EitherStreams.mapRightOrdered(eithers, i -> i * 2).findFirst().orElseThrow());
+    }
+
+    @Test
+    void testMapRightOrderedSpliteratorIsSized() {
+        List<Either<String, Integer>> eithers = new LinkedList<>(List.of(Either.right(1), Either.left("x"), Either.right(3)));
+        Spliterator<Either<String, Integer>> spliterator = EitherStreams.mapRightOrdered(eithers, i -> i + 1).spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertEquals(3, spliterator.getExactSizeIfKnown());
+        Spliterator<Either<String, Integer>> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(3, prefix.estimateSize() + spliterator.estimateSize());
+        assertEquals(3, EitherStreams.mapRightOrdered(eithers, i -> i + 1).count());
+    }
+}
@@ -0,0 +1,210 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.option.Option;
+import de.ludimus.functional.trace.LeftBurstEvent;
+import de.ludimus.functional.trace.SlowMapperEvent;
+import de.ludimus.functional.trace.Traced;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceTest {
+
+    private static Configuration functionalProfile() throws Exception {
+        try (Reader reader = new InputStreamReader(Traced.class.getResourceAsStream("functional.jfc"), StandardCharsets.UTF_8)) {
+            return Configuration.create(reader);
+        }
+    }
+
+    private static List<RecordedEvent> record(Map<String, String> settings, Runnable body) throws Exception {
+        Path file = Files.createTempFile("trace", ".jfr");
+        try (Recording recording = new Recording(settings)) {
+            recording.start();
+            body.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().startsWith("de.ludimus.functional."))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void testProfileEnablesBothEvents() throws Exception {
+        Map<String, String> settings = functionalProfile().getSettings();
+        assertEquals("true", settings.get(SlowMapperEvent.NAME + "#enabled"));
+        assertEquals("20 ms", settings.get(SlowMapperEvent.NAME + "#threshold"));
+        assertEquals("true", settings.get(LeftBurstEvent.NAME + "#enabled"));
+        assertEquals("1 s", settings.get(LeftBurstEvent.NAME + "#period"));
+        assertEquals("100", settings.get(LeftBurstEvent.NAME + "#burstThreshold"));
+    }
+
+    @Test
+    void testSlowMapperAboveThresholdIsRecorded() throws Exception {
+        Map<String, String> settings = new HashMap<>(functionalProfile().getSettings());
+        settings.put(SlowMapperEvent.NAME + "#threshold", "10 ms");
+        Function<Integer, Either<String, Integer>> slow = Traced.eitherMapper("lookup", i -> {
+            sleep(i);
+            return i > 20 ? Either.left("timeout") : Either.right(i);
+        });
+        Function<Integer, Integer> plain = Traced.mapper("double", i -> i * 2);
+
+        List<RecordedEvent> events = record(settings, () -> {
+            assertEquals(Either.right(1), slow.apply(1));
+            assertEquals(Either.left("timeout"), slow.apply(30));
+            assertEquals(4, plain.apply(2));
+        });
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals(SlowMapperEvent.NAME, event.getEventType().getName());
+        assertEquals("lookup", event.getString("callSite"));
+        assertEquals("Left", event.getString("outcome"));
+        assertTrue(event.getDuration().compareTo(Duration.ofMillis(30)) >= 0);
+    }
+
+    @Test
+    void testOptionMapperRecordsOutcome() throws Exception {
+        Map<String, String> settings = new HashMap<>(functionalProfile().getSettings());
+        settings.put(SlowMapperEvent.NAME + "#threshold", "0 ms");
+        Function<String, Option<Integer>> parse = Traced.optionMapper("parse", s -> s.isEmpty() ? Option.none() : Option.of(s.length()));
+
+        List<RecordedEvent> events = record(settings, () -> {
+            parse.apply("abc");
+            parse.apply("");
+        });
+
+        assertEquals(List.of("Some", "None"), events.stream()
+                .filter(event -> event.getEventType().getName().equals(SlowMapperEvent.NAME))
+                .map(event -> event.getString("outcome"))
+                .toList());
+    }
+
+    @Test
+    void testLeftBurstAboveThresholdIsRecorded() throws Exception {
+        Map<String, String> settings = new HashMap<>(functionalProfile().getSettings());
+        settings.put(LeftBurstEvent.NAME + "#burstThreshold", "50");
+        settings.put(LeftBurstEvent.NAME + "#period", "20 ms");
+        Function<Integer, Either<String, Integer>> validate = Traced.eitherMapper("validate", Duration.ofMillis(50),
+                i -> i < 0 ? Either.left("negative") : Either.right(i));
+
+        List<RecordedEvent> events = record(settings, () -> {
+            for (int i = 0; i < 10; i++) {
+                validate.apply(-1);
+            }
+            sleep(60);
+            for (int i = 0; i < 100; i++) {
+                validate.apply(i);
+            }
+            validate.apply(-1);
+            for (int i = 0; i < 99; i++) {
+                validate.apply(-1);
+            }
+            sleep(150);
+        });
+
+        List<RecordedEvent> bursts = events.stream()
+                .filter(event -> event.getEventType().getName().equals(LeftBurstEvent.NAME))
+                .toList();
+        assertEquals(1, bursts.size());
+        assertEquals("validate", bursts.get(0).getString("callSite"));
+        assertEquals(100, bursts.get(0).getLong("leftCount"));
+        assertEquals(Duration.ofMillis(50), bursts.get(0).getDuration("window"));
+    }
+
+    @Test
+    void testLeftBurstFollowedBySilenceIsRecorded() throws Exception {
+        Map<String, String> settings = new HashMap<>(functionalProfile().getSettings());
+        settings.put(LeftBurstEvent.NAME + "#burstThreshold", "50");
+        settings.put(LeftBurstEvent.NAME + "#period", "20 ms");
+        Function<Integer, Either<String, Integer>> validate = Traced.eitherMapper("incident", Duration.ofMillis(50),
+                i -> Either.left("down"));
+        long[] burstStart = new long[1];
+
+        List<RecordedEvent> events = record(settings, () -> {
+            sleep(30);
+            burstStart[0] = System.currentTimeMillis();
+            for (int i = 0; i < 80; i++) {
+                validate.apply(i);
+            }
+            sleep(300);
+        });
+
+        List<RecordedEvent> bursts = events.stream()
+                .filter(event -> event.getEventType().getName().equals(LeftBurstEvent.NAME))
+                .toList();
+        assertEquals(1, bursts.size());
+        RecordedEvent burst = bursts.get(0);
+        assertEquals("incident", burst.getString("callSite"));
+        assertEquals(80, burst.getLong("leftCount"));
+        long skew = Math.abs(burst.getStartTime().toEpochMilli() - burstStart[0]);
+        assertTrue(skew < 20, "event starts " + skew + " ms away from the burst");
+        assertTrue(burst.getDuration().compareTo(Duration.ofMillis(50)) >= 0);
+    }
+
+    @Test
+    void testSparseLeftsAreNotABurst() throws Exception {
+        Map<String, String> settings = new HashMap<>(functionalProfile().getSettings());
+        settings.put(LeftBurstEvent.NAME + "#burstThreshold", "2");
+        Function<Integer, Either<String, Integer>> validate = Traced.eitherMapper("sparse", Duration.ofMillis(20),
+                i -> Either.left("always"));
+
+        List<RecordedEvent> events = record(settings, () -> {
+            for (int i = 0; i < 6; i++) {
+                validate.apply(i);
+                sleep(30);
+            }
+        });
+
+        assertTrue(events.stream().noneMatch(event -> event.getEventType().getName().equals(LeftBurstEvent.NAME)));
+    }
+
+    @Test
+    void testNothingIsRecordedWhenDisabled() throws Exception {
+        Map<String, String> settings = new HashMap<>(functionalProfile().getSettings());
+        settings.put(SlowMapperEvent.NAME + "#enabled", "false");
+        settings.put(LeftBurstEvent.NAME + "#enabled", "false");
+        Function<Integer, Either<String, Integer>> slow = Traced.eitherMapper("disabled", Duration.ofMillis(1), i -> {
+            sleep(25);
+            return Either.left("slow");
+        });
+
+        List<RecordedEvent> events = record(settings, () -> {
+            slow.apply(1);
+            slow.apply(2);
+        });
+
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void testRejectsNonPositiveWindow() {
+        assertThrows(IllegalArgumentException.class, () -> Traced.<Integer, String, Integer>eitherMapper("x", Duration.ZERO, Either::right));
+    }
+}
@@ -0,0 +1,85 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.either.Failure;
+import de.ludimus.functional.either.StacklessException;
+import de.ludimus.functional.either.Success;
+import de.ludimus.functional.either.Try;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TryTest {
+
+    private static final StacklessException NOT_A_NUMBER = new StacklessException("not a number");
+
+    @Test
+    void testOfCapturesResult() {
+        Try<Integer> result = Try.of(() -> Integer.parseInt("42"));
+        assertTrue(result instanceof Success);
+        assertTrue(result.isSuccess());
+        assertEquals(42, result.getOrElse(0));
+    }
+
+    @Test
+    void testOfCapturesCheckedException() {
+        Try<String> result = Try.of(() -> {
+            throw new IOException("disk gone");
+        });
+        assertTrue(result instanceof Failure);
+        assertTrue(result.isFailure());
+        assertEquals("disk gone", result.fold(Throwable::getMessage, Function.identity()));
+    }
+
+    @Test
+    void testOfRestoresInterruptFlag() {
+        Try<String> result = Try.of(() -> {
+            throw new InterruptedException();
+        });
+        assertTrue(result.isFailure());
+        assertTrue(Thread.interrupted());
+    }
+
+    @Test
+    void testMapCapturesException() {
+        Try<Integer> mapped = Try.success("x").map(Integer::parseInt);
+        assertInstanceOf(NumberFormatException.class, mapped.fold(Function.identity(), v -> null));
+        assertEquals(3, Try.success("3").map(Integer::parseInt).getOrElse(0));
+    }
+
+    @Test
+    void testFlatMapAndRecover() {
+        Try<Integer> failed = Try.<String>failure(NOT_A_NUMBER).flatMap(s -> Try.success(s.length()));
+        assertEquals(-1, failed.recover(e -> -1).getOrElse(0));
+        assertEquals(5, Try.success("Hello").flatMap(s -> Try.success(s.length())).recover(e -> -1).getOrElse(0));
+    }
+
+    @Test
+    void testConversions() {
+        assertEquals(Either.right(1), Try.success(1).toEither());
+        assertEquals(Either.left(NOT_A_NUMBER), Try.failure(NOT_A_NUMBER).toEither());
+        assertTrue(Try.failure(NOT_A_NUMBER).toOption().isEmpty());
+        assertEquals(1, Try.success(1).toOption().get());
+    }
+
+    @Test
+    void testStacklessExceptionHasNoStackTrace() {
+        Try<String> result = Try.of(() -> {
+            throw new StacklessException("cache miss");
+        });
+        Throwable exception = result.fold(Function.identity(), v -> null);
+        assertEquals(0, exception.getStackTrace().length);
+        exception.addSuppressed(new RuntimeException());
+        assertEquals(0, exception.getSuppressed().length);
+    }
+
+    @Test
+    void testPreallocatedFailureIsShared() {
+        Throwable first = Try.of(() -> { throw NOT_A_NUMBER; }).fold(Function.identity(), v -> null);
+        Throwable second = Try.failure(NOT_A_NUMBER).fold(Function.identity(), v -> null);
+        assertSame(first, second);
+    }
+}
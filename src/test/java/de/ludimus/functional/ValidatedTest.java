@@ -0,0 +1,118 @@
+package de.ludimus.functional;
+
+import de.ludimus.functional.either.Either;
+import de.ludimus.functional.validation.Errors;
+import de.ludimus.functional.validation.Invalid;
+import de.ludimus.functional.validation.Valid;
+import de.ludimus.functional.validation.Validated;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidatedTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterAll
+    static void shutdown() {
+        POOL.shutdown();
+    }
+
+    @Test
+    void testValidAndInvalidCreation() {
+        Validated<String, Integer> valid = Validated.valid(10);
+        Validated<String, Integer> invalid = Validated.invalid("Error");
+        assertTrue(valid instanceof Valid);
+        assertTrue(valid.isValid());
+        assertTrue(invalid instanceof Invalid);
+        assertTrue(invalid.isInvalid());
+        assertEquals(List.of("Error"), invalid.fold(Errors::toList, v -> List.of()));
+    }
+
+    @Test
+    void testMapAndMapErrors() {
+        assertEquals(20, Validated.<String, Integer>valid(10).map(v -> v * 2).getOrElse(0));
+        assertEquals(0, Validated.<String, Integer>invalid("Error").map(v -> v * 2).getOrElse(0));
+        Validated<Integer, Integer> mapped = Validated.<String, Integer>invalid("Error").mapErrors(String::length);
+        assertEquals(List.of(5), mapped.fold(Errors::toList, v -> List.of()));
+    }
+
+    @Test
+    void testZipAccumulatesErrors() {
+        Validated<String, String> name = Validated.invalid("name missing");
+        Validated<String, Integer> age = Validated.invalid("age negative");
+        Validated<String, String> person = name.zip(age, (n, a) -> n + a);
+        assertEquals(List.of("name missing", "age negative"), person.fold(Errors::toList, v -> List.of()));
+    }
+
+    @Test
+    void testZipOfValidValues() {
+        Validated<String, String> person = Validated.<String, String>valid("Ada").zip(Validated.valid(36), (n, a) -> n + " " + a);
+        assertEquals("Ada 36", person.getOrElse(""));
+    }
+
+    @Test
+    void testCombineKeepsOrder() {
+        List<Validated<String, Integer>> validations = List.of(
+                Validated.valid(1), Validated.invalid("a"), Validated.valid(3), Validated.invalid("b"));
+        assertEquals(List.of("a", "b"), Validated.combine(validations).fold(Errors::toList, v -> List.of()));
+        assertEquals(List.of(1, 2), Validated.combine(List.of(Validated.<String, Integer>valid(1), Validated.valid(2))).getOrElse(List.of()));
+    }
+
+    @Test
+    void testCombineAllInParallel() {
+        List<Supplier<Validated<String, Integer>>> validators = IntStream.range(0, 1_000)
+                .<Supplier<Validated<String, Integer>>>mapToObj(i -> () -> i % 100 == 7 ? Validated.invalid("field " + i) : Validated.valid(i))
+                .toList();
+        Validated<String, List<Integer>> result = Validated.combineAll(validators, POOL);
+        List<String> expected = IntStream.range(0, 1_000).filter(i -> i % 100 == 7).mapToObj(i -> "field " + i).toList();
+        assertEquals(expected, result.fold(Errors::toList, v -> List.of()));
+    }
+
+    @Test
+    void testCombineAllValid() {
+        List<Supplier<Validated<String, Integer>>> validators = IntStream.range(0, 500)
+                .<Supplier<Validated<String, Integer>>>mapToObj(i -> () -> Validated.valid(i))
+                .toList();
+        List<Integer> values = Validated.combineAll(validators).getOrElse(List.of());
+        assertEquals(IntStream.range(0, 500).boxed().toList(), values);
+        assertThrows(UnsupportedOperationException.class, () -> values.set(0, 1));
+    }
+
+    @Test
+    void testConversionWithEither() {
+        assertEquals(Either.right(10), Validated.fromEither(Either.<String, Integer>right(10)).toEither());
+        Either<Errors<String>, Integer> left = Validated.fromEither(Either.<String, Integer>left("Error")).toEither();
+        assertEquals(List.of("Error"), left.fold(Errors::toList, r -> List.of()));
+        assertTrue(Validated.invalid("Error").toOption().isEmpty());
+    }
+
+    @Test
+    void testErrorsAreEqualRegardlessOfShape() {
+        Errors<String> appended = Errors.of("a").append("b").append("c");
+        Errors<String> concatenated = Errors.of("a").concat(Errors.of("b").append("c"));
+        assertEquals(appended, concatenated);
+        assertEquals(appended.hashCode(), concatenated.hashCode());
+        assertEquals(3, appended.size());
+        assertEquals("a", concatenated.head());
+        assertEquals(List.of("A", "B", "C"), appended.map(String::toUpperCase).toList());
+    }
+
+    @Test
+    void testDeepErrorsIterateWithoutRecursion() {
+        Errors<Integer> errors = Errors.of(0);
+        for (int i = 1; i < 100_000; i++) {
+            errors = errors.append(i);
+        }
+        assertEquals(99_999, errors.toList().get(99_999));
+        assertEquals(0, errors.head());
+        assertEquals(100_000, errors.map(Function.identity()).size());
+    }
+}